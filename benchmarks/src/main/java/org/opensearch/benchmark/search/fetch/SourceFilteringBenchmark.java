@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.fetch;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.support.StreamingXContentFilter;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the two ways the fetch phase filters the _source of a hit with includes: parsing it into a map, filtering the map and
+ * serializing it back, or copying the matching properties while parsing it.
+ * <p>
+ * The source is a log document of about 2KB, of which a few fields are fetched.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SourceFilteringBenchmark {
+
+    @Param({ "JSON", "SMILE", "CBOR" })
+    public String format;
+
+    // a few fields out of the whole document, or the sub objects of a single top level object
+    @Param({ "fields", "object" })
+    public String includes;
+
+    private XContentType xContentType;
+    private BytesReference source;
+    private Function<Map<String, ?>, Map<String, Object>> mapFilter;
+    private StreamingXContentFilter streamingFilter;
+
+    @Setup
+    public void setup() throws IOException {
+        xContentType = XContentType.valueOf(format);
+        source = BytesReference.bytes(logDocument(XContentBuilder.builder(xContentType.xContent()), new Random(42)));
+        String[] sourceIncludes = includes.equals("fields")
+            ? new String[] { "@timestamp", "message", "http.response.status_code" }
+            : new String[] { "kubernetes.*" };
+        mapFilter = XContentMapValues.filter(sourceIncludes, new String[0], true);
+        streamingFilter = StreamingXContentFilter.create(sourceIncludes, new String[0], true);
+    }
+
+    @Benchmark
+    public BytesReference mapBasedFilter() throws IOException {
+        Map<String, Object> sourceAsMap = XContentHelper.convertToMap(source, false, xContentType).v2();
+        XContentBuilder builder = new XContentBuilder(xContentType.xContent(), new BytesStreamOutput(1024));
+        builder.value(mapFilter.apply(sourceAsMap));
+        return BytesReference.bytes(builder);
+    }
+
+    @Benchmark
+    public BytesReference streamingFilter() throws IOException {
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.IGNORE_DEPRECATIONS,
+                source,
+                xContentType
+            )
+        ) {
+            XContentBuilder builder = new XContentBuilder(xContentType.xContent(), new BytesStreamOutput(1024));
+            streamingFilter.filter(parser, builder);
+            return BytesReference.bytes(builder);
+        }
+    }
+
+    private static XContentBuilder logDocument(XContentBuilder builder, Random random) throws IOException {
+        builder.startObject();
+        builder.field("@timestamp", "2024-03-14T09:26:53.589Z");
+        builder.field("message", "GET /api/v1/orders/" + random.nextInt(1_000_000) + " HTTP/1.1 200 " + random.nextInt(100_000));
+        builder.startObject("log").field("level", "info").field("logger", "access").startObject("origin");
+        builder.field("file.name", "AccessLogFilter.java").field("file.line", random.nextInt(500)).endObject().endObject();
+        builder.startObject("http");
+        builder.startObject("request").field("method", "GET").field("bytes", random.nextInt(10_000)).endObject();
+        builder.startObject("response").field("status_code", 200).field("bytes", random.nextInt(100_000)).endObject();
+        builder.field("version", "1.1").endObject();
+        builder.startObject("url").field("path", "/api/v1/orders").field("query", "page=2&size=50").endObject();
+        builder.startObject("user_agent").field("original", "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko)");
+        builder.startObject("os").field("name", "Linux").field("version", "6.1").endObject().endObject();
+        builder.startObject("host").field("name", "ip-10-0-12-34").startArray("ip").value("10.0.12.34").value("fe80::1").endArray();
+        builder.startObject("os").field("kernel", "6.1.0-18-cloud-amd64").field("platform", "debian").endObject().endObject();
+        builder.startObject("kubernetes");
+        builder.field("namespace", "orders");
+        builder.startObject("pod").field("name", "orders-api-7c9f8d6b5-x2x7k").field("uid", "c0a8").endObject();
+        builder.startObject("labels").field("app", "orders-api").field("tier", "backend").field("release", "stable").endObject();
+        builder.startObject("container").field("name", "orders-api").field("image", "registry.local/orders-api:3.14.2").endObject();
+        builder.endObject();
+        builder.startArray("tags");
+        for (int i = 0; i < 20; i++) {
+            builder.value("tag-" + random.nextInt(1000));
+        }
+        builder.endArray();
+        builder.startArray("spans");
+        for (int i = 0; i < 10; i++) {
+            builder.startObject().field("id", Long.toHexString(random.nextLong())).field("duration_us", random.nextInt(50_000)).endObject();
+        }
+        builder.endArray();
+        builder.field("stack_trace", "java.lang.IllegalStateException: retry\n\tat org.example.OrderService.place(OrderService.java:42)");
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,524 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.opensearch.Version;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.bulk.BulkShardResponse;
+import org.opensearch.action.bulk.MappingUpdatePerformer;
+import org.opensearch.action.bulk.TransportShardBulkAction;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.support.replication.TransportReplicationAction.PrimaryResult;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.RecoverySource;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.UnassignedInfo;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.env.ShardLock;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.IndexingPressureService;
+import org.opensearch.index.ReplicationStats;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.cache.IndexCache;
+import org.opensearch.index.cache.query.DisabledQueryCache;
+import org.opensearch.index.engine.EngineConfigFactory;
+import org.opensearch.index.engine.InternalEngineFactory;
+import org.opensearch.index.engine.MergedSegmentWarmerFactory;
+import org.opensearch.index.engine.exec.EngineBackedIndexerFactory;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.Mapping;
+import org.opensearch.index.seqno.RetentionLeaseSyncer;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.translog.InternalTranslogFactory;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.DefaultRemoteStoreSettings;
+import org.opensearch.indices.IndicesModule;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.checkpoint.MergedSegmentPublisher;
+import org.opensearch.indices.replication.checkpoint.ReferencedSegmentsPublisher;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
+import org.opensearch.threadpool.ThreadPool;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end benchmark of the bulk write path of a primary shard: a bulk body is parsed into index requests by the
+ * {@link BulkRequest} parser and executed as a {@link BulkShardRequest} by {@link TransportShardBulkAction#performOnPrimary} on
+ * an in-process {@link IndexShard}, the same way a node executes it. The request holds a primary operation permit and is accounted
+ * by the {@link IndexingPressureService} while it executes, its documents go through the mapping of the shard, a mapping update is
+ * applied locally as the cluster-manager would, and the translog is synced once per bulk when the durability is {@code REQUEST}.
+ * The shard, its store and translog live in a temporary directory.
+ *
+ * <p>The {@link Workload} parameter selects the shape of the documents:
+ *
+ * <ul>
+ *   <li>{@code LOGS} - access-log like documents with a timestamp, a few keywords, numbers and a short text message.
+ *   <li>{@code METRICS} - small documents made of a timestamp, two dimensions and numeric measurements only.
+ *   <li>{@code NESTED} - order documents holding a handful of nested line items, each indexed as its own Lucene document.
+ * </ul>
+ *
+ * {@link #bulk} reports bulks per second and, through its auxiliary counter, documents per second. {@link #singleDocument}
+ * samples the latency of indexing one document at a time, its percentiles include the p99. Run with {@code -prof gc} to
+ * also get the allocation rate, for example:
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'BulkIndexingBenchmark -p workload=LOGS -p durability=REQUEST -prof gc'
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BulkIndexingBenchmark {
+
+    /**
+     * The shape of the indexed documents. See the class javadoc.
+     */
+    public enum Workload {
+        LOGS,
+        METRICS,
+        NESTED
+    }
+
+    /**
+     * Counts the documents indexed by {@link #bulk}, reported by JMH as a rate next to the bulk rate.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class DocCounters {
+        public long docs;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            docs = 0;
+        }
+    }
+
+    @Param({ "LOGS", "METRICS", "NESTED" })
+    private Workload workload;
+
+    /** Documents per bulk request. */
+    @Param({ "500" })
+    private int bulkSize;
+
+    @Param({ "REQUEST", "ASYNC" })
+    private Translog.Durability durability;
+
+    /** How many bulks are indexed between two refreshes, {@code 0} never refreshes explicitly. */
+    @Param({ "10" })
+    private int refreshEveryBulks;
+
+    private static final String INDEX_NAME = "index";
+    private static final String INDEX_UUID = "bulk-indexing-benchmark";
+    private static final String NODE_ID = "node";
+    private static final long PRIMARY_TERM = 1L;
+
+    private Path path;
+    private ThreadPool threadPool;
+    private ClusterService clusterService;
+    private IndexingPressureService indexingPressureService;
+    private IndexShard shard;
+    private BytesReference bulkBody;
+    private BytesReference singleDocumentBody;
+    private long bulks;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        path = Files.createTempDirectory("bulk-indexing-benchmark");
+        final Settings nodeSettings = Settings.builder().put("node.name", "bulk-indexing-benchmark").build();
+        final ClusterSettings clusterSettings = new ClusterSettings(nodeSettings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        threadPool = new ThreadPool(nodeSettings);
+        clusterService = new ClusterService(nodeSettings, clusterSettings, threadPool);
+        indexingPressureService = new IndexingPressureService(nodeSettings, clusterService);
+
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_INDEX_UUID, INDEX_UUID)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .put(IndexSettings.INDEX_TRANSLOG_DURABILITY_SETTING.getKey(), durability.name())
+            // refreshes are driven by the benchmark
+            .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), "-1")
+            .build();
+        final IndexMetadata indexMetadata = IndexMetadata.builder(INDEX_NAME)
+            .settings(settings)
+            .primaryTerm(0, PRIMARY_TERM)
+            .putMapping(mapping())
+            .build();
+        final IndexSettings indexSettings = new IndexSettings(indexMetadata, nodeSettings);
+        final ShardId shardId = new ShardId(indexMetadata.getIndex(), 0);
+        final Path shardDataPath = Files.createDirectories(path.resolve(INDEX_UUID).resolve("0"));
+        final ShardPath shardPath = new ShardPath(false, shardDataPath, shardDataPath, shardId);
+        final ShardRouting routing = ShardRouting.newUnassigned(
+            shardId,
+            true,
+            RecoverySource.EmptyStoreRecoverySource.INSTANCE,
+            new UnassignedInfo(UnassignedInfo.Reason.INDEX_CREATED, "benchmark")
+        ).initialize(NODE_ID, null, -1);
+        final TransportAddress address = new TransportAddress(InetAddress.getLoopbackAddress(), 9300);
+        final DiscoveryNode localNode = new DiscoveryNode(NODE_ID, address, Version.CURRENT);
+        final DiscoveryNodes discoveryNodes = DiscoveryNodes.builder().add(localNode).localNodeId(NODE_ID).build();
+
+        final Store store = new Store(shardId, indexSettings, new NIOFSDirectory(shardPath.resolveIndex()), new ShardLock(shardId) {
+            @Override
+            protected void closeInternal() {}
+        });
+        final MapperService mapperService = newMapperService(indexSettings);
+        mapperService.merge(indexMetadata, MapperService.MergeReason.MAPPING_RECOVERY);
+        final RecoverySettings recoverySettings = new RecoverySettings(nodeSettings, clusterSettings);
+        shard = new IndexShard(
+            routing,
+            indexSettings,
+            shardPath,
+            store,
+            () -> null,
+            new IndexCache(indexSettings, new DisabledQueryCache(indexSettings), null),
+            mapperService,
+            new SimilarityService(indexSettings, null, Collections.emptyMap()),
+            new EngineBackedIndexerFactory(new InternalEngineFactory()),
+            new EngineConfigFactory(indexSettings),
+            new IndexEventListener() {
+            },
+            null,
+            threadPool,
+            BigArrays.NON_RECYCLING_INSTANCE,
+            reader -> {},
+            Collections.emptyList(),
+            Collections.emptyList(),
+            () -> {},
+            RetentionLeaseSyncer.EMPTY,
+            new NoneCircuitBreakerService(),
+            (is, shardRouting) -> new InternalTranslogFactory(),
+            SegmentReplicationCheckpointPublisher.EMPTY,
+            null,
+            null,
+            NODE_ID,
+            recoverySettings,
+            DefaultRemoteStoreSettings.INSTANCE,
+            false,
+            discoveryNodes,
+            id -> new ReplicationStats(),
+            new MergedSegmentWarmerFactory(null, recoverySettings, clusterService),
+            false,
+            () -> Boolean.FALSE,
+            indexSettings::getRefreshInterval,
+            new Object(),
+            clusterService.getClusterApplierService(),
+            MergedSegmentPublisher.EMPTY,
+            ReferencedSegmentsPublisher.EMPTY,
+            Collections.emptyMap(),
+            null
+        );
+
+        // recover the empty shard from its store and start it, as the cluster-manager and IndicesClusterStateService would
+        shard.markAsRecovering("store", new RecoveryState(routing, localNode, null));
+        final PlainActionFuture<Boolean> recovered = PlainActionFuture.newFuture();
+        shard.recoverFromStore(recovered);
+        recovered.actionGet();
+        final ShardRouting started = routing.moveToStarted();
+        shard.updateShardState(
+            started,
+            PRIMARY_TERM,
+            null,
+            1L,
+            Collections.singleton(started.allocationId().getId()),
+            new IndexShardRoutingTable.Builder(shardId).addShard(started).build(),
+            discoveryNodes
+        );
+
+        final Random random = new Random(0);
+        bulkBody = bulkBody(random, bulkSize);
+        singleDocumentBody = bulkBody(random, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try {
+            IOUtils.close(() -> shard.close("benchmark", false, false), shard.store());
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+            IOUtils.rm(path);
+        }
+    }
+
+    /**
+     * Indexes one bulk request of {@link #bulkSize} documents.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void bulk(DocCounters counters) throws Exception {
+        counters.docs += indexBulk(bulkBody);
+    }
+
+    /**
+     * Indexes a bulk request of a single document, the per-operation latency of the write path.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int singleDocument() throws Exception {
+        return indexBulk(singleDocumentBody);
+    }
+
+    private int indexBulk(BytesReference body) throws Exception {
+        final BulkRequest request = new BulkRequest().add(body, INDEX_NAME, MediaTypeRegistry.JSON);
+        final BulkItemRequest[] items = new BulkItemRequest[request.numberOfActions()];
+        for (int i = 0; i < items.length; i++) {
+            final DocWriteRequest<?> item = request.requests().get(i);
+            ((IndexRequest) item).process(Version.CURRENT, null, INDEX_NAME);
+            items[i] = new BulkItemRequest(i, item);
+        }
+        final BulkShardRequest shardRequest = new BulkShardRequest(shard.shardId(), WriteRequest.RefreshPolicy.NONE, items);
+
+        final PlainActionFuture<Releasable> permit = PlainActionFuture.newFuture();
+        shard.acquirePrimaryOperationPermit(permit, ThreadPool.Names.WRITE, shardRequest);
+        try (
+            Releasable ignored = permit.actionGet();
+            Releasable pressure = indexingPressureService.markPrimaryOperationStarted(
+                shard.shardId(),
+                shardRequest.ramBytesUsed(),
+                false
+            )
+        ) {
+            final PlainActionFuture<PrimaryResult<BulkShardRequest, BulkShardResponse>> executed = PlainActionFuture.newFuture();
+            TransportShardBulkAction.performOnPrimary(
+                shardRequest,
+                shard,
+                null,
+                threadPool::absoluteTimeInMillis,
+                this::updateMappings,
+                listener -> listener.onResponse(null),
+                executed,
+                threadPool,
+                ThreadPool.Names.WRITE
+            );
+            final PrimaryResult<BulkShardRequest, BulkShardResponse> result = executed.actionGet();
+            for (BulkItemResponse response : result.finalResponseIfSuccessful.getResponses()) {
+                if (response.isFailed()) {
+                    final String message = "failed to index document [" + response.getId() + "]";
+                    throw new IllegalStateException(message, response.getFailure().getCause());
+                }
+            }
+            // syncs the translog when the durability is REQUEST
+            final PlainActionFuture<Void> postWrite = PlainActionFuture.newFuture();
+            result.runPostReplicationActions(postWrite);
+            postWrite.actionGet();
+            // as the replication operation would, so that the global checkpoint advances and flushes can trim the translog
+            shard.updateLocalCheckpointForShard(shard.routingEntry().allocationId().getId(), shard.getLocalCheckpoint());
+        }
+        if (refreshEveryBulks > 0 && ++bulks % refreshEveryBulks == 0) {
+            shard.refresh("benchmark");
+        }
+        shard.afterWriteOperation();
+        return items.length;
+    }
+
+    /**
+     * Applies a dynamic mapping update to the shard as the cluster-manager would publish it, see {@link MappingUpdatePerformer}.
+     */
+    private void updateMappings(Mapping update, ShardId shardId, ActionListener<Void> listener) {
+        ActionListener.completeWith(listener, () -> {
+            shard.mapperService()
+                .merge(
+                    MapperService.SINGLE_MAPPING_NAME,
+                    new CompressedXContent(update, ToXContent.EMPTY_PARAMS),
+                    MapperService.MergeReason.MAPPING_UPDATE
+                );
+            return null;
+        });
+    }
+
+    private static MapperService newMapperService(IndexSettings indexSettings) {
+        final Map<String, NamedAnalyzer> analyzers = Collections.singletonMap(
+            AnalysisRegistry.DEFAULT_ANALYZER_NAME,
+            new NamedAnalyzer(AnalysisRegistry.DEFAULT_ANALYZER_NAME, AnalyzerScope.INDEX, new StandardAnalyzer())
+        );
+        return new MapperService(
+            indexSettings,
+            new IndexAnalyzers(analyzers, Collections.emptyMap(), Collections.emptyMap()),
+            NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, null, Collections.emptyMap()),
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(),
+            () -> null,
+            () -> false,
+            null
+        );
+    }
+
+    private String mapping() {
+        switch (workload) {
+            case LOGS:
+                return "{\"properties\":{"
+                    + "\"@timestamp\":{\"type\":\"date\"},"
+                    + "\"host\":{\"type\":\"keyword\"},"
+                    + "\"method\":{\"type\":\"keyword\"},"
+                    + "\"path\":{\"type\":\"keyword\"},"
+                    + "\"status\":{\"type\":\"integer\"},"
+                    + "\"bytes\":{\"type\":\"long\"},"
+                    + "\"message\":{\"type\":\"text\"}}}";
+            case METRICS:
+                return "{\"properties\":{"
+                    + "\"@timestamp\":{\"type\":\"date\"},"
+                    + "\"host\":{\"type\":\"keyword\"},"
+                    + "\"service\":{\"type\":\"keyword\"},"
+                    + "\"cpu\":{\"type\":\"double\"},"
+                    + "\"memory\":{\"type\":\"long\"},"
+                    + "\"disk_read\":{\"type\":\"long\"},"
+                    + "\"disk_write\":{\"type\":\"long\"},"
+                    + "\"load\":{\"type\":\"float\"}}}";
+            case NESTED:
+                return "{\"properties\":{"
+                    + "\"@timestamp\":{\"type\":\"date\"},"
+                    + "\"order_id\":{\"type\":\"keyword\"},"
+                    + "\"customer\":{\"type\":\"keyword\"},"
+                    + "\"items\":{\"type\":\"nested\",\"properties\":{"
+                    + "\"sku\":{\"type\":\"keyword\"},"
+                    + "\"quantity\":{\"type\":\"integer\"},"
+                    + "\"price\":{\"type\":\"double\"}}}}}";
+            default:
+                throw new AssertionError(workload);
+        }
+    }
+
+    /**
+     * A bulk body of index actions without ids, so that every execution indexes new documents with auto-generated ids
+     * the way append-only ingestion does.
+     */
+    private BytesReference bulkBody(Random random, int documents) {
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < documents; i++) {
+            body.append("{\"index\":{}}\n");
+            source(random, body);
+            body.append('\n');
+        }
+        return new BytesArray(body.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void source(Random random, StringBuilder source) {
+        final long timestamp = 1_700_000_000_000L + random.nextInt(86_400_000);
+        switch (workload) {
+            case LOGS:
+                source.append("{\"@timestamp\":")
+                    .append(timestamp)
+                    .append(",\"host\":\"host-")
+                    .append(random.nextInt(100))
+                    .append("\",\"method\":\"")
+                    .append(random.nextInt(10) == 0 ? "POST" : "GET")
+                    .append("\",\"path\":\"/api/v1/resource/")
+                    .append(random.nextInt(1000))
+                    .append("\",\"status\":")
+                    .append(random.nextInt(20) == 0 ? 500 : 200)
+                    .append(",\"bytes\":")
+                    .append(random.nextInt(100_000))
+                    .append(",\"message\":\"request ")
+                    .append(random.nextInt(1_000_000))
+                    .append(" served from cache region ")
+                    .append(random.nextInt(16))
+                    .append(" after upstream lookup\"}");
+                break;
+            case METRICS:
+                source.append("{\"@timestamp\":")
+                    .append(timestamp)
+                    .append(",\"host\":\"host-")
+                    .append(random.nextInt(100))
+                    .append("\",\"service\":\"service-")
+                    .append(random.nextInt(10))
+                    .append("\",\"cpu\":")
+                    .append(random.nextDouble())
+                    .append(",\"memory\":")
+                    .append(random.nextInt(Integer.MAX_VALUE))
+                    .append(",\"disk_read\":")
+                    .append(random.nextInt(1_000_000))
+                    .append(",\"disk_write\":")
+                    .append(random.nextInt(1_000_000))
+                    .append(",\"load\":")
+                    .append(random.nextFloat() * 8)
+                    .append('}');
+                break;
+            case NESTED:
+                source.append("{\"@timestamp\":")
+                    .append(timestamp)
+                    .append(",\"order_id\":\"order-")
+                    .append(random.nextInt(Integer.MAX_VALUE))
+                    .append("\",\"customer\":\"customer-")
+                    .append(random.nextInt(10_000))
+                    .append("\",\"items\":[");
+                final int items = 1 + random.nextInt(5);
+                for (int i = 0; i < items; i++) {
+                    if (i > 0) {
+                        source.append(',');
+                    }
+                    source.append("{\"sku\":\"sku-")
+                        .append(random.nextInt(5_000))
+                        .append("\",\"quantity\":")
+                        .append(1 + random.nextInt(10))
+                        .append(",\"price\":")
+                        .append(random.nextInt(100_000) / 100.0)
+                        .append('}');
+                }
+                source.append("]}");
+                break;
+            default:
+                throw new AssertionError(workload);
+        }
+    }
+}
@@ -69,6 +69,26 @@ public class PagedBytesReference extends AbstractBytesReference {
         return length;
     }
 
+    @Override
+    public int indexOf(byte marker, int from) {
+        // scan page by page rather than resolving the page of every single byte
+        final BytesRef page = new BytesRef();
+        int position = from;
+        while (position < length) {
+            final int pageRemaining = PAGE_SIZE_IN_BYTES - ((offset + position) % PAGE_SIZE_IN_BYTES);
+            final int fragmentSize = Math.min(length - position, pageRemaining);
+            final boolean materialized = byteArray.get(offset + position, fragmentSize, page);
+            assert materialized == false : "page aligned fragment got materialized";
+            for (int i = 0; i < fragmentSize; i++) {
+                if (page.bytes[page.offset + i] == marker) {
+                    return position + i;
+                }
+            }
+            position += fragmentSize;
+        }
+        return -1;
+    }
+
     @Override
     public BytesReference slice(int from, int length) {
         if (from < 0 || (from + length) > length()) {
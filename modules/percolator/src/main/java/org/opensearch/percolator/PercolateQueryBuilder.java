@@ -58,6 +58,7 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.Version;
 import org.opensearch.action.get.GetRequest;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentFactory;
@@ -94,6 +95,7 @@ import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.QueryShardException;
 import org.opensearch.index.query.Rewriteable;
+import org.opensearch.search.lookup.SearchLookup;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -555,7 +557,11 @@ public class PercolateQueryBuilder extends AbstractQueryBuilder<PercolateQueryBu
         String name = this.name != null ? this.name : pft.name();
         QueryShardContext percolateShardContext = wrap(context);
         PercolatorFieldMapper.configureContext(percolateShardContext, pft.mapUnmappedFieldsAsText);
-        PercolateQuery.QueryStore queryStore = createStore(pft.queryBuilderField, percolateShardContext);
+        PercolateQuery.QueryStore queryStore = createStore(pft.queryBuilderField, percolateShardContext, pft.queryCache.get(), () -> {
+            QueryShardContext parseContext = wrap(context);
+            PercolatorFieldMapper.configureContext(parseContext, pft.mapUnmappedFieldsAsText);
+            return parseContext;
+        });
 
         return pft.percolateQuery(name, queryStore, documents, docSearcher, excludeNestedDocuments, context.indexVersionCreated());
     }
@@ -595,6 +601,20 @@ public class PercolateQueryBuilder extends AbstractQueryBuilder<PercolateQueryBu
     }
 
     static PercolateQuery.QueryStore createStore(MappedFieldType queryBuilderFieldType, QueryShardContext context) {
+        return createStore(queryBuilderFieldType, context, null, () -> context);
+    }
+
+    /**
+     * Creates a store that takes the parsed queries from the given cache if there is one. The queries that miss the cache are parsed
+     * with a context of their own from the given supplier, which tells whether the query depends on the time, the scripts or the
+     * lookup of this request and therefore must not be cached.
+     */
+    static PercolateQuery.QueryStore createStore(
+        MappedFieldType queryBuilderFieldType,
+        QueryShardContext context,
+        @Nullable PercolatorQueryCache queryCache,
+        Supplier<QueryShardContext> parseContexts
+    ) {
         Version indexVersion = context.indexVersionCreated();
         NamedWriteableRegistry registry = context.getWriteableRegistry();
         return ctx -> {
@@ -603,38 +623,56 @@ public class PercolateQueryBuilder extends AbstractQueryBuilder<PercolateQueryBu
             if (binaryDocValues == null) {
                 return docId -> null;
             }
+            IndexReader.CacheHelper cacheHelper = queryCache != null ? leafReader.getCoreCacheHelper() : null;
+            if (cacheHelper == null) {
+                return docId -> parseQuery(binaryDocValues, docId, indexVersion, registry, context);
+            }
+            IndexReader.CacheKey segment = cacheHelper.getKey();
             return docId -> {
-                if (binaryDocValues.advanceExact(docId)) {
-                    BytesRef qbSource = binaryDocValues.binaryValue();
-                    try (InputStream in = new ByteArrayInputStream(qbSource.bytes, qbSource.offset, qbSource.length)) {
-                        try (
-                            StreamInput input = new NamedWriteableAwareStreamInput(
-                                new InputStreamStreamInput(in, qbSource.length),
-                                registry
-                            )
-                        ) {
-                            input.setVersion(indexVersion);
-                            // Query builder's content is stored via BinaryFieldMapper, which has a custom encoding
-                            // to encode multiple binary values into a single binary doc values field.
-                            // This is the reason we need to first need to read the number of values and
-                            // then the length of the field value in bytes.
-                            int numValues = input.readVInt();
-                            assert numValues == 1;
-                            int valueLength = input.readVInt();
-                            assert valueLength > 0;
-                            QueryBuilder queryBuilder = input.readNamedWriteable(QueryBuilder.class);
-                            assert in.read() == -1;
-                            queryBuilder = Rewriteable.rewrite(queryBuilder, context);
-                            return queryBuilder.toQuery(context);
-                        }
+                Query query = queryCache.get(segment, docId);
+                if (query == null) {
+                    QueryShardContext parseContext = parseContexts.get();
+                    query = parseQuery(binaryDocValues, docId, indexVersion, registry, parseContext);
+                    if (query != null && parseContext.isCacheable()) {
+                        queryCache.put(cacheHelper, docId, query);
                     }
-                } else {
-                    return null;
                 }
+                return query;
             };
         };
     }
 
+    private static Query parseQuery(
+        BinaryDocValues binaryDocValues,
+        int docId,
+        Version indexVersion,
+        NamedWriteableRegistry registry,
+        QueryShardContext context
+    ) throws IOException {
+        if (binaryDocValues.advanceExact(docId)) {
+            BytesRef qbSource = binaryDocValues.binaryValue();
+            try (InputStream in = new ByteArrayInputStream(qbSource.bytes, qbSource.offset, qbSource.length)) {
+                try (StreamInput input = new NamedWriteableAwareStreamInput(new InputStreamStreamInput(in, qbSource.length), registry)) {
+                    input.setVersion(indexVersion);
+                    // Query builder's content is stored via BinaryFieldMapper, which has a custom encoding
+                    // to encode multiple binary values into a single binary doc values field.
+                    // This is the reason we need to first need to read the number of values and
+                    // then the length of the field value in bytes.
+                    int numValues = input.readVInt();
+                    assert numValues == 1;
+                    int valueLength = input.readVInt();
+                    assert valueLength > 0;
+                    QueryBuilder queryBuilder = input.readNamedWriteable(QueryBuilder.class);
+                    assert in.read() == -1;
+                    queryBuilder = Rewriteable.rewrite(queryBuilder, context);
+                    return queryBuilder.toQuery(context);
+                }
+            }
+        } else {
+            return null;
+        }
+    }
+
     static QueryShardContext wrap(QueryShardContext shardContext) {
         return new QueryShardContext(shardContext) {
 
@@ -645,6 +683,14 @@ public class PercolateQueryBuilder extends AbstractQueryBuilder<PercolateQueryBu
                 return null;
             }
 
+            @Override
+            public SearchLookup lookup() {
+                // the queries that hold on to the lookup, like script queries, hold on to the state of this request and must not be
+                // shared with other requests through the query cache
+                setIsCacheable(false);
+                return super.lookup();
+            }
+
             @Override
             public BitSetProducer bitsetFilter(Query query) {
                 return context -> {
@@ -63,6 +63,8 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.ParsingException;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.Index;
 import org.opensearch.core.xcontent.XContentLocation;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.mapper.BinaryFieldMapper;
@@ -99,6 +101,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static org.opensearch.index.query.AbstractQueryBuilder.parseInnerQueryBuilder;
@@ -110,6 +113,11 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
         false,
         Setting.Property.IndexScope
     );
+    static final Setting<ByteSizeValue> INDEX_QUERY_CACHE_SIZE_SETTING = Setting.byteSizeSetting(
+        "index.percolator.query_cache.size",
+        new ByteSizeValue(0),
+        Setting.Property.IndexScope
+    );
     static final String CONTENT_TYPE = "percolator";
 
     static final byte FIELD_VALUE_SEPARATOR = 0;  // nul code point
@@ -125,7 +133,8 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
 
     @Override
     public ParametrizedFieldMapper.Builder getMergeBuilder() {
-        return new Builder(simpleName(), queryShardContext, mapUnmappedFieldsAsText).init(this);
+        final PercolatorFieldType fieldType = (PercolatorFieldType) fieldType();
+        return new Builder(simpleName(), queryShardContext, mapUnmappedFieldsAsText, fieldType.queryCache).init(this);
     }
 
     static class Builder extends ParametrizedFieldMapper.Builder {
@@ -134,15 +143,22 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
 
         private final Supplier<QueryShardContext> queryShardContext;
         private final boolean mapUnmappedFieldsAsText;
+        private final Supplier<PercolatorQueryCache> queryCache;
 
-        Builder(String fieldName, Supplier<QueryShardContext> queryShardContext) {
-            this(fieldName, queryShardContext, false);
+        Builder(String fieldName, Supplier<QueryShardContext> queryShardContext, Supplier<PercolatorQueryCache> queryCache) {
+            this(fieldName, queryShardContext, false, queryCache);
         }
 
-        Builder(String fieldName, Supplier<QueryShardContext> queryShardContext, boolean mapUnmappedFieldsAsText) {
+        Builder(
+            String fieldName,
+            Supplier<QueryShardContext> queryShardContext,
+            boolean mapUnmappedFieldsAsText,
+            Supplier<PercolatorQueryCache> queryCache
+        ) {
             super(fieldName);
             this.queryShardContext = queryShardContext;
             this.mapUnmappedFieldsAsText = mapUnmappedFieldsAsText;
+            this.queryCache = queryCache;
         }
 
         @Override
@@ -168,6 +184,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             NumberFieldMapper minimumShouldMatchFieldMapper = createMinimumShouldMatchField(context);
             fieldType.minimumShouldMatchField = minimumShouldMatchFieldMapper.fieldType();
             fieldType.mapUnmappedFieldsAsText = mapUnmapped;
+            fieldType.queryCache = queryCache;
 
             context.path().remove();
             return new PercolatorFieldMapper(
@@ -227,9 +244,19 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
 
     static class TypeParser implements FieldMapper.TypeParser {
 
+        private final Function<Index, PercolatorQueryCache> queryCaches;
+
+        /**
+         * @param queryCaches returns the cache of the parsed queries of an index, or {@code null} if they are not cached
+         */
+        TypeParser(Function<Index, PercolatorQueryCache> queryCaches) {
+            this.queryCaches = queryCaches;
+        }
+
         @Override
         public Builder parse(String name, Map<String, Object> node, ParserContext parserContext) throws MapperParsingException {
-            return new Builder(name, parserContext.queryShardContextSupplier());
+            final Index index = parserContext.mapperService().index();
+            return new Builder(name, parserContext.queryShardContextSupplier(), () -> queryCaches.apply(index));
         }
     }
 
@@ -242,6 +269,8 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
 
         RangeFieldMapper.RangeFieldType rangeField;
         boolean mapUnmappedFieldsAsText;
+        // supplies the cache of the index, which is null if the parsed queries are not cached
+        Supplier<PercolatorQueryCache> queryCache = () -> null;
 
         private PercolatorFieldType(String name, Map<String, String> meta) {
             super(name, false, false, false, TextSearchInfo.NONE, meta);
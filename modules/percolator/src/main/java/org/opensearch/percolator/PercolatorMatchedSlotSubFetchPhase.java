@@ -34,13 +34,11 @@ package org.opensearch.percolator;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
-import org.apache.lucene.search.Sort;
-import org.apache.lucene.search.SortField;
-import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.BitSet;
 import org.apache.lucene.util.BitSetIterator;
@@ -100,16 +98,14 @@ final class PercolatorMatchedSlotSubFetchPhase implements FetchSubPhase {
                         continue;
                     }
                     query = pc.filterNestedDocs(query);
-                    IndexSearcher percolatorIndexSearcher = pc.percolateQuery.getPercolatorIndexSearcher();
-                    int memoryIndexMaxDoc = percolatorIndexSearcher.getIndexReader().maxDoc();
-                    TopDocs topDocs = percolatorIndexSearcher.search(query, memoryIndexMaxDoc, new Sort(SortField.FIELD_DOC));
-                    if (topDocs.totalHits.value() == 0) {
+                    int[] docs = matchingDocs(pc.percolateQuery.getPercolatorIndexSearcher(), query);
+                    if (docs.length == 0) {
                         // This hit didn't match with a percolate query,
                         // likely to happen when percolating multiple documents
                         continue;
                     }
 
-                    IntStream slots = convertTopDocsToSlots(topDocs, pc.rootDocsBySlot);
+                    IntStream slots = convertDocsToSlots(docs, pc.rootDocsBySlot);
                     // _percolator_document_slot fields are document fields and should be under "fields" section in a hit
                     hitContext.hit().setDocumentField(fieldName, new DocumentField(fieldName, slots.boxed().collect(Collectors.toList())));
                 }
@@ -154,8 +150,27 @@ final class PercolatorMatchedSlotSubFetchPhase implements FetchSubPhase {
         }
     }
 
-    static IntStream convertTopDocsToSlots(TopDocs topDocs, int[] rootDocsBySlot) {
-        IntStream stream = Arrays.stream(topDocs.scoreDocs).mapToInt(scoreDoc -> scoreDoc.doc);
+    /**
+     * Returns the ids of the percolated documents that match the query, in order. Unlike a search sorted by doc id, this does not
+     * allocate a priority queue as large as the batch of percolated documents for every hit.
+     */
+    static int[] matchingDocs(IndexSearcher percolatorIndexSearcher, Query query) throws IOException {
+        Weight weight = percolatorIndexSearcher.createWeight(percolatorIndexSearcher.rewrite(query), ScoreMode.COMPLETE_NO_SCORES, 1f);
+        // the percolated documents are always indexed into a single segment
+        Scorer scorer = weight.scorer(percolatorIndexSearcher.getIndexReader().leaves().get(0));
+        if (scorer == null) {
+            return new int[0];
+        }
+        IntStream.Builder docs = IntStream.builder();
+        DocIdSetIterator iterator = scorer.iterator();
+        for (int docId = iterator.nextDoc(); docId != NO_MORE_DOCS; docId = iterator.nextDoc()) {
+            docs.add(docId);
+        }
+        return docs.build().toArray();
+    }
+
+    static IntStream convertDocsToSlots(int[] docs, int[] rootDocsBySlot) {
+        IntStream stream = Arrays.stream(docs);
         if (rootDocsBySlot != null) {
             stream = stream.map(docId -> Arrays.binarySearch(rootDocsBySlot, docId));
         }
@@ -33,7 +33,16 @@
 package org.opensearch.percolator;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.Mapper;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndices.IndexRemovalReason;
 import org.opensearch.plugins.MapperPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.SearchPlugin;
@@ -47,6 +56,10 @@ import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 
 public class PercolatorModulePlugin extends Plugin implements MapperPlugin, SearchPlugin {
+
+    // the caches of the parsed percolator queries, one per index that has a shard on this node
+    private final Map<Index, PercolatorQueryCache> queryCaches = ConcurrentCollections.newConcurrentMap();
+
     @Override
     public List<QuerySpec<?>> getQueries() {
         return singletonList(new QuerySpec<>(PercolateQueryBuilder.NAME, PercolateQueryBuilder::new, PercolateQueryBuilder::fromXContent));
@@ -59,12 +72,37 @@ public class PercolatorModulePlugin extends Plugin implements MapperPlugin, Sear
 
     @Override
     public List<Setting<?>> getSettings() {
-        return Arrays.asList(PercolatorFieldMapper.INDEX_MAP_UNMAPPED_FIELDS_AS_TEXT_SETTING);
+        return Arrays.asList(
+            PercolatorFieldMapper.INDEX_MAP_UNMAPPED_FIELDS_AS_TEXT_SETTING,
+            PercolatorFieldMapper.INDEX_QUERY_CACHE_SIZE_SETTING
+        );
     }
 
     @Override
     public Map<String, Mapper.TypeParser> getMappers() {
-        return singletonMap(PercolatorFieldMapper.CONTENT_TYPE, new PercolatorFieldMapper.TypeParser());
+        return singletonMap(PercolatorFieldMapper.CONTENT_TYPE, new PercolatorFieldMapper.TypeParser(queryCaches::get));
+    }
+
+    @Override
+    public void onIndexModule(IndexModule indexModule) {
+        final ByteSizeValue size = PercolatorFieldMapper.INDEX_QUERY_CACHE_SIZE_SETTING.get(indexModule.getSettings());
+        if (size.getBytes() <= 0) {
+            return;
+        }
+        indexModule.addIndexEventListener(new IndexEventListener() {
+            @Override
+            public void beforeIndexShardCreated(ShardId shardId, Settings indexSettings) {
+                queryCaches.computeIfAbsent(shardId.getIndex(), index -> new PercolatorQueryCache(size));
+            }
+
+            @Override
+            public void afterIndexRemoved(Index index, IndexSettings indexSettings, IndexRemovalReason reason) {
+                final PercolatorQueryCache queryCache = queryCaches.remove(index);
+                if (queryCache != null) {
+                    queryCache.clear();
+                }
+            }
+        });
     }
 
 }
@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.percolator;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A cache of the Lucene queries parsed from the query builders stored in a percolator field, keyed by segment and doc id, so that
+ * the candidate queries of a percolate query are only deserialized and parsed the first time they are verified.
+ * <p>
+ * Entries are keyed by the core cache key of the segment, since the stored query builders never change for a given segment core.
+ * The entries of a segment are dropped once its core is closed, e.g. because the segment got merged away. There is one cache per index,
+ * which {@link PercolatorModulePlugin} creates along with the index and clears once the index is removed.
+ *
+ * @opensearch.internal
+ */
+final class PercolatorQueryCache implements RemovalListener<PercolatorQueryCache.Key, Query> {
+
+    // the same default as the LRUQueryCache for the queries that do not account for their memory usage
+    private static final long QUERY_DEFAULT_RAM_BYTES_USED = 1024;
+
+    private final Cache<Key, Query> cache;
+    // the keys of the entries of every segment, a segment is only listed as long as it has entries
+    private final ConcurrentMap<IndexReader.CacheKey, Set<Key>> keysBySegment = ConcurrentCollections.newConcurrentMap();
+    // the segments whose closing is listened to, which is only done once per segment
+    private final Set<IndexReader.CacheKey> listenedSegments = ConcurrentCollections.newConcurrentSet();
+
+    PercolatorQueryCache(ByteSizeValue maxSize) {
+        this.cache = CacheBuilder.<Key, Query>builder()
+            .setMaximumWeight(maxSize.getBytes())
+            .weigher((key, query) -> RamUsageEstimator.sizeOf(query, QUERY_DEFAULT_RAM_BYTES_USED))
+            .removalListener(this)
+            .build();
+    }
+
+    Query get(IndexReader.CacheKey segment, int docId) {
+        return cache.get(new Key(segment, docId));
+    }
+
+    void put(IndexReader.CacheHelper segment, int docId, Query query) {
+        final IndexReader.CacheKey segmentKey = segment.getKey();
+        if (listenedSegments.add(segmentKey)) {
+            segment.addClosedListener(this::onSegmentClosed);
+        }
+        final Key key = new Key(segmentKey, docId);
+        keysBySegment.compute(segmentKey, (k, keys) -> {
+            final Set<Key> segmentKeys = keys == null ? ConcurrentCollections.newConcurrentSet() : keys;
+            segmentKeys.add(key);
+            return segmentKeys;
+        });
+        cache.put(key, query);
+    }
+
+    private void onSegmentClosed(IndexReader.CacheKey segment) {
+        listenedSegments.remove(segment);
+        final Set<Key> segmentKeys = keysBySegment.remove(segment);
+        if (segmentKeys != null) {
+            for (Key key : segmentKeys) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<Key, Query> notification) {
+        if (notification.getRemovalReason() == RemovalReason.REPLACED) {
+            // the key still has an entry
+            return;
+        }
+        keysBySegment.computeIfPresent(notification.getKey().segment(), (segment, keys) -> {
+            keys.remove(notification.getKey());
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /**
+     * Drops all entries, once the index that owns this cache is removed from the node.
+     */
+    void clear() {
+        cache.invalidateAll();
+        keysBySegment.clear();
+    }
+
+    int segmentCount() {
+        return keysBySegment.size();
+    }
+
+    int count() {
+        return cache.count();
+    }
+
+    record Key(IndexReader.CacheKey segment, int docId) {
+    }
+}
@@ -33,17 +33,19 @@ package org.opensearch.percolator;
 
 import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.index.memory.MemoryIndex;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
-import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TermQuery;
-import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
 import org.apache.lucene.util.FixedBitSet;
@@ -160,30 +162,42 @@ public class PercolatorMatchedSlotSubFetchPhaseTests extends OpenSearchTestCase
         }
     }
 
-    public void testConvertTopDocsToSlots() {
-        ScoreDoc[] scoreDocs = new ScoreDoc[randomInt(128)];
-        for (int i = 0; i < scoreDocs.length; i++) {
-            scoreDocs[i] = new ScoreDoc(i, 1f);
+    public void testMatchingDocs() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig(new WhitespaceAnalyzer()))) {
+                for (int i = 0; i < 10; i++) {
+                    Document document = new Document();
+                    document.add(new StringField("field", i % 3 == 0 ? "value" : "other", Field.Store.NO));
+                    indexWriter.addDocument(document);
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertEquals(1, reader.leaves().size());
+                IndexSearcher searcher = new IndexSearcher(reader);
+                int[] docs = PercolatorMatchedSlotSubFetchPhase.matchingDocs(searcher, new TermQuery(new Term("field", "value")));
+                assertArrayEquals(new int[] { 0, 3, 6, 9 }, docs);
+                assertEquals(0, PercolatorMatchedSlotSubFetchPhase.matchingDocs(searcher, new MatchNoDocsQuery()).length);
+            }
+        }
+    }
+
+    public void testConvertDocsToSlots() {
+        int[] docs = new int[randomInt(128)];
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = i;
         }
 
-        TopDocs topDocs = new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
-        IntStream stream = PercolatorMatchedSlotSubFetchPhase.convertTopDocsToSlots(topDocs, null);
+        IntStream stream = PercolatorMatchedSlotSubFetchPhase.convertDocsToSlots(docs, null);
 
         int[] result = stream.toArray();
-        assertEquals(scoreDocs.length, result.length);
-        for (int i = 0; i < scoreDocs.length; i++) {
-            assertEquals(scoreDocs[i].doc, result[i]);
+        assertEquals(docs.length, result.length);
+        for (int i = 0; i < docs.length; i++) {
+            assertEquals(docs[i], result[i]);
         }
     }
 
-    public void testConvertTopDocsToSlots_nestedDocs() {
-        ScoreDoc[] scoreDocs = new ScoreDoc[5];
-        scoreDocs[0] = new ScoreDoc(2, 1f);
-        scoreDocs[1] = new ScoreDoc(5, 1f);
-        scoreDocs[2] = new ScoreDoc(8, 1f);
-        scoreDocs[3] = new ScoreDoc(11, 1f);
-        scoreDocs[4] = new ScoreDoc(14, 1f);
-        TopDocs topDocs = new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    public void testConvertDocsToSlots_nestedDocs() {
+        int[] docs = new int[] { 2, 5, 8, 11, 14 };
 
         FixedBitSet bitSet = new FixedBitSet(15);
         bitSet.set(2);
@@ -193,8 +207,8 @@ public class PercolatorMatchedSlotSubFetchPhaseTests extends OpenSearchTestCase
         bitSet.set(14);
 
         int[] rootDocsBySlot = PercolatorMatchedSlotSubFetchPhase.buildRootDocsSlots(bitSet);
-        int[] result = PercolatorMatchedSlotSubFetchPhase.convertTopDocsToSlots(topDocs, rootDocsBySlot).toArray();
-        assertEquals(scoreDocs.length, result.length);
+        int[] result = PercolatorMatchedSlotSubFetchPhase.convertDocsToSlots(docs, rootDocsBySlot).toArray();
+        assertEquals(docs.length, result.length);
         assertEquals(0, result[0]);
         assertEquals(1, result[1]);
         assertEquals(2, result[2]);
@@ -46,23 +46,41 @@ import org.apache.lucene.store.Directory;
 import org.opensearch.Version;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.MapperTestUtils;
 import org.opensearch.index.fielddata.plain.BytesBinaryIndexFieldData;
 import org.opensearch.index.mapper.BinaryFieldMapper;
 import org.opensearch.index.mapper.ContentPath;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.Mapper;
+import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.ParseContext;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.query.ScriptQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.script.FilterScript;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptContext;
+import org.opensearch.script.ScriptEngine;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.ScriptType;
 import org.opensearch.search.SearchModule;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
+import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 
 import org.mockito.Mockito;
 
@@ -86,42 +104,11 @@ public class QueryBuilderStoreTests extends OpenSearchTestCase {
     public void testStoringQueryBuilders() throws IOException {
         try (Directory directory = newDirectory()) {
             TermQueryBuilder[] queryBuilders = new TermQueryBuilder[randomIntBetween(1, 16)];
-            IndexWriterConfig config = new IndexWriterConfig(new WhitespaceAnalyzer());
-            config.setMergePolicy(NoMergePolicy.INSTANCE);
-            Settings settings = Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT).build();
-            BinaryFieldMapper fieldMapper = PercolatorFieldMapper.Builder.createQueryBuilderFieldBuilder(
-                new Mapper.BuilderContext(settings, new ContentPath(0))
-            );
-
-            Version version = Version.CURRENT;
-            try (IndexWriter indexWriter = new IndexWriter(directory, config)) {
-                for (int i = 0; i < queryBuilders.length; i++) {
-                    queryBuilders[i] = new TermQueryBuilder(randomAlphaOfLength(4), randomAlphaOfLength(8));
-                    ParseContext parseContext = mock(ParseContext.class);
-                    ParseContext.Document document = new ParseContext.Document();
-                    when(parseContext.doc()).thenReturn(document);
-                    when(parseContext.indexSettings()).thenReturn(
-                        new org.opensearch.index.IndexSettings(
-                            IndexMetadata.builder("test").settings(settings).numberOfShards(1).numberOfReplicas(0).build(),
-                            settings
-                        )
-                    );
-                    PercolatorFieldMapper.createQueryBuilderField(version, fieldMapper, queryBuilders[i], parseContext);
-                    indexWriter.addDocument(document);
-                }
+            for (int i = 0; i < queryBuilders.length; i++) {
+                queryBuilders[i] = new TermQueryBuilder(randomAlphaOfLength(4), randomAlphaOfLength(8));
             }
-
-            QueryShardContext queryShardContext = mock(QueryShardContext.class);
-            when(queryShardContext.indexVersionCreated()).thenReturn(version);
-            when(queryShardContext.getWriteableRegistry()).thenReturn(writableRegistry());
-            when(queryShardContext.getXContentRegistry()).thenReturn(xContentRegistry());
-            when(queryShardContext.getForField(fieldMapper.fieldType())).thenReturn(
-                new BytesBinaryIndexFieldData(fieldMapper.name(), CoreValuesSourceType.BYTES)
-            );
-            when(queryShardContext.fieldMapper(Mockito.anyString())).thenAnswer(invocation -> {
-                final String fieldName = (String) invocation.getArguments()[0];
-                return new KeywordFieldMapper.KeywordFieldType(fieldName);
-            });
+            BinaryFieldMapper fieldMapper = indexQueryBuilders(directory, queryBuilders);
+            QueryShardContext queryShardContext = mockQueryShardContext(fieldMapper);
             PercolateQuery.QueryStore queryStore = PercolateQueryBuilder.createStore(fieldMapper.fieldType(), queryShardContext);
 
             try (IndexReader indexReader = DirectoryReader.open(directory)) {
@@ -141,4 +128,165 @@ public class QueryBuilderStoreTests extends OpenSearchTestCase {
         }
     }
 
+    public void testCachingParsedQueries() throws IOException {
+        MapperService mapperService = MapperTestUtils.newMapperService(xContentRegistry(), createTempDir(), Settings.EMPTY, "test");
+        mapperService.merge(
+            MapperService.SINGLE_MAPPING_NAME,
+            new CompressedXContent("{\"properties\":{\"keyword\":{\"type\":\"keyword\"},\"date\":{\"type\":\"date\"}}}"),
+            MapperService.MergeReason.MAPPING_UPDATE
+        );
+        ScriptService scriptService = new ScriptService(
+            Settings.EMPTY,
+            Collections.singletonMap(DeterministicFilterScriptEngine.NAME, new DeterministicFilterScriptEngine()),
+            Collections.singletonMap(FilterScript.CONTEXT.name, FilterScript.CONTEXT)
+        );
+        try (Directory directory = newDirectory()) {
+            BinaryFieldMapper fieldMapper = indexQueryBuilders(
+                directory,
+                new TermQueryBuilder("keyword", randomAlphaOfLength(8)),
+                new RangeQueryBuilder("date").from("now-1d").to("now"),
+                new ScriptQueryBuilder(new Script(ScriptType.INLINE, DeterministicFilterScriptEngine.NAME, "true", Collections.emptyMap()))
+            );
+            PercolatorQueryCache queryCache = new PercolatorQueryCache(new ByteSizeValue(1, ByteSizeUnit.MB));
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                LeafReaderContext leafContext = indexReader.leaves().get(0);
+                QueryShardContext baseContext = new QueryShardContext(
+                    0,
+                    mapperService.getIndexSettings(),
+                    BigArrays.NON_RECYCLING_INSTANCE,
+                    null,
+                    null,
+                    mapperService,
+                    null,
+                    scriptService,
+                    xContentRegistry(),
+                    writableRegistry(),
+                    null,
+                    null,
+                    System::currentTimeMillis,
+                    null,
+                    null,
+                    () -> true,
+                    null
+                );
+                QueryShardContext queryShardContext = PercolateQueryBuilder.wrap(baseContext);
+                PercolateQuery.QueryStore queryStore = PercolateQueryBuilder.createStore(
+                    fieldMapper.fieldType(),
+                    queryShardContext,
+                    queryCache,
+                    () -> PercolateQueryBuilder.wrap(baseContext)
+                );
+                CheckedFunction<Integer, Query, IOException> queries = queryStore.getQueries(leafContext);
+
+                Query query = queries.apply(0);
+                assertEquals(1, queryCache.count());
+                assertSame(query, queries.apply(0));
+                // the queries are shared by the stores of all the requests
+                queryStore = PercolateQueryBuilder.createStore(
+                    fieldMapper.fieldType(),
+                    queryShardContext,
+                    queryCache,
+                    () -> PercolateQueryBuilder.wrap(baseContext)
+                );
+                assertSame(query, queryStore.getQueries(leafContext).apply(0));
+
+                // a query that depends on now is parsed again by every request
+                query = queries.apply(1);
+                assertNotSame(query, queries.apply(1));
+                // and so is a query that holds on to the lookup of the request
+                query = queries.apply(2);
+                assertNotSame(query, queries.apply(2));
+                assertEquals(1, queryCache.count());
+                // the queries that are not cached do not make the request itself uncacheable
+                assertTrue(queryShardContext.isCacheable());
+                assertTrue(baseContext.isCacheable());
+            }
+            // the queries of a segment are dropped once the segment is closed
+            assertEquals(0, queryCache.count());
+            assertEquals(0, queryCache.segmentCount());
+        }
+    }
+
+    /**
+     * A script engine whose filter scripts are deterministic, so that compiling them does not make the request uncacheable but the
+     * filter scripts still hold on to the lookup of the request.
+     */
+    private static class DeterministicFilterScriptEngine implements ScriptEngine {
+
+        static final String NAME = "deterministic";
+
+        @Override
+        public String getType() {
+            return NAME;
+        }
+
+        @Override
+        public <FactoryType> FactoryType compile(String name, String code, ScriptContext<FactoryType> context, Map<String, String> params) {
+            FilterScript.Factory factory = new FilterScript.Factory() {
+                @Override
+                public boolean isResultDeterministic() {
+                    return true;
+                }
+
+                @Override
+                public FilterScript.LeafFactory newFactory(Map<String, Object> params, SearchLookup lookup) {
+                    return ctx -> new FilterScript(params, lookup, ctx) {
+                        @Override
+                        public boolean execute() {
+                            return true;
+                        }
+                    };
+                }
+            };
+            return context.factoryClazz.cast(factory);
+        }
+
+        @Override
+        public Set<ScriptContext<?>> getSupportedContexts() {
+            return Collections.singleton(FilterScript.CONTEXT);
+        }
+    }
+
+    private BinaryFieldMapper indexQueryBuilders(Directory directory, QueryBuilder... queryBuilders) throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(new WhitespaceAnalyzer());
+        config.setMergePolicy(NoMergePolicy.INSTANCE);
+        Settings settings = Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT).build();
+        BinaryFieldMapper fieldMapper = PercolatorFieldMapper.Builder.createQueryBuilderFieldBuilder(
+            new Mapper.BuilderContext(settings, new ContentPath(0))
+        );
+
+        try (IndexWriter indexWriter = new IndexWriter(directory, config)) {
+            for (QueryBuilder queryBuilder : queryBuilders) {
+                ParseContext parseContext = mock(ParseContext.class);
+                ParseContext.Document document = new ParseContext.Document();
+                when(parseContext.doc()).thenReturn(document);
+                when(parseContext.indexSettings()).thenReturn(
+                    new org.opensearch.index.IndexSettings(
+                        IndexMetadata.builder("test").settings(settings).numberOfShards(1).numberOfReplicas(0).build(),
+                        settings
+                    )
+                );
+                PercolatorFieldMapper.createQueryBuilderField(Version.CURRENT, fieldMapper, queryBuilder, parseContext);
+                indexWriter.addDocument(document);
+            }
+        }
+        return fieldMapper;
+    }
+
+    private QueryShardContext mockQueryShardContext(BinaryFieldMapper fieldMapper) {
+        QueryShardContext queryShardContext = mock(QueryShardContext.class);
+        when(queryShardContext.indexVersionCreated()).thenReturn(Version.CURRENT);
+        when(queryShardContext.getWriteableRegistry()).thenReturn(writableRegistry());
+        when(queryShardContext.getXContentRegistry()).thenReturn(xContentRegistry());
+        when(queryShardContext.getForField(fieldMapper.fieldType())).thenReturn(
+            new BytesBinaryIndexFieldData(fieldMapper.name(), CoreValuesSourceType.BYTES)
+        );
+        when(queryShardContext.fieldMapper(Mockito.anyString())).thenAnswer(invocation -> {
+            final String fieldName = (String) invocation.getArguments()[0];
+            return new KeywordFieldMapper.KeywordFieldType(fieldName);
+        });
+        return queryShardContext;
+    }
+
 }
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parses the documents of the index operations of a bulk shard request in parallel, before the request executes sequentially on the
+ * primary. The thread executing the request takes part in the parsing and helper tasks are forked to the given executor; helpers that
+ * only get to run once every document has been claimed simply return, so the executing thread never waits on a task that has not
+ * started and the executor may well be the one it runs on.
+ * <p>
+ * Parsing ahead of execution does not change the outcome of the request: a document whose parsing requires a mapping update still
+ * triggers the update when its operation executes, and documents that were parsed with a mapping that changed in the meantime are
+ * parsed again, see {@link IndexShard#applyIndexOperationOnPrimary(IndexShard.PreParsedIndex)}.
+ *
+ * @opensearch.internal
+ */
+final class BulkDocumentPreParser {
+
+    private static final Logger logger = LogManager.getLogger(BulkDocumentPreParser.class);
+
+    private BulkDocumentPreParser() {}
+
+    /**
+     * Returns whether the documents of the given request should be parsed ahead of its execution on the given primary.
+     */
+    static boolean shouldPreParse(BulkShardRequest request, IndexShard primary) {
+        final IndexSettings indexSettings = primary.indexSettings();
+        if (indexSettings.isBulkParallelParseEnabled() == false) {
+            return false;
+        }
+        int indexOperations = 0;
+        for (BulkItemRequest item : request.items()) {
+            if (isPreParseable(item)) {
+                indexOperations++;
+            }
+        }
+        return indexOperations >= indexSettings.getBulkParallelParseMinItems();
+    }
+
+    /**
+     * Returns the number of threads, the executing one included, that parse the documents of a request on the given primary: at most
+     * {@link IndexSettings#INDEX_BULK_PARALLEL_PARSE_MAX_THREADS_SETTING} and at most a quarter of the threads of the pool the
+     * request executes on, so that parsing a single request leaves the pool to the other requests.
+     */
+    static int parallelism(IndexShard primary, @Nullable ThreadPool.Info info) {
+        final int poolShare = info == null ? 1 : Math.max(1, info.getMax() / 4);
+        return Math.min(primary.indexSettings().getBulkParallelParseMaxThreads(), poolShare);
+    }
+
+    /**
+     * Parses the documents of the index operations of the given request using up to {@code parallelism} threads, the calling one
+     * included. Returns the parsed operations by item slot, slots of items that are not index operations are {@code null}.
+     */
+    static IndexShard.PreParsedIndex[] preParse(BulkShardRequest request, IndexShard primary, Executor executor, int parallelism)
+        throws InterruptedException {
+        final BulkItemRequest[] items = request.items();
+        final IndexShard.PreParsedIndex[] preParsed = new IndexShard.PreParsedIndex[items.length];
+        final AtomicInteger nextSlot = new AtomicInteger();
+        final CountDownLatch parsed = new CountDownLatch(items.length);
+        final Runnable parser = () -> {
+            for (int slot = nextSlot.getAndIncrement(); slot < items.length; slot = nextSlot.getAndIncrement()) {
+                try {
+                    if (isPreParseable(items[slot])) {
+                        preParsed[slot] = preParse((IndexRequest) items[slot].request(), primary);
+                    }
+                } catch (Exception e) {
+                    // leave the slot empty, the document is then parsed when its operation executes
+                    final int failedSlot = slot;
+                    logger.debug(() -> new ParameterizedMessage("{} failed to parse bulk item [{}]", primary.shardId(), failedSlot), e);
+                } finally {
+                    parsed.countDown();
+                }
+            }
+        };
+        final int helpers = Math.min(parallelism, items.length) - 1;
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(new AbstractRunnable() {
+                    @Override
+                    public void onFailure(Exception e) {
+                        assert false : e;
+                    }
+
+                    @Override
+                    public void onRejection(Exception e) {
+                        // the other threads parse the documents this task would have parsed
+                    }
+
+                    @Override
+                    protected void doRun() {
+                        parser.run();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        parser.run();
+        parsed.await();
+        return preParsed;
+    }
+
+    static IndexShard.PreParsedIndex preParse(IndexRequest request, IndexShard primary) {
+        return primary.preParseIndexOperationOnPrimary(
+            request.version(),
+            request.versionType(),
+            new SourceToParse(
+                request.index(),
+                request.id(),
+                request.source(),
+                request.getContentType(),
+                request.routing(),
+                request.extraFieldValues()
+            ),
+            request.ifSeqNo(),
+            request.ifPrimaryTerm(),
+            request.getAutoGeneratedTimestamp(),
+            request.isRetry()
+        );
+    }
+
+    private static boolean isPreParseable(BulkItemRequest item) {
+        final DocWriteRequest.OpType opType = item.request().opType();
+        return item.primaryResponse() == null && (opType == DocWriteRequest.OpType.INDEX || opType == DocWriteRequest.OpType.CREATE);
+    }
+}
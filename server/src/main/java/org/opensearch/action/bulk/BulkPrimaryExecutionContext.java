@@ -35,6 +35,7 @@ package org.opensearch.action.bulk;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
@@ -92,6 +93,8 @@ class BulkPrimaryExecutionContext {
     private BulkItemResponse executionResult;
     private int retryCounter;
     private final BulkItemResponse[] primaryResponses;
+    // documents parsed ahead of execution by item slot, see BulkDocumentPreParser
+    private IndexShard.PreParsedIndex[] preParsedOperations;
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
         this.request = request;
@@ -129,6 +132,57 @@ class BulkPrimaryExecutionContext {
         return getCurrentItem().request();
     }
 
+    /** sets the documents of the items of the request that were parsed ahead of execution */
+    void setPreParsedOperations(IndexShard.PreParsedIndex[] preParsedOperations) {
+        assert preParsedOperations.length == request.items().length;
+        this.preParsedOperations = preParsedOperations;
+    }
+
+    /** returns whether the document of the current item was parsed ahead of execution and was not taken yet */
+    boolean hasPreParsedOperation() {
+        return preParsedOperations != null && preParsedOperations[currentIndex] != null;
+    }
+
+    /** takes the document of the current item that was parsed ahead of execution, the document is only handed out once */
+    IndexShard.PreParsedIndex takePreParsedOperation() {
+        assert hasPreParsedOperation();
+        final IndexShard.PreParsedIndex preParsed = preParsedOperations[currentIndex];
+        preParsedOperations[currentIndex] = null;
+        return preParsed;
+    }
+
+    /**
+     * returns the slots of the run of consecutive index operations that starts at the current item, in execution order. Aborted items
+     * are skipped as {@link #advance()} skips them. The run is empty if the current item is not an index operation.
+     */
+    int[] indexOperationRun() {
+        assert assertInvariants(ItemProcessingState.INITIAL);
+        final BulkItemRequest[] items = request.items();
+        final int[] slots = new int[items.length - currentIndex];
+        int count = 0;
+        for (int slot = currentIndex; slot < items.length && isIndexOperation(items[slot]); slot = findNextNonAborted(slot + 1)) {
+            slots[count++] = slot;
+        }
+        return Arrays.copyOf(slots, count);
+    }
+
+    private static boolean isIndexOperation(BulkItemRequest item) {
+        final DocWriteRequest.OpType opType = item.request().opType();
+        return opType == DocWriteRequest.OpType.INDEX || opType == DocWriteRequest.OpType.CREATE;
+    }
+
+    /**
+     * takes the document of the index operation of the given slot, parsing it now unless it was parsed ahead of execution
+     */
+    IndexShard.PreParsedIndex takeOrParseOperation(int slot) {
+        if (preParsedOperations != null && preParsedOperations[slot] != null) {
+            final IndexShard.PreParsedIndex preParsed = preParsedOperations[slot];
+            preParsedOperations[slot] = null;
+            return preParsed;
+        }
+        return BulkDocumentPreParser.preParse((IndexRequest) request.items()[slot].request(), primary);
+    }
+
     public BulkShardRequest getBulkShardRequest() {
         return request.setPrimaryResponses(primaryResponses);
     }
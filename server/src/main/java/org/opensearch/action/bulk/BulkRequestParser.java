@@ -32,6 +32,7 @@
 
 package org.opensearch.action.bulk;
 
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
@@ -387,7 +388,7 @@ public final class BulkRequestParser {
         if (data instanceof BytesArray) {
             return parseBytesArray(xContent, (BytesArray) data, 0, data.length());
         } else {
-            return xContent.createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, data.streamInput());
+            return parseSlice(xContent, data);
         }
     }
 
@@ -402,12 +403,29 @@ public final class BulkRequestParser {
             if (slice instanceof BytesArray) {
                 return parseBytesArray(xContent, (BytesArray) slice, 0, length);
             } else {
-                // EMPTY is safe here because we never call namedObject
-                return xContent.createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, slice.streamInput());
+                return parseSlice(xContent, slice);
             }
         }
     }
 
+    // Lines of paged bodies mostly fit within a single page, these are parsed straight from that page rather than through a stream
+    // that copies them into the parser's buffer.
+    private static XContentParser parseSlice(XContent xContent, BytesReference slice) throws IOException {
+        final BytesRef page = slice.length() == 0 ? null : slice.iterator().next();
+        if (page != null && page.length == slice.length()) {
+            // EMPTY is safe here because we never call namedObject
+            return xContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE,
+                page.bytes,
+                page.offset,
+                page.length
+            );
+        }
+        // EMPTY is safe here because we never call namedObject
+        return xContent.createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, slice.streamInput());
+    }
+
     private static XContentParser parseBytesArray(XContent xContent, BytesArray array, int from, int nextMarker) throws IOException {
         final int offset = array.offset();
         // EMPTY is safe here because we never call namedObject
@@ -34,6 +34,7 @@ package org.opensearch.action.bulk;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.util.SparseFixedBitSet;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchParseException;
@@ -50,9 +51,11 @@ import org.opensearch.action.admin.indices.stats.DocStatusStats;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.ingest.IngestActionForwarder;
 import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.ActiveShardCount;
 import org.opensearch.action.support.AutoCreateIndex;
 import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.action.support.TransportIndicesResolvingAction;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.TransportUpdateAction;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
@@ -79,11 +82,16 @@ import org.opensearch.common.ValidationException;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.Assertions;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexNotFoundException;
@@ -118,8 +126,10 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -143,6 +153,54 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
     private static final Logger logger = LogManager.getLogger(TransportBulkAction.class);
     private static final ShardShuffler SHUFFLER = new RotationShardShuffler(Randomness.get().nextInt());
 
+    /**
+     * Whether the items a bulk request holds for a shard are split into several shard requests when they exceed
+     * {@link #SHARD_REQUEST_SPLIT_MAX_SIZE_SETTING}.
+     */
+    public static final Setting<Boolean> SHARD_REQUEST_SPLIT_ENABLED_SETTING = Setting.boolSetting(
+        "cluster.bulk.shard_request.split.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The size above which the items a bulk request holds for a shard are split into several shard requests, and the largest size
+     * of these.
+     */
+    public static final Setting<ByteSizeValue> SHARD_REQUEST_SPLIT_MAX_SIZE_SETTING = Setting.byteSizeSetting(
+        "cluster.bulk.shard_request.split.max_size",
+        new ByteSizeValue(10, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.KB),
+        new ByteSizeValue(Long.MAX_VALUE, ByteSizeUnit.BYTES),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The smallest size of the shard requests a split shard request is sent as, however slow the shard is.
+     */
+    public static final Setting<ByteSizeValue> SHARD_REQUEST_SPLIT_MIN_SIZE_SETTING = Setting.byteSizeSetting(
+        "cluster.bulk.shard_request.split.min_size",
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.KB),
+        new ByteSizeValue(Long.MAX_VALUE, ByteSizeUnit.BYTES),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The time the shard requests a split shard request is sent as should take, their size is derived from it and the throughput
+     * observed for the shard.
+     */
+    public static final Setting<TimeValue> SHARD_REQUEST_SPLIT_TARGET_LATENCY_SETTING = Setting.timeSetting(
+        "cluster.bulk.shard_request.split.target_latency",
+        TimeValue.timeValueMillis(500),
+        TimeValue.timeValueMillis(1),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     private final ThreadPool threadPool;
     private final AutoCreateIndex autoCreateIndex;
     private final ClusterService clusterService;
@@ -159,6 +217,12 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
     private final Tracer tracer;
     private final ResponseCollectorService nodeMetricsCollector;
     private final Map<String, Long> clientConnections = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
+    // the bytes of the items of split shard requests that are not sent yet, see ShardRequestChunks
+    private final AtomicLong pendingShardRequestChunkBytes = new AtomicLong();
+    private volatile boolean shardRequestSplitEnabled;
+    private volatile ByteSizeValue shardRequestSplitMaxSize;
+    private volatile ByteSizeValue shardRequestSplitMinSize;
+    private volatile TimeValue shardRequestSplitTargetLatency;
 
     @Inject
     public TransportBulkAction(
@@ -227,6 +291,18 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
         clusterService.addStateApplier(this.ingestForwarder);
         this.tracer = tracer;
         this.nodeMetricsCollector = new ResponseCollectorService(clusterService);
+        final ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        this.shardRequestSplitEnabled = clusterSettings.get(SHARD_REQUEST_SPLIT_ENABLED_SETTING);
+        this.shardRequestSplitMaxSize = clusterSettings.get(SHARD_REQUEST_SPLIT_MAX_SIZE_SETTING);
+        this.shardRequestSplitMinSize = clusterSettings.get(SHARD_REQUEST_SPLIT_MIN_SIZE_SETTING);
+        this.shardRequestSplitTargetLatency = clusterSettings.get(SHARD_REQUEST_SPLIT_TARGET_LATENCY_SETTING);
+        clusterSettings.addSettingsUpdateConsumer(SHARD_REQUEST_SPLIT_ENABLED_SETTING, value -> this.shardRequestSplitEnabled = value);
+        clusterSettings.addSettingsUpdateConsumer(SHARD_REQUEST_SPLIT_MAX_SIZE_SETTING, value -> this.shardRequestSplitMaxSize = value);
+        clusterSettings.addSettingsUpdateConsumer(SHARD_REQUEST_SPLIT_MIN_SIZE_SETTING, value -> this.shardRequestSplitMinSize = value);
+        clusterSettings.addSettingsUpdateConsumer(
+            SHARD_REQUEST_SPLIT_TARGET_LATENCY_SETTING,
+            value -> this.shardRequestSplitTargetLatency = value
+        );
     }
 
     /**
@@ -586,6 +662,9 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
         private final long startTimeNanos;
         private final ClusterStateObserver observer;
         private final Map<String, IndexNotFoundException> indicesThatCannotBeCreated;
+        private final WriteRequest.RefreshPolicy refreshPolicy;
+        private final ActiveShardCount waitForActiveShards;
+        private final TimeValue timeout;
 
         BulkOperation(
             Task task,
@@ -601,6 +680,10 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
             this.responses = responses;
             this.startTimeNanos = startTimeNanos;
             this.indicesThatCannotBeCreated = indicesThatCannotBeCreated;
+            // kept aside as the bulk request is released once all shard requests are sent, while chunks of them may still be pending
+            this.refreshPolicy = bulkRequest.getRefreshPolicy();
+            this.waitForActiveShards = bulkRequest.waitForActiveShards();
+            this.timeout = bulkRequest.timeout();
             this.observer = new ClusterStateObserver(clusterService, bulkRequest.timeout(), logger, threadPool.getThreadContext());
         }
 
@@ -721,131 +804,275 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
 
             final AtomicInteger counter = new AtomicInteger(requestsByShard.size());
             final DocStatusStats docStatusStats = new DocStatusStats();
-            String nodeId = clusterService.localNode().getId();
+            final boolean isOnlySystem = isOnlySystem(bulkRequest, clusterService.state().metadata().getIndicesLookup(), systemIndices);
+            final long maxShardRequestBytes = shardRequestSplitEnabled ? shardRequestSplitMaxSize.getBytes() : -1;
 
             for (Map.Entry<ShardId, List<BulkItemRequest>> entry : requestsByShard.entrySet()) {
                 final ShardId shardId = entry.getKey();
                 final List<BulkItemRequest> requests = entry.getValue();
-                BulkShardRequest bulkShardRequest = new BulkShardRequest(
-                    shardId,
-                    bulkRequest.getRefreshPolicy(),
-                    requests.toArray(new BulkItemRequest[0])
-                );
-                bulkShardRequest.waitForActiveShards(bulkRequest.waitForActiveShards());
-                bulkShardRequest.timeout(bulkRequest.timeout());
-                bulkShardRequest.routedBasedOnClusterVersion(clusterState.version());
-                if (task != null) {
-                    bulkShardRequest.setParentTask(nodeId, task.getId());
-                }
                 final long startTimeNanos = relativeTime();
-                final ShardRouting primary = routingTable.shardRoutingTable(shardId).primaryShard();
-                String targetNodeId = primary != null ? primary.currentNodeId() : null;
-                IndexMetadata indexMetaData = clusterState.metadata().index(shardId.getIndexName());
-                boolean bulkAdaptiveShardSelectionEnabled = indexMetaData.isAppendOnlyIndex()
-                    && indexMetaData.bulkAdaptiveShardSelectionEnabled();
-
-                // Add the shard level accounting for coordinating and supply the listener
-                final boolean isOnlySystem = isOnlySystem(bulkRequest, clusterService.state().metadata().getIndicesLookup(), systemIndices);
-                final Releasable releasable = indexingPressureService.markCoordinatingOperationStarted(
-                    shardId,
-                    bulkShardRequest::ramBytesUsed,
-                    isOnlySystem
-                );
-
-                final Span span = tracer.startSpan(SpanBuilder.from("bulkShardAction", nodeId, bulkShardRequest));
-                boolean incrementedConnections = false;
-                try (SpanScope spanScope = tracer.withSpanInScope(span)) {
-                    if (targetNodeId != null) {
-                        clientConnections.compute(targetNodeId, (id, conns) -> conns == null ? 1 : conns + 1);
-                        incrementedConnections = true;
+                final Runnable onShardCompleted = () -> {
+                    if (counter.decrementAndGet() == 0) {
+                        finishHim(docStatusStats, startTimeNanos);
                     }
-                    shardBulkAction.execute(
-                        bulkShardRequest,
-                        TraceableActionListener.create(
-                            ActionListener.runAfter(ActionListener.runBefore(new ActionListener<BulkShardResponse>() {
-                                @Override
-                                public void onResponse(BulkShardResponse bulkShardResponse) {
-                                    if (targetNodeId != null && bulkAdaptiveShardSelectionEnabled) {
-                                        if (bulkShardResponse.getNodeQueueSize() < 0 || bulkShardResponse.getServiceTimeEWMAInNanos() < 0) {
-                                            throw new IllegalStateException(
-                                                "node queue size and service time ewma must be non-negative, got "
-                                                    + bulkShardResponse.getNodeQueueSize()
-                                                    + " and "
-                                                    + bulkShardResponse.getServiceTimeEWMAInNanos()
-                                            );
-                                        }
-                                        nodeMetricsCollector.addNodeStatistics(
-                                            targetNodeId,
-                                            bulkShardResponse.getNodeQueueSize(),
-                                            relativeTime() - startTimeNanos,
-                                            bulkShardResponse.getServiceTimeEWMAInNanos()
+                };
+                if (maxShardRequestBytes >= 0 && requests.size() > 1 && ramBytesUsed(requests) > maxShardRequestBytes) {
+                    new ShardRequestChunks(clusterState, concreteIndices, shardId, requests, isOnlySystem, docStatusStats, onShardCompleted)
+                        .run();
+                } else {
+                    executeShardRequest(
+                        clusterState,
+                        concreteIndices,
+                        shardId,
+                        requests,
+                        refreshPolicy,
+                        isOnlySystem,
+                        docStatusStats,
+                        onShardCompleted
+                    );
+                }
+            }
+            bulkRequest = null; // allow memory for bulk request items to be reclaimed before all items have been completed
+        }
+
+        private void executeShardRequest(
+            ClusterState clusterState,
+            ConcreteIndices concreteIndices,
+            ShardId shardId,
+            List<BulkItemRequest> requests,
+            WriteRequest.RefreshPolicy refreshPolicy,
+            boolean isOnlySystem,
+            DocStatusStats docStatusStats,
+            Runnable onCompletion
+        ) {
+            final String nodeId = clusterService.localNode().getId();
+            BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, refreshPolicy, requests.toArray(new BulkItemRequest[0]));
+            bulkShardRequest.waitForActiveShards(waitForActiveShards);
+            bulkShardRequest.timeout(timeout);
+            bulkShardRequest.routedBasedOnClusterVersion(clusterState.version());
+            if (task != null) {
+                bulkShardRequest.setParentTask(nodeId, task.getId());
+            }
+            final long startTimeNanos = relativeTime();
+            final ShardRouting primary = clusterState.routingTable().shardRoutingTable(shardId).primaryShard();
+            String targetNodeId = primary != null ? primary.currentNodeId() : null;
+            IndexMetadata indexMetaData = clusterState.metadata().index(shardId.getIndexName());
+            boolean bulkAdaptiveShardSelectionEnabled = indexMetaData.isAppendOnlyIndex()
+                && indexMetaData.bulkAdaptiveShardSelectionEnabled();
+
+            // Add the shard level accounting for coordinating and supply the listener
+            final Releasable releasable = indexingPressureService.markCoordinatingOperationStarted(
+                shardId,
+                bulkShardRequest::ramBytesUsed,
+                isOnlySystem
+            );
+
+            final Span span = tracer.startSpan(SpanBuilder.from("bulkShardAction", nodeId, bulkShardRequest));
+            boolean incrementedConnections = false;
+            try (SpanScope spanScope = tracer.withSpanInScope(span)) {
+                if (targetNodeId != null) {
+                    clientConnections.compute(targetNodeId, (id, conns) -> conns == null ? 1 : conns + 1);
+                    incrementedConnections = true;
+                }
+                shardBulkAction.execute(
+                    bulkShardRequest,
+                    TraceableActionListener.create(
+                        ActionListener.runAfter(ActionListener.runBefore(new ActionListener<BulkShardResponse>() {
+                            @Override
+                            public void onResponse(BulkShardResponse bulkShardResponse) {
+                                if (targetNodeId != null && bulkAdaptiveShardSelectionEnabled) {
+                                    if (bulkShardResponse.getNodeQueueSize() < 0
+                                        || bulkShardResponse.getServiceTimeEWMAInNanos() < 0) {
+                                        throw new IllegalStateException(
+                                            "node queue size and service time ewma must be non-negative, got "
+                                                + bulkShardResponse.getNodeQueueSize()
+                                                + " and "
+                                                + bulkShardResponse.getServiceTimeEWMAInNanos()
                                         );
                                     }
-                                    for (BulkItemResponse bulkItemResponse : bulkShardResponse.getResponses()) {
-                                        // we may have no response if item failed
-                                        if (bulkItemResponse.getResponse() != null) {
-                                            bulkItemResponse.getResponse().setShardInfo(bulkShardResponse.getShardInfo());
-                                        }
-
-                                        docStatusStats.inc(bulkItemResponse.status());
-                                        responses.set(bulkItemResponse.getItemId(), bulkItemResponse);
+                                    nodeMetricsCollector.addNodeStatistics(
+                                        targetNodeId,
+                                        bulkShardResponse.getNodeQueueSize(),
+                                        relativeTime() - startTimeNanos,
+                                        bulkShardResponse.getServiceTimeEWMAInNanos()
+                                    );
+                                }
+                                for (BulkItemResponse bulkItemResponse : bulkShardResponse.getResponses()) {
+                                    // we may have no response if item failed
+                                    if (bulkItemResponse.getResponse() != null) {
+                                        bulkItemResponse.getResponse().setShardInfo(bulkShardResponse.getShardInfo());
                                     }
 
-                                    if (counter.decrementAndGet() == 0) {
-                                        finishHim();
-                                    }
+                                    docStatusStats.inc(bulkItemResponse.status());
+                                    responses.set(bulkItemResponse.getItemId(), bulkItemResponse);
                                 }
 
-                                @Override
-                                public void onFailure(Exception e) {
-                                    // create failures for all relevant requests
-                                    for (BulkItemRequest request : requests) {
-                                        final String indexName = concreteIndices.getConcreteIndex(request.index()).getName();
-                                        final DocWriteRequest<?> docWriteRequest = request.request();
-                                        final BulkItemResponse bulkItemResponse = new BulkItemResponse(
-                                            request.id(),
-                                            docWriteRequest.opType(),
-                                            new BulkItemResponse.Failure(indexName, docWriteRequest.id(), e)
-                                        );
+                                onCompletion.run();
+                            }
 
-                                        docStatusStats.inc(bulkItemResponse.status());
-                                        responses.set(request.id(), bulkItemResponse);
-                                    }
+                            @Override
+                            public void onFailure(Exception e) {
+                                failShardRequests(concreteIndices, requests, docStatusStats, e);
+                                onCompletion.run();
+                            }
+                        }, releasable::close), () -> {
+                            if (targetNodeId != null) {
+                                clientConnections.computeIfPresent(targetNodeId, (id, conns) -> conns == 1 ? null : conns - 1);
+                            }
+                        }),
+                        span,
+                        tracer
+                    )
+                );
+            } catch (Exception e) {
+                releasable.close();
+                if (incrementedConnections && targetNodeId != null) {
+                    clientConnections.computeIfPresent(targetNodeId, (id, conns) -> conns == 1 ? null : conns - 1);
+                }
+                span.setError(e);
+                span.endSpan();
+                throw e;
+            }
+        }
 
-                                    if (counter.decrementAndGet() == 0) {
-                                        finishHim();
-                                    }
-                                }
+        private void failShardRequests(
+            ConcreteIndices concreteIndices,
+            List<BulkItemRequest> requests,
+            DocStatusStats docStatusStats,
+            Exception e
+        ) {
+            // create failures for all relevant requests
+            for (BulkItemRequest request : requests) {
+                final String indexName = concreteIndices.getConcreteIndex(request.index()).getName();
+                final DocWriteRequest<?> docWriteRequest = request.request();
+                final BulkItemResponse bulkItemResponse = new BulkItemResponse(
+                    request.id(),
+                    docWriteRequest.opType(),
+                    new BulkItemResponse.Failure(indexName, docWriteRequest.id(), e)
+                );
 
-                                private void finishHim() {
-                                    indicesService.addDocStatusStats(docStatusStats);
-                                    listener.onResponse(
-                                        new BulkResponse(
-                                            responses.toArray(new BulkItemResponse[responses.length()]),
-                                            buildTookInMillis(startTimeNanos)
-                                        )
-                                    );
-                                }
-                            }, releasable::close), () -> {
-                                if (targetNodeId != null) {
-                                    clientConnections.computeIfPresent(targetNodeId, (id, conns) -> conns == 1 ? null : conns - 1);
+                docStatusStats.inc(bulkItemResponse.status());
+                responses.set(request.id(), bulkItemResponse);
+            }
+        }
+
+        private void finishHim(DocStatusStats docStatusStats, long startTimeNanos) {
+            indicesService.addDocStatusStats(docStatusStats);
+            listener.onResponse(
+                new BulkResponse(responses.toArray(new BulkItemResponse[responses.length()]), buildTookInMillis(startTimeNanos))
+            );
+        }
+
+        /**
+         * Sends the items of a shard request that exceeds {@link #SHARD_REQUEST_SPLIT_MAX_SIZE_SETTING} as a sequence of smaller shard
+         * requests. The chunks are sent one after the other so that the items of the shard are still applied in request order, and
+         * each chunk is sized after the throughput the shard showed so far so that it completes in about
+         * {@link #SHARD_REQUEST_SPLIT_TARGET_LATENCY_SETTING}.
+         * <p>
+         * The coordinating indexing pressure of the shard only accounts for the chunk in flight, so that the throughput it tracks for
+         * the shard reflects the chunks that were actually sent. The items that are still to be sent are accounted in
+         * {@link TransportBulkAction#pendingShardRequestChunkBytes()} instead. Only the last chunk refreshes, or waits for a refresh,
+         * as requested, which makes the items of all the chunks visible since the chunks are applied one after the other.
+         * <p>
+         * The next chunk is sent by whichever comes second of the thread that sent the previous chunk and the completion of that
+         * chunk, so chunks that complete on the sending thread are sent in a loop rather than from nested completion callbacks.
+         */
+        private final class ShardRequestChunks implements Runnable {
+            private final ClusterState clusterState;
+            private final ConcreteIndices concreteIndices;
+            private final ShardId shardId;
+            private final List<BulkItemRequest> requests;
+            private final boolean isOnlySystem;
+            private final DocStatusStats docStatusStats;
+            private final Runnable onCompletion;
+            private final long minChunkBytes;
+            private final long maxChunkBytes;
+            private final long targetLatencyMillis;
+            private long chunkBytes;
+            private int nextRequest;
+
+            ShardRequestChunks(
+                ClusterState clusterState,
+                ConcreteIndices concreteIndices,
+                ShardId shardId,
+                List<BulkItemRequest> requests,
+                boolean isOnlySystem,
+                DocStatusStats docStatusStats,
+                Runnable onCompletion
+            ) {
+                this.clusterState = clusterState;
+                this.concreteIndices = concreteIndices;
+                this.shardId = shardId;
+                this.requests = requests;
+                this.isOnlySystem = isOnlySystem;
+                this.docStatusStats = docStatusStats;
+                this.onCompletion = onCompletion;
+                this.maxChunkBytes = shardRequestSplitMaxSize.getBytes();
+                this.minChunkBytes = Math.min(shardRequestSplitMinSize.getBytes(), maxChunkBytes);
+                this.targetLatencyMillis = shardRequestSplitTargetLatency.millis();
+                // start from what recent coordinating operations of the shard achieved, if shard indexing pressure tracks it
+                this.chunkBytes = sizeFor(indexingPressureService.getCoordinatingThroughput(shardId));
+                pendingShardRequestChunkBytes.addAndGet(ramBytesUsed(requests));
+            }
+
+            /**
+             * Sends the next chunks, chunks that fail to be sent get their items failed and the following chunk is sent right away.
+             */
+            @Override
+            public void run() {
+                while (nextRequest < requests.size()) {
+                    final List<BulkItemRequest> chunk = nextChunk();
+                    final boolean last = nextRequest == requests.size();
+                    final long bytes = ramBytesUsed(chunk);
+                    pendingShardRequestChunkBytes.addAndGet(-bytes);
+                    final long startTimeNanos = relativeTime();
+                    // set by whichever comes first of this thread and the completion of the chunk, the other one sends the next chunk
+                    final AtomicBoolean handedOver = new AtomicBoolean();
+                    try {
+                        executeShardRequest(
+                            clusterState,
+                            concreteIndices,
+                            shardId,
+                            chunk,
+                            last ? refreshPolicy : WriteRequest.RefreshPolicy.NONE,
+                            isOnlySystem,
+                            docStatusStats,
+                            () -> {
+                                final long tookMillis = TimeUnit.NANOSECONDS.toMillis(relativeTime() - startTimeNanos);
+                                chunkBytes = sizeFor((double) bytes / Math.max(1, tookMillis));
+                                if (last) {
+                                    onCompletion.run();
+                                } else if (handedOver.compareAndSet(false, true) == false) {
+                                    run();
                                 }
-                            }),
-                            span,
-                            tracer
-                        )
-                    );
-                } catch (Exception e) {
-                    releasable.close();
-                    if (incrementedConnections && targetNodeId != null) {
-                        clientConnections.computeIfPresent(targetNodeId, (id, conns) -> conns == 1 ? null : conns - 1);
+                            }
+                        );
+                    } catch (Exception e) {
+                        logger.debug(
+                            () -> new ParameterizedMessage("{} failed to send a chunk of [{}] bulk items", shardId, chunk.size()),
+                            e
+                        );
+                        failShardRequests(concreteIndices, chunk, docStatusStats, e);
+                        continue;
+                    }
+                    if (last || handedOver.compareAndSet(false, true)) {
+                        // the completion of the chunk finishes the shard or sends the next chunk
+                        return;
                     }
-                    span.setError(e);
-                    span.endSpan();
-                    throw e;
                 }
+                onCompletion.run();
             }
-            bulkRequest = null; // allow memory for bulk request items to be reclaimed before all items have been completed
+
+            private List<BulkItemRequest> nextChunk() {
+                final int from = nextRequest;
+                nextRequest = chunkEnd(requests, from, chunkBytes);
+                return requests.subList(from, nextRequest);
+            }
+
+            private long sizeFor(double bytesPerMilli) {
+                return chunkSize(bytesPerMilli, targetLatencyMillis, minChunkBytes, maxChunkBytes);
+            }
+        }
         }
 
         private boolean handleBlockExceptions(ClusterState state) {
@@ -1094,6 +1321,45 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
         return relativeTimeProvider.getAsLong();
     }
 
+    /**
+     * Returns the bytes of the items of split shard requests that this node holds until the chunk they belong to is sent.
+     */
+    long pendingShardRequestChunkBytes() {
+        return pendingShardRequestChunkBytes.get();
+    }
+
+    /**
+     * Returns the end (exclusive) of the chunk of the given requests that starts at {@code from} and holds as many requests as fit
+     * in {@code maxBytes}, always at least one.
+     */
+    static int chunkEnd(List<BulkItemRequest> requests, int from, long maxBytes) {
+        int end = from;
+        long bytes = 0;
+        do {
+            bytes += requests.get(end++).ramBytesUsed();
+        } while (end < requests.size() && bytes + requests.get(end).ramBytesUsed() <= maxBytes);
+        return end;
+    }
+
+    /**
+     * Returns the size of the chunks that a shard with the given throughput in bytes per millisecond processes in the target
+     * latency, bounded by the given minimum and maximum. Returns the maximum if the throughput is not known.
+     */
+    static long chunkSize(double bytesPerMilli, long targetLatencyMillis, long minBytes, long maxBytes) {
+        if (bytesPerMilli <= 0) {
+            return maxBytes;
+        }
+        return Math.max(minBytes, Math.min(maxBytes, (long) (bytesPerMilli * targetLatencyMillis)));
+    }
+
+    private static long ramBytesUsed(List<BulkItemRequest> requests) {
+        long bytes = 0;
+        for (BulkItemRequest request : requests) {
+            bytes += request.ramBytesUsed();
+        }
+        return bytes;
+    }
+
     private void processBulkIndexIngestRequest(
         Task task,
         BulkRequest original,
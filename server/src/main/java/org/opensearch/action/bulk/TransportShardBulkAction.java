@@ -113,6 +113,8 @@ import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.transport.NoNodeAvailableException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -476,10 +478,26 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
 
             private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
 
+            private boolean preParsed = false;
+
             @Override
             protected void doRun() throws Exception {
                 long startTime = System.nanoTime();
+                if (preParsed == false) {
+                    preParsed = true;
+                    if (BulkDocumentPreParser.shouldPreParse(request, primary)) {
+                        final int parallelism = BulkDocumentPreParser.parallelism(primary, threadPool.info(executorName));
+                        context.setPreParsedOperations(BulkDocumentPreParser.preParse(request, primary, executor, parallelism));
+                    }
+                }
+                final boolean batchIndexOperations = primary.indexSettings().isBulkPrimaryBatchEnabled();
                 while (context.hasMoreOperationsToExecute()) {
+                    if (batchIndexOperations) {
+                        executeIndexOperationRun(context);
+                        if (context.hasMoreOperationsToExecute() == false) {
+                            break;
+                        }
+                    }
                     if (executeBulkItemRequest(
                         context,
                         updateHelper,
@@ -587,6 +605,30 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         return super.checkPrimaryLimits(request, rerouteWasLocal, localRerouteInitiatedByNodeClient);
     }
 
+    /**
+     * Executes the run of consecutive index operations that starts at the current item as a single batch on the primary. The batch
+     * stops at the first operation that requires a mapping update, which is left to {@link #executeBulkItemRequest} together with
+     * the operations after it.
+     */
+    static void executeIndexOperationRun(BulkPrimaryExecutionContext context) throws IOException {
+        final int[] run = context.indexOperationRun();
+        if (run.length < 2) {
+            return;
+        }
+        final List<IndexShard.PreParsedIndex> operations = new ArrayList<>(run.length);
+        for (int slot : run) {
+            operations.add(context.takeOrParseOperation(slot));
+        }
+        for (Engine.IndexResult result : context.getPrimary().applyIndexOperationsOnPrimary(operations)) {
+            if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
+                break;
+            }
+            context.setRequestToExecute(context.getCurrent());
+            onComplete(result, context, null);
+            assert context.isInitial();
+        }
+    }
+
     /**
      * Executes bulk item requests and handles request execution exceptions.
      * @return {@code true} if request completed on this thread and the listener was invoked, {@code false} if the request triggered
@@ -658,6 +700,8 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 request.ifSeqNo(),
                 request.ifPrimaryTerm()
             );
+        } else if (updateResult == null && context.hasPreParsedOperation()) {
+            result = primary.applyIndexOperationOnPrimary(context.takePreParsedOperation());
         } else {
             final IndexRequest request = context.getRequestToExecute();
             result = primary.applyIndexOperationOnPrimary(
@@ -866,6 +910,8 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
 
     public static Translog.Location performOnReplica(BulkShardRequest request, IndexShard replica) throws Exception {
         Translog.Location location = null;
+        // consecutive index operations are handed to the engine as a single batch
+        final List<IndexShard.ReplicaIndexOperation> indexBatch = new ArrayList<>();
         for (int i = 0; i < request.items().length; i++) {
             final BulkItemRequest item = request.items()[i];
             final BulkItemResponse response = item.primaryResponse();
@@ -883,6 +929,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 } else {
                     primaryTerm = response.getFailure().getTerm();
                 }
+                location = applyIndexBatchOnReplica(indexBatch, replica, location);
                 operationResult = replica.markSeqNoAsNoop(
                     response.getFailure().getSeqNo(),
                     primaryTerm,
@@ -893,14 +940,61 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                     continue; // ignore replication as it's a noop
                 }
                 assert response.getResponse().getSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO;
+                if (item.request().opType() == DocWriteRequest.OpType.INDEX || item.request().opType() == DocWriteRequest.OpType.CREATE) {
+                    indexBatch.add(toReplicaIndexOperation(response.getResponse(), (IndexRequest) item.request(), replica));
+                    continue;
+                }
+                location = applyIndexBatchOnReplica(indexBatch, replica, location);
                 operationResult = performOpOnReplica(response.getResponse(), item.request(), replica);
             }
             assert operationResult != null : "operation result must never be null";
             location = syncOperationResultOrThrow(operationResult, location);
         }
+        return applyIndexBatchOnReplica(indexBatch, replica, location);
+    }
+
+    private static Translog.Location applyIndexBatchOnReplica(
+        List<IndexShard.ReplicaIndexOperation> indexBatch,
+        IndexShard replica,
+        Translog.Location location
+    ) throws Exception {
+        if (indexBatch.isEmpty()) {
+            return location;
+        }
+        final List<Engine.IndexResult> results = replica.applyIndexOperationsOnReplica(indexBatch);
+        indexBatch.clear();
+        for (Engine.IndexResult result : results) {
+            ensureMappingAvailableOnReplica(result, replica);
+            location = syncOperationResultOrThrow(result, location);
+        }
         return location;
     }
 
+    private static IndexShard.ReplicaIndexOperation toReplicaIndexOperation(
+        DocWriteResponse primaryResponse,
+        IndexRequest indexRequest,
+        IndexShard replica
+    ) {
+        final ShardId shardId = replica.shardId();
+        final SourceToParse sourceToParse = new SourceToParse(
+            shardId.getIndexName(),
+            indexRequest.id(),
+            indexRequest.source(),
+            indexRequest.getContentType(),
+            indexRequest.routing(),
+            indexRequest.extraFieldValues()
+        );
+        return new IndexShard.ReplicaIndexOperation(
+            primaryResponse.getId(),
+            primaryResponse.getSeqNo(),
+            primaryResponse.getPrimaryTerm(),
+            primaryResponse.getVersion(),
+            indexRequest.getAutoGeneratedTimestamp(),
+            indexRequest.isRetry(),
+            sourceToParse
+        );
+    }
+
     private static Engine.Result performOpOnReplica(
         DocWriteResponse primaryResponse,
         DocWriteRequest<?> docWriteRequest,
@@ -944,6 +1038,11 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 assert false : "Unexpected request operation type on replica: " + docWriteRequest + ";primary result: " + primaryResponse;
                 throw new IllegalStateException("Unexpected request operation type on replica: " + docWriteRequest.opType().getLowercase());
         }
+        ensureMappingAvailableOnReplica(result, replica);
+        return result;
+    }
+
+    private static void ensureMappingAvailableOnReplica(Engine.Result result, IndexShard replica) {
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
             // Even though the primary waits on all nodes to ack the mapping changes to the cluster-manager
             // (see MappingUpdatedAction.updateMappingOnClusterManager) we still need to protect against missing mappings
@@ -958,6 +1057,5 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 "Mappings are not available on the replica yet, triggered update: " + result.getRequiredMappingUpdate()
             );
         }
-        return result;
     }
 }
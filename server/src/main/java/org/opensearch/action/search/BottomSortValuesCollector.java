@@ -40,6 +40,8 @@ import org.apache.lucene.search.TopFieldDocs;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchSortValuesAndFormats;
 
+import java.util.Arrays;
+
 /**
  * Utility class to keep track of the bottom doc's sort values in a distributed search.
  *
@@ -78,6 +80,19 @@ class BottomSortValuesCollector {
 
     synchronized void consumeTopDocs(TopFieldDocs topDocs, DocValueFormat[] sortValuesFormat) {
         totalHits += topDocs.totalHits.value();
+        consumeBottom(topDocs, sortValuesFormat);
+    }
+
+    /**
+     * Consumes the top docs that a partial reduce merged from the top docs of several shards. Their bottom doc is the worst of
+     * the best docs across all these shards, so it is at least as good as any of their shard bottoms. The hits of merged top
+     * docs are not counted again.
+     */
+    synchronized void consumeMergedTopDocs(TopFieldDocs mergedTopDocs, DocValueFormat[] sortValuesFormat) {
+        consumeBottom(mergedTopDocs, sortValuesFormat);
+    }
+
+    private void consumeBottom(TopFieldDocs topDocs, DocValueFormat[] sortValuesFormat) {
         if (validateShardSortFields(topDocs.fields) == false) {
             return;
         }
@@ -91,6 +106,27 @@ class BottomSortValuesCollector {
         }
     }
 
+    /**
+     * Returns the given shard top docs without the docs that sort after the best bottom consumed so far, these docs cannot make
+     * it into the top docs of the request anymore. Docs that sort equal to the bottom are kept since ties are broken by shard.
+     */
+    TopFieldDocs trimTopDocs(TopFieldDocs topDocs) {
+        final SearchSortValuesAndFormats bottom = bottomSortValues;
+        if (bottom == null || topDocs.scoreDocs.length == 0 || validateShardSortFields(topDocs.fields) == false) {
+            return topDocs;
+        }
+        final Object[] bottomValues = bottom.getRawSortValues();
+        int numDocs = topDocs.scoreDocs.length;
+        // the docs are sorted so only the tail can sort after the bottom
+        while (numDocs > 0 && compareValues(((FieldDoc) topDocs.scoreDocs[numDocs - 1]).fields, bottomValues) > 0) {
+            numDocs--;
+        }
+        if (numDocs == topDocs.scoreDocs.length) {
+            return topDocs;
+        }
+        return new TopFieldDocs(topDocs.totalHits, Arrays.copyOf(topDocs.scoreDocs, numDocs), topDocs.fields);
+    }
+
     /**
      * @return <code>false</code> if the provided {@link SortField} array differs
      * from the initial {@link BottomSortValuesCollector#sortFields}.
@@ -43,6 +43,7 @@ import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.InternalAggregation.ReduceContextBuilder;
@@ -55,9 +56,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
@@ -68,6 +72,11 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is handled if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * Up to {@code maxConcurrentReduces} partial reduces may run at the same time on the executor. Each partial reduce merges a
+ * buffer of shard results with all the partial reduce results that completed before it started, so a single concurrent reduce
+ * chains every reduce onto the previous one while more concurrent reduces reduce independent buffers in parallel and merge their
+ * results hierarchically in later reduces.
  *
  * @opensearch.internal
  */
@@ -85,10 +94,12 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
+    private final int maxConcurrentReduces;
 
     final PendingReduces pendingReduces;
     private final Consumer<Exception> cancelTaskOnFailure;
     private final BooleanSupplier isTaskCancelled;
+    private volatile BiConsumer<TopDocs, DocValueFormat[]> partialMergeListener = (topDocs, sortValueFormats) -> {};
 
     public QueryPhaseResultConsumer(
         SearchRequest request,
@@ -115,7 +126,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
 
     /**
      * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
-     * as shard results are consumed.
+     * as shard results are consumed, running one partial reduce at a time.
      */
     public QueryPhaseResultConsumer(
         SearchRequest request,
@@ -127,8 +138,41 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int expectedResultSize,
         Consumer<Exception> cancelTaskOnFailure,
         BooleanSupplier isTaskCancelled
+    ) {
+        this(
+            request,
+            executor,
+            circuitBreaker,
+            controller,
+            progressListener,
+            namedWriteableRegistry,
+            expectedResultSize,
+            cancelTaskOnFailure,
+            isTaskCancelled,
+            1
+        );
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed, running up to {@code maxConcurrentReduces} partial reduces at a time.
+     */
+    public QueryPhaseResultConsumer(
+        SearchRequest request,
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchPhaseController controller,
+        SearchProgressListener progressListener,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int expectedResultSize,
+        Consumer<Exception> cancelTaskOnFailure,
+        BooleanSupplier isTaskCancelled,
+        int maxConcurrentReduces
     ) {
         super(expectedResultSize);
+        if (maxConcurrentReduces < 1) {
+            throw new IllegalArgumentException("maxConcurrentReduces must be at least 1 but was [" + maxConcurrentReduces + "]");
+        }
         this.executor = executor;
         this.circuitBreaker = circuitBreaker;
         this.controller = controller;
@@ -145,6 +189,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int batchReduceSize = getBatchReduceSize(request.getBatchedReduceSize(), expectedResultSize);
         this.pendingReduces = new PendingReduces(batchReduceSize, request.resolveTrackTotalHitsUpTo());
         this.isTaskCancelled = isTaskCancelled;
+        this.maxConcurrentReduces = maxConcurrentReduces;
     }
 
     int getBatchReduceSize(int requestBatchedReduceSize, int minBatchReduceSize) {
@@ -156,6 +201,14 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         Releasables.close(pendingReduces);
     }
 
+    /**
+     * Sets the listener that is notified with the top docs that each partial reduce merged, along with the formats of their sort
+     * values, so that their bottom can be used to skip documents on the shards that were not queried yet.
+     */
+    void setPartialMergeListener(BiConsumer<TopDocs, DocValueFormat[]> partialMergeListener) {
+        this.partialMergeListener = partialMergeListener;
+    }
+
     @Override
     public void consumeResult(SearchPhaseResult result, Runnable next) {
         super.consumeResult(result, () -> {});
@@ -217,24 +270,26 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         QuerySearchResult[] toConsume,
         List<SearchShard> emptyResults,
         SearchPhaseController.TopDocsStats topDocsStats,
-        ReduceResult lastReduceResult,
-        int numReducePhases
+        List<ReduceResult> lastReduceResults
     ) {
         checkCancellation();
         if (pendingReduces.hasFailure()) {
-            return lastReduceResult;
+            return null;
         }
         // ensure consistent ordering
         Arrays.sort(toConsume, Comparator.comparingInt(QuerySearchResult::getShardIndex));
 
-        for (QuerySearchResult result : toConsume) {
-            topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+        // other partial reduces may be running concurrently
+        synchronized (pendingReduces) {
+            for (QuerySearchResult result : toConsume) {
+                topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+            }
         }
 
         final TopDocs newTopDocs;
         if (hasTopDocs) {
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (lastReduceResult != null) {
+            for (ReduceResult lastReduceResult : lastReduceResults) {
                 topDocsList.add(lastReduceResult.reducedTopDocs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -248,6 +303,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 topNSize,
                 0
             );
+            if (newTopDocs != null) {
+                partialMergeListener.accept(newTopDocs, toConsume[0].sortValueFormats());
+            }
         } else {
             newTopDocs = null;
         }
@@ -255,7 +313,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         final InternalAggregations newAggs;
         if (hasAggs) {
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (lastReduceResult != null) {
+            for (ReduceResult lastReduceResult : lastReduceResults) {
                 aggsList.add(lastReduceResult.reducedAggs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -266,14 +324,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             newAggs = null;
         }
         List<SearchShard> processedShards = new ArrayList<>(emptyResults);
-        if (lastReduceResult != null) {
+        for (ReduceResult lastReduceResult : lastReduceResults) {
             processedShards.addAll(lastReduceResult.processedShards);
         }
         for (QuerySearchResult result : toConsume) {
             SearchShardTarget target = result.getSearchShardTarget();
             processedShards.add(new SearchShard(target.getClusterAlias(), target.getShardId()));
         }
-        progressListener.notifyPartialReduce(processedShards, topDocsStats.getTotalHits(), newAggs, numReducePhases);
         // we leave the results un-serialized because serializing is slow but we compute the serialized
         // size as an estimate of the memory used by the newly reduced aggregations.
         long serializedSize = hasAggs ? newAggs.getSerializedSize() : 0;
@@ -295,7 +352,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
      * triggering partial reduce operations when the threshold is reached.
      * <ul>
      * <li>Handles circuit breaker memory accounting</li>
-     * <li>Coordinates reduce task execution to be one at a time</li>
+     * <li>Coordinates reduce task execution to run at most {@code maxConcurrentReduces} tasks at a time</li>
      * <li>Provides thread-safe failure handling with cleanup</li>
      * </ul>
      *
@@ -312,11 +369,12 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private volatile long maxAggsCurrentBufferSize = 0;
 
         private final ArrayDeque<ReduceTask> queue = new ArrayDeque<>();
-        private final AtomicReference<ReduceTask> runningTask = new AtomicReference<>(); // ensure only one task is running
+        private final Set<ReduceTask> runningTasks = new HashSet<>();
         private final AtomicReference<Exception> failure = new AtomicReference<>();
 
         private final SearchPhaseController.TopDocsStats topDocsStats;
-        private volatile ReduceResult reduceResult;
+        // the results of the completed partial reduces that no partial reduce merged yet
+        private final List<ReduceResult> reduceResults = new ArrayList<>();
         private volatile boolean hasPartialReduce;
         private volatile int numReducePhases;
 
@@ -341,8 +399,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return failure.get() != null;
         }
 
-        private boolean hasPendingReduceTask() {
-            return queue.isEmpty() == false || runningTask.get() != null;
+        private synchronized boolean hasPendingReduceTask() {
+            return queue.isEmpty() == false || runningTasks.isEmpty() == false;
         }
 
         private void sortBuffer() {
@@ -451,39 +509,46 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
 
         private void tryExecuteNext() {
             final ReduceTask task;
+            final List<ReduceResult> lastReduceResults;
+            final int reducePhase;
             synchronized (this) {
                 if (hasFailure()) {
                     return;
                 }
-                if (queue.isEmpty() || runningTask.get() != null) {
+                if (queue.isEmpty() || runningTasks.size() >= maxConcurrentReduces) {
                     return;
                 }
                 task = queue.poll();
-                runningTask.compareAndSet(null, task);
+                runningTasks.add(task);
+                // the task merges the results of all partial reduces that completed so far
+                lastReduceResults = new ArrayList<>(reduceResults);
+                reduceResults.clear();
+                reducePhase = ++numReducePhases;
             }
 
             executor.execute(new AbstractRunnable() {
                 @Override
                 protected void doRun() {
-                    final ReduceResult thisReduceResult = reduceResult;
-                    long estimatedTotalSize = (thisReduceResult != null ? thisReduceResult.estimatedSize : 0) + task.aggsBufferSize;
+                    long estimatedTotalSize = task.aggsBufferSize;
+                    for (ReduceResult lastReduceResult : lastReduceResults) {
+                        estimatedTotalSize += lastReduceResult.estimatedSize;
+                    }
                     final ReduceResult newReduceResult;
                     try {
                         final QuerySearchResult[] toConsume = task.consumeBuffer();
                         if (toConsume == null) {
-                            onAfterReduce(task, null, 0);
+                            onAfterReduce(task, null, 0, reducePhase);
                             return;
                         }
                         long estimateRamBytesUsedForReduce = estimateRamBytesUsedForReduce(estimatedTotalSize);
                         addEstimateAndMaybeBreak(estimateRamBytesUsedForReduce);
                         estimatedTotalSize += estimateRamBytesUsedForReduce;
-                        ++numReducePhases;
-                        newReduceResult = partialReduce(toConsume, task.emptyResults, topDocsStats, thisReduceResult, numReducePhases);
+                        newReduceResult = partialReduce(toConsume, task.emptyResults, topDocsStats, lastReduceResults);
                     } catch (Exception t) {
                         PendingReduces.this.onFailure(t);
                         return;
                     }
-                    onAfterReduce(task, newReduceResult, estimatedTotalSize);
+                    onAfterReduce(task, newReduceResult, estimatedTotalSize, reducePhase);
                 }
 
                 @Override
@@ -493,26 +558,35 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             });
         }
 
-        private void onAfterReduce(ReduceTask task, ReduceResult newResult, long estimatedSize) {
+        private void onAfterReduce(ReduceTask task, ReduceResult newResult, long estimatedSize, int reducePhase) {
             if (newResult != null) {
                 synchronized (this) {
                     if (hasFailure()) {
                         return;
                     }
-                    runningTask.compareAndSet(task, null);
-                    reduceResult = newResult;
+                    runningTasks.remove(task);
+                    reduceResults.add(newResult);
                     if (hasAggs) {
                         // Update the circuit breaker to remove the size of the source aggregations
                         // and replace the estimation with the serialized size of the newly reduced result.
-                        long newSize = reduceResult.estimatedSize - estimatedSize;
+                        long newSize = newResult.estimatedSize - estimatedSize;
                         addWithoutBreaking(newSize);
                         logger.trace(
                             "aggs partial reduction [{}->{}] max [{}]",
                             estimatedSize,
-                            reduceResult.estimatedSize,
+                            newResult.estimatedSize,
                             maxAggsCurrentBufferSize
                         );
                     }
+                    if (runningTasks.isEmpty() && reduceResults.size() == 1) {
+                        // only report progress once the new result covers all the shard results that were reduced so far
+                        progressListener.notifyPartialReduce(
+                            newResult.processedShards,
+                            topDocsStats.getTotalHits(),
+                            newResult.reducedAggs,
+                            reducePhase
+                        );
+                    }
                 }
             }
             task.consumeListener();
@@ -533,15 +607,11 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         }
 
         private synchronized void clearReduceTaskQueue() {
-            ReduceTask task = runningTask.get();
-            runningTask.compareAndSet(task, null);
-            List<ReduceTask> toCancels = new ArrayList<>();
-            if (task != null) {
-                toCancels.add(task);
-            }
+            List<ReduceTask> toCancels = new ArrayList<>(runningTasks);
+            runningTasks.clear();
             toCancels.addAll(queue);
             queue.clear();
-            reduceResult = null;
+            reduceResults.clear();
             for (ReduceTask toCancel : toCancels) {
                 toCancel.cancel();
             }
@@ -559,7 +629,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (reduceResult != null) {
+            for (ReduceResult reduceResult : reduceResults) {
                 topDocsList.add(reduceResult.reducedTopDocs);
             }
             for (QuerySearchResult result : buffer) {
@@ -575,7 +645,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (reduceResult != null) {
+            for (ReduceResult reduceResult : reduceResults) {
                 aggsList.add(reduceResult.reducedAggs);
             }
             for (QuerySearchResult result : buffer) {
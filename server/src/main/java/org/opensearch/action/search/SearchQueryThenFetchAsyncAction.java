@@ -33,10 +33,13 @@
 package org.opensearch.action.search;
 
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopFieldDocs;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.internal.AliasFilter;
@@ -115,6 +118,9 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         // register the release of the query consumer to free up the circuit breaker memory
         // at the end of the search
         addReleasable(resultConsumer);
+        if (request.scroll() == null) {
+            resultConsumer.setPartialMergeListener(this::onPartialMerge);
+        }
 
         boolean hasFetchPhase = request.source() == null ? true : request.source().size() > 0;
         progressListener.notifyListShards(
@@ -160,10 +166,23 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
                 }
             }
             bottomSortCollector.consumeTopDocs(topDocs, queryResult.sortValueFormats());
+            // drop the docs that can no longer make it into the top docs before the result gets buffered for the reduce
+            TopFieldDocs trimmedTopDocs = bottomSortCollector.trimTopDocs(topDocs);
+            if (trimmedTopDocs != topDocs) {
+                queryResult.topDocs(new TopDocsAndMaxScore(trimmedTopDocs, queryResult.topDocs().maxScore), queryResult.sortValueFormats());
+            }
         }
         super.onShardResult(result, shardIt);
     }
 
+    private void onPartialMerge(TopDocs mergedTopDocs, DocValueFormat[] sortValueFormats) {
+        final BottomSortValuesCollector collector = bottomSortCollector;
+        if (collector != null && sortValueFormats != null && mergedTopDocs.getClass() == TopFieldDocs.class) {
+            // the merged top docs hold the best docs across all the shards they were merged from
+            collector.consumeMergedTopDocs((TopFieldDocs) mergedTopDocs, sortValueFormats);
+        }
+    }
+
     @Override
     protected SearchPhase getNextPhase(final SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
         return new FetchSearchPhase(results, searchPhaseController, null, this);
@@ -173,6 +173,18 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    /**
+     * The maximum number of partial reduces of the shard results of a single search request that may run concurrently on the
+     * coordinating node, with more than one the buffered shard results are reduced in parallel and merged hierarchically.
+     */
+    public static final Setting<Integer> SEARCH_PARTIAL_REDUCE_MAX_CONCURRENCY_SETTING = Setting.intSetting(
+        "search.partial_reduce.max_concurrency",
+        1,
+        1,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     final NodeClient client;
     private final ThreadPool threadPool;
     final ClusterService clusterService;
@@ -1400,7 +1412,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 searchRequest,
                 shardIterators.size(),
                 exc -> cancelTask(task, exc),
-                task::isCancelled
+                task::isCancelled,
+                clusterService.getClusterSettings().get(SEARCH_PARTIAL_REDUCE_MAX_CONCURRENCY_SETTING)
             );
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
@@ -35,6 +35,7 @@ package org.opensearch.action.update;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchException;
+import org.opensearch.OpenSearchParseException;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
@@ -45,27 +46,42 @@ import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.xcontent.AbstractXContentParser;
+import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.engine.DocumentMissingException;
 import org.opensearch.index.engine.DocumentSourceMissingException;
 import org.opensearch.index.get.GetResult;
+import org.opensearch.index.mapper.BooleanFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.index.mapper.RoutingFieldMapper;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.script.Script;
 import org.opensearch.script.ScriptService;
 import org.opensearch.script.ScriptType;
 import org.opensearch.script.UpdateScript;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.lookup.SourceLookup;
 import org.opensearch.transport.client.Requests;
 
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.LongSupplier;
 
 /**
@@ -88,6 +104,9 @@ public class UpdateHelper {
      */
     public Result prepare(UpdateRequest request, IndexShard indexShard, LongSupplier nowInMillis) {
         final GetResult getResult = indexShard.getService().getForUpdate(request.id(), request.ifSeqNo(), request.ifPrimaryTerm());
+        if (indexShard.indexSettings().isUpdateSourcePatchEnabled() && canPatchSource(request, getResult, indexShard.mapperService())) {
+            return prepareSourcePatchRequest(indexShard.shardId(), request, getResult, request.detectNoop());
+        }
         return prepare(indexShard.shardId(), request, getResult, nowInMillis);
     }
 
@@ -261,6 +280,159 @@ public class UpdateHelper {
         }
     }
 
+    /**
+     * Returns whether the given update can patch the source of the existing document rather than merging its partial document into a
+     * map of the source. That is the case for updates without a script whose partial document only sets top-level fields that are
+     * mapped as numeric, keyword or boolean fields with doc values to a single value, and whose response does not need a filtered
+     * copy of the updated source.
+     */
+    static boolean canPatchSource(UpdateRequest request, GetResult getResult, MapperService mapperService) {
+        if (getResult.isExists() == false || getResult.internalSourceRef() == null || request.script() != null || request.doc() == null) {
+            return false;
+        }
+        final FetchSourceContext fetchSource = request.fetchSource();
+        if (fetchSource != null
+            && fetchSource.fetchSource()
+            && (fetchSource.includes().length > 0 || fetchSource.excludes().length > 0)) {
+            return false;
+        }
+        final BytesReference source = getResult.internalSourceRef();
+        if (CompressorRegistry.isCompressed(source) || MediaTypeRegistry.xContentType(source) == null) {
+            return false;
+        }
+        for (Map.Entry<String, Object> change : request.doc().sourceAsMap().entrySet()) {
+            final Object value = change.getValue();
+            if (value != null && (value instanceof String || value instanceof Number || value instanceof Boolean) == false) {
+                return false;
+            }
+            final MappedFieldType fieldType = mapperService.fieldType(change.getKey());
+            if (fieldType == null
+                || fieldType.hasDocValues() == false
+                || (fieldType instanceof NumberFieldMapper.NumberFieldType
+                    || fieldType instanceof KeywordFieldMapper.KeywordFieldType
+                    || fieldType instanceof BooleanFieldMapper.BooleanFieldType) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Prepares the request for updating an existing document with a partial document that {@link #canPatchSource can patch} its
+     * source. The source is copied in a single pass, replacing the values of the fields the partial document sets and appending the
+     * fields it adds, which yields the same source as merging the partial document into a map of the source without materializing
+     * either. The returned {@code Result} holds no updated source map.
+     */
+    Result prepareSourcePatchRequest(ShardId shardId, UpdateRequest request, GetResult getResult, boolean detectNoop) {
+        final IndexRequest currentRequest = request.doc();
+        final String routing = calculateRouting(getResult, currentRequest);
+        final BytesReference source = getResult.internalSourceRef();
+        final MediaType sourceContentType = MediaTypeRegistry.xContentType(source);
+        final BytesReference updatedSource;
+        final boolean noop;
+        try (XContentBuilder builder = MediaTypeRegistry.contentBuilder(sourceContentType)) {
+            noop = patchSource(source, sourceContentType, currentRequest.sourceAsMap(), detectNoop, builder) == false;
+            updatedSource = BytesReference.bytes(builder);
+        } catch (IOException e) {
+            throw new OpenSearchException("failed to patch the source of document [" + request.id() + "]", e);
+        }
+
+        if (detectNoop && noop) {
+            UpdateResponse update = new UpdateResponse(
+                shardId,
+                getResult.getId(),
+                getResult.getSeqNo(),
+                getResult.getPrimaryTerm(),
+                getResult.getVersion(),
+                DocWriteResponse.Result.NOOP
+            );
+            update.setGetResult(
+                extractGetResult(
+                    request,
+                    request.index(),
+                    getResult.getSeqNo(),
+                    getResult.getPrimaryTerm(),
+                    getResult.getVersion(),
+                    null,
+                    sourceContentType,
+                    source
+                )
+            );
+            return new Result(update, DocWriteResponse.Result.NOOP, null, sourceContentType);
+        } else {
+            final IndexRequest finalIndexRequest = Requests.indexRequest(request.index())
+                .id(request.id())
+                .routing(routing)
+                .source(updatedSource, sourceContentType)
+                .extraFieldValues(currentRequest.extraFieldValues())
+                .setIfSeqNo(getResult.getSeqNo())
+                .setIfPrimaryTerm(getResult.getPrimaryTerm())
+                .waitForActiveShards(request.waitForActiveShards())
+                .timeout(request.timeout())
+                .setRefreshPolicy(request.getRefreshPolicy());
+            return new Result(finalIndexRequest, DocWriteResponse.Result.UPDATED, null, sourceContentType);
+        }
+    }
+
+    /**
+     * Writes the given source to the given builder with the top-level fields of {@code changes} set to their new values, fields that
+     * the source does not hold yet are appended in the order of {@code changes}. Returns whether the source was modified, following
+     * the semantics of {@link XContentHelper#update(Map, Map, boolean)}: unless {@code detectNoop} is set any change counts as a
+     * modification.
+     */
+    static boolean patchSource(
+        BytesReference source,
+        MediaType sourceContentType,
+        Map<String, Object> changes,
+        boolean detectNoop,
+        XContentBuilder builder
+    ) throws IOException {
+        boolean modified = false;
+        final Set<String> patched = new HashSet<>();
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                source,
+                sourceContentType
+            )
+        ) {
+            if (parser.nextToken() != XContentParser.Token.START_OBJECT) {
+                throw new OpenSearchParseException("expected the source to be an object but got [{}]", parser.currentToken());
+            }
+            builder.startObject();
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                final String field = parser.currentName();
+                final XContentParser.Token token = parser.nextToken();
+                if (changes.containsKey(field) && patched.add(field)) {
+                    final Object value = changes.get(field);
+                    if (modified || detectNoop == false) {
+                        parser.skipChildren();
+                        modified = true;
+                    } else if (token == XContentParser.Token.START_OBJECT || token == XContentParser.Token.START_ARRAY) {
+                        // an object or array never equals the single value it is replaced with
+                        parser.skipChildren();
+                        modified = true;
+                    } else {
+                        modified = Objects.equals(AbstractXContentParser.readValue(parser, LinkedHashMap::new), value) == false;
+                    }
+                    builder.field(field, value);
+                } else {
+                    builder.field(field);
+                    builder.copyCurrentStructure(parser);
+                }
+            }
+            for (Map.Entry<String, Object> change : changes.entrySet()) {
+                if (patched.contains(change.getKey()) == false) {
+                    builder.field(change.getKey(), change.getValue());
+                    modified = true;
+                }
+            }
+            builder.endObject();
+        }
+        return modified;
+    }
+
     /**
      * Prepare the request for updating an existing document using a script. Executes the script and returns a {@code Result} containing
      * either a new {@code IndexRequest} or {@code DeleteRequest} (depending on the script's returned "op" value) to be executed on the
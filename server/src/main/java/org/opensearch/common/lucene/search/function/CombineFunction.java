@@ -52,6 +52,11 @@ public enum CombineFunction implements Writeable {
             return (float) (queryScore * Math.min(funcScore, maxBoost));
         }
 
+        @Override
+        public double minCompetitiveQueryScore(double minCompetitiveScore, double maxFuncScore) {
+            return maxFuncScore > 0 ? minCompetitiveScore / maxFuncScore : 0;
+        }
+
         @Override
         public Explanation explain(Explanation queryExpl, Explanation funcExpl, float maxBoost) {
             Explanation boostExpl = Explanation.match(maxBoost, "maxBoost");
@@ -83,6 +88,11 @@ public enum CombineFunction implements Writeable {
             return (float) (queryScore + Math.min(funcScore, maxBoost));
         }
 
+        @Override
+        public double minCompetitiveQueryScore(double minCompetitiveScore, double maxFuncScore) {
+            return minCompetitiveScore - maxFuncScore;
+        }
+
         @Override
         public Explanation explain(Explanation queryExpl, Explanation funcExpl, float maxBoost) {
             Explanation minExpl = Explanation.match(
@@ -106,6 +116,11 @@ public enum CombineFunction implements Writeable {
             return (float) ((Math.min(funcScore, maxBoost) + queryScore) / 2.0);
         }
 
+        @Override
+        public double minCompetitiveQueryScore(double minCompetitiveScore, double maxFuncScore) {
+            return 2 * minCompetitiveScore - maxFuncScore;
+        }
+
         @Override
         public Explanation explain(Explanation queryExpl, Explanation funcExpl, float maxBoost) {
             Explanation minExpl = Explanation.match(
@@ -129,6 +144,11 @@ public enum CombineFunction implements Writeable {
             return (float) (Math.min(queryScore, Math.min(funcScore, maxBoost)));
         }
 
+        @Override
+        public double minCompetitiveQueryScore(double minCompetitiveScore, double maxFuncScore) {
+            return minCompetitiveScore;
+        }
+
         @Override
         public Explanation explain(Explanation queryExpl, Explanation funcExpl, float maxBoost) {
             Explanation innerMinExpl = Explanation.match(
@@ -152,6 +172,12 @@ public enum CombineFunction implements Writeable {
             return (float) (Math.max(queryScore, Math.min(funcScore, maxBoost)));
         }
 
+        @Override
+        public double minCompetitiveQueryScore(double minCompetitiveScore, double maxFuncScore) {
+            // the function alone may make a document competitive
+            return maxFuncScore >= minCompetitiveScore ? 0 : minCompetitiveScore;
+        }
+
         @Override
         public Explanation explain(Explanation queryExpl, Explanation funcExpl, float maxBoost) {
             Explanation innerMinExpl = Explanation.match(
@@ -174,6 +200,14 @@ public enum CombineFunction implements Writeable {
 
     public abstract Explanation explain(Explanation queryExpl, Explanation funcExpl, float maxBoost);
 
+    /**
+     * Returns the query score below which combining it with a function score of at most {@code maxFuncScore}, already capped by
+     * the max boost, cannot reach {@code minCompetitiveScore}, or {@code 0} if the combined score does not grow with the query score.
+     */
+    public double minCompetitiveQueryScore(double minCompetitiveScore, double maxFuncScore) {
+        return 0;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeEnum(this);
@@ -139,6 +139,11 @@ public class FunctionScoreQuery extends Query {
         public float getWeight() {
             return function.getWeight();
         }
+
+        @Override
+        public double getMaxScore() {
+            return function.getMaxScore();
+        }
     }
 
     /**
@@ -363,8 +368,60 @@ public class FunctionScoreQuery extends Query {
                 );
             }
         }
+        final double maxFunctionScore = maxFunctionScore();
+        // when collecting top hits, a bound on the function score lets the sub query skip the documents whose query score is too
+        // low to make them competitive once combined with the function score
+        final boolean propagateMinCompetitiveScore = scoreMode == org.apache.lucene.search.ScoreMode.TOP_SCORES
+            && minScore == null
+            && subQueryScoreMode == org.apache.lucene.search.ScoreMode.COMPLETE
+            && combineFunction != CombineFunction.REPLACE
+            && (functions.length == 0 || maxFunctionScore < Float.MAX_VALUE);
+        if (propagateMinCompetitiveScore) {
+            subQueryScoreMode = org.apache.lucene.search.ScoreMode.TOP_SCORES;
+        }
         Weight subQueryWeight = subQuery.createWeight(searcher, subQueryScoreMode, boost);
-        return new CustomBoostFactorWeight(this, subQueryWeight, filterWeights, subQueryScoreMode.needsScores());
+        return new CustomBoostFactorWeight(
+            this,
+            subQueryWeight,
+            filterWeights,
+            subQueryScoreMode.needsScores(),
+            maxFunctionScore,
+            propagateMinCompetitiveScore
+        );
+    }
+
+    /**
+     * Returns an upper bound of the combined score of the functions for any document, capped by the max boost, or
+     * {@link Double#POSITIVE_INFINITY} if the functions do not declare bounds that can be combined with the score mode.
+     */
+    double maxFunctionScore() {
+        // a document that no function matches gets a function score of 1
+        double maxFunctionScore = 1;
+        switch (scoreMode) {
+            case FIRST:
+            case MAX:
+            case MIN:
+                for (ScoreFunction function : functions) {
+                    maxFunctionScore = Math.max(maxFunctionScore, function.getMaxScore());
+                }
+                break;
+            case MULTIPLY:
+                for (ScoreFunction function : functions) {
+                    maxFunctionScore *= Math.max(1, function.getMaxScore());
+                }
+                break;
+            case SUM:
+                double sum = 0;
+                for (ScoreFunction function : functions) {
+                    sum += function.getMaxScore();
+                }
+                maxFunctionScore = Math.max(maxFunctionScore, sum);
+                break;
+            default:
+                maxFunctionScore = Double.POSITIVE_INFINITY;
+                break;
+        }
+        return Math.min(maxFunctionScore, maxBoost);
     }
 
     class CustomBoostFactorWeight extends Weight {
@@ -372,12 +429,23 @@ public class FunctionScoreQuery extends Query {
         final Weight subQueryWeight;
         final Weight[] filterWeights;
         final boolean needsScores;
-
-        CustomBoostFactorWeight(Query parent, Weight subQueryWeight, Weight[] filterWeights, boolean needsScores) throws IOException {
+        final double maxFunctionScore;
+        final boolean propagateMinCompetitiveScore;
+
+        CustomBoostFactorWeight(
+            Query parent,
+            Weight subQueryWeight,
+            Weight[] filterWeights,
+            boolean needsScores,
+            double maxFunctionScore,
+            boolean propagateMinCompetitiveScore
+        ) throws IOException {
             super(parent);
             this.subQueryWeight = subQueryWeight;
             this.filterWeights = filterWeights;
             this.needsScores = needsScores;
+            this.maxFunctionScore = maxFunctionScore;
+            this.propagateMinCompetitiveScore = propagateMinCompetitiveScore;
         }
 
         private FunctionFactorScorer functionScorer(LeafReaderContext context) throws IOException {
@@ -407,7 +475,9 @@ public class FunctionScoreQuery extends Query {
                 leafFunctions,
                 docSets,
                 combineFunction,
-                needsScores
+                needsScores,
+                maxFunctionScore,
+                propagateMinCompetitiveScore
             );
         }
 
@@ -511,6 +581,8 @@ public class FunctionScoreQuery extends Query {
         private final CombineFunction scoreCombiner;
         private final float maxBoost;
         private final boolean needsScores;
+        private final double maxFunctionScore;
+        private final boolean propagateMinCompetitiveScore;
 
         private FunctionFactorScorer(
             CustomBoostFactorWeight w,
@@ -521,7 +593,9 @@ public class FunctionScoreQuery extends Query {
             LeafScoreFunction[] leafFunctions,
             Bits[] docSets,
             CombineFunction scoreCombiner,
-            boolean needsScores
+            boolean needsScores,
+            double maxFunctionScore,
+            boolean propagateMinCompetitiveScore
         ) throws IOException {
             super(scorer);
             this.scoreMode = scoreMode;
@@ -531,6 +605,8 @@ public class FunctionScoreQuery extends Query {
             this.scoreCombiner = scoreCombiner;
             this.maxBoost = maxBoost;
             this.needsScores = needsScores;
+            this.maxFunctionScore = maxFunctionScore;
+            this.propagateMinCompetitiveScore = propagateMinCompetitiveScore;
         }
 
         @Override
@@ -615,9 +691,35 @@ public class FunctionScoreQuery extends Query {
             return factor;
         }
 
+        @Override
+        public int advanceShallow(int target) throws IOException {
+            return in.advanceShallow(target);
+        }
+
         @Override
         public float getMaxScore(int upTo) throws IOException {
-            return Float.MAX_VALUE; // TODO: what would be a good upper bound?
+            final float maxQueryScore = needsScores ? in.getMaxScore(upTo) : 0f;
+            if (leafFunctions.length == 0) {
+                return maxQueryScore;
+            }
+            if (maxFunctionScore >= Float.MAX_VALUE) {
+                return Float.MAX_VALUE;
+            }
+            return Math.min(scoreCombiner.combine(maxQueryScore, maxFunctionScore, maxBoost), Float.MAX_VALUE);
+        }
+
+        @Override
+        public void setMinCompetitiveScore(float minScore) throws IOException {
+            if (propagateMinCompetitiveScore == false) {
+                return;
+            }
+            final double minQueryScore = leafFunctions.length == 0
+                ? minScore
+                : scoreCombiner.minCompetitiveQueryScore(minScore, maxFunctionScore);
+            if (minQueryScore > 0) {
+                // round down so that the rounding of the combined score never skips a competitive document
+                in.setMinCompetitiveScore(Math.nextDown((float) minQueryScore));
+            }
         }
     }
 
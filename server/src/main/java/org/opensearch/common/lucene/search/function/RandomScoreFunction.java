@@ -125,6 +125,11 @@ public class RandomScoreFunction extends ScoreFunction {
         return false;
     }
 
+    @Override
+    public double getMaxScore() {
+        return 1.0;
+    }
+
     @Override
     protected boolean doEquals(ScoreFunction other) {
         RandomScoreFunction randomScoreFunction = (RandomScoreFunction) other;
@@ -81,6 +81,15 @@ public abstract class ScoreFunction {
         return 1.0f;
     }
 
+    /**
+     * Returns an upper bound of the values this function produces for any document, or {@link Double#POSITIVE_INFINITY} if it has
+     * none. Functions that declare a finite bound must never produce negative values, so that the bounds of several functions can be
+     * combined. The bound allows {@link FunctionScoreQuery} to skip documents that cannot be competitive when collecting top hits.
+     */
+    public double getMaxScore() {
+        return Double.POSITIVE_INFINITY;
+    }
+
     /**
      * Indicates whether some other {@link ScoreFunction} object of the same type is "equal to" this one.
      */
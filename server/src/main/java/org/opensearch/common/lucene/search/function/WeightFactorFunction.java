@@ -109,6 +109,11 @@ public class WeightFactorFunction extends ScoreFunction {
         return weight;
     }
 
+    @Override
+    public double getMaxScore() {
+        return weight >= 0 ? scoreFunction.getMaxScore() * weight : Double.POSITIVE_INFINITY;
+    }
+
     public ScoreFunction getScoreFunction() {
         return scoreFunction;
     }
@@ -164,6 +169,11 @@ public class WeightFactorFunction extends ScoreFunction {
             return false;
         }
 
+        @Override
+        public double getMaxScore() {
+            return 1.0;
+        }
+
         @Override
         protected boolean doEquals(ScoreFunction other) {
             return true;
@@ -60,6 +60,7 @@ import org.opensearch.index.store.FsDirectoryFactory;
 import org.opensearch.index.store.Store;
 import org.opensearch.indices.IndicesBitsetFilterCache;
 import org.opensearch.indices.IndicesRequestCache;
+import org.opensearch.indices.IndicesSegmentAggregationCache;
 import org.opensearch.search.streaming.FlushModeResolver;
 import org.opensearch.storage.slowlogs.TieredStorageSearchSlowLog;
 
@@ -186,6 +187,8 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING,
                 IndexSettings.INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING,
                 IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING,
+                IndicesRequestCache.INDEX_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING,
+                IndicesSegmentAggregationCache.INDEX_SEGMENT_AGGREGATION_CACHE_ENABLED_SETTING,
                 UnassignedInfo.INDEX_DELAYED_NODE_LEFT_TIMEOUT_SETTING,
                 EnableAllocationDecider.INDEX_ROUTING_REBALANCE_ENABLE_SETTING,
                 EnableAllocationDecider.INDEX_ROUTING_ALLOCATION_ENABLE_SETTING,
@@ -258,6 +261,13 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
 
                 IndexSettings.INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING,
                 IndexSettings.INDEX_DOC_ID_FUZZY_SET_FALSE_POSITIVE_PROBABILITY_SETTING,
+                IndexSettings.INDEX_VERSION_MAP_PAGED_STORAGE_SETTING,
+                IndexSettings.INDEX_TRANSLOG_MAPPED_READS_SETTING,
+                IndexSettings.INDEX_BULK_PARALLEL_PARSE_ENABLED_SETTING,
+                IndexSettings.INDEX_BULK_PARALLEL_PARSE_MIN_ITEMS_SETTING,
+                IndexSettings.INDEX_BULK_PARALLEL_PARSE_MAX_THREADS_SETTING,
+                IndexSettings.INDEX_BULK_PRIMARY_BATCH_ENABLED_SETTING,
+                IndexSettings.INDEX_UPDATE_SOURCE_PATCH_ENABLED_SETTING,
 
                 // Settings for concurrent segment search
                 IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING, // deprecated
@@ -309,6 +309,13 @@ public final class BytesRefHash implements Releasable {
         }
     }
 
+    /**
+     * Returns the number of bytes held by the underlying arrays of this hash.
+     */
+    public long ramBytesUsed() {
+        return table.ramBytesUsed() + offsets.ramBytesUsed() + keys.ramBytesUsed() + hashes.ramBytesUsed();
+    }
+
     @Override
     public void close() {
         Releasables.close(table, offsets, keys, hashes);
@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link VirtualThreadPerTaskExecutorService} that limits the number of tasks running at once and rejects tasks like a fixed
+ * pool with a bounded queue does. Up to {@code size} tasks run concurrently; further tasks park their virtual thread until a
+ * running task finishes, and once {@code queueSize} tasks are waiting new submissions are rejected with an
+ * {@link OpenSearchRejectedExecutionException} unless they are forced.
+ *
+ * @opensearch.internal
+ */
+public class BoundedVirtualThreadPerTaskExecutorService extends VirtualThreadPerTaskExecutorService {
+
+    private final String name;
+    private final int size;
+    private final int queueSize;
+    private final Semaphore permits;
+    /** Tasks that were accepted and have not finished yet, whether running or waiting for a permit. */
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final CounterMetric rejected = new CounterMetric();
+
+    BoundedVirtualThreadPerTaskExecutorService(
+        String name,
+        int size,
+        int queueSize,
+        ExecutorService delegate,
+        ThreadContext threadContext
+    ) {
+        super(delegate, threadContext);
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive but was [" + size + "]");
+        }
+        this.name = name;
+        this.size = size;
+        this.queueSize = queueSize;
+        this.permits = new Semaphore(size);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        final int accepted = inFlight.incrementAndGet();
+        if (queueSize >= 0 && accepted > size + queueSize && isForceExecution(command) == false) {
+            inFlight.decrementAndGet();
+            rejected.inc();
+            throw new OpenSearchRejectedExecutionException("rejected execution of " + command + " on " + this, isShutdown());
+        }
+        boolean submitted = false;
+        try {
+            super.execute(command);
+            submitted = true;
+        } finally {
+            if (submitted == false) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private static boolean isForceExecution(Runnable command) {
+        return command instanceof AbstractRunnable abstractRunnable && abstractRunnable.isForceExecution();
+    }
+
+    @Override
+    protected void beforeTask() {
+        // parking a virtual thread is cheap, waiting tasks hold no platform thread
+        permits.acquireUninterruptibly();
+    }
+
+    @Override
+    protected void onTaskFinished() {
+        permits.release();
+        inFlight.decrementAndGet();
+        super.onTaskFinished();
+    }
+
+    /**
+     * Returns the maximum number of tasks that run concurrently.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of tasks that are running.
+     */
+    public int getRunningCount() {
+        return size - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of accepted tasks that wait for a running task to finish.
+     */
+    public int getQueueSize() {
+        return Math.max(0, inFlight.get() - getRunningCount());
+    }
+
+    /**
+     * Returns the number of tasks that were rejected because the queue was full.
+     */
+    public long getRejectedCount() {
+        return rejected.count();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + name + ", size = " + size + ", queue capacity = " + queueSize + "]";
+    }
+}
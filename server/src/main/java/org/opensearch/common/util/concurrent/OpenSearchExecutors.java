@@ -284,6 +284,30 @@ public class OpenSearchExecutors {
         return new VirtualThreadPerTaskExecutorService(delegate, threadContext);
     }
 
+    /**
+     * Returns a new executor that creates a new virtual thread for each task, runs at most {@code size} tasks at once and rejects
+     * tasks once {@code queueSize} tasks wait for a running one to finish.
+     *
+     * @param nodeName       the name of the node
+     * @param namePrefix     the name prefix for virtual threads
+     * @param size           the maximum number of tasks running at once
+     * @param queueSize      the maximum number of tasks waiting to run, -1 for unbounded
+     * @param threadContext  the thread context to preserve across task execution
+     * @return a new bounded virtual-thread-per-task executor
+     */
+    public static BoundedVirtualThreadPerTaskExecutorService newBoundedVirtualThreadPerTaskExecutor(
+        final String nodeName,
+        final String namePrefix,
+        final int size,
+        final int queueSize,
+        final ThreadContext threadContext
+    ) {
+        assert nodeName != null && false == nodeName.isEmpty();
+        final ThreadFactory threadFactory = Thread.ofVirtual().name(threadName(nodeName, namePrefix) + "#", 0).factory();
+        final ExecutorService delegate = Executors.newThreadPerTaskExecutor(threadFactory);
+        return new BoundedVirtualThreadPerTaskExecutorService(nodeName + "/" + namePrefix, size, queueSize, delegate, threadContext);
+    }
+
     /**
      * Checks if the runnable arose from asynchronous submission of a task to an executor. If an uncaught exception was thrown
      * during the execution of this task, we need to inspect this runnable and see if it is an error that should be propagated
@@ -0,0 +1,267 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support;
+
+import org.apache.lucene.util.automaton.Automata;
+import org.apache.lucene.util.automaton.Automaton;
+import org.apache.lucene.util.automaton.CharacterRunAutomaton;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.opensearch.common.xcontent.support.XContentMapValues.hasNoWildcardsOrDots;
+import static org.opensearch.common.xcontent.support.XContentMapValues.makeMatchDotsInFieldNames;
+import static org.opensearch.common.xcontent.support.XContentMapValues.step;
+import static org.opensearch.common.xcontent.support.XContentMapValues.toSet;
+
+/**
+ * Filters an object with the same include and exclude rules as {@link XContentMapValues#filter(String[], String[], boolean)}, but
+ * while it is being parsed: the tokens of the properties that match are copied to the output builder as they are read, and the
+ * others are skipped, so that neither the object nor the filtered object are ever materialized as maps.
+ * <p>
+ * Unlike the map based filter, which returns a hash map, this filter keeps the properties in the order of the input.
+ *
+ * @opensearch.internal
+ */
+public final class StreamingXContentFilter {
+
+    private final boolean caseSensitive;
+    // the include and exclude sets of a filter on top level properties only, null if the automata are used instead
+    private final Set<String> includeSet;
+    private final Set<String> excludeSet;
+    private final CharacterRunAutomaton include;
+    private final CharacterRunAutomaton exclude;
+    private final CharacterRunAutomaton matchAll;
+
+    private StreamingXContentFilter(String[] includes, String[] excludes, boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+        Set<String> includeSet = includes == null || includes.length == 0 ? null : toSet(includes, caseSensitive);
+        Set<String> excludeSet = excludes == null || excludes.length == 0 ? Set.of() : toSet(excludes, caseSensitive);
+        if (hasNoWildcardsOrDots(includes) && hasNoWildcardsOrDots(excludes)) {
+            this.includeSet = includeSet;
+            this.excludeSet = excludeSet;
+            this.include = null;
+            this.exclude = null;
+            this.matchAll = null;
+        } else {
+            this.includeSet = null;
+            this.excludeSet = null;
+            this.matchAll = new CharacterRunAutomaton(Automata.makeAnyString());
+            if (includeSet == null) {
+                this.include = matchAll;
+            } else {
+                Automaton includeA = Regex.simpleMatchToAutomaton(includeSet.toArray(new String[0]));
+                this.include = new CharacterRunAutomaton(makeMatchDotsInFieldNames(includeA));
+            }
+            if (excludeSet.isEmpty()) {
+                this.exclude = new CharacterRunAutomaton(Automata.makeEmpty());
+            } else {
+                Automaton excludeA = Regex.simpleMatchToAutomaton(excludeSet.toArray(new String[0]));
+                this.exclude = new CharacterRunAutomaton(makeMatchDotsInFieldNames(excludeA));
+            }
+        }
+    }
+
+    /**
+     * Returns a filter that only keeps the properties that match the {@code includes} but not the {@code excludes}.
+     * @see XContentMapValues#filter(java.util.Map, String[], String[]) for details
+     */
+    public static StreamingXContentFilter create(String[] includes, String[] excludes, boolean caseSensitive) {
+        return new StreamingXContentFilter(includes, excludes, caseSensitive);
+    }
+
+    /**
+     * Reads the object the parser is positioned on, or starts with if it was not read yet, and writes its filtered copy to the builder.
+     */
+    public void filter(XContentParser parser, XContentBuilder builder) throws IOException {
+        XContentParser.Token token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        if (token != XContentParser.Token.START_OBJECT) {
+            throw new IllegalArgumentException("expected an object to filter but got [" + token + "]");
+        }
+        builder.startObject();
+        if (include == null) {
+            filterTopLevelProperties(parser, builder);
+        } else {
+            filterObject(parser, new Output(builder), include, 0, 0);
+        }
+        builder.endObject();
+    }
+
+    private void filterTopLevelProperties(XContentParser parser, XContentBuilder builder) throws IOException {
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String key = parser.currentName();
+            parser.nextToken();
+            int dotPos = key.indexOf('.');
+            String k = dotPos > 0 ? key.substring(0, dotPos) : key;
+            if (caseSensitive == false) {
+                k = k.toLowerCase(Locale.ROOT);
+            }
+            if ((includeSet == null || includeSet.contains(k)) && excludeSet.contains(k) == false) {
+                builder.field(key);
+                builder.copyCurrentStructure(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void filterObject(
+        XContentParser parser,
+        Output output,
+        CharacterRunAutomaton includeAutomaton,
+        int initialIncludeState,
+        int initialExcludeState
+    ) throws IOException {
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String key = parser.currentName();
+            XContentParser.Token token = parser.nextToken();
+            String k = caseSensitive ? key : key.toLowerCase(Locale.ROOT);
+
+            int includeState = step(includeAutomaton, k, initialIncludeState);
+            if (includeState == -1) {
+                parser.skipChildren();
+                continue;
+            }
+
+            int excludeState = step(exclude, k, initialExcludeState);
+            if (excludeState != -1 && exclude.isAccept(excludeState)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            boolean included = includeAutomaton.isAccept(includeState);
+            CharacterRunAutomaton subIncludeAutomaton = includeAutomaton;
+            int subIncludeState = includeState;
+            if (included) {
+                if (excludeState == -1 || exclude.step(excludeState, '.') == -1) {
+                    // the exclude has no chances to match inner properties
+                    output.write().field(key);
+                    output.builder.copyCurrentStructure(parser);
+                    continue;
+                } else {
+                    // the object matched, so consider that the include matches every inner property
+                    // we only care about excludes now
+                    subIncludeAutomaton = matchAll;
+                    subIncludeState = 0;
+                }
+            }
+
+            if (token == XContentParser.Token.START_OBJECT) {
+                subIncludeState = subIncludeAutomaton.step(subIncludeState, '.');
+                if (subIncludeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (excludeState != -1) {
+                    excludeState = exclude.step(excludeState, '.');
+                }
+                output.open(key, false, included);
+                filterObject(parser, output, subIncludeAutomaton, subIncludeState, excludeState);
+                output.close();
+            } else if (token == XContentParser.Token.START_ARRAY) {
+                output.open(key, true, included);
+                filterArray(parser, output, subIncludeAutomaton, subIncludeState, excludeState);
+                output.close();
+            } else if (included && (excludeState == -1 || exclude.isAccept(excludeState) == false)) {
+                // leaf property
+                output.write().field(key);
+                output.builder.copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    private void filterArray(
+        XContentParser parser,
+        Output output,
+        CharacterRunAutomaton includeAutomaton,
+        int initialIncludeState,
+        int initialExcludeState
+    ) throws IOException {
+        boolean isInclude = includeAutomaton.isAccept(initialIncludeState);
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+            if (token == XContentParser.Token.START_OBJECT) {
+                int includeState = includeAutomaton.step(initialIncludeState, '.');
+                int excludeState = initialExcludeState;
+                if (excludeState != -1) {
+                    excludeState = exclude.step(excludeState, '.');
+                }
+                output.open(null, false, false);
+                filterObject(parser, output, includeAutomaton, includeState, excludeState);
+                output.close();
+            } else if (token == XContentParser.Token.START_ARRAY) {
+                output.open(null, true, false);
+                filterArray(parser, output, includeAutomaton, initialIncludeState, initialExcludeState);
+                output.close();
+            } else if (isInclude) {
+                // #22557: only accept this array value if the key we are on is accepted:
+                output.write().copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    /**
+     * The output of the filter, which only starts the objects and arrays it opens once something is written into them, since the
+     * objects and arrays whose properties are all filtered out are dropped, unless they matched an include themselves.
+     */
+    private static final class Output {
+        private final XContentBuilder builder;
+        private final List<Container> containers = new ArrayList<>();
+        // the number of open containers that were already started on the builder, they always come first
+        private int started;
+
+        Output(XContentBuilder builder) {
+            this.builder = builder;
+        }
+
+        void open(String fieldName, boolean array, boolean keepIfEmpty) throws IOException {
+            containers.add(new Container(fieldName, array));
+            if (keepIfEmpty) {
+                write();
+            }
+        }
+
+        void close() throws IOException {
+            int index = containers.size() - 1;
+            Container container = containers.remove(index);
+            if (index < started) {
+                started = index;
+                if (container.array) {
+                    builder.endArray();
+                } else {
+                    builder.endObject();
+                }
+            }
+        }
+
+        XContentBuilder write() throws IOException {
+            for (; started < containers.size(); started++) {
+                Container container = containers.get(started);
+                if (container.fieldName != null) {
+                    builder.field(container.fieldName);
+                }
+                if (container.array) {
+                    builder.startArray();
+                } else {
+                    builder.startObject();
+                }
+            }
+            return builder;
+        }
+    }
+
+    private record Container(String fieldName, boolean array) {
+    }
+}
@@ -249,7 +249,7 @@ public class XContentMapValues {
         return createAutomatonFilter(includes, excludes, caseSensitive);
     }
 
-    private static boolean hasNoWildcardsOrDots(String[] fields) {
+    static boolean hasNoWildcardsOrDots(String[] fields) {
         if (fields == null || fields.length == 0) {
             return true;
         }
@@ -290,7 +290,7 @@ public class XContentMapValues {
         };
     }
 
-    private static Set<String> toSet(String[] fields, boolean caseSensitive) {
+    static Set<String> toSet(String[] fields, boolean caseSensitive) {
         Set<String> set = new HashSet<>(fields.length);
         for (String field : fields) {
             set.add(caseSensitive ? field : field.toLowerCase(Locale.ROOT));
@@ -337,7 +337,7 @@ public class XContentMapValues {
     /** Make matches on objects also match dots in field names.
      *  For instance, if the original simple regex is `foo`, this will translate
      *  it into `foo` OR `foo.*`. */
-    private static Automaton makeMatchDotsInFieldNames(Automaton automaton) {
+    static Automaton makeMatchDotsInFieldNames(Automaton automaton) {
         Automaton automatonMatchingFields = Operations.concatenate(
             Arrays.asList(automaton, Automata.makeChar('.'), Automata.makeAnyString())
         );
@@ -347,7 +347,7 @@ public class XContentMapValues {
         );
     }
 
-    private static int step(CharacterRunAutomaton automaton, String key, int state) {
+    static int step(CharacterRunAutomaton automaton, String key, int state) {
         for (int i = 0; state != -1 && i < key.length(); ++i) {
             state = automaton.step(state, key.charAt(i));
         }
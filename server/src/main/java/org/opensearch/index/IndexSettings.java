@@ -218,6 +218,68 @@ public final class IndexSettings {
         false,
         Property.IndexScope
     );
+    /**
+     * If enabled, translog snapshots read the operations of completed generations out of a memory mapping of the generation file, which
+     * verifies the checksum of an operation in a single pass and copies its bytes out of the mapping in bulk rather than streaming them
+     * through the channel. The mapping is unmapped once it is garbage collected.
+     */
+    public static final Setting<Boolean> INDEX_TRANSLOG_MAPPED_READS_SETTING = Setting.boolSetting(
+        "index.translog.mapped_reads.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * If enabled, the primary parses the documents of large bulk shard requests in parallel on the write pool before executing them.
+     */
+    public static final Setting<Boolean> INDEX_BULK_PARALLEL_PARSE_ENABLED_SETTING = Setting.boolSetting(
+        "index.bulk.parallel_parse.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    /**
+     * The minimum number of index operations a bulk shard request must hold for its documents to be parsed in parallel.
+     */
+    public static final Setting<Integer> INDEX_BULK_PARALLEL_PARSE_MIN_ITEMS_SETTING = Setting.intSetting(
+        "index.bulk.parallel_parse.min_items",
+        64,
+        2,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    /**
+     * The maximum number of threads, the executing one included, that parse the documents of a bulk shard request in parallel. The
+     * parsing threads are further limited to a quarter of the write pool so that a single request does not occupy the whole pool.
+     */
+    public static final Setting<Integer> INDEX_BULK_PARALLEL_PARSE_MAX_THREADS_SETTING = Setting.intSetting(
+        "index.bulk.parallel_parse.max_threads",
+        2,
+        1,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    /**
+     * If enabled, the primary hands runs of consecutive index operations of a bulk shard request to the engine as a single batch.
+     */
+    public static final Setting<Boolean> INDEX_BULK_PRIMARY_BATCH_ENABLED_SETTING = Setting.boolSetting(
+        "index.bulk.primary_batch.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    /**
+     * If enabled, partial document updates that only set numeric, keyword or boolean fields patch the stored source in a single
+     * streaming pass instead of merging the partial document into a map of the whole source.
+     */
+    public static final Setting<Boolean> INDEX_UPDATE_SOURCE_PATCH_ENABLED_SETTING = Setting.boolSetting(
+        "index.update.source_patch.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     public static final Setting<Boolean> INDEX_WARMER_ENABLED_SETTING = Setting.boolSetting(
         "index.warmer.enabled",
         true,
@@ -904,6 +966,16 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * If enabled, the engine keeps the versions of un-refreshed documents in paged primitive arrays rather than in a concurrent hash
+     * map of objects, which lowers the heap and GC overhead of the live version map on update heavy indices.
+     */
+    public static final Setting<Boolean> INDEX_VERSION_MAP_PAGED_STORAGE_SETTING = Setting.boolSetting(
+        "index.version_map.paged_storage.enabled",
+        false,
+        Property.IndexScope
+    );
+
     public static final Setting<Boolean> INDEX_DERIVED_SOURCE_SETTING = Setting.boolSetting(
         "index.derived_source.enabled",
         false,
@@ -959,6 +1031,12 @@ public final class IndexSettings {
     private final boolean defaultAllowUnmappedFields;
     private volatile Translog.Durability durability;
     private final boolean translogReadForward;
+    private volatile boolean translogMappedReadsEnabled;
+    private volatile boolean bulkParallelParseEnabled;
+    private volatile int bulkParallelParseMinItems;
+    private volatile int bulkParallelParseMaxThreads;
+    private volatile boolean bulkPrimaryBatchEnabled;
+    private volatile boolean updateSourcePatchEnabled;
     private volatile TimeValue syncInterval;
     private volatile TimeValue publishReferencedSegmentsInterval;
     private volatile TimeValue refreshInterval;
@@ -988,6 +1066,7 @@ public final class IndexSettings {
     private final boolean isTranslogMetadataEnabled;
     private volatile boolean allowDerivedField;
     private final boolean derivedSourceEnabled;
+    private final boolean pagedVersionMapEnabled;
     private final boolean pluggableDataFormatEnabled;
     private final String pluggedDataFormat;
     private volatile boolean derivedSourceEnabledForTranslog;
@@ -1243,6 +1322,19 @@ public final class IndexSettings {
             && scopedSettings.get(PLUGGABLE_DATAFORMAT_ENABLED_SETTING);
         derivedSourceEnabled = scopedSettings.get(INDEX_DERIVED_SOURCE_SETTING) || pluggableDataFormatEnabled;
         pluggedDataFormat = scopedSettings.get(PLUGGABLE_DATAFORMAT_VALUE_SETTING);
+        pagedVersionMapEnabled = scopedSettings.get(INDEX_VERSION_MAP_PAGED_STORAGE_SETTING);
+        translogMappedReadsEnabled = scopedSettings.get(INDEX_TRANSLOG_MAPPED_READS_SETTING);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_MAPPED_READS_SETTING, this::setTranslogMappedReadsEnabled);
+        bulkParallelParseEnabled = scopedSettings.get(INDEX_BULK_PARALLEL_PARSE_ENABLED_SETTING);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_PARALLEL_PARSE_ENABLED_SETTING, this::setBulkParallelParseEnabled);
+        bulkParallelParseMinItems = scopedSettings.get(INDEX_BULK_PARALLEL_PARSE_MIN_ITEMS_SETTING);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_PARALLEL_PARSE_MIN_ITEMS_SETTING, this::setBulkParallelParseMinItems);
+        bulkParallelParseMaxThreads = scopedSettings.get(INDEX_BULK_PARALLEL_PARSE_MAX_THREADS_SETTING);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_PARALLEL_PARSE_MAX_THREADS_SETTING, this::setBulkParallelParseMaxThreads);
+        bulkPrimaryBatchEnabled = scopedSettings.get(INDEX_BULK_PRIMARY_BATCH_ENABLED_SETTING);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_PRIMARY_BATCH_ENABLED_SETTING, this::setBulkPrimaryBatchEnabled);
+        updateSourcePatchEnabled = scopedSettings.get(INDEX_UPDATE_SOURCE_PATCH_ENABLED_SETTING);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_UPDATE_SOURCE_PATCH_ENABLED_SETTING, this::setUpdateSourcePatchEnabled);
         derivedSourceEnabledForTranslog = scopedSettings.get(INDEX_DERIVED_SOURCE_TRANSLOG_ENABLED_SETTING);
         scopedSettings.addSettingsUpdateConsumer(INDEX_DERIVED_SOURCE_TRANSLOG_ENABLED_SETTING, this::setDerivedSourceEnabledForTranslog);
         /* There was unintentional breaking change got introduced with [OpenSearch-6424](https://github.com/opensearch-project/OpenSearch/pull/6424) (version 2.7).
@@ -2406,6 +2498,79 @@ public final class IndexSettings {
         return derivedSourceEnabled;
     }
 
+    /**
+     * Returns whether translog snapshots read completed generations through a memory mapping.
+     */
+    public boolean isTranslogMappedReadsEnabled() {
+        return translogMappedReadsEnabled;
+    }
+
+    private void setTranslogMappedReadsEnabled(boolean translogMappedReadsEnabled) {
+        this.translogMappedReadsEnabled = translogMappedReadsEnabled;
+    }
+
+    /**
+     * Returns whether the documents of large bulk shard requests are parsed in parallel on the primary.
+     */
+    public boolean isBulkParallelParseEnabled() {
+        return bulkParallelParseEnabled;
+    }
+
+    private void setBulkParallelParseEnabled(boolean bulkParallelParseEnabled) {
+        this.bulkParallelParseEnabled = bulkParallelParseEnabled;
+    }
+
+    /**
+     * Returns the minimum number of index operations of a bulk shard request for its documents to be parsed in parallel.
+     */
+    public int getBulkParallelParseMinItems() {
+        return bulkParallelParseMinItems;
+    }
+
+    private void setBulkParallelParseMinItems(int bulkParallelParseMinItems) {
+        this.bulkParallelParseMinItems = bulkParallelParseMinItems;
+    }
+
+    /**
+     * Returns the maximum number of threads that parse the documents of a bulk shard request in parallel.
+     */
+    public int getBulkParallelParseMaxThreads() {
+        return bulkParallelParseMaxThreads;
+    }
+
+    private void setBulkParallelParseMaxThreads(int bulkParallelParseMaxThreads) {
+        this.bulkParallelParseMaxThreads = bulkParallelParseMaxThreads;
+    }
+
+    /**
+     * Returns whether the primary indexes runs of consecutive index operations of a bulk shard request as a single batch.
+     */
+    public boolean isBulkPrimaryBatchEnabled() {
+        return bulkPrimaryBatchEnabled;
+    }
+
+    private void setBulkPrimaryBatchEnabled(boolean bulkPrimaryBatchEnabled) {
+        this.bulkPrimaryBatchEnabled = bulkPrimaryBatchEnabled;
+    }
+
+    /**
+     * Returns whether partial document updates of numeric, keyword or boolean fields patch the stored source without a map round trip.
+     */
+    public boolean isUpdateSourcePatchEnabled() {
+        return updateSourcePatchEnabled;
+    }
+
+    private void setUpdateSourcePatchEnabled(boolean updateSourcePatchEnabled) {
+        this.updateSourcePatchEnabled = updateSourcePatchEnabled;
+    }
+
+    /**
+     * Returns whether the live version map of this index keeps its entries in paged primitive arrays.
+     */
+    public boolean isPagedVersionMapEnabled() {
+        return pagedVersionMapEnabled;
+    }
+
     /**
      * Returns whether the pluggable data format feature is enabled for this index.
      * Requires both the experimental feature flag and the index-level setting.
@@ -123,6 +123,20 @@ public class IndexingPressureService {
         return shardIndexingPressure.shardStats(statsFlags);
     }
 
+    /**
+     * Returns the moving average throughput of the coordinating operations of the shard in bytes per millisecond.
+     * The throughput is only tracked if shard indexing pressure is enabled, {@code 0} is returned when it is not known.
+     * @param shardId Shard ID for which the throughput is requested
+     * @return the throughput in bytes per millisecond, or {@code 0} if it is not known
+     */
+    public double getCoordinatingThroughput(ShardId shardId) {
+        if (isShardIndexingPressureEnabled()) {
+            return shardIndexingPressure.getCoordinatingThroughputMovingAverage(shardId);
+        } else {
+            return 0;
+        }
+    }
+
     private boolean isShardIndexingPressureEnabled() {
         return shardIndexingPressure.isShardIndexingPressureEnabled();
     }
@@ -441,6 +441,21 @@ public class ShardIndexingPressure extends IndexingPressure {
         return memoryManager.getShardIndexingPressureTracker(shardId);
     }
 
+    /**
+     * Returns the moving average throughput of the coordinating operations of the shard in bytes per millisecond, or {@code 0} if
+     * no coordinating operation of the shard completed yet. Does not start tracking the shard.
+     */
+    double getCoordinatingThroughputMovingAverage(ShardId shardId) {
+        ShardIndexingPressureTracker tracker = memoryManager.getShardIndexingPressureHotStore().get(shardId);
+        if (tracker == null) {
+            tracker = memoryManager.getShardIndexingPressureColdStore().get(shardId);
+        }
+        if (tracker == null) {
+            return 0;
+        }
+        return Double.longBitsToDouble(tracker.getCoordinatingOperationTracker().getPerformanceTracker().getThroughputMovingAverage());
+    }
+
     public boolean isShardIndexingPressureEnabled() {
         return shardIndexingPressureSettings.isShardIndexingPressureEnabled();
     }
@@ -108,6 +108,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
@@ -481,6 +482,22 @@ public abstract class Engine implements LifecycleAware, Closeable {
      */
     public abstract IndexResult index(Index index) throws IOException;
 
+    /**
+     * Perform a batch of document index operations on the engine, in order. Engines may amortize the per operation costs over the
+     * batch, the default implementation performs the operations one by one.
+     * @param indexOps operations to perform
+     * @return the {@link IndexResult} of each operation, in the order of the given operations
+     *
+     * Note: engine level failures (i.e. persistent engine failures) are thrown
+     */
+    public List<IndexResult> index(List<Index> indexOps) throws IOException {
+        final List<IndexResult> results = new ArrayList<>(indexOps.size());
+        for (Index index : indexOps) {
+            results.add(index(index));
+        }
+        return results;
+    }
+
     /**
      * Perform document delete operation on the engine
      * @param delete operation to perform
@@ -68,6 +68,11 @@ public class EngineBackedIndexer implements Indexer {
         return engine.index(index);
     }
 
+    @Override
+    public List<Engine.IndexResult> index(List<Engine.Index> indexOps) throws IOException {
+        return engine.index(indexOps);
+    }
+
     @Override
     public Engine.DeleteResult delete(Engine.Delete delete) throws IOException {
         return engine.delete(delete);
@@ -116,8 +116,10 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -163,7 +165,7 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    protected final LiveVersionMap versionMap = new LiveVersionMap();
+    protected final LiveVersionMap versionMap;
 
     @Nullable
     protected final String historyUUID;
@@ -230,6 +232,7 @@ public class InternalEngine extends Engine {
         TranslogEventListener translogEventListener
     ) {
         super(engineConfig);
+        this.versionMap = new LiveVersionMap(engineConfig.getIndexSettings().isPagedVersionMapEnabled());
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
@@ -910,79 +913,107 @@ public class InternalEngine extends Engine {
                     indexResult = (IndexResult) plan.earlyResultOnPreFlightError.get();
                     assert indexResult.getResultType() == Result.Type.FAILURE : indexResult.getResultType();
                 } else {
-                    // generate or register sequence number
-                    if (index.origin() == Operation.Origin.PRIMARY) {
-                        index = new Index(
-                            index.uid(),
-                            index.parsedDoc(),
-                            generateSeqNoForOperationOnPrimary(index),
-                            index.primaryTerm(),
-                            index.version(),
-                            index.versionType(),
-                            index.origin(),
-                            index.startTime(),
-                            index.getAutoGeneratedIdTimestamp(),
-                            index.isRetry(),
-                            index.getIfSeqNo(),
-                            index.getIfPrimaryTerm()
-                        );
-
-                        final boolean toAppend = plan.executeOpOnEngine && plan.useUpdateDocument == false;
-                        if (toAppend == false) {
-                            advanceMaxSeqNoOfUpdatesOrDeletesOnPrimary(index.seqNo());
-                        }
-                    } else {
-                        markSeqNoAsSeen(index.seqNo());
-                    }
-
-                    assert index.seqNo() >= 0 : "ops should have an assigned seq no.; origin: " + index.origin();
-
-                    if (plan.executeOpOnEngine || plan.addStaleOpToEngine) {
-                        indexResult = indexIntoLucene(index, plan);
-                    } else {
-                        indexResult = new IndexResult(plan.version, index.primaryTerm(), index.seqNo(), plan.currentNotFoundOrDeleted);
-                    }
-
+                    index = assignSequenceNumber(index, plan);
+                    indexResult = executeIndexingStrategy(index, plan);
                 }
                 if (index.origin().isFromTranslog() == false) {
                     final Translog.Location location;
                     if (indexResult.getResultType() == Result.Type.SUCCESS) {
                         location = translogManager.add(new Translog.Index(index, indexResult));
-                    } else if (indexResult.getSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO
-                        && indexResult.getFailure() != null
-                        && !(indexResult.getFailure() instanceof AppendOnlyIndexOperationRetryException)) {
-                            // if we have document failure, record it as a no-op in the translog and Lucene with the generated seq_no
-                            final NoOp noOp = new NoOp(
-                                indexResult.getSeqNo(),
-                                index.primaryTerm(),
-                                index.origin(),
-                                index.startTime(),
-                                indexResult.getFailure().toString()
-                            );
-                            location = innerNoOp(noOp).getTranslogLocation();
-                        } else {
-                            location = null;
-                        }
+                    } else {
+                        location = recordIndexFailureAsNoOp(index, indexResult);
+                    }
                     indexResult.setTranslogLocation(location);
                 }
-                if (plan.executeOpOnEngine && indexResult.getResultType() == Result.Type.SUCCESS) {
-                    final Translog.Location translogLocation = trackTranslogLocation.get() ? indexResult.getTranslogLocation() : null;
-                    versionMap.maybePutIndexUnderLock(
-                        index.uid().bytes(),
-                        new IndexVersionValue(translogLocation, plan.version, index.seqNo(), index.primaryTerm())
-                    );
+                completeIndex(index, plan, indexResult);
+                return indexResult;
+            } finally {
+                documentCountTracker.releaseInFlightDocs(reservedDocs);
+            }
+        } catch (RuntimeException | IOException e) {
+            try {
+                if (e instanceof AlreadyClosedException == false && treatDocumentFailureAsTragicError(index)) {
+                    failEngine("index id[" + index.id() + "] origin[" + index.origin() + "] seq#[" + index.seqNo() + "]", e);
+                } else {
+                    maybeFailEngine("index id[" + index.id() + "] origin[" + index.origin() + "] seq#[" + index.seqNo() + "]", e);
                 }
-                localCheckpointTracker.markSeqNoAsProcessed(indexResult.getSeqNo());
-                if (indexResult.getTranslogLocation() == null
-                    && !(indexResult.getFailure() != null
-                        && (indexResult.getFailure() instanceof AppendOnlyIndexOperationRetryException))) {
-                    // the op is coming from the translog (and is hence persisted already) or it does not have a sequence number
-                    assert index.origin().isFromTranslog() || indexResult.getSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO;
-                    localCheckpointTracker.markSeqNoAsPersisted(indexResult.getSeqNo());
+            } catch (Exception inner) {
+                e.addSuppressed(inner);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Performs a batch of index operations under a single acquisition of the engine read lock and of the indexing throttle. The
+     * version map locks of all the documents of the batch are taken upfront, in sorted order, so that concurrent batches can never
+     * deadlock on each other. Each operation is planned and applied to Lucene in order, while the translog entries of successful
+     * operations are buffered and appended to the translog at once. Buffered operations are flushed before an operation on one of
+     * their documents is planned, so that it sees their versions in the version map.
+     */
+    @Override
+    public List<IndexResult> index(List<Index> indexOps) throws IOException {
+        if (indexOps.size() <= 1) {
+            return super.index(indexOps);
+        }
+        final List<BytesRef> uids = new ArrayList<>(indexOps.size());
+        boolean doThrottle = false;
+        for (Index index : indexOps) {
+            assert Objects.equals(index.uid().field(), IdFieldMapper.NAME) : index.uid().field();
+            uids.add(index.uid().bytes());
+            doThrottle |= index.origin().isRecovery() == false;
+        }
+        final IndexResult[] results = new IndexResult[indexOps.size()];
+        Index index = indexOps.get(0);
+        try (ReleasableLock releasableLock = readLock.acquire()) {
+            ensureOpen();
+            int reservedDocs = 0;
+            try (
+                Releasable ignored = versionMap.acquireLocks(uids);
+                Releasable indexThrottle = doThrottle ? throttle.acquireThrottle() : () -> {}
+            ) {
+                final PendingTranslogBatch pending = new PendingTranslogBatch();
+                try {
+                    for (int slot = 0; slot < indexOps.size(); slot++) {
+                        index = indexOps.get(slot);
+                        assert assertIncomingSequenceNumber(index.origin(), index.seqNo());
+                        if (pending.containsUid(index.uid().bytes())) {
+                            pending.flush(results);
+                        }
+                        lastWriteNanos = index.startTime();
+                        final IndexingStrategy plan = indexingStrategyForOperation(index);
+                        reservedDocs += plan.reservedDocs;
+
+                        final IndexResult indexResult;
+                        if (plan.earlyResultOnPreFlightError.isPresent()) {
+                            assert index.origin() == Operation.Origin.PRIMARY : index.origin();
+                            indexResult = (IndexResult) plan.earlyResultOnPreFlightError.get();
+                            assert indexResult.getResultType() == Result.Type.FAILURE : indexResult.getResultType();
+                        } else {
+                            index = assignSequenceNumber(index, plan);
+                            indexResult = executeIndexingStrategy(index, plan);
+                        }
+                        if (index.origin().isFromTranslog() == false) {
+                            if (indexResult.getResultType() == Result.Type.SUCCESS) {
+                                pending.add(slot, index, plan, indexResult);
+                                continue;
+                            }
+                            indexResult.setTranslogLocation(recordIndexFailureAsNoOp(index, indexResult));
+                        }
+                        completeIndex(index, plan, indexResult);
+                        results[slot] = indexResult;
+                    }
+                } catch (RuntimeException | IOException e) {
+                    // operations that made it into Lucene must still be written to the translog and marked as processed
+                    try {
+                        pending.flush(results);
+                    } catch (Exception inner) {
+                        e.addSuppressed(inner);
+                    }
+                    throw e;
                 }
-                indexResult.setTook(System.nanoTime() - index.startTime());
-                indexResult.freeze();
-                return indexResult;
+                pending.flush(results);
+                return Arrays.asList(results);
             } finally {
                 documentCountTracker.releaseInFlightDocs(reservedDocs);
             }
@@ -1000,6 +1031,135 @@ public class InternalEngine extends Engine {
         }
     }
 
+    /**
+     * Successful index operations of a batch whose translog entries have not been written yet.
+     *
+     * @opensearch.internal
+     */
+    private final class PendingTranslogBatch {
+        private final List<Integer> slots = new ArrayList<>();
+        private final List<Index> operations = new ArrayList<>();
+        private final List<IndexingStrategy> plans = new ArrayList<>();
+        private final List<IndexResult> results = new ArrayList<>();
+        private final List<Translog.Index> translogOps = new ArrayList<>();
+        private final Set<BytesRef> uids = new HashSet<>();
+
+        boolean containsUid(BytesRef uid) {
+            return uids.contains(uid);
+        }
+
+        void add(int slot, Index index, IndexingStrategy plan, IndexResult indexResult) {
+            slots.add(slot);
+            operations.add(index);
+            plans.add(plan);
+            results.add(indexResult);
+            translogOps.add(new Translog.Index(index, indexResult));
+            uids.add(index.uid().bytes());
+        }
+
+        void flush(IndexResult[] batchResults) throws IOException {
+            if (translogOps.isEmpty()) {
+                return;
+            }
+            final Translog.Location[] locations = translogManager.add(translogOps);
+            for (int i = 0; i < locations.length; i++) {
+                final IndexResult indexResult = results.get(i);
+                indexResult.setTranslogLocation(locations[i]);
+                completeIndex(operations.get(i), plans.get(i), indexResult);
+                batchResults[slots.get(i)] = indexResult;
+            }
+            slots.clear();
+            operations.clear();
+            plans.clear();
+            results.clear();
+            translogOps.clear();
+            uids.clear();
+        }
+    }
+
+    /**
+     * Generates the sequence number of an operation on the primary, or registers the sequence number of a replicated operation.
+     */
+    private Index assignSequenceNumber(Index index, IndexingStrategy plan) {
+        if (index.origin() == Operation.Origin.PRIMARY) {
+            index = new Index(
+                index.uid(),
+                index.parsedDoc(),
+                generateSeqNoForOperationOnPrimary(index),
+                index.primaryTerm(),
+                index.version(),
+                index.versionType(),
+                index.origin(),
+                index.startTime(),
+                index.getAutoGeneratedIdTimestamp(),
+                index.isRetry(),
+                index.getIfSeqNo(),
+                index.getIfPrimaryTerm()
+            );
+
+            final boolean toAppend = plan.executeOpOnEngine && plan.useUpdateDocument == false;
+            if (toAppend == false) {
+                advanceMaxSeqNoOfUpdatesOrDeletesOnPrimary(index.seqNo());
+            }
+        } else {
+            markSeqNoAsSeen(index.seqNo());
+        }
+
+        assert index.seqNo() >= 0 : "ops should have an assigned seq no.; origin: " + index.origin();
+        return index;
+    }
+
+    private IndexResult executeIndexingStrategy(Index index, IndexingStrategy plan) throws IOException {
+        if (plan.executeOpOnEngine || plan.addStaleOpToEngine) {
+            return indexIntoLucene(index, plan);
+        } else {
+            return new IndexResult(plan.version, index.primaryTerm(), index.seqNo(), plan.currentNotFoundOrDeleted);
+        }
+    }
+
+    /**
+     * Records a document failure that was assigned a sequence number as a no-op in the translog and Lucene, returning its location.
+     */
+    private Translog.Location recordIndexFailureAsNoOp(Index index, IndexResult indexResult) throws IOException {
+        if (indexResult.getSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO
+            && indexResult.getFailure() != null
+            && !(indexResult.getFailure() instanceof AppendOnlyIndexOperationRetryException)) {
+            // if we have document failure, record it as a no-op in the translog and Lucene with the generated seq_no
+            final NoOp noOp = new NoOp(
+                indexResult.getSeqNo(),
+                index.primaryTerm(),
+                index.origin(),
+                index.startTime(),
+                indexResult.getFailure().toString()
+            );
+            return innerNoOp(noOp).getTranslogLocation();
+        }
+        return null;
+    }
+
+    /**
+     * Publishes the outcome of an index operation whose translog location, if any, is known to the version map and the local
+     * checkpoint tracker and freezes its result.
+     */
+    private void completeIndex(Index index, IndexingStrategy plan, IndexResult indexResult) {
+        if (plan.executeOpOnEngine && indexResult.getResultType() == Result.Type.SUCCESS) {
+            final Translog.Location translogLocation = trackTranslogLocation.get() ? indexResult.getTranslogLocation() : null;
+            versionMap.maybePutIndexUnderLock(
+                index.uid().bytes(),
+                new IndexVersionValue(translogLocation, plan.version, index.seqNo(), index.primaryTerm())
+            );
+        }
+        localCheckpointTracker.markSeqNoAsProcessed(indexResult.getSeqNo());
+        if (indexResult.getTranslogLocation() == null
+            && !(indexResult.getFailure() != null && (indexResult.getFailure() instanceof AppendOnlyIndexOperationRetryException))) {
+            // the op is coming from the translog (and is hence persisted already) or it does not have a sequence number
+            assert index.origin().isFromTranslog() || indexResult.getSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO;
+            localCheckpointTracker.markSeqNoAsPersisted(indexResult.getSeqNo());
+        }
+        indexResult.setTook(System.nanoTime() - index.startTime());
+        indexResult.freeze();
+    }
+
     protected final IndexingStrategy planIndexingAsNonPrimary(Index index) throws IOException {
         assert assertNonPrimaryOrigin(index);
         return indexingStrategyPlanner.planOperationAsNonPrimary(index);
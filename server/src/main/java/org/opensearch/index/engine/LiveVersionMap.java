@@ -37,13 +37,17 @@ import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.KeyedLock;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -64,11 +68,12 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
         /** Tracks bytes used by current map, i.e. what is freed on refresh. For deletes, which are also added to tombstones,
          *  we only account for the CHM entry here, and account for BytesRef/VersionValue against the tombstones, since refresh would not
-         *  clear this RAM. */
+         *  clear this RAM. Paged lookups do not use it, see {@link #ramBytesUsed()}. */
         final AtomicLong ramBytesUsed = new AtomicLong();
 
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
+        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap(), false);
         private final Map<BytesRef, VersionValue> map;
+        private final boolean paged;
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -86,8 +91,38 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
+        private VersionLookup(Map<BytesRef, VersionValue> map, boolean paged) {
             this.map = map;
+            this.paged = paged;
+        }
+
+        static VersionLookup create(boolean paged, int expectedSize) {
+            if (paged) {
+                return new VersionLookup(new PagedVersionMap(), true);
+            }
+            return new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(expectedSize), false);
+        }
+
+        /**
+         * Returns the bytes accounted for holding the given uid and value in this lookup.
+         */
+        long entryRamBytesUsed(BytesRef uid, VersionValue value) {
+            if (paged) {
+                // the pages are accounted as a whole, see ramBytesUsed()
+                return 0;
+            }
+            return BASE_BYTES_PER_CHM_ENTRY + value.ramBytesUsed() + BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+        }
+
+        /**
+         * Returns the bytes used by this lookup, i.e. what is freed on refresh. For paged lookups these are the bytes of the pages, which
+         * also cover their free space and the slots of removed entries.
+         */
+        long ramBytesUsed() {
+            if (paged) {
+                return ((PagedVersionMap) map).ramBytesUsed();
+            }
+            return ramBytesUsed.get();
         }
 
         VersionValue get(BytesRef key) {
@@ -143,14 +178,18 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         boolean needsSafeAccess;
         final boolean previousMapsNeededSafeAccess;
 
-        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+        // whether lookups keep their entries in paged primitive arrays rather than in a concurrent hash map
+        final boolean paged;
+
+        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess, boolean paged) {
             this.current = current;
             this.old = old;
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
+            this.paged = paged;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+        Maps(boolean paged) {
+            this(VersionLookup.create(paged, 16), VersionLookup.EMPTY, false, paged);
         }
 
         boolean isSafeAccessMode() {
@@ -168,25 +207,20 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
-                current,
-                shouldInheritSafeAccess()
-            );
+            return new Maps(VersionLookup.create(paged, current.size()), current, shouldInheritSafeAccess(), paged);
         }
 
         /**
          * builds a new map that invalidates the old map but maintains the current. This should be called in afterRefresh()
          */
         Maps invalidateOldMap() {
-            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
+            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess, paged);
         }
 
         void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
+            long ramAccounting = current.entryRamBytesUsed(uid, version);
             VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+            ramAccounting += previousValue == null ? 0 : -current.entryRamBytesUsed(uid, previousValue);
             adjustRam(ramAccounting);
         }
 
@@ -201,8 +235,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             VersionValue previousValue = current.remove(uid);
             current.updateMinDeletedTimestamp(deleted);
             if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
+                adjustRam(-current.entryRamBytesUsed(uid, previousValue));
             }
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
@@ -219,10 +252,26 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    private final boolean pagedStorage;
+
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap;
+
+    LiveVersionMap() {
+        this(false);
+    }
+
+    /**
+     * @param pagedStorage if {@code true}, un-refreshed versions are kept in paged primitive arrays (see {@link PagedVersionMap})
+     *                     instead of a concurrent hash map, trading a bit of lookup cost for far fewer objects on update heavy indices
+     */
+    LiveVersionMap(boolean pagedStorage) {
+        this.pagedStorage = pagedStorage;
+        this.maps = new Maps(pagedStorage);
+        this.unsafeKeysMap = new Maps(pagedStorage);
+    }
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -443,7 +492,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        maps = new Maps(pagedStorage);
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip. Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -453,7 +502,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     @Override
     public long ramBytesUsed() {
-        return maps.current.ramBytesUsed.get() + ramBytesUsedTombstones.get();
+        return maps.current.ramBytesUsed() + ramBytesUsedTombstones.get();
     }
 
     /**
@@ -461,7 +510,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * don't clear on refresh.
      */
     long ramBytesUsedForRefresh() {
-        return maps.current.ramBytesUsed.get();
+        return maps.current.ramBytesUsed();
     }
 
     /**
@@ -469,7 +518,14 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * except does not include tombstones because they don't clear on refresh.
      */
     long getRefreshingBytes() {
-        return maps.old.ramBytesUsed.get();
+        return maps.old.ramBytesUsed();
+    }
+
+    /**
+     * Returns whether un-refreshed versions are kept in paged primitive arrays.
+     */
+    boolean isPagedStorage() {
+        return pagedStorage;
     }
 
     @Override
@@ -501,6 +557,27 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         return keyedLock.acquire(uid);
     }
 
+    /**
+     * Acquires the locks of all the given uIds. The locks are taken in sorted uId order, which is what allows several threads to
+     * lock overlapping sets of uIds concurrently without deadlocking.
+     * @see #acquireLock(BytesRef)
+     */
+    Releasable acquireLocks(Collection<BytesRef> uids) {
+        final List<Releasable> locks = new ArrayList<>(uids.size());
+        boolean success = false;
+        try {
+            for (BytesRef uid : new TreeSet<>(uids)) {
+                locks.add(keyedLock.acquire(uid));
+            }
+            success = true;
+        } finally {
+            if (success == false) {
+                Releasables.close(locks);
+            }
+        }
+        return Releasables.wrap(locks);
+    }
+
     boolean assertKeyedLockHeldByCurrentThread(BytesRef uid) {
         assert keyedLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
         return true;
@@ -0,0 +1,302 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.IntArray;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.core.common.util.ByteArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A {@link java.util.Map} from _uid to {@link VersionValue} that keeps its keys and values in paged primitive arrays instead of
+ * one {@link java.util.concurrent.ConcurrentHashMap} node, {@link BytesRef} and {@link VersionValue} object per entry. Values are
+ * materialized on read, which keeps the number of live objects independent of the number of un-refreshed documents.
+ * <p>
+ * The map is split into a fixed number of segments that are each guarded by their own monitor, so that concurrent operations on
+ * different uids rarely contend. Removed entries only clear their value slot: the storage of a key is reclaimed when the whole map is
+ * dropped, which happens on every refresh for the maps used by {@link LiveVersionMap}.
+ * <p>
+ * The RAM of the map is the RAM of its pages, see {@link #ramBytesUsed()}. Segments only allocate pages on their first put, so that an
+ * empty map does not hold any.
+ * <p>
+ * Pages are allocated through non-recycling {@link BigArrays}: lookups run without holding a reference on the map, so pages of a map
+ * that has been dropped on refresh may still be read concurrently and must not be handed back to a recycler.
+ *
+ * @opensearch.internal
+ */
+final class PagedVersionMap extends AbstractMap<BytesRef, VersionValue> {
+
+    private static final int NUM_SEGMENTS = 16;
+
+    private static final byte ABSENT = 0;
+    private static final byte INDEX = 1;
+    private static final byte INDEX_WITH_LOCATION = 2;
+    private static final byte DELETE = 3;
+
+    private final Segment[] segments;
+
+    PagedVersionMap() {
+        this(BigArrays.NON_RECYCLING_INSTANCE);
+    }
+
+    PagedVersionMap(BigArrays bigArrays) {
+        segments = new Segment[NUM_SEGMENTS];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(bigArrays);
+        }
+    }
+
+    private Segment segment(BytesRef uid) {
+        // BytesRef#hashCode is a murmur3 hash, spread the high bits as BytesRefHash uses the low ones of its own hash
+        final int hash = uid.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (NUM_SEGMENTS - 1)];
+    }
+
+    @Override
+    public VersionValue get(Object key) {
+        if (key instanceof BytesRef == false) {
+            return null;
+        }
+        final BytesRef uid = (BytesRef) key;
+        return segment(uid).get(uid);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public VersionValue put(BytesRef uid, VersionValue value) {
+        assert value != null : "null values are not supported";
+        return segment(uid).put(uid, value);
+    }
+
+    @Override
+    public VersionValue remove(Object key) {
+        if (key instanceof BytesRef == false) {
+            return null;
+        }
+        final BytesRef uid = (BytesRef) key;
+        return segment(uid).remove(uid);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Segment segment : segments) {
+            if (segment.size() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a point in time copy of the entries of this map. This materializes every key and value and is only meant for tests and
+     * assertions.
+     */
+    @Override
+    public Set<Entry<BytesRef, VersionValue>> entrySet() {
+        final Set<Entry<BytesRef, VersionValue>> entries = new HashSet<>();
+        for (Segment segment : segments) {
+            segment.collect(entries);
+        }
+        return Collections.unmodifiableSet(entries);
+    }
+
+    /**
+     * Returns the number of bytes held by the pages of this map, including the slots of removed entries and the free space of the
+     * hash tables and arrays, since neither is reclaimed before the map is dropped.
+     */
+    long ramBytesUsed() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.ramBytesUsed();
+        }
+        return bytes;
+    }
+
+    /**
+     * A single hash table segment. All access is synchronized on the segment.
+     *
+     * @opensearch.internal
+     */
+    private static final class Segment {
+
+        private final BigArrays bigArrays;
+        private final BytesRef scratch = new BytesRef();
+        // null until the first put
+        private BytesRefHash uids;
+        private ByteArray types;
+        private LongArray versions;
+        private LongArray seqNos;
+        private LongArray terms;
+        // the deletion time for deletes, the translog generation for index operations that carry a location
+        private LongArray timesOrGenerations;
+        private LongArray translogLocations;
+        private IntArray translogSizes;
+        private int size;
+
+        Segment(BigArrays bigArrays) {
+            this.bigArrays = bigArrays;
+        }
+
+        private void allocate() {
+            this.uids = new BytesRefHash(bigArrays);
+            this.types = bigArrays.newByteArray(0, false);
+            this.versions = bigArrays.newLongArray(0, false);
+            this.seqNos = bigArrays.newLongArray(0, false);
+            this.terms = bigArrays.newLongArray(0, false);
+            this.timesOrGenerations = bigArrays.newLongArray(0, false);
+            this.translogLocations = bigArrays.newLongArray(0, false);
+            this.translogSizes = bigArrays.newIntArray(0, false);
+        }
+
+        synchronized VersionValue get(BytesRef uid) {
+            if (uids == null) {
+                return null;
+            }
+            final long ordinal = uids.find(uid);
+            return ordinal < 0 ? null : read(ordinal);
+        }
+
+        synchronized VersionValue put(BytesRef uid, VersionValue value) {
+            if (uids == null) {
+                allocate();
+            }
+            long ordinal = uids.add(uid);
+            final VersionValue previous;
+            if (ordinal < 0) {
+                ordinal = -1 - ordinal;
+                previous = read(ordinal);
+            } else {
+                grow(ordinal + 1);
+                previous = null;
+            }
+            write(ordinal, value);
+            if (previous == null) {
+                size++;
+            }
+            return previous;
+        }
+
+        synchronized VersionValue remove(BytesRef uid) {
+            if (uids == null) {
+                return null;
+            }
+            final long ordinal = uids.find(uid);
+            if (ordinal < 0) {
+                return null;
+            }
+            final VersionValue previous = read(ordinal);
+            if (previous != null) {
+                types.set(ordinal, ABSENT);
+                size--;
+            }
+            return previous;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void collect(Set<Entry<BytesRef, VersionValue>> entries) {
+            if (uids == null) {
+                return;
+            }
+            for (long ordinal = 0; ordinal < uids.size(); ordinal++) {
+                final VersionValue value = read(ordinal);
+                if (value != null) {
+                    entries.add(new SimpleImmutableEntry<>(BytesRef.deepCopyOf(uids.get(ordinal, scratch)), value));
+                }
+            }
+        }
+
+        synchronized long ramBytesUsed() {
+            if (uids == null) {
+                return 0;
+            }
+            return uids.ramBytesUsed() + types.ramBytesUsed() + versions.ramBytesUsed() + seqNos.ramBytesUsed() + terms.ramBytesUsed()
+                + timesOrGenerations.ramBytesUsed() + translogLocations.ramBytesUsed() + translogSizes.ramBytesUsed();
+        }
+
+        private void grow(long minSize) {
+            types = bigArrays.grow(types, minSize);
+            versions = bigArrays.grow(versions, minSize);
+            seqNos = bigArrays.grow(seqNos, minSize);
+            terms = bigArrays.grow(terms, minSize);
+            timesOrGenerations = bigArrays.grow(timesOrGenerations, minSize);
+            translogLocations = bigArrays.grow(translogLocations, minSize);
+            translogSizes = bigArrays.grow(translogSizes, minSize);
+        }
+
+        private VersionValue read(long ordinal) {
+            final byte type = types.get(ordinal);
+            switch (type) {
+                case ABSENT:
+                    return null;
+                case INDEX:
+                    return new IndexVersionValue(null, versions.get(ordinal), seqNos.get(ordinal), terms.get(ordinal));
+                case INDEX_WITH_LOCATION:
+                    return new IndexVersionValue(
+                        new Translog.Location(timesOrGenerations.get(ordinal), translogLocations.get(ordinal), translogSizes.get(ordinal)),
+                        versions.get(ordinal),
+                        seqNos.get(ordinal),
+                        terms.get(ordinal)
+                    );
+                case DELETE:
+                    return new DeleteVersionValue(
+                        versions.get(ordinal),
+                        seqNos.get(ordinal),
+                        terms.get(ordinal),
+                        timesOrGenerations.get(ordinal)
+                    );
+                default:
+                    throw new IllegalStateException("unknown version value type [" + type + "]");
+            }
+        }
+
+        private void write(long ordinal, VersionValue value) {
+            versions.set(ordinal, value.version);
+            seqNos.set(ordinal, value.seqNo);
+            terms.set(ordinal, value.term);
+            if (value.isDelete()) {
+                timesOrGenerations.set(ordinal, ((DeleteVersionValue) value).time);
+                types.set(ordinal, DELETE);
+            } else {
+                final Translog.Location location = value.getLocation();
+                if (location == null) {
+                    types.set(ordinal, INDEX);
+                } else {
+                    timesOrGenerations.set(ordinal, location.generation);
+                    translogLocations.set(ordinal, location.translogLocation);
+                    translogSizes.set(ordinal, location.size);
+                    types.set(ordinal, INDEX_WITH_LOCATION);
+                }
+            }
+        }
+    }
+}
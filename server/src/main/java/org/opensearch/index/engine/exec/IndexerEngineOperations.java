@@ -15,6 +15,8 @@ import org.opensearch.index.mapper.DocumentMapperForType;
 import org.opensearch.index.mapper.SourceToParse;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Core document operations for the indexer.
@@ -34,6 +36,21 @@ public interface IndexerEngineOperations {
      */
     Engine.IndexResult index(Engine.Index index) throws IOException;
 
+    /**
+     * Performs a batch of document index operations, in order. The default implementation performs them one by one.
+     *
+     * @param indexOps the index operations to perform
+     * @return the result of each operation, in the order of the given operations
+     * @throws IOException if an I/O error occurs during indexing
+     */
+    default List<Engine.IndexResult> index(List<Engine.Index> indexOps) throws IOException {
+        final List<Engine.IndexResult> results = new ArrayList<>(indexOps.size());
+        for (Engine.Index index : indexOps) {
+            results.add(index(index));
+        }
+        return results;
+    }
+
     /**
      * Performs a document delete operation.
      *
@@ -63,4 +63,12 @@ public interface DecayFunction {
      *            reaches this scale
      * */
     double processScale(double scale, double decay);
+
+    /**
+     * Returns an upper bound of the values {@link #evaluate(double, double)} returns, or {@link Double#POSITIVE_INFINITY} if it
+     * has none. Functions that declare a finite bound must never return negative values.
+     */
+    default double maxValue() {
+        return Double.POSITIVE_INFINITY;
+    }
 }
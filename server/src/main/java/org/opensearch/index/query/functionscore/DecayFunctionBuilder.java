@@ -661,6 +661,11 @@ public abstract class DecayFunctionBuilder<DFB extends DecayFunctionBuilder<DFB>
             this.functionName = functionName;
         }
 
+        @Override
+        public double getMaxScore() {
+            return func.maxValue();
+        }
+
         /**
          * This function computes the distance from a defined origin. Since
          * the value of the document is read from the index, it cannot be
@@ -108,6 +108,11 @@ public class ExponentialDecayFunctionBuilder extends DecayFunctionBuilder<Expone
             return Math.exp(scale * value);
         }
 
+        @Override
+        public double maxValue() {
+            return 1.0;
+        }
+
         @Override
         public Explanation explainFunction(String valueExpl, double value, double scale, @Nullable String functionName) {
             return Explanation.match(
@@ -109,6 +109,11 @@ public class GaussDecayFunctionBuilder extends DecayFunctionBuilder<GaussDecayFu
             return Math.exp(0.5 * Math.pow(value, 2.0) / scale);
         }
 
+        @Override
+        public double maxValue() {
+            return 1.0;
+        }
+
         @Override
         public Explanation explainFunction(String valueExpl, double value, double scale, @Nullable String functionName) {
             return Explanation.match(
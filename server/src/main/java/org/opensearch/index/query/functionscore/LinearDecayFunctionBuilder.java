@@ -106,6 +106,11 @@ public class LinearDecayFunctionBuilder extends DecayFunctionBuilder<LinearDecay
             return Math.max(0.0, (scale - value) / scale);
         }
 
+        @Override
+        public double maxValue() {
+            return 1.0;
+        }
+
         @Override
         public Explanation explainFunction(String valueExpl, double value, double scale, @Nullable String functionName) {
             return Explanation.match(
@@ -1196,6 +1196,143 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         );
     }
 
+    /**
+     * Parses the document of an index operation on the primary ahead of its execution. This can be called concurrently with the
+     * operations of the shard, the returned operation is later executed with {@link #applyIndexOperationOnPrimary(PreParsedIndex)}.
+     */
+    @ExperimentalApi
+    public PreParsedIndex preParseIndexOperationOnPrimary(
+        long version,
+        VersionType versionType,
+        SourceToParse sourceToParse,
+        long ifSeqNo,
+        long ifPrimaryTerm,
+        long autoGeneratedTimestamp,
+        boolean isRetry
+    ) {
+        assert versionType.validateVersionForWrites(version);
+        final DocumentMapperForType docMapper = docMapper();
+        // without a mapping the document mapper is created on the fly, remember that there was none
+        final DocumentMapper documentMapper = docMapper.getMapping() == null ? docMapper.getDocumentMapper() : null;
+        final long opPrimaryTerm = getOperationPrimaryTerm();
+        Engine.Index operation = null;
+        Exception failure = null;
+        try {
+            operation = getIndexer().prepareIndex(
+                docMapper,
+                sourceToParse,
+                UNASSIGNED_SEQ_NO,
+                opPrimaryTerm,
+                version,
+                versionType,
+                Engine.Operation.Origin.PRIMARY,
+                autoGeneratedTimestamp,
+                isRetry,
+                ifSeqNo,
+                ifPrimaryTerm
+            );
+        } catch (Exception e) {
+            failure = e;
+        }
+        return new PreParsedIndex(
+            version,
+            versionType,
+            sourceToParse,
+            ifSeqNo,
+            ifPrimaryTerm,
+            autoGeneratedTimestamp,
+            isRetry,
+            documentMapper,
+            opPrimaryTerm,
+            operation,
+            failure
+        );
+    }
+
+    /**
+     * Executes an index operation whose document was parsed by {@link #preParseIndexOperationOnPrimary}. The document is parsed
+     * again if the mapping or the operation primary term changed since, so the result is the same as if the operation had been
+     * parsed now.
+     */
+    @ExperimentalApi
+    public Engine.IndexResult applyIndexOperationOnPrimary(PreParsedIndex preParsed) throws IOException {
+        final long opPrimaryTerm = getOperationPrimaryTerm();
+        if (preParsed.documentMapper != mapperService.documentMapper() || preParsed.primaryTerm != opPrimaryTerm) {
+            return applyIndexOperationOnPrimary(
+                preParsed.version,
+                preParsed.versionType,
+                preParsed.source,
+                preParsed.ifSeqNo,
+                preParsed.ifPrimaryTerm,
+                preParsed.autoGeneratedTimestamp,
+                preParsed.isRetry
+            );
+        }
+        ensureWriteAllowed(Engine.Operation.Origin.PRIMARY);
+        if (preParsed.failure != null) {
+            // a document level failure, see applyIndexOperation
+            verifyNotClosed(preParsed.failure);
+            return new Engine.IndexResult(preParsed.failure, preParsed.version, opPrimaryTerm, UNASSIGNED_SEQ_NO);
+        }
+        final Mapping update = preParsed.operation.parsedDoc().dynamicMappingsUpdate();
+        if (update != null) {
+            return new Engine.IndexResult(update);
+        }
+        return index(getIndexer(), preParsed.operation);
+    }
+
+    /**
+     * Executes a batch of index operations whose documents were parsed by {@link #preParseIndexOperationOnPrimary}, handing them to
+     * the engine as a single batch. Documents are parsed again as in {@link #applyIndexOperationOnPrimary(PreParsedIndex)}. The batch
+     * stops at the first operation that requires a mapping update: the returned results then end with the result of that operation,
+     * and the operations after it are not executed.
+     */
+    @ExperimentalApi
+    public List<Engine.IndexResult> applyIndexOperationsOnPrimary(List<PreParsedIndex> operations) throws IOException {
+        ensureWriteAllowed(Engine.Operation.Origin.PRIMARY);
+        final Engine.IndexResult[] results = new Engine.IndexResult[operations.size()];
+        final List<Engine.Index> batch = new ArrayList<>(operations.size());
+        final int[] slots = new int[operations.size()];
+        int count = 0;
+        for (PreParsedIndex operation : operations) {
+            final long opPrimaryTerm = getOperationPrimaryTerm();
+            final PreParsedIndex preParsed;
+            if (operation.documentMapper != mapperService.documentMapper() || operation.primaryTerm != opPrimaryTerm) {
+                preParsed = preParseIndexOperationOnPrimary(
+                    operation.version,
+                    operation.versionType,
+                    operation.source,
+                    operation.ifSeqNo,
+                    operation.ifPrimaryTerm,
+                    operation.autoGeneratedTimestamp,
+                    operation.isRetry
+                );
+            } else {
+                preParsed = operation;
+            }
+            if (preParsed.failure != null) {
+                // a document level failure, see applyIndexOperation
+                verifyNotClosed(preParsed.failure);
+                results[count++] = new Engine.IndexResult(preParsed.failure, preParsed.version, opPrimaryTerm, UNASSIGNED_SEQ_NO);
+                continue;
+            }
+            final Mapping update = preParsed.operation.parsedDoc().dynamicMappingsUpdate();
+            if (update != null) {
+                results[count++] = new Engine.IndexResult(update);
+                break;
+            }
+            slots[batch.size()] = count++;
+            batch.add(preParsed.operation);
+        }
+        if (batch.isEmpty() == false) {
+            final List<Engine.IndexResult> batchResults = index(getIndexer(), batch);
+            for (int i = 0; i < batchResults.size(); i++) {
+                results[slots[i]] = batchResults.get(i);
+            }
+        }
+        return Arrays.asList(results).subList(0, count);
+    }
+
     public Engine.IndexResult applyIndexOperationOnReplica(
         String id,
         long seqNo,
@@ -1221,6 +1358,92 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         );
     }
 
+    /**
+     * Applies a batch of replicated index operations. The operations are parsed in order and handed to the engine as a single
+     * batch. Parsing stops at the first operation that fails or that requires a mapping update: the returned results then end
+     * with the result of that operation, and the operations after it are not applied.
+     */
+    @ExperimentalApi
+    public List<Engine.IndexResult> applyIndexOperationsOnReplica(List<ReplicaIndexOperation> operations) throws IOException {
+        final Indexer indexer = getIndexer();
+        final List<Engine.Index> batch = new ArrayList<>(operations.size());
+        // For Segment Replication enabled replica shards we can be skip parsing the documents as we directly copy segments from primary
+        // shard.
+        if (indexSettings.isSegRepEnabledOrRemoteNode() && routingEntry().primary() == false) {
+            for (ReplicaIndexOperation operation : operations) {
+                batch.add(
+                    new Engine.Index(
+                        new Term(IdFieldMapper.NAME, Uid.encodeId(operation.id)),
+                        new ParsedDocument(
+                            null,
+                            null,
+                            operation.id,
+                            null,
+                            null,
+                            operation.source.source(),
+                            operation.source.getMediaType(),
+                            null
+                        ),
+                        operation.seqNo,
+                        operation.primaryTerm,
+                        operation.version,
+                        null,
+                        Engine.Operation.Origin.REPLICA,
+                        System.nanoTime(),
+                        operation.autoGeneratedTimestamp,
+                        operation.isRetry,
+                        UNASSIGNED_SEQ_NO,
+                        0
+                    )
+                );
+            }
+            return indexer.index(batch);
+        }
+        ensureWriteAllowed(Engine.Operation.Origin.REPLICA);
+        Engine.IndexResult stoppedAt = null;
+        for (ReplicaIndexOperation operation : operations) {
+            assert operation.primaryTerm <= getOperationPrimaryTerm() : "op term [ "
+                + operation.primaryTerm
+                + " ] > shard term ["
+                + getOperationPrimaryTerm()
+                + "]";
+            try {
+                final Engine.Index index = indexer.prepareIndex(
+                    docMapper(),
+                    operation.source,
+                    operation.seqNo,
+                    operation.primaryTerm,
+                    operation.version,
+                    null,
+                    Engine.Operation.Origin.REPLICA,
+                    operation.autoGeneratedTimestamp,
+                    operation.isRetry,
+                    UNASSIGNED_SEQ_NO,
+                    0
+                );
+                final Mapping update = index.parsedDoc().dynamicMappingsUpdate();
+                if (update != null) {
+                    stoppedAt = new Engine.IndexResult(update);
+                    break;
+                }
+                batch.add(index);
+            } catch (Exception e) {
+                // a document level failure, see applyIndexOperation
+                verifyNotClosed(e);
+                stoppedAt = new Engine.IndexResult(e, operation.version, operation.primaryTerm, operation.seqNo);
+                break;
+            }
+        }
+        final List<Engine.IndexResult> results = new ArrayList<>(batch.size() + 1);
+        if (batch.isEmpty() == false) {
+            results.addAll(index(indexer, batch));
+        }
+        if (stoppedAt != null) {
+            results.add(stoppedAt);
+        }
+        return results;
+    }
+
     private Engine.IndexResult applyIndexOperation(
         Indexer indexer,
         long seqNo,
@@ -1388,6 +1611,47 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return result;
     }
 
+    private List<Engine.IndexResult> index(Indexer indexer, List<Engine.Index> batch) throws IOException {
+        active.set(true);
+        final List<Engine.Index> operations = new ArrayList<>(batch.size());
+        for (Engine.Index index : batch) {
+            operations.add(indexingOperationListeners.preIndex(shardId, index));
+        }
+        final List<Engine.IndexResult> results;
+        try {
+            if (logger.isTraceEnabled()) {
+                logger.trace(
+                    "index batch of [{}] ops allocation-id [{}] operationPrimaryTerm [{}]",
+                    operations.size(),
+                    routingEntry().allocationId(),
+                    getOperationPrimaryTerm()
+                );
+            }
+            results = indexer.index(operations);
+        } catch (Exception e) {
+            if (logger.isTraceEnabled()) {
+                logger.trace(
+                    new ParameterizedMessage(
+                        "index batch of [{}] ops failed allocation-id [{}] operationPrimaryTerm [{}]",
+                        operations.size(),
+                        routingEntry().allocationId(),
+                        getOperationPrimaryTerm()
+                    ),
+                    e
+                );
+            }
+            for (Engine.Index index : operations) {
+                indexingOperationListeners.postIndex(shardId, index, e);
+            }
+            throw e;
+        }
+        assert results.size() == operations.size() : "expected [" + operations.size() + "] results but got [" + results.size() + "]";
+        for (int i = 0; i < operations.size(); i++) {
+            indexingOperationListeners.postIndex(shardId, operations.get(i), results.get(i));
+        }
+        return results;
+    }
+
     public Engine.NoOpResult markSeqNoAsNoop(long seqNo, long opPrimaryTerm, String reason) throws IOException {
         return markSeqNoAsNoop(getIndexer(), seqNo, opPrimaryTerm, reason, Engine.Operation.Origin.REPLICA);
     }
@@ -5445,6 +5709,92 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * An index operation of a primary whose document was parsed ahead of its execution, see
+     * {@link IndexShard#preParseIndexOperationOnPrimary}
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public static final class PreParsedIndex {
+        private final long version;
+        private final VersionType versionType;
+        private final SourceToParse source;
+        private final long ifSeqNo;
+        private final long ifPrimaryTerm;
+        private final long autoGeneratedTimestamp;
+        private final boolean isRetry;
+        // the mapping and term the document was parsed with
+        @Nullable
+        private final DocumentMapper documentMapper;
+        private final long primaryTerm;
+        @Nullable
+        private final Engine.Index operation;
+        @Nullable
+        private final Exception failure;
+
+        private PreParsedIndex(
+            long version,
+            VersionType versionType,
+            SourceToParse source,
+            long ifSeqNo,
+            long ifPrimaryTerm,
+            long autoGeneratedTimestamp,
+            boolean isRetry,
+            @Nullable DocumentMapper documentMapper,
+            long primaryTerm,
+            @Nullable Engine.Index operation,
+            @Nullable Exception failure
+        ) {
+            assert (operation == null) != (failure == null) : "either the operation or the failure must be set";
+            this.version = version;
+            this.versionType = versionType;
+            this.source = source;
+            this.ifSeqNo = ifSeqNo;
+            this.ifPrimaryTerm = ifPrimaryTerm;
+            this.autoGeneratedTimestamp = autoGeneratedTimestamp;
+            this.isRetry = isRetry;
+            this.documentMapper = documentMapper;
+            this.primaryTerm = primaryTerm;
+            this.operation = operation;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * A replicated index operation, as applied by {@link IndexShard#applyIndexOperationsOnReplica(List)}
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public static final class ReplicaIndexOperation {
+        private final String id;
+        private final long seqNo;
+        private final long primaryTerm;
+        private final long version;
+        private final long autoGeneratedTimestamp;
+        private final boolean isRetry;
+        private final SourceToParse source;
+
+        public ReplicaIndexOperation(
+            String id,
+            long seqNo,
+            long primaryTerm,
+            long version,
+            long autoGeneratedTimestamp,
+            boolean isRetry,
+            SourceToParse source
+        ) {
+            this.id = id;
+            this.seqNo = seqNo;
+            this.primaryTerm = primaryTerm;
+            this.version = version;
+            this.autoGeneratedTimestamp = autoGeneratedTimestamp;
+            this.isRetry = isRetry;
+            this.source = source;
+        }
+    }
+
     IndexerFactory getIndexerFactory() {
         return indexerFactory;
     }
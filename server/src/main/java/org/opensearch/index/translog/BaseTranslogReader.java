@@ -113,6 +113,14 @@ public abstract class BaseTranslogReader implements Comparable<BaseTranslogReade
         return new TranslogSnapshot(this, sizeInBytes());
     }
 
+    /**
+     * Returns a snapshot that reads operations straight out of a memory mapping of this generation if this reader supports it, or a
+     * regular snapshot otherwise.
+     */
+    TranslogSnapshot newMappedSnapshot() throws IOException {
+        return newSnapshot();
+    }
+
     /**
      * reads an operation at the given position and returns it. The buffer length is equal to the number
      * of bytes reads.
@@ -137,7 +145,10 @@ public abstract class BaseTranslogReader implements Comparable<BaseTranslogReade
     }
 
     protected Translog.Operation read(BufferedChecksumStreamInput inStream) throws IOException {
-        final Translog.Operation op = Translog.readOperation(inStream);
+        return ensureTermNotNewerThanHeader(Translog.readOperation(inStream));
+    }
+
+    protected final Translog.Operation ensureTermNotNewerThanHeader(Translog.Operation op) {
         if (op.primaryTerm() > getPrimaryTerm() && getPrimaryTerm() != SequenceNumbers.UNASSIGNED_PRIMARY_TERM) {
             throw new TranslogCorruptedException(
                 path.toString(),
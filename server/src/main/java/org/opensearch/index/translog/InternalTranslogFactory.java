@@ -8,6 +8,8 @@
 
 package org.opensearch.index.translog;
 
+import org.opensearch.common.Nullable;
+
 import java.io.IOException;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongConsumer;
@@ -20,6 +22,20 @@ import java.util.function.LongSupplier;
  */
 public class InternalTranslogFactory implements TranslogFactory {
 
+    @Nullable
+    private final TranslogGroupCommitter groupCommitter;
+
+    public InternalTranslogFactory() {
+        this(null);
+    }
+
+    /**
+     * @param groupCommitter the node level group committer to sync translogs through, or {@code null} to sync each translog on its own
+     */
+    public InternalTranslogFactory(@Nullable TranslogGroupCommitter groupCommitter) {
+        this.groupCommitter = groupCommitter;
+    }
+
     @Override
     public Translog newTranslog(
         TranslogConfig translogConfig,
@@ -42,7 +58,8 @@ public class InternalTranslogFactory implements TranslogFactory {
             primaryTermSupplier,
             persistedSequenceNumberConsumer,
             TranslogOperationHelper.DEFAULT,
-            null
+            null,
+            groupCommitter
         );
     }
 
@@ -66,7 +83,8 @@ public class InternalTranslogFactory implements TranslogFactory {
             primaryTermSupplier,
             persistedSequenceNumberConsumer,
             translogOperationHelper,
-            null
+            null,
+            groupCommitter
         );
     }
 }
@@ -23,6 +23,7 @@ import org.opensearch.index.translog.transfer.TranslogUploadFailedException;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongConsumer;
@@ -340,6 +341,17 @@ public class InternalTranslogManager implements TranslogManager {
         return translog.add(operation);
     }
 
+    /**
+     * Adds a batch of operations to the translog in a single append
+     * @param operations operations to add to translog
+     * @return the locations in the translog
+     * @throws IOException throws an IO exception
+     */
+    @Override
+    public Translog.Location[] add(List<? extends Translog.Operation> operations) throws IOException {
+        return translog.add(operations);
+    }
+
     /**
      * Do not replay translog operations, but make the engine be ready.
      */
@@ -8,6 +8,7 @@
 
 package org.opensearch.index.translog;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 import org.opensearch.common.util.io.IOUtils;
@@ -24,6 +25,10 @@ import java.util.function.LongSupplier;
  */
 public class LocalTranslog extends Translog {
 
+    @Nullable
+    private final TranslogGroupCommitter.SyncGroup syncGroup;
+    private final TranslogGroupCommitter.GroupCommitStats groupCommitStats = new TranslogGroupCommitter.GroupCommitStats();
+
     /**
      * Creates a new Translog instance. This method will create a new transaction log unless the given {@link TranslogGeneration} is
      * {@code null}. If the generation is {@code null} this method is destructive and will delete all files in the translog path given. If
@@ -52,6 +57,34 @@ public class LocalTranslog extends Translog {
         final LongConsumer persistedSequenceNumberConsumer,
         final TranslogOperationHelper translogOperationHelper,
         final ChannelFactory channelFactory
+    ) throws IOException {
+        this(
+            config,
+            translogUUID,
+            deletionPolicy,
+            globalCheckpointSupplier,
+            primaryTermSupplier,
+            persistedSequenceNumberConsumer,
+            translogOperationHelper,
+            channelFactory,
+            null
+        );
+    }
+
+    /**
+     * Creates a local translog whose concurrent location syncs are merged into group commits if a {@link TranslogGroupCommitter} is
+     * given.
+     */
+    public LocalTranslog(
+        final TranslogConfig config,
+        final String translogUUID,
+        TranslogDeletionPolicy deletionPolicy,
+        final LongSupplier globalCheckpointSupplier,
+        final LongSupplier primaryTermSupplier,
+        final LongConsumer persistedSequenceNumberConsumer,
+        final TranslogOperationHelper translogOperationHelper,
+        final ChannelFactory channelFactory,
+        @Nullable final TranslogGroupCommitter groupCommitter
     ) throws IOException {
         super(
             config,
@@ -63,6 +96,7 @@ public class LocalTranslog extends Translog {
             translogOperationHelper,
             channelFactory
         );
+        this.syncGroup = groupCommitter == null ? null : groupCommitter.groupFor(location);
         try {
             final Checkpoint checkpoint = readCheckpoint(location);
             final Path nextTranslogFile = location.resolve(getFilename(checkpoint.generation + 1));
@@ -146,6 +180,9 @@ public class LocalTranslog extends Translog {
      */
     @Override
     public boolean ensureSynced(Location location) throws IOException {
+        if (syncGroup != null) {
+            return ensureSyncedInGroup(location);
+        }
         try (ReleasableLock ignored = readLock.acquire()) {
             if (location.generation == current.getGeneration()) { // if we have a new one it's already synced
                 ensureOpen();
@@ -158,6 +195,25 @@ public class LocalTranslog extends Translog {
         return false;
     }
 
+    private boolean ensureSyncedInGroup(Location location) throws IOException {
+        try {
+            final TranslogWriter writer;
+            try (ReleasableLock ignored = readLock.acquire()) {
+                if (location.generation != current.getGeneration()) { // if we have a new one it's already synced
+                    return false;
+                }
+                ensureOpen();
+                writer = current;
+            }
+            // the read lock is not held while waiting for the group, a writer that is rolled away meanwhile was synced when it was
+            // closed into a reader so syncing it is a no-op
+            return syncGroup.sync(writer, location.translogLocation + location.size, writer::syncUpTo, groupCommitStats);
+        } catch (final Exception ex) {
+            closeOnTragicEvent(ex);
+            throw ex;
+        }
+    }
+
     /**
      * return stats
      */
@@ -171,6 +227,7 @@ public class LocalTranslog extends Translog {
                 .uncommittedOperations(totalOperationsByMinGen(uncommittedGen))
                 .uncommittedSizeInBytes(sizeInBytesByMinGen(uncommittedGen))
                 .earliestLastModifiedAge(earliestLastModifiedAge())
+                .groupCommitStats(groupCommitStats.getSyncs(), groupCommitStats.getBatchedSyncs(), groupCommitStats.getSyncTimeInMillis())
                 .build();
         }
     }
@@ -646,6 +646,68 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         }
     }
 
+    /**
+     * Adds a batch of operations to the transaction log. The operations are serialized into a single buffer that is appended to the
+     * current generation at once, so the batch is written under a single acquisition of the translog and writer locks.
+     *
+     * @param operations the operations to add
+     * @return the locations of the operations in the translog, in the order of the given operations
+     * @throws IOException if adding the operations to the translog resulted in an I/O exception
+     */
+    public Location[] add(final List<? extends Operation> operations) throws IOException {
+        if (operations.isEmpty()) {
+            return new Location[0];
+        }
+        final ReleasableBytesStreamOutput out = new ReleasableBytesStreamOutput(bigArrays);
+        try {
+            final int[] sizes = new int[operations.size()];
+            final long[] seqNos = new long[operations.size()];
+            long maxPrimaryTerm = 0;
+            for (int i = 0; i < operations.size(); i++) {
+                final Operation operation = operations.get(i);
+                final long start = out.position();
+                out.skip(Integer.BYTES);
+                writeOperationNoSize(new BufferedChecksumStreamOutput(out), operation);
+                final long end = out.position();
+                out.seek(start);
+                out.writeInt((int) (end - Integer.BYTES - start));
+                out.seek(end);
+                sizes[i] = (int) (end - start);
+                seqNos[i] = operation.seqNo();
+                maxPrimaryTerm = Math.max(maxPrimaryTerm, operation.primaryTerm());
+            }
+            final BytesReference bytes = out.bytes();
+            try (ReleasableLock ignored = readLock.acquire()) {
+                ensureOpen();
+                if (maxPrimaryTerm > current.getPrimaryTerm()) {
+                    assert false : "Operation term is newer than the current term; "
+                        + "current term["
+                        + current.getPrimaryTerm()
+                        + "], operation term["
+                        + maxPrimaryTerm
+                        + "]";
+                    throw new IllegalArgumentException(
+                        "Operation term is newer than the current term; "
+                            + "current term["
+                            + current.getPrimaryTerm()
+                            + "], operation term["
+                            + maxPrimaryTerm
+                            + "]"
+                    );
+                }
+                return current.add(bytes, sizes, seqNos);
+            }
+        } catch (final AlreadyClosedException | IOException ex) {
+            closeOnTragicEvent(ex);
+            throw ex;
+        } catch (final Exception ex) {
+            closeOnTragicEvent(ex);
+            throw new TranslogException(shardId, "Failed to write [" + operations.size() + "] operations", ex);
+        } finally {
+            Releasables.close(out);
+        }
+    }
+
     /**
      * Tests whether or not the translog generation should be rolled to a new generation. This test
      * is based on the size of the current generation compared to the configured generation
@@ -711,10 +773,18 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         assert fromSeqNo >= 0 : "from_seq_no must be non-negative " + fromSeqNo;
         try (ReleasableLock ignored = readLock.acquire()) {
             ensureOpen();
-            TranslogSnapshot[] snapshots = Stream.concat(readers.stream(), Stream.of(current))
-                .filter(reader -> reader.getCheckpoint().minSeqNo <= toSeqNo && fromSeqNo <= reader.getCheckpoint().maxEffectiveSeqNo())
-                .map(BaseTranslogReader::newSnapshot)
-                .toArray(TranslogSnapshot[]::new);
+            final boolean mappedReads = config.getIndexSettings().isTranslogMappedReadsEnabled();
+            final List<BaseTranslogReader> candidates = new ArrayList<>(readers.size() + 1);
+            candidates.addAll(readers);
+            candidates.add(current);
+            final List<TranslogSnapshot> snapshotList = new ArrayList<>(candidates.size());
+            for (BaseTranslogReader reader : candidates) {
+                if (reader.getCheckpoint().minSeqNo <= toSeqNo && fromSeqNo <= reader.getCheckpoint().maxEffectiveSeqNo()) {
+                    // the current writer is still being appended to and always reads through its channel
+                    snapshotList.add(mappedReads ? reader.newMappedSnapshot() : reader.newSnapshot());
+                }
+            }
+            TranslogSnapshot[] snapshots = snapshotList.toArray(new TranslogSnapshot[0]);
             final Snapshot snapshot = newMultiSnapshot(snapshots);
             return new SeqNoFilterSnapshot(snapshot, fromSeqNo, toSeqNo, requiredFullRange);
         }
@@ -0,0 +1,231 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+
+import java.io.IOException;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node level group commit for translog syncs. The translogs of a filesystem share a sync group in which a single leader syncs, one
+ * batch after the other, every translog that has pending location syncs. The syncs requested on a translog are merged into a single
+ * sync up to the highest requested offset, so every translog of a batch is synced once however many threads wait for it. The syncs
+ * requested while a batch runs form the next batch, whose leader is one of their requesting threads, and the waiters of a translog are
+ * released together with the outcome of its sync.
+ *
+ * @opensearch.internal
+ */
+public final class TranslogGroupCommitter {
+
+    public static final Setting<Boolean> TRANSLOG_GROUP_COMMIT_ENABLED_SETTING = Setting.boolSetting(
+        "indices.translog.group_commit.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    private final ConcurrentMap<FileStore, SyncGroup> groups = ConcurrentCollections.newConcurrentMap();
+
+    /**
+     * Returns the sync group for the filesystem the given translog directory lives on.
+     */
+    public SyncGroup groupFor(Path translogPath) throws IOException {
+        final FileStore fileStore = Files.getFileStore(translogPath);
+        return groups.computeIfAbsent(fileStore, SyncGroup::new);
+    }
+
+    /**
+     * Returns the number of distinct filesystems translog syncs were grouped on.
+     */
+    int numberOfGroups() {
+        return groups.size();
+    }
+
+    /**
+     * Batches the syncs requested against the translogs of a single filesystem.
+     *
+     * @opensearch.internal
+     */
+    public static final class SyncGroup {
+
+        private final FileStore fileStore;
+        private final Object mutex = new Object();
+        // the merged syncs of the next batch, by translog, protected by mutex
+        private final Map<Object, PendingSync> pending = new LinkedHashMap<>();
+        // whether a leader runs a batch, protected by mutex
+        private boolean leading;
+
+        private SyncGroup(FileStore fileStore) {
+            this.fileStore = fileStore;
+        }
+
+        /**
+         * Syncs the given translog up to at least the given offset. The sync joins the next batch of the group, which the calling
+         * thread runs itself if no batch is running, or otherwise waits for the leader of the batch that includes it.
+         *
+         * @param translog the translog to sync, syncs are merged by identity
+         * @param offset   the offset to sync the translog up to
+         * @param syncUpTo syncs the translog up to the given offset, returning <code>true</code> if it caused an actual fsync
+         * @param stats    the stats of the translog
+         * @return the result of the merged sync
+         */
+        public boolean sync(Object translog, long offset, CheckedFunction<Long, Boolean, IOException> syncUpTo, GroupCommitStats stats)
+            throws IOException {
+            final PendingSync mine;
+            final List<PendingSync> batch;
+            synchronized (mutex) {
+                mine = pending.computeIfAbsent(translog, t -> new PendingSync(syncUpTo, stats));
+                mine.merge(offset);
+                boolean interrupted = false;
+                while (mine.done == false && leading) {
+                    try {
+                        mutex.wait();
+                    } catch (InterruptedException e) {
+                        // the sync must not be abandoned half way as a leader may run it any time, keep waiting and restore later
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                if (mine.done) {
+                    return mine.result();
+                }
+                // no batch is running, lead the next one which holds the pending syncs of all the translogs including this one
+                batch = new ArrayList<>(pending.values());
+                pending.clear();
+                leading = true;
+            }
+            try {
+                for (PendingSync sync : batch) {
+                    sync.run();
+                }
+            } finally {
+                synchronized (mutex) {
+                    for (PendingSync sync : batch) {
+                        sync.done = true;
+                    }
+                    leading = false;
+                    mutex.notifyAll();
+                }
+            }
+            return mine.result();
+        }
+
+        /**
+         * Returns the number of translogs with syncs waiting for the next batch.
+         */
+        int numberOfPendingSyncs() {
+            synchronized (mutex) {
+                return pending.size();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "SyncGroup{" + fileStore + '}';
+        }
+    }
+
+    /**
+     * The merged sync of the waiters of a translog.
+     *
+     * @opensearch.internal
+     */
+    private static final class PendingSync {
+        private final CheckedFunction<Long, Boolean, IOException> syncUpTo;
+        private final GroupCommitStats stats;
+        // protected by the group mutex until the batch of the sync is started
+        private long offset = -1;
+        private int waiters;
+        // written by the leader that runs the sync before done is set under the group mutex
+        private boolean synced;
+        private Exception failure;
+        // protected by the group mutex
+        private boolean done;
+
+        PendingSync(CheckedFunction<Long, Boolean, IOException> syncUpTo, GroupCommitStats stats) {
+            this.syncUpTo = syncUpTo;
+            this.stats = stats;
+        }
+
+        void merge(long offset) {
+            this.offset = Math.max(this.offset, offset);
+            waiters++;
+        }
+
+        void run() {
+            // failures are handed to the waiters of the translog, the other syncs of the batch still run
+            final long startNanos = System.nanoTime();
+            try {
+                synced = syncUpTo.apply(offset);
+            } catch (Exception e) {
+                failure = e;
+            } finally {
+                stats.onSync(waiters, System.nanoTime() - startNanos);
+            }
+        }
+
+        boolean result() throws IOException {
+            if (failure != null) {
+                if (failure instanceof IOException) {
+                    throw (IOException) failure;
+                } else if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                }
+                throw new IllegalStateException(failure);
+            }
+            return synced;
+        }
+    }
+
+    /**
+     * Group commit statistics of a single translog.
+     *
+     * @opensearch.internal
+     */
+    public static final class GroupCommitStats {
+        private final CounterMetric syncs = new CounterMetric();
+        private final CounterMetric batchedSyncs = new CounterMetric();
+        private final CounterMetric syncTimeInNanos = new CounterMetric();
+
+        void onSync(int mergedSyncs, long tookInNanos) {
+            syncs.inc();
+            batchedSyncs.inc(mergedSyncs);
+            syncTimeInNanos.inc(tookInNanos);
+        }
+
+        /** the number of merged syncs that ran */
+        public long getSyncs() {
+            return syncs.count();
+        }
+
+        /** the number of requested syncs, divide by {@link #getSyncs()} for the mean number of syncs merged together */
+        public long getBatchedSyncs() {
+            return batchedSyncs.count();
+        }
+
+        /** the total time spent in the syncs, in milliseconds */
+        public long getSyncTimeInMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(syncTimeInNanos.count());
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.opensearch.common.lease.Releasable;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -120,6 +121,20 @@ public interface TranslogManager extends Closeable {
      */
     Translog.Location add(Translog.Operation operation) throws IOException;
 
+    /**
+     * Adds a batch of operations to the translog
+     * @param operations to add to translog
+     * @return the locations in the translog, in the order of the given operations
+     * @throws IOException throws an IO exception if adding the operations fails
+     */
+    default Translog.Location[] add(List<? extends Translog.Operation> operations) throws IOException {
+        final Translog.Location[] locations = new Translog.Location[operations.size()];
+        for (int i = 0; i < locations.length; i++) {
+            locations[i] = add(operations.get(i));
+        }
+        return locations;
+    }
+
     /**
      * Checks if the translog has a pending recovery
      */
@@ -43,6 +43,7 @@ import java.io.Closeable;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -67,6 +68,11 @@ public class TranslogReader extends BaseTranslogReader implements Closeable {
     @Nullable
     private final Long checkpointChecksum;
 
+    // lazily created on the first mapped snapshot, guarded by this. A mapping stays valid after the channel is closed and is unmapped
+    // once it is garbage collected, i.e. once neither this reader nor any snapshot reading from it references it anymore
+    @Nullable
+    private MappedByteBuffer mapping;
+
     /**
      * Create a translog writer against the specified translog file channel.
      *
@@ -126,6 +132,8 @@ public class TranslogReader extends BaseTranslogReader implements Closeable {
      */
     TranslogReader closeIntoTrimmedReader(long aboveSeqNo, ChannelFactory channelFactory) throws IOException {
         if (closed.compareAndSet(false, true)) {
+            // the trimmed reader shares the channel but maps it again if needed
+            releaseMapping();
             Closeable toCloseOnFailure = channel;
             final TranslogReader newReader;
             try {
@@ -173,6 +181,25 @@ public class TranslogReader extends BaseTranslogReader implements Closeable {
         return checkpoint;
     }
 
+    @Override
+    TranslogSnapshot newMappedSnapshot() throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            // a single mapping can't address the whole generation
+            return newSnapshot();
+        }
+        synchronized (this) {
+            ensureOpen();
+            if (mapping == null) {
+                mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            }
+            return new TranslogSnapshot(this, length, mapping);
+        }
+    }
+
+    private synchronized void releaseMapping() {
+        mapping = null;
+    }
+
     /**
      * reads an operation at the given position into the given buffer.
      */
@@ -191,7 +218,11 @@ public class TranslogReader extends BaseTranslogReader implements Closeable {
     @Override
     public final void close() throws IOException {
         if (closed.compareAndSet(false, true)) {
-            channel.close();
+            try {
+                channel.close();
+            } finally {
+                releaseMapping();
+            }
         }
     }
 
@@ -31,13 +31,16 @@
 
 package org.opensearch.index.translog;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.Channels;
 import org.opensearch.core.common.io.stream.BufferedChecksumStreamInput;
+import org.opensearch.core.common.io.stream.ByteBufferStreamInput;
 import org.opensearch.index.seqno.SequenceNumbers;
 
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
 
 /**
  * A snapshot of translog operations
@@ -51,16 +54,29 @@ final class TranslogSnapshot extends BaseTranslogReader {
     protected final long length;
 
     private final ByteBuffer reusableBuffer;
+    @Nullable
+    private final ByteBuffer mapped;
     private long position;
     private int skippedOperations;
     private int readOperations;
     private BufferedChecksumStreamInput reuse;
+    private final CRC32 checksum = new CRC32();
 
     /**
      * Create a snapshot of translog file channel.
      */
     TranslogSnapshot(final BaseTranslogReader reader, final long length) {
+        this(reader, length, null);
+    }
+
+    /**
+     * Create a snapshot of translog file channel that reads operations out of the given memory mapping of the whole file if not
+     * {@code null}.
+     */
+    TranslogSnapshot(final BaseTranslogReader reader, final long length, @Nullable final ByteBuffer mapped) {
         super(reader.generation, reader.channel, reader.path, reader.header);
+        assert mapped == null || mapped.limit() >= length : "mapping of " + mapped.limit() + " bytes doesn't cover length " + length;
+        this.mapped = mapped;
         this.length = length;
         this.totalOperations = reader.totalOperations();
         this.checkpoint = reader.getCheckpoint();
@@ -96,6 +112,9 @@ final class TranslogSnapshot extends BaseTranslogReader {
     }
 
     private Translog.Operation readOperation() throws IOException {
+        if (mapped != null) {
+            return readMappedOperation();
+        }
         final int opSize = readSize(reusableBuffer, position);
         reuse = checksummedStream(reusableBuffer, position, opSize, reuse);
         Translog.Operation op = read(reuse);
@@ -104,6 +123,56 @@ final class TranslogSnapshot extends BaseTranslogReader {
         return op;
     }
 
+    /**
+     * Reads the next operation out of the mapping. The checksum is verified over the whole operation in one pass before the operation
+     * is deserialized from a slice of the mapping. Byte references such as the source are copied out of the mapping in bulk, so the
+     * operation does not depend on the mapping once it is returned.
+     */
+    private Translog.Operation readMappedOperation() throws IOException {
+        if (position < getFirstOperationOffset() || position + Integer.BYTES > length) {
+            throw new TranslogCorruptedException(path.toString(), "translog truncated, no operation size at position " + position);
+        }
+        final int index = Math.toIntExact(position);
+        // Add an extra 4 to account for the operation size integer itself
+        final int opSize = mapped.getInt(index) + Integer.BYTES;
+        final long maxSize = length - position;
+        if (opSize < 2 * Integer.BYTES || opSize > maxSize) {
+            throw new TranslogCorruptedException(
+                path.toString(),
+                "operation size is corrupted must be [" + 2 * Integer.BYTES + ".." + maxSize + "] but was: " + opSize
+            );
+        }
+        // the operation bytes sit between the size and the trailing checksum, the size is not part of the checksum
+        final int payloadLength = opSize - 2 * Integer.BYTES;
+        final ByteBuffer payload = mapped.slice(index + Integer.BYTES, payloadLength);
+        checksum.reset();
+        checksum.update(payload.duplicate());
+        final long expectedChecksum = checksum.getValue();
+        final long readChecksum = Integer.toUnsignedLong(mapped.getInt(index + Integer.BYTES + payloadLength));
+        if (readChecksum != expectedChecksum) {
+            throw new TranslogCorruptedException(
+                path.toString(),
+                "checksum verification failed - expected: 0x"
+                    + Long.toHexString(expectedChecksum)
+                    + ", got: 0x"
+                    + Long.toHexString(readChecksum)
+            );
+        }
+        final ByteBufferStreamInput in = new ByteBufferStreamInput(payload);
+        final Translog.Operation op;
+        try {
+            op = ensureTermNotNewerThanHeader(Translog.Operation.readOperation(in));
+        } catch (EOFException e) {
+            throw new TruncatedTranslogException(path.toString(), "reached premature end of operation, translog is truncated", e);
+        }
+        if (in.available() != 0) {
+            throw new TranslogCorruptedException(path.toString(), "operation has " + in.available() + " trailing bytes");
+        }
+        position += opSize;
+        readOperations++;
+        return op;
+    }
+
     public long sizeInBytes() {
         return length;
     }
@@ -33,6 +33,7 @@ package org.opensearch.index.translog;
 
 import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -43,6 +44,7 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Translog statistics
@@ -57,6 +59,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
     private long uncommittedSizeInBytes;
     private int uncommittedOperations;
     private long earliestLastModifiedAge;
+    private long groupCommitSyncs;
+    private long groupCommitBatchedSyncs;
+    private long groupCommitSyncTimeInMillis;
 
     /**
      * Stats related to the Remote Translog Store operations
@@ -78,6 +83,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         this.uncommittedSizeInBytes = builder.uncommittedSizeInBytes;
         this.uncommittedOperations = builder.uncommittedOperations;
         this.earliestLastModifiedAge = builder.earliestLastModifiedAge;
+        this.groupCommitSyncs = builder.groupCommitSyncs;
+        this.groupCommitBatchedSyncs = builder.groupCommitBatchedSyncs;
+        this.groupCommitSyncTimeInMillis = builder.groupCommitSyncTimeInMillis;
         this.remoteTranslogStats = builder.remoteTranslogStats;
     }
 
@@ -90,6 +98,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         remoteTranslogStats = in.getVersion().onOrAfter(Version.V_2_10_0)
             ? in.readOptionalWriteable(RemoteTranslogStats::new)
             : new RemoteTranslogStats();
+        if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+            groupCommitSyncs = in.readVLong();
+            groupCommitBatchedSyncs = in.readVLong();
+            groupCommitSyncTimeInMillis = in.readVLong();
+        }
     }
 
     /**
@@ -148,6 +161,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         } else {
             this.earliestLastModifiedAge = Math.min(this.earliestLastModifiedAge, other.earliestLastModifiedAge);
         }
+        this.groupCommitSyncs += other.groupCommitSyncs;
+        this.groupCommitBatchedSyncs += other.groupCommitBatchedSyncs;
+        this.groupCommitSyncTimeInMillis += other.groupCommitSyncTimeInMillis;
 
         addRemoteTranslogStats(other.remoteTranslogStats);
     }
@@ -178,6 +194,21 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         return remoteTranslogStats;
     }
 
+    /** the number of translog syncs that were executed as part of a node level group commit batch */
+    public long getGroupCommitSyncs() {
+        return groupCommitSyncs;
+    }
+
+    /** the sum of the sizes of the group commit batches the syncs were part of */
+    public long getGroupCommitBatchedSyncs() {
+        return groupCommitBatchedSyncs;
+    }
+
+    /** the total time spent in group committed syncs, in milliseconds */
+    public long getGroupCommitSyncTimeInMillis() {
+        return groupCommitSyncTimeInMillis;
+    }
+
     /**
      * Builder for the {@link TranslogStats} class.
      * Provides a fluent API for constructing a TranslogStats object.
@@ -188,6 +219,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         private int uncommittedOperations = 0;
         private long uncommittedSizeInBytes = 0;
         private long earliestLastModifiedAge = 0;
+        private long groupCommitSyncs = 0;
+        private long groupCommitBatchedSyncs = 0;
+        private long groupCommitSyncTimeInMillis = 0;
         private final RemoteTranslogStats remoteTranslogStats = new RemoteTranslogStats();
 
         public Builder() {}
@@ -232,6 +266,16 @@ public class TranslogStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder groupCommitStats(long syncs, long batchedSyncs, long syncTimeInMillis) {
+            if (syncs < 0 || batchedSyncs < 0 || syncTimeInMillis < 0) {
+                throw new IllegalArgumentException("group commit stats must be >= 0");
+            }
+            this.groupCommitSyncs = syncs;
+            this.groupCommitBatchedSyncs = batchedSyncs;
+            this.groupCommitSyncTimeInMillis = syncTimeInMillis;
+            return this;
+        }
+
         /**
          * Creates a {@link TranslogStats} object from the builder's current state.
          * @return A new TranslogStats instance.
@@ -269,6 +313,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_10_0)) {
             out.writeOptionalWriteable(remoteTranslogStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+            out.writeVLong(groupCommitSyncs);
+            out.writeVLong(groupCommitBatchedSyncs);
+            out.writeVLong(groupCommitSyncTimeInMillis);
+        }
     }
 
     private void addLocalTranslogStatsXContent(XContentBuilder builder) throws IOException {
@@ -277,5 +326,16 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         builder.field("uncommitted_operations", uncommittedOperations);
         builder.humanReadableField("uncommitted_size_in_bytes", "uncommitted_size", new ByteSizeValue(uncommittedSizeInBytes));
         builder.field("earliest_last_modified_age", earliestLastModifiedAge);
+        if (groupCommitSyncs > 0) {
+            builder.startObject("group_commit");
+            builder.field("syncs", groupCommitSyncs);
+            builder.field("avg_batch_size", (double) groupCommitBatchedSyncs / groupCommitSyncs);
+            builder.humanReadableField(
+                "sync_time_in_millis",
+                "sync_time",
+                new TimeValue(groupCommitSyncTimeInMillis, TimeUnit.MILLISECONDS)
+            );
+            builder.endObject();
+        }
     }
 }
@@ -338,6 +338,54 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         return location;
     }
 
+    /**
+     * Add the given serialized operations to the translog in one append; returns the locations the operations were written to.
+     *
+     * @param data   the bytes of the operations, back to back
+     * @param sizes  the number of bytes of each operation
+     * @param seqNos the sequence numbers associated with the operations
+     * @return the locations the operations were written to
+     * @throws IOException if writing to the translog resulted in an I/O exception
+     */
+    public Translog.Location[] add(final BytesReference data, final int[] sizes, final long[] seqNos) throws IOException {
+        assert sizes.length == seqNos.length : "sizes [" + sizes.length + "] and seqNos [" + seqNos.length + "] must match";
+        long bufferedBytesBeforeAdd = this.bufferedBytes;
+        if (bufferedBytesBeforeAdd >= forceWriteThreshold) {
+            writeBufferedOps(Long.MAX_VALUE, bufferedBytesBeforeAdd >= forceWriteThreshold * 4);
+        }
+
+        final Translog.Location[] locations = new Translog.Location[sizes.length];
+        synchronized (this) {
+            ensureOpen();
+            if (buffer == null) {
+                buffer = new ReleasableBytesStreamOutput(bigArrays);
+            }
+            assert bufferedBytes == buffer.size();
+            long offset = totalOffset;
+            totalOffset += data.length();
+            data.writeTo(buffer);
+
+            assert minSeqNo != SequenceNumbers.NO_OPS_PERFORMED || operationCounter == 0;
+            assert maxSeqNo != SequenceNumbers.NO_OPS_PERFORMED || operationCounter == 0;
+
+            int position = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                minSeqNo = SequenceNumbers.min(minSeqNo, seqNos[i]);
+                maxSeqNo = SequenceNumbers.max(maxSeqNo, seqNos[i]);
+                nonFsyncedSequenceNumbers.add(seqNos[i]);
+                operationCounter++;
+                assert assertNoSeqNumberConflict(seqNos[i], data.slice(position, sizes[i]));
+                locations[i] = new Translog.Location(generation, offset, sizes[i]);
+                offset += sizes[i];
+                position += sizes[i];
+            }
+            assert position == data.length() : "sizes add up to [" + position + "] but got [" + data.length() + "] bytes";
+            bufferedBytes = buffer.size();
+        }
+
+        return locations;
+    }
+
     private synchronized boolean assertNoSeqNumberConflict(long seqNo, BytesReference data) throws IOException {
         if (seqNo == SequenceNumbers.UNASSIGNED_SEQ_NO) {
             // nothing to do
@@ -25,6 +25,7 @@ import org.opensearch.common.blobstore.stream.write.WritePriority;
 import org.opensearch.common.blobstore.transfer.RemoteTransferContainer;
 import org.opensearch.common.blobstore.transfer.stream.OffsetRangeIndexInputStream;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.store.exception.ChecksumCombinationException;
 import org.opensearch.index.translog.transfer.FileSnapshot.TransferFileSnapshot;
@@ -181,36 +182,62 @@ public class BlobStoreTransferService implements TransferService {
         CryptoMetadata cryptoMetadata
     ) {
 
+        IndexInput partsInput = null;
         try {
             Map<String, String> metadata = null;
             if (fileSnapshot.getMetadataFileInputStream() != null) {
                 metadata = buildTransferFileMetadata(fileSnapshot.getMetadataFileInputStream());
             }
 
-            // Read content once using inputStream() to invoke any overrides (e.g., decryption)
-            byte[] fileContent;
-            try (InputStream inputStream = fileSnapshot.inputStream()) {
-                fileContent = inputStream.readAllBytes();
+            final long contentLength;
+            final RemoteTransferContainer.OffsetRangeInputStreamSupplier inputStreamSupplier;
+            partsInput = fileSnapshot.openPartsInput();
+            if (partsInput != null) {
+                // Stream the parts straight from the file so that large generations are never held on heap in full. The file is
+                // opened while the snapshot is still open, so the parts can be read after the snapshot got closed and the generation
+                // trimmed, and every part reads its own clone so that the parts can be read concurrently to one another
+                final IndexInput input = partsInput;
+                contentLength = input.length();
+                inputStreamSupplier = (size, position) -> {
+                    final IndexInput part;
+                    synchronized (input) {
+                        part = input.clone();
+                    }
+                    return new OffsetRangeIndexInputStream(part, size, position);
+                };
+            } else {
+                // Read content once using inputStream() to invoke any overrides (e.g., decryption)
+                final byte[] fileContent;
+                try (InputStream inputStream = fileSnapshot.inputStream()) {
+                    fileContent = inputStream.readAllBytes();
+                }
+                contentLength = fileContent.length;
+                final String resourceDesc = "FileSnapshot[" + fileSnapshot.getName() + "]";
+                inputStreamSupplier = (size, position) -> new OffsetRangeIndexInputStream(
+                    new ByteArrayIndexInput(resourceDesc, fileContent),
+                    size,
+                    position
+                );
             }
-            long contentLength = fileContent.length;
 
             ActionListener<Void> completionListener = ActionListener.wrap(resp -> listener.onResponse(fileSnapshot), ex -> {
                 logger.error(() -> new ParameterizedMessage("Failed to upload blob {}", fileSnapshot.getName()), ex);
                 listener.onFailure(new FileTransferException(fileSnapshot, ex));
             });
+            if (partsInput != null) {
+                completionListener = ActionListener.runBefore(completionListener, partsInput::close);
+            }
 
             // Only the first generation doesn't have checksum
             assert (fileSnapshot.getChecksum() != null || fileSnapshot.getName().contains("-1."));
 
-            // Use ByteArrayIndexInput for async upload with the content from inputStream()
-            String resourceDesc = "FileSnapshot[" + fileSnapshot.getName() + "]";
             uploadBlobAsyncInternal(
                 fileSnapshot.getName(),
                 fileSnapshot.getName(),
                 contentLength,
                 blobPath,
                 writePriority,
-                (size, position) -> new OffsetRangeIndexInputStream(new ByteArrayIndexInput(resourceDesc, fileContent), size, position),
+                inputStreamSupplier,
                 fileSnapshot.getChecksum(),
                 completionListener,
                 metadata,
@@ -219,6 +246,7 @@ public class BlobStoreTransferService implements TransferService {
 
         } catch (Exception e) {
             logger.error(() -> new ParameterizedMessage("Failed to upload blob {}", fileSnapshot.getName()), e);
+            IOUtils.closeWhileHandlingException(partsInput);
             listener.onFailure(new FileTransferException(fileSnapshot, e));
         } finally {
             try {
@@ -8,6 +8,10 @@
 
 package org.opensearch.index.translog.transfer;
 
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.NIOFSDirectory;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
 import org.opensearch.common.lucene.store.InputStreamIndexInput;
@@ -71,6 +75,33 @@ public class FileSnapshot implements Closeable {
             : new InputStreamIndexInput(new ByteArrayIndexInput(this.name, content), content.length);
     }
 
+    /**
+     * Returns whether the content of this snapshot can be read part by part straight from its file. That is not the case for
+     * snapshots of in-memory content. Subclasses that override {@link #inputStream()} to transform the content, e.g. to decrypt
+     * it, must override this method to return {@code false}, so that the content is read through {@link #inputStream()}.
+     */
+    public boolean supportsPartsInput() {
+        return path != null;
+    }
+
+    /**
+     * Opens the file of this snapshot so that its content can be read part by part, or returns {@code null} if the content can only
+     * be read as a whole through {@link #inputStream()}, see {@link #supportsPartsInput()}.
+     * <p>
+     * The returned input stays readable after this snapshot is closed and after the file is deleted. Its clones can be read
+     * concurrently to one another, and the caller must close it once all parts are read.
+     */
+    @Nullable
+    public IndexInput openPartsInput() throws IOException {
+        if (supportsPartsInput() == false) {
+            return null;
+        }
+        // NIOFS inputs read with positional reads on a shared channel, which is what makes their clones safe to read concurrently
+        try (Directory directory = new NIOFSDirectory(path.getParent())) {
+            return directory.openInput(name, IOContext.DEFAULT);
+        }
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(name, content, path);
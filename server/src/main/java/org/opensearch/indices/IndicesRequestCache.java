@@ -125,6 +125,20 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         Property.IndexScope
     );
 
+    /**
+     * The maximum size of the requests on this index whose query results may be cached, overriding
+     * {@link #INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING} so that the top hits of indices that no longer change can be
+     * cached without opting in every index of the cluster. Defaults to {@code -1}, which defers to the node setting.
+     */
+    public static final Setting<Integer> INDEX_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING = Setting.intSetting(
+        "index.requests.cache.maximum_cacheable_size",
+        -1,
+        -1,
+        10_000,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     /**
      * If pluggable caching is off, or pluggable caching is on but a store name isn't specified, this setting determines the cache size.
      * Otherwise, the implementation-specific size setting like indices.requests.cache.opensearch_onheap.size is used instead.
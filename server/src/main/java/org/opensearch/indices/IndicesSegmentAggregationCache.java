@@ -0,0 +1,257 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.io.stream.DelayableWriteable;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.filter.FilterAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.missing.MissingAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.range.DateRangeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.range.RangeAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ExtendedStatsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.StatsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A node level cache of the partial aggregation results that size=0 searches computed on single segments. The results are keyed
+ * by the cache key of the segment reader, which changes with the live docs of the segment, and by the cache key of the shard
+ * request, so that a repeated request only computes the aggregations of the segments that were written or changed since its
+ * previous execution and merges them with the cached results of the other segments. Entries are dropped when their segment
+ * reader is closed.
+ * <p>
+ * Only aggregations whose per-segment results reduce to exactly the result of collecting the whole shard at once may use this
+ * cache: metrics that merge losslessly and bucket aggregations that do not prune buckets on the shard.
+ *
+ * @opensearch.internal
+ */
+public final class IndicesSegmentAggregationCache
+    implements
+        RemovalListener<IndicesSegmentAggregationCache.Key, IndicesSegmentAggregationCache.Value>,
+        Closeable {
+
+    /**
+     * Whether size=0 searches with aggregations on an index may reuse the per-segment aggregation results of previous searches.
+     */
+    public static final Setting<Boolean> INDEX_SEGMENT_AGGREGATION_CACHE_ENABLED_SETTING = Setting.boolSetting(
+        "index.requests.segment_aggregation_cache.enable",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * The size after which the cache will begin to evict entries.
+     */
+    public static final Setting<ByteSizeValue> INDICES_SEGMENT_AGGREGATION_CACHE_SIZE_SETTING = Setting.memorySizeSetting(
+        "indices.requests.segment_aggregation_cache.size",
+        "1%",
+        Property.NodeScope
+    );
+
+    private final Cache<Key, Value> cache;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final ConcurrentMap<IndexReader.CacheKey, Set<Key>> keysByReader = ConcurrentCollections.newConcurrentMap();
+
+    public IndicesSegmentAggregationCache(Settings settings, NamedWriteableRegistry namedWriteableRegistry) {
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        final long sizeInBytes = INDICES_SEGMENT_AGGREGATION_CACHE_SIZE_SETTING.get(settings).getBytes();
+        this.cache = CacheBuilder.<Key, Value>builder()
+            .setMaximumWeight(sizeInBytes)
+            .weigher((key, value) -> key.ramBytesUsed() + value.ramBytesUsed())
+            .removalListener(this)
+            .build();
+    }
+
+    /**
+     * Returns whether the given aggregations can be computed segment by segment and merged afterwards without changing their result.
+     */
+    public static boolean canCacheAggregations(@Nullable AggregatorFactories.Builder aggregations) {
+        return aggregations != null
+            && aggregations.getAggregatorFactories().isEmpty() == false
+            && canCacheAggregations(aggregations.getAggregatorFactories());
+    }
+
+    private static boolean canCacheAggregations(Collection<AggregationBuilder> aggregations) {
+        for (AggregationBuilder aggregation : aggregations) {
+            if (isMergeable(aggregation) == false || canCacheAggregations(aggregation.getSubAggregations()) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMergeable(AggregationBuilder aggregation) {
+        return aggregation instanceof MinAggregationBuilder
+            || aggregation instanceof MaxAggregationBuilder
+            || aggregation instanceof SumAggregationBuilder
+            || aggregation instanceof AvgAggregationBuilder
+            || aggregation instanceof ValueCountAggregationBuilder
+            || aggregation instanceof StatsAggregationBuilder
+            || aggregation instanceof ExtendedStatsAggregationBuilder
+            || aggregation instanceof DateHistogramAggregationBuilder
+            || aggregation instanceof HistogramAggregationBuilder
+            || aggregation instanceof RangeAggregationBuilder
+            || aggregation instanceof DateRangeAggregationBuilder
+            || aggregation instanceof FilterAggregationBuilder
+            || aggregation instanceof FiltersAggregationBuilder
+            || aggregation instanceof MissingAggregationBuilder;
+    }
+
+    /**
+     * Returns the cached result of the request with the given cache key on the given segment, or {@code null} if there is none.
+     */
+    @Nullable
+    public SegmentResult get(LeafReaderContext segment, BytesReference requestKey) {
+        final IndexReader.CacheHelper cacheHelper = segment.reader().getReaderCacheHelper();
+        if (cacheHelper == null) {
+            return null;
+        }
+        final Value value = cache.get(new Key(cacheHelper.getKey(), requestKey));
+        return value == null ? null : new SegmentResult(value.hitCount, value.aggregations.expand());
+    }
+
+    /**
+     * Caches the result of the request with the given cache key on the given segment. Segments whose reader does not expose a
+     * cache key are not cached.
+     */
+    public void put(LeafReaderContext segment, BytesReference requestKey, SegmentResult result) {
+        final IndexReader.CacheHelper cacheHelper = segment.reader().getReaderCacheHelper();
+        if (cacheHelper == null) {
+            return;
+        }
+        final IndexReader.CacheKey readerKey = cacheHelper.getKey();
+        final Set<Key> readerKeys = keysByReader.computeIfAbsent(readerKey, k -> {
+            cacheHelper.addClosedListener(this::onReaderClosed);
+            return ConcurrentCollections.newConcurrentSet();
+        });
+        final Key key = new Key(readerKey, requestKey);
+        readerKeys.add(key);
+        final DelayableWriteable.Serialized<InternalAggregations> aggregations = DelayableWriteable.referencing(result.aggregations())
+            .asSerialized(InternalAggregations::readFrom, namedWriteableRegistry);
+        cache.put(key, new Value(result.hitCount(), aggregations));
+    }
+
+    private void onReaderClosed(IndexReader.CacheKey readerKey) {
+        final Set<Key> readerKeys = keysByReader.remove(readerKey);
+        if (readerKeys != null) {
+            for (Key key : readerKeys) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<Key, Value> notification) {
+        final Set<Key> readerKeys = keysByReader.get(notification.getKey().readerKey);
+        if (readerKeys != null) {
+            readerKeys.remove(notification.getKey());
+        }
+    }
+
+    int count() {
+        return cache.count();
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+        keysByReader.clear();
+    }
+
+    /**
+     * The number of hits and the partial aggregations of a request on a single segment.
+     *
+     * @opensearch.internal
+     */
+    public record SegmentResult(long hitCount, InternalAggregations aggregations) {
+    }
+
+    /**
+     * A cache key, made of the segment reader and the request keys.
+     *
+     * @opensearch.internal
+     */
+    static final class Key {
+        private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+
+        private final IndexReader.CacheKey readerKey;
+        private final BytesReference requestKey;
+
+        Key(IndexReader.CacheKey readerKey, BytesReference requestKey) {
+            this.readerKey = Objects.requireNonNull(readerKey);
+            this.requestKey = Objects.requireNonNull(requestKey);
+        }
+
+        long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED + requestKey.ramBytesUsed();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return readerKey == key.readerKey && requestKey.equals(key.requestKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(readerKey) + requestKey.hashCode();
+        }
+    }
+
+    /**
+     * A cached value, holding the aggregations in serialized form so that every search expands its own copy.
+     *
+     * @opensearch.internal
+     */
+    static final class Value {
+        private final long hitCount;
+        private final DelayableWriteable.Serialized<InternalAggregations> aggregations;
+
+        Value(long hitCount, DelayableWriteable.Serialized<InternalAggregations> aggregations) {
+            this.hitCount = hitCount;
+            this.aggregations = aggregations;
+        }
+
+        long ramBytesUsed() {
+            return Long.BYTES + aggregations.ramBytesUsed();
+        }
+    }
+}
@@ -156,6 +156,7 @@ import org.opensearch.index.store.remote.filecache.NodeCacheService;
 import org.opensearch.index.translog.InternalTranslogFactory;
 import org.opensearch.index.translog.RemoteBlobStoreInternalTranslogFactory;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupCommitter;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -179,6 +180,7 @@ import org.opensearch.plugins.PluginsService;
 import org.opensearch.plugins.SearchStatsContributor;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.SearchContext;
@@ -451,6 +453,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final IndexingMemoryController indexingMemoryController;
     private final TimeValue cleanInterval; // clean interval for the field data cache
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
+    final IndicesSegmentAggregationCache segmentAggregationCache; // pkg-private for testing
     private final IndicesQueryCache indicesQueryCache;
     private final MetaStateService metaStateService;
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
@@ -554,6 +557,7 @@ public class IndicesService extends AbstractLifecycleComponent
             return Optional.of(new IndexShardCacheEntity(indexService.getShardOrNull(shardId.id())));
         }), cacheService, threadPool, clusterService, nodeEnv);
         this.indicesQueryCache = new IndicesQueryCache(settings, clusterService.getClusterSettings());
+        this.segmentAggregationCache = new IndicesSegmentAggregationCache(settings, namedWriteableRegistry);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
         indexingMemoryController = new IndexingMemoryController(
@@ -616,6 +620,7 @@ public class IndicesService extends AbstractLifecycleComponent
                         cacheCleaner,
                         indicesRequestCache,
                         indicesQueryCache,
+                        segmentAggregationCache,
                         ingestionPayloadDecoderRegistry
                     );
                 } catch (IOException e) {
@@ -648,7 +653,8 @@ public class IndicesService extends AbstractLifecycleComponent
             threadPool,
             remoteStoreStatsTrackerFactory,
             settings,
-            remoteStoreSettings
+            remoteStoreSettings,
+            TranslogGroupCommitter.TRANSLOG_GROUP_COMMIT_ENABLED_SETTING.get(settings) ? new TranslogGroupCommitter() : null
         );
         this.searchRequestStats = searchRequestStats;
         this.clusterDefaultRefreshInterval = CLUSTER_DEFAULT_INDEX_REFRESH_INTERVAL_SETTING.get(clusterService.getSettings());
@@ -815,7 +821,8 @@ public class IndicesService extends AbstractLifecycleComponent
         ThreadPool threadPool,
         RemoteStoreStatsTrackerFactory remoteStoreStatsTrackerFactory,
         Settings settings,
-        RemoteStoreSettings remoteStoreSettings
+        RemoteStoreSettings remoteStoreSettings,
+        @Nullable TranslogGroupCommitter translogGroupCommitter
     ) {
         return (indexSettings, shardRouting) -> {
             if (indexSettings.isRemoteTranslogStoreEnabled() && shardRouting.primary()) {
@@ -837,7 +844,7 @@ public class IndicesService extends AbstractLifecycleComponent
                     RemoteStoreUtils.isServerSideEncryptionEnabledIndex(indexSettings.getIndexMetadata())
                 );
             }
-            return new InternalTranslogFactory();
+            return new InternalTranslogFactory(translogGroupCommitter);
         };
     }
 
@@ -2102,9 +2109,10 @@ public class IndicesService extends AbstractLifecycleComponent
         // if not explicitly set in the request, use the index setting, if not, use the request
         if (request.requestCache() == null) {
             if (settings.getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING) == false
-                || (context.size() > maxSizeInRequestCache)) {
+                || (context.size() > getMaxSizeInRequestCache(settings))) {
                 // If no request cache query parameter and shard request cache
-                // is enabled in settings, use cluster setting to check the maximum size allowed in the cache
+                // is enabled in settings, use the index setting, if set, or else the cluster setting to check the maximum size
+                // allowed in the cache
                 return false;
             }
         } else if (request.requestCache() == false) {
@@ -2167,6 +2175,51 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Can the aggregations of the shard request be computed segment by segment, reusing the partial results that the
+     * {@link IndicesSegmentAggregationCache} holds for the segments the same request already executed on? This only applies to
+     * requests that cannot use the request cache, typically because the reader changed since the request last executed.
+     */
+    public boolean canUseSegmentAggregationCache(ShardSearchRequest request, SearchContext context) {
+        final IndexSettings settings = context.indexShard().indexSettings();
+        if (settings.getValue(IndicesSegmentAggregationCache.INDEX_SEGMENT_AGGREGATION_CACHE_ENABLED_SETTING) == false
+            || Boolean.FALSE.equals(request.requestCache())) {
+            return false;
+        }
+        // only size=0 requests whose hits are fully described by the per-segment hit counts
+        if (context.size() != 0
+            || context.scrollContext() != null
+            || context.suggest() != null
+            || context.parsedPostFilter() != null
+            || context.minimumScore() != null
+            || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+            || (context.timeout() != null && context.timeout().equals(SearchService.NO_TIMEOUT) == false)
+            || context.getProfilers() != null
+            || context.isStreamSearch()) {
+            return false;
+        }
+        if (context.aggregations() == null
+            || context.aggregations().factories().hasGlobalAggregator()
+            || IndicesSegmentAggregationCache.canCacheAggregations(request.source().aggregations()) == false) {
+            return false;
+        }
+        if (context.searcher().getIndexReader().leaves().isEmpty()) {
+            return false;
+        }
+        // same as for the request cache, requests that use "now" are not deterministic
+        return context.getQueryShardContext().isCacheable();
+    }
+
+    /**
+     * Executes the query phase of the request, computing its aggregations segment by segment and reusing the partial results of the
+     * segments the same request already executed on.
+     */
+    public void loadSegmentAggregationsIntoContext(ShardSearchRequest request, SearchContext context, QueryPhase queryPhase)
+        throws Exception {
+        assert canUseSegmentAggregationCache(request, context);
+        queryPhase.execute(context, segmentAggregationCache, request.cacheKey());
+    }
+
     public ByteSizeValue getTotalIndexingBufferBytes() {
         return indexingMemoryController.indexingBufferSize();
     }
@@ -2495,6 +2548,11 @@ public class IndicesService extends AbstractLifecycleComponent
         return this.compositeIndexSettings;
     }
 
+    private int getMaxSizeInRequestCache(IndexSettings settings) {
+        final int indexMaxSizeInRequestCache = settings.getValue(IndicesRequestCache.INDEX_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING);
+        return indexMaxSizeInRequestCache >= 0 ? indexMaxSizeInRequestCache : maxSizeInRequestCache;
+    }
+
     // Package-private for testing
     void setMaxSizeInRequestCache(Integer maxSizeInRequestCache) {
         this.maxSizeInRequestCache = maxSizeInRequestCache;
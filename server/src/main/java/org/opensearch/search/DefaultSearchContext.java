@@ -132,6 +132,8 @@ import static org.opensearch.search.SearchService.BUCKET_SELECTION_STRATEGY_FACT
 import static org.opensearch.search.SearchService.CARDINALITY_AGGREGATION_PRUNING_THRESHOLD;
 import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_MODE;
 import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING;
+import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_ADAPTIVE_SLICING;
+import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_FETCH_MIN_DOCS;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_ALL;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_AUTO;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_NONE;
@@ -1390,6 +1392,19 @@ final class DefaultSearchContext extends SearchContext {
             );
     }
 
+    /**
+     * Returns whether concurrent segment search slices are sized on live documents and index searcher pool load.
+     */
+    @Override
+    public boolean shouldUseAdaptiveSlicing() {
+        return clusterService.getClusterSettings().get(CONCURRENT_SEGMENT_SEARCH_ADAPTIVE_SLICING);
+    }
+
+    @Override
+    public int getConcurrentFetchMinDocs() {
+        return clusterService.getClusterSettings().get(CONCURRENT_SEGMENT_SEARCH_FETCH_MIN_DOCS);
+    }
+
     /**
      * Returns intra-segment search status for the search context.
      */
@@ -375,6 +375,23 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    // Size the slices on the live documents of the segments and cap their count to the idle threads of the index searcher pool
+    public static final Setting<Boolean> CONCURRENT_SEGMENT_SEARCH_ADAPTIVE_SLICING = Setting.boolSetting(
+        "search.concurrent_segment_search.adaptive_slicing",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // Minimum number of hits from which the fetch phase loads the hits of different segments concurrently, 0 disables it
+    public static final Setting<Integer> CONCURRENT_SEGMENT_SEARCH_FETCH_MIN_DOCS = Setting.intSetting(
+        "search.concurrent_segment_search.fetch_min_docs",
+        0,
+        0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     // value 0 means rewrite filters optimization in aggregations will be disabled
     @ExperimentalApi
     public static final Setting<Integer> MAX_AGGREGATION_REWRITE_FILTERS = Setting.intSetting(
@@ -786,6 +803,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         context.getQueryShardContext().freezeContext();
         if (canCache) {
             indicesService.loadIntoContext(request, context, queryPhase);
+        } else if (indicesService.canUseSegmentAggregationCache(request, context)) {
+            indicesService.loadSegmentAggregationsIntoContext(request, context, queryPhase);
         } else {
             queryPhase.execute(context);
         }
@@ -65,7 +65,10 @@ public class SearchContextAggregations {
         return multiBucketConsumer;
     }
 
-    void resetBucketMultiConsumer() {
+    /**
+     * Resets the bucket count of the multi bucket consumer, once the aggregations of a collection have been built
+     */
+    public void resetBucketMultiConsumer() {
         multiBucketConsumer.reset();
     }
 }
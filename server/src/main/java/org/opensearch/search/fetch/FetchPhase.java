@@ -90,6 +90,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -105,6 +106,9 @@ import static java.util.Collections.emptyMap;
 public class FetchPhase {
     private static final Logger LOGGER = LogManager.getLogger(FetchPhase.class);
 
+    private static final int SEQUENTIAL_READER_MIN_DOCS = 10;
+    private static final int SEQUENTIAL_READER_MAX_AVERAGE_GAP = 4;
+
     private final FetchSubPhase[] fetchSubPhases;
 
     public FetchPhase(List<FetchSubPhase> fetchSubPhases) {
@@ -148,97 +152,250 @@ public class FetchPhase {
         // make sure that we iterate in doc id order
         Arrays.sort(docs);
 
-        Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
-        FieldsVisitor fieldsVisitor = profile(
-            breakdown,
-            FetchTimingType.CREATE_STORED_FIELDS_VISITOR,
-            () -> createStoredFieldsVisitor(context, storedToRequestedFields)
-        );
+        SearchHit[] hits = new SearchHit[context.docIdsToLoadSize()];
+        List<SegmentBatch> batches = segmentBatches(context.searcher().getIndexReader().leaves(), docs);
+        boolean concurrent = breakdown == null && shouldFetchConcurrently(context, docs.length);
+        if (concurrent && context.highlight() != null && context.getTargetMaxSliceCount() > 1) {
+            // highlighting dominates the cost of the hits, so the hits of a single segment are highlighted in parallel too, the
+            // batches are then grouped back into at most as many tasks as the slices of the query
+            batches = splitBatches(batches, Math.ceilDiv(docs.length, context.getTargetMaxSliceCount()));
+        }
+        if (concurrent && batches.size() > 1) {
+            fetchConcurrently(context, batches, docs, hits);
+        } else {
+            Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
+            FieldsVisitor fieldsVisitor = profile(
+                breakdown,
+                FetchTimingType.CREATE_STORED_FIELDS_VISITOR,
+                () -> createStoredFieldsVisitor(context, storedToRequestedFields)
+            );
 
-        FetchContext fetchContext = new FetchContext(context);
+            FetchContext fetchContext = new FetchContext(context);
 
-        SearchHit[] hits = new SearchHit[context.docIdsToLoadSize()];
+            List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = profile(
+                breakdown,
+                FetchTimingType.BUILD_SUB_PHASE_PROCESSORS,
+                () -> getProcessors(context.shardTarget(), fetchContext)
+            );
 
-        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = profile(
-            breakdown,
-            FetchTimingType.BUILD_SUB_PHASE_PROCESSORS,
-            () -> getProcessors(context.shardTarget(), fetchContext)
-        );
+            Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles = new HashMap<>();
+            if (breakdown != null) {
+                for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+                    if (p.v2() instanceof InnerHitsPhase == false) {
+                        FetchProfileBreakdown pb = context.getProfilers()
+                            .getFetchProfiler()
+                            .startSubPhase(p.v2().getClass().getSimpleName(), profileDescription);
+                        processorProfiles.put(p.v1(), pb);
+                    }
+                }
+            }
+
+            for (SegmentBatch batch : batches) {
+                fetchSegmentBatch(
+                    context,
+                    batch,
+                    docs,
+                    hits,
+                    fetchContext.searchLookup(),
+                    fieldsVisitor,
+                    storedToRequestedFields,
+                    processors,
+                    processorProfiles,
+                    breakdown
+                );
+            }
+        }
+        if (context.isCancelled()) {
+            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+        }
 
-        Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles = new HashMap<>();
-        if (breakdown != null) {
-            for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
-                if (p.v2() instanceof InnerHitsPhase == false) {
-                    FetchProfileBreakdown pb = context.getProfilers()
-                        .getFetchProfiler()
-                        .startSubPhase(p.v2().getClass().getSimpleName(), profileDescription);
-                    processorProfiles.put(p.v1(), pb);
+        TotalHits totalHits = context.queryResult().getTotalHits();
+        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
+
+        if (fetchProfiler != null) {
+            fetchProfiler.endFetchPhase(profileDescription);
+        }
+    }
+
+    List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> getProcessors(SearchShardTarget target, FetchContext context) {
+        try {
+            List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = new ArrayList<>();
+            for (FetchSubPhase fsp : fetchSubPhases) {
+                FetchSubPhaseProcessor processor = fsp.getProcessor(context);
+                if (processor != null) {
+                    processors.add(new Tuple<>(processor, fsp));
                 }
             }
+            return processors;
+        } catch (Exception e) {
+            throw new FetchPhaseExecutionException(target, "Error building fetch sub-phases", e);
         }
+    }
 
-        int currentReaderIndex = -1;
-        LeafReaderContext currentReaderContext = null;
+    /**
+     * Splits the given docs, sorted by doc id, into batches of docs of the same segment.
+     */
+    static List<SegmentBatch> segmentBatches(List<LeafReaderContext> leaves, DocIdToIndex[] docs) {
+        List<SegmentBatch> batches = new ArrayList<>();
+        int from = 0;
+        while (from < docs.length) {
+            int leafIndex = ReaderUtil.subIndex(docs[from].docId, leaves);
+            LeafReaderContext leaf = leaves.get(leafIndex);
+            int leafEnd = leaf.docBase + leaf.reader().maxDoc();
+            int to = from + 1;
+            while (to < docs.length && docs[to].docId < leafEnd) {
+                to++;
+            }
+            batches.add(new SegmentBatch(leafIndex, from, to));
+            from = to;
+        }
+        return batches;
+    }
+
+    /**
+     * Splits the given segment batches into batches of at most {@code maxBatchSize} docs.
+     */
+    static List<SegmentBatch> splitBatches(List<SegmentBatch> batches, int maxBatchSize) {
+        List<SegmentBatch> split = new ArrayList<>();
+        for (SegmentBatch batch : batches) {
+            for (int from = batch.from(); from < batch.to(); from += maxBatchSize) {
+                split.add(new SegmentBatch(batch.leafIndex(), from, Math.min(from + maxBatchSize, batch.to())));
+            }
+        }
+        return split;
+    }
+
+    /**
+     * Groups the given batches into at most {@code maxGroups} groups of consecutive batches that hold about as many docs each.
+     */
+    static List<List<SegmentBatch>> groupBatches(List<SegmentBatch> batches, int maxGroups) {
+        int numGroups = Math.min(maxGroups, batches.size());
+        long numDocs = 0;
+        for (SegmentBatch batch : batches) {
+            numDocs += batch.to() - batch.from();
+        }
+        List<List<SegmentBatch>> groups = new ArrayList<>(numGroups);
+        List<SegmentBatch> group = new ArrayList<>();
+        long groupedDocs = 0;
+        for (int i = 0; i < batches.size(); i++) {
+            SegmentBatch batch = batches.get(i);
+            group.add(batch);
+            groupedDocs += batch.to() - batch.from();
+            // a group is closed once it reaches its share of the docs, or when the remaining batches are needed by the remaining
+            // groups, the last group takes all the remaining batches
+            int remainingGroups = numGroups - groups.size() - 1;
+            if (remainingGroups > 0
+                && (groupedDocs * numGroups >= (groups.size() + 1) * numDocs || batches.size() - i - 1 <= remainingGroups)) {
+                groups.add(group);
+                group = new ArrayList<>();
+            }
+        }
+        if (group.isEmpty() == false) {
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    private static boolean shouldFetchConcurrently(SearchContext context, int numDocs) {
+        int minDocs = context.getConcurrentFetchMinDocs();
+        return minDocs > 0
+            && numDocs >= minDocs
+            && context.shouldUseConcurrentSearch()
+            // the sequential readers cached by scrolls and the contexts of inner hits are not thread safe
+            && context.scrollContext() == null
+            && context instanceof InnerHitsContext.InnerHitSubContext == false
+            && context.innerHits().getInnerHits().isEmpty();
+    }
+
+    /**
+     * Fetches the segment batches concurrently on the executor of the searcher, in at most as many tasks as the slices of the query.
+     * The sub phase processors, lookups and stored fields visitors are not thread safe, so every task gets its own.
+     */
+    private void fetchConcurrently(SearchContext context, List<SegmentBatch> batches, DocIdToIndex[] docs, SearchHit[] hits) {
+        int maxSliceCount = context.getTargetMaxSliceCount();
+        List<List<SegmentBatch>> groups = groupBatches(batches, maxSliceCount > 0 ? maxSliceCount : batches.size());
+        List<Callable<Void>> tasks = new ArrayList<>(groups.size());
+        for (List<SegmentBatch> group : groups) {
+            Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
+            FieldsVisitor fieldsVisitor = createStoredFieldsVisitor(context, storedToRequestedFields);
+            FetchContext fetchContext = new FetchContext(context);
+            List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = getProcessors(context.shardTarget(), fetchContext);
+            tasks.add(() -> {
+                for (SegmentBatch batch : group) {
+                    fetchSegmentBatch(
+                        context,
+                        batch,
+                        docs,
+                        hits,
+                        fetchContext.searchLookup(),
+                        fieldsVisitor,
+                        storedToRequestedFields,
+                        processors,
+                        emptyMap(),
+                        null
+                    );
+                }
+                return null;
+            });
+        }
+        try {
+            context.searcher().getTaskExecutor().invokeAll(tasks);
+        } catch (IOException e) {
+            throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase", e);
+        }
+    }
+
+    /**
+     * Fetches the docs of a segment batch in doc id order with a single stored fields reader, which the sub phases reuse through
+     * {@link HitContext#loadStoredFields}.
+     */
+    private void fetchSegmentBatch(
+        SearchContext context,
+        SegmentBatch batch,
+        DocIdToIndex[] docs,
+        SearchHit[] hits,
+        SearchLookup lookup,
+        FieldsVisitor fieldsVisitor,
+        Map<String, Set<String>> storedToRequestedFields,
+        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors,
+        Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles,
+        FetchProfileBreakdown breakdown
+    ) {
+        LeafReaderContext readerContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
-        for (int index = 0; index < context.docIdsToLoadSize(); index++) {
+        for (int index = batch.from(); index < batch.to(); index++) {
             if (context.isCancelled()) {
                 throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
             }
             int docId = docs[index].docId;
             try {
-                int readerIndex = ReaderUtil.subIndex(docId, context.searcher().getIndexReader().leaves());
-                if (currentReaderIndex != readerIndex) {
-                    currentReaderContext = profile(
+                if (readerContext == null) {
+                    readerContext = profile(
                         breakdown,
                         FetchTimingType.GET_NEXT_READER,
-                        () -> context.searcher().getIndexReader().leaves().get(readerIndex)
+                        () -> context.searcher().getIndexReader().leaves().get(batch.leafIndex())
                     );
-                    currentReaderIndex = readerIndex;
-                    if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader lf
-                        && hasSequentialDocs
-                        && docs.length >= 10) {
-                        // All the docs to fetch are adjacent but Lucene stored fields are optimized
-                        // for random access and don't optimize for sequential access - except for merging.
-                        // So we do a little hack here and pretend we're going to do merges in order to
-                        // get better sequential access.
-                        StoredFieldsReader sequentialReader;
-                        // For scroll queries, try to get cached reader
-                        if (context.scrollContext() != null) {
-                            // To get a unique identifier for this segment to use as a cache key
-                            Object segmentKey = lf.getCoreCacheHelper() != null ? lf.getCoreCacheHelper().getKey() : currentReaderContext;
-                            sequentialReader = context.scrollContext().getCachedSequentialReader(segmentKey);
-                            if (sequentialReader == null) {
-                                sequentialReader = lf.getSequentialStoredFieldsReader();
-                                context.scrollContext().cacheSequentialReader(segmentKey, sequentialReader);
-                            }
-                        } else {
-                            sequentialReader = lf.getSequentialStoredFieldsReader();
-                        }
-                        fieldReader = sequentialReader::document;
-                    } else {
-                        fieldReader = currentReaderContext.reader().storedFields()::document;
-                    }
+                    fieldReader = storedFieldsReader(context, readerContext, useSequentialReader(docs, batch.from(), batch.to()));
                     for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
                         FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
-                        LeafReaderContext readerCtx = currentReaderContext;
+                        LeafReaderContext readerCtx = readerContext;
                         profile(pbd, FetchTimingType.SET_NEXT_READER, () -> {
                             p.v1().setNextReader(readerCtx);
                             return null;
                         });
                     }
                 }
-                assert currentReaderContext != null;
                 HitContext hit = prepareHitContext(
                     context,
-                    fetchContext.searchLookup(),
+                    lookup,
                     fieldsVisitor,
                     docId,
                     storedToRequestedFields,
-                    currentReaderContext,
+                    readerContext,
                     fieldReader,
                     breakdown
                 );
+                hit.storedFieldsReader(fieldReader);
 
                 for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
                     FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
@@ -252,31 +409,39 @@ public class FetchPhase {
                 throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
             }
         }
-        if (context.isCancelled()) {
-            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
-        }
-
-        TotalHits totalHits = context.queryResult().getTotalHits();
-        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
-
-        if (fetchProfiler != null) {
-            fetchProfiler.endFetchPhase(profileDescription);
-        }
     }
 
-    List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> getProcessors(SearchShardTarget target, FetchContext context) {
-        try {
-            List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = new ArrayList<>();
-            for (FetchSubPhase fsp : fetchSubPhases) {
-                FetchSubPhaseProcessor processor = fsp.getProcessor(context);
-                if (processor != null) {
-                    processors.add(new Tuple<>(processor, fsp));
+    private CheckedBiConsumer<Integer, FieldsVisitor, IOException> storedFieldsReader(
+        SearchContext context,
+        LeafReaderContext readerContext,
+        boolean sequential
+    ) throws IOException {
+        if (sequential && readerContext.reader() instanceof SequentialStoredFieldsLeafReader lf) {
+            // Lucene stored fields are optimized for random access and don't optimize for sequential access - except for merging.
+            // So we do a little hack here and pretend we're going to do merges in order to decompress each stored fields block
+            // once for all the docs of the batch it holds.
+            StoredFieldsReader sequentialReader;
+            // For scroll queries, try to get cached reader
+            if (context.scrollContext() != null) {
+                // To get a unique identifier for this segment to use as a cache key
+                Object segmentKey = lf.getCoreCacheHelper() != null ? lf.getCoreCacheHelper().getKey() : readerContext;
+                sequentialReader = context.scrollContext().getCachedSequentialReader(segmentKey);
+                if (sequentialReader == null) {
+                    sequentialReader = lf.getSequentialStoredFieldsReader();
+                    context.scrollContext().cacheSequentialReader(segmentKey, sequentialReader);
                 }
+            } else {
+                sequentialReader = lf.getSequentialStoredFieldsReader();
             }
-            return processors;
-        } catch (Exception e) {
-            throw new FetchPhaseExecutionException(target, "Error building fetch sub-phases", e);
+            return sequentialReader::document;
         }
+        return readerContext.reader().storedFields()::document;
+    }
+
+    /**
+     * The docs of a single segment to fetch, the range {@code [from, to)} of the docs sorted by doc id.
+     */
+    record SegmentBatch(int leafIndex, int from, int to) {
     }
 
     static class DocIdToIndex implements Comparable<DocIdToIndex> {
@@ -804,10 +969,11 @@ public class FetchPhase {
     }
 
     /**
-     * Returns <code>true</code> if the provided <code>docs</code> are
-     * stored sequentially (Dn = Dn-1 + 1).
+     * Returns <code>true</code> if the docs of the range {@code [from, to)} of a segment batch are close enough to each other for
+     * the sequential stored fields reader, which decompresses each stored fields block once for all of its docs, to pay off.
      */
-    static boolean hasSequentialDocs(DocIdToIndex[] docs) {
-        return docs.length > 0 && docs[docs.length - 1].docId - docs[0].docId == docs.length - 1;
+    static boolean useSequentialReader(DocIdToIndex[] docs, int from, int to) {
+        int count = to - from;
+        return count >= SEQUENTIAL_READER_MIN_DOCS && docs[to - 1].docId - docs[from].docId < count * SEQUENTIAL_READER_MAX_AVERAGE_GAP;
     }
 }
@@ -35,10 +35,19 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.ReaderUtil;
+import org.opensearch.common.CheckedBiConsumer;
+import org.opensearch.index.fieldvisitor.CustomFieldsVisitor;
+import org.opensearch.index.fieldvisitor.FieldsVisitor;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.lookup.SourceLookup;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Sub phase within the fetch phase used to fetch things *about* the documents like highlighting or matched queries.
@@ -57,6 +66,8 @@ public interface FetchSubPhase {
         private final LeafReaderContext readerContext;
         private final int docId;
         private final SourceLookup sourceLookup;
+        private CheckedBiConsumer<Integer, FieldsVisitor, IOException> storedFieldsReader;
+        private Map<String, List<Object>> storedFields;
 
         public HitContext(SearchHit hit, LeafReaderContext context, int docId, SourceLookup sourceLookup) {
             this.hit = hit;
@@ -66,6 +77,14 @@ public interface FetchSubPhase {
             sourceLookup.setSegmentAndDocument(context, docId);
         }
 
+        /**
+         * Sets the stored fields reader the fetch phase uses for the segment of this hit, so that the stored fields loaded by the
+         * sub phases reuse the stored fields block it already decompressed.
+         */
+        void storedFieldsReader(CheckedBiConsumer<Integer, FieldsVisitor, IOException> storedFieldsReader) {
+            this.storedFieldsReader = storedFieldsReader;
+        }
+
         public SearchHit hit() {
             return hit;
         }
@@ -99,6 +118,37 @@ public interface FetchSubPhase {
         public IndexReader topLevelReader() {
             return ReaderUtil.getTopLevelContext(readerContext).reader();
         }
+
+        /**
+         * Loads the given stored fields of this hit that were not loaded yet, in a single visit of its stored fields.
+         */
+        public void loadStoredFields(Set<String> fields) throws IOException {
+            if (storedFields == null) {
+                storedFields = new HashMap<>();
+            }
+            Set<String> missingFields = new HashSet<>(fields);
+            missingFields.removeAll(storedFields.keySet());
+            if (missingFields.isEmpty()) {
+                return;
+            }
+            CustomFieldsVisitor fieldsVisitor = new CustomFieldsVisitor(missingFields, false);
+            if (storedFieldsReader != null) {
+                storedFieldsReader.accept(docId, fieldsVisitor);
+            } else {
+                reader().storedFields().document(docId, fieldsVisitor);
+            }
+            for (String field : missingFields) {
+                storedFields.put(field, fieldsVisitor.fields().getOrDefault(field, Collections.emptyList()));
+            }
+        }
+
+        /**
+         * Returns the values of the given stored field of this hit, loading it if it was not loaded yet.
+         */
+        public List<Object> loadStoredField(String field) throws IOException {
+            loadStoredFields(Collections.singleton(field));
+            return storedFields.get(field);
+        }
     }
 
     /**
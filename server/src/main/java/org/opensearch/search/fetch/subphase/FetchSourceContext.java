@@ -35,6 +35,7 @@ package org.opensearch.search.fetch.subphase;
 import org.opensearch.common.Booleans;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.logging.DeprecationLogger;
+import org.opensearch.common.xcontent.support.StreamingXContentFilter;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.ParsingException;
@@ -77,6 +78,7 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
     private final String[] includes;
     private final String[] excludes;
     private Function<Map<String, ?>, Map<String, Object>> filter;
+    private StreamingXContentFilter streamingFilter;
 
     public FetchSourceContext(boolean fetchSource, String[] includes, String[] excludes) {
         this.fetchSource = fetchSource;
@@ -375,4 +377,14 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
         }
         return filter;
     }
+
+    /**
+     * Returns a filter that copies the matching properties of the source while it is parsed, without building the source map.
+     */
+    public StreamingXContentFilter getStreamingFilter() {
+        if (streamingFilter == null) {
+            streamingFilter = StreamingXContentFilter.create(includes, excludes, true);
+        }
+        return streamingFilter;
+    }
 }
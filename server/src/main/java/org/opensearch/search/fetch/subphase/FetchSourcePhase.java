@@ -35,8 +35,13 @@ package org.opensearch.search.fetch.subphase;
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.OpenSearchException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.fetch.FetchContext;
 import org.opensearch.search.fetch.FetchSubPhase;
@@ -96,6 +101,12 @@ public final class FetchSourcePhase implements FetchSubPhase {
             return;
         }
 
+        // If the source was not parsed yet, copy its matching properties while parsing it rather than filtering its map.
+        if (nestedHit == false && source.source() == null) {
+            hitContext.hit().sourceRef(filterSourceBytes(fetchSourceContext, source.internalSourceRef(), source.sourceContentType()));
+            return;
+        }
+
         // Otherwise, filter the source and add it to the hit.
         Object value = source.filter(fetchSourceContext);
         if (nestedHit) {
@@ -123,6 +134,24 @@ public final class FetchSourcePhase implements FetchSubPhase {
         }
     }
 
+    static BytesReference filterSourceBytes(FetchSourceContext fetchSourceContext, BytesReference source, MediaType contentType) {
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.IGNORE_DEPRECATIONS,
+                source,
+                contentType
+            )
+        ) {
+            BytesStreamOutput streamOutput = new BytesStreamOutput(Math.min(1024, source.length()));
+            XContentBuilder builder = new XContentBuilder(contentType.xContent(), streamOutput);
+            fetchSourceContext.getStreamingFilter().filter(parser, builder);
+            return BytesReference.bytes(builder);
+        } catch (IOException e) {
+            throw new OpenSearchException("Error filtering source", e);
+        }
+    }
+
     private static boolean containsFilters(FetchSourceContext context) {
         return context.includes().length != 0 || context.excludes().length != 0;
     }
@@ -48,8 +48,10 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -76,11 +78,13 @@ public class HighlightPhase implements FetchSubPhase {
 
     public FetchSubPhaseProcessor getProcessor(FetchContext context, SearchHighlightContext highlightContext, Query query) {
         Map<String, Object> sharedCache = new HashMap<>();
+        Set<String> storedFields = new HashSet<>();
         Map<String, Function<HitContext, FieldHighlightContext>> contextBuilders = contextBuilders(
             context,
             highlightContext,
             query,
-            sharedCache
+            sharedCache,
+            storedFields
         );
 
         return new FetchSubPhaseProcessor() {
@@ -91,6 +95,10 @@ public class HighlightPhase implements FetchSubPhase {
 
             @Override
             public void process(HitContext hitContext) throws IOException {
+                if (storedFields.isEmpty() == false) {
+                    // read all the stored fields to highlight at once rather than once per field
+                    hitContext.loadStoredFields(storedFields);
+                }
                 Map<String, HighlightField> highlightFields = new HashMap<>();
                 for (String field : contextBuilders.keySet()) {
                     FieldHighlightContext fieldContext = contextBuilders.get(field).apply(hitContext);
@@ -124,7 +132,8 @@ public class HighlightPhase implements FetchSubPhase {
         FetchContext context,
         SearchHighlightContext highlightContext,
         Query query,
-        Map<String, Object> sharedCache
+        Map<String, Object> sharedCache,
+        Set<String> storedFields
     ) {
         Map<String, Function<HitContext, FieldHighlightContext>> builders = new LinkedHashMap<>();
         for (SearchHighlightContext.Field field : highlightContext.fields()) {
@@ -176,6 +185,9 @@ public class HighlightPhase implements FetchSubPhase {
                 Query highlightQuery = field.fieldOptions().highlightQuery();
 
                 boolean forceSource = highlightContext.forceSource(field);
+                if (forceSource == false && fieldType.isStored() && highlighter instanceof FastVectorHighlighter == false) {
+                    storedFields.add(fieldType.name());
+                }
                 MappedFieldType finalFieldType = fieldType;
                 builders.put(
                     fieldName,
@@ -34,7 +34,6 @@ package org.opensearch.search.fetch.subphase.highlight;
 import org.apache.lucene.search.highlight.DefaultEncoder;
 import org.apache.lucene.search.highlight.Encoder;
 import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
-import org.opensearch.index.fieldvisitor.CustomFieldsVisitor;
 import org.opensearch.index.mapper.DerivedFieldValueFetcher;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.ValueFetcher;
@@ -42,11 +41,8 @@ import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.fetch.FetchSubPhase;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
 
-import static java.util.Collections.singleton;
-
 /**
  * Utility class used during the highlight phase of the search request.
  *
@@ -72,10 +68,7 @@ public final class HighlightUtils {
         boolean forceSource
     ) throws IOException {
         if (forceSource == false && fieldType.isStored()) {
-            CustomFieldsVisitor fieldVisitor = new CustomFieldsVisitor(singleton(fieldType.name()), false);
-            hitContext.reader().storedFields().document(hitContext.docId(), fieldVisitor);
-            List<Object> textsToHighlight = fieldVisitor.fields().get(fieldType.name());
-            return textsToHighlight != null ? textsToHighlight : Collections.emptyList();
+            return hitContext.loadStoredField(fieldType.name());
         }
         ValueFetcher fetcher = fieldType.valueFetcher(context, null, null);
         if (fetcher instanceof DerivedFieldValueFetcher) {
@@ -121,6 +121,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
     private SearchContext searchContext;
+    private final Executor executor;
 
     public ContextIndexSearcher(
         IndexReader reader,
@@ -159,6 +160,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         setQueryCachingPolicy(queryCachingPolicy);
         this.cancellable = cancellable;
         this.searchContext = searchContext;
+        this.executor = executor;
         // Set the timeout on the IndexSearcher so that Lucene-native timeout-aware components
         // (e.g. TimeLimitingKnnCollectorManager used by AbstractKnnVectorQuery) can enforce
         // the query timeout. Without this, searcher.getTimeout() returns null and KNN vector
@@ -276,6 +278,15 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         result.topDocs(new TopDocsAndMaxScore(mergedTopDocs, Float.NaN), formats);
     }
 
+    /**
+     * Searches a single segment with the given collector and builds the aggregations it holds, so that the results of every
+     * segment can be kept apart.
+     */
+    public void searchSegment(LeafReaderContext ctx, Weight weight, Collector collector) throws IOException {
+        searchLeaf(ctx, 0, DocIdSetIterator.NO_MORE_DOCS, weight, collector);
+        searchContext.bucketCollectorProcessor().processPostCollection(collector);
+    }
+
     @Override
     public void search(Query query, Collector collector) throws IOException {
         // TODO : Remove when switching to use the @org.apache.lucene.search.IndexSearcher#search(Query, CollectorManager) variant from
@@ -596,6 +607,17 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
             logger.debug("Slice count using lucene default [{}]", leafSlices.length);
             return leafSlices;
         }
+        if (searchContext.shouldUseAdaptiveSlicing()) {
+            final int sliceCount = MaxTargetSliceSupplier.getLoadAwareSliceCount(targetMaxSlice, executor);
+            final LeafSlice[] leafSlices = MaxTargetSliceSupplier.getCostBasedSlices(
+                leaves,
+                sliceCount,
+                searchContext.shouldUseIntraSegmentSearch(),
+                searchContext.getPartitionMinSegmentSize()
+            );
+            logger.debug("Slice count using adaptive slicing [{}], target [{}]", leafSlices.length, sliceCount);
+            return leafSlices;
+        }
         LeafSlice[] leafSlices = MaxTargetSliceSupplier.getSlices(
             leaves,
             targetMaxSlice,
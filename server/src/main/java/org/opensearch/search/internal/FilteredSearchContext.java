@@ -602,4 +602,14 @@ public abstract class FilteredSearchContext extends SearchContext {
     public boolean shouldUseIntraSegmentSearch() {
         return in.shouldUseIntraSegmentSearch();
     }
+
+    @Override
+    public boolean shouldUseAdaptiveSlicing() {
+        return in.shouldUseAdaptiveSlicing();
+    }
+
+    @Override
+    public int getConcurrentFetchMinDocs() {
+        return in.getConcurrentFetchMinDocs();
+    }
 }
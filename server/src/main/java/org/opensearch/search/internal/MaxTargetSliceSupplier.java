@@ -18,6 +18,10 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.ToLongFunction;
 
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_FORCE;
 
@@ -99,6 +103,58 @@ final class MaxTargetSliceSupplier {
         return distributePartitions(partitions, targetMaxSlice);
     }
 
+    /**
+     * Returns the number of slices to use given the target max slice count and the load of the executor running the slices: a
+     * request does not use more slices than the executor has idle threads, so that it does not queue slices behind the ones of
+     * concurrent requests when the pool is saturated.
+     */
+    static int getLoadAwareSliceCount(int targetMaxSlice, Executor executor) {
+        if (executor instanceof ThreadPoolExecutor threadPoolExecutor) {
+            final int busyThreads = threadPoolExecutor.getActiveCount() + threadPoolExecutor.getQueue().size();
+            return Math.max(1, Math.min(targetMaxSlice, threadPoolExecutor.getMaximumPoolSize() - busyThreads));
+        }
+        if (executor instanceof ForkJoinPool forkJoinPool) {
+            final int busyThreads = forkJoinPool.getActiveThreadCount() + forkJoinPool.getQueuedSubmissionCount();
+            return Math.max(1, Math.min(targetMaxSlice, forkJoinPool.getParallelism() - busyThreads));
+        }
+        return targetMaxSlice;
+    }
+
+    /**
+     * Cost based slicing - balance the slices on the live documents of the segments rather than on their max doc, so that segments
+     * with many deletions do not weigh more than the documents a query can visit in them. With intra-segment search, segments that
+     * exceed the fair slice share of live documents and the min segment size are partitioned.
+     */
+    static IndexSearcher.LeafSlice[] getCostBasedSlices(
+        List<LeafReaderContext> leaves,
+        int targetMaxSlice,
+        boolean useIntraSegmentSearch,
+        int minSegmentSize
+    ) {
+        if (targetMaxSlice <= 0) {
+            throw new IllegalArgumentException("MaxTargetSliceSupplier called with unexpected slice count of " + targetMaxSlice);
+        }
+        if (leaves.isEmpty()) {
+            return new IndexSearcher.LeafSlice[0];
+        }
+        long totalCost = 0;
+        for (LeafReaderContext leaf : leaves) {
+            totalCost += leaf.reader().numDocs();
+        }
+        final long maxCostPerPartition = Math.max(1, (totalCost + targetMaxSlice - 1) / targetMaxSlice);
+        List<LeafReaderContextPartition> partitions = new ArrayList<>(leaves.size());
+        for (LeafReaderContext leaf : leaves) {
+            final int cost = leaf.reader().numDocs();
+            if (useIntraSegmentSearch && cost > maxCostPerPartition && leaf.reader().maxDoc() >= minSegmentSize) {
+                int numPartitions = (int) ((cost + maxCostPerPartition - 1) / maxCostPerPartition);
+                addPartitions(partitions, leaf, Math.min(numPartitions, targetMaxSlice));
+            } else {
+                partitions.add(LeafReaderContextPartition.createForEntireSegment(leaf));
+            }
+        }
+        return distributePartitions(partitions, targetMaxSlice, MaxTargetSliceSupplier::getPartitionCost);
+    }
+
     /**
      * Creates partitions for a segment and adds them to the list.
      */
@@ -121,19 +177,30 @@ final class MaxTargetSliceSupplier {
      * that same-segment partitions must be in different slices.
      */
     static IndexSearcher.LeafSlice[] distributePartitions(List<LeafReaderContextPartition> partitions, int targetMaxSlice) {
+        return distributePartitions(partitions, targetMaxSlice, MaxTargetSliceSupplier::getPartitionDocCount);
+    }
+
+    /**
+     * Distribute partitions using LPT algorithm on the given partition cost.
+     */
+    private static IndexSearcher.LeafSlice[] distributePartitions(
+        List<LeafReaderContextPartition> partitions,
+        int targetMaxSlice,
+        ToLongFunction<LeafReaderContextPartition> partitionCost
+    ) {
         if (partitions.isEmpty()) {
             return new IndexSearcher.LeafSlice[0];
         }
         int sliceCount = Math.min(targetMaxSlice, partitions.size());
-        // Sort partitions by doc count descending
-        partitions.sort(Collections.reverseOrder(Comparator.comparingInt(MaxTargetSliceSupplier::getPartitionDocCount)));
+        // Sort partitions by cost descending
+        partitions.sort(Collections.reverseOrder(Comparator.comparingLong(partitionCost)));
         GroupWithSegmentTracking[] slices = new GroupWithSegmentTracking[sliceCount];
         for (int i = 0; i < sliceCount; i++) {
             slices[i] = new GroupWithSegmentTracking(i);
         }
         for (LeafReaderContextPartition partition : partitions) {
             int segmentOrd = partition.ctx.ord;
-            int docCount = getPartitionDocCount(partition);
+            long docCount = partitionCost.applyAsLong(partition);
             // Find slice with minimum load that doesn't have this segment
             GroupWithSegmentTracking targetSlice = null;
             long minLoad = Long.MAX_VALUE;
@@ -162,6 +229,17 @@ final class MaxTargetSliceSupplier {
         return partition.maxDocId - partition.minDocId;
     }
 
+    /**
+     * The live documents of the partition, assuming the deletions of its segment are spread evenly across the segment.
+     */
+    private static long getPartitionCost(LeafReaderContextPartition partition) {
+        final int maxDoc = partition.ctx.reader().maxDoc();
+        if (maxDoc == 0) {
+            return 0;
+        }
+        return (long) partition.ctx.reader().numDocs() * Math.min(getPartitionDocCount(partition), maxDoc) / maxDoc;
+    }
+
     static class GroupWithSegmentTracking implements Comparable<GroupWithSegmentTracking> {
         final int index;
         long docCountSum;
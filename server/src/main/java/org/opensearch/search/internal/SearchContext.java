@@ -459,6 +459,15 @@ public abstract class SearchContext implements Releasable {
         releasables.add(releasable);
     }
 
+    /**
+     * Frees a releasable that was added with {@link #addReleasable} right away rather than when this context is closed.
+     */
+    public void releaseEarly(Releasable releasable) {
+        if (releasables.remove(releasable)) {
+            releasable.close();
+        }
+    }
+
     /**
      * @return true if the request contains only suggest
      */
@@ -616,6 +625,22 @@ public abstract class SearchContext implements Releasable {
         return CONCURRENT_SEGMENT_SEARCH_PARTITION_MIN_SEGMENT_SIZE.getDefault(Settings.EMPTY);
     }
 
+    /**
+     * Returns whether the slices of concurrent segment search are sized on the live documents of the segments and the load of the
+     * index searcher pool rather than on the target max slice count alone.
+     */
+    public boolean shouldUseAdaptiveSlicing() {
+        return false;
+    }
+
+    /**
+     * Returns the minimum number of hits from which the fetch phase loads the hits of different segments concurrently, or 0 if it
+     * always loads them sequentially.
+     */
+    public int getConcurrentFetchMinDocs() {
+        return 0;
+    }
+
     /**
      * Evaluates whether this request should use intra-segment search based on query and aggregation analysis.
      */
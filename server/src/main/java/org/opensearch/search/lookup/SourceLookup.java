@@ -43,11 +43,16 @@ import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.index.fieldvisitor.FieldsVisitor;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -76,7 +81,13 @@ public class SourceLookup implements Map {
         return source;
     }
 
+    /**
+     * The content type of the source, detected from the source bytes if they were not parsed yet.
+     */
     public MediaType sourceContentType() {
+        if (sourceContentType == null && source == null && sourceAsBytes != null) {
+            sourceContentType = detectContentType(sourceAsBytes);
+        }
         return sourceContentType;
     }
 
@@ -129,6 +140,20 @@ public class SourceLookup implements Map {
         return this.source;
     }
 
+    private static MediaType detectContentType(BytesReference source) {
+        try {
+            Compressor compressor = CompressorRegistry.compressor(source);
+            if (compressor == null) {
+                return MediaTypeRegistry.xContentType(source);
+            }
+            try (InputStream in = compressor.threadLocalInputStream(source.streamInput())) {
+                return MediaTypeRegistry.xContentType(in.markSupported() ? in : new BufferedInputStream(in));
+            }
+        } catch (IOException e) {
+            throw new OpenSearchParseException("failed to detect the content type of the source", e);
+        }
+    }
+
     private static Tuple<XContentType, Map<String, Object>> sourceAsMapAndType(BytesReference source) throws OpenSearchParseException {
         return XContentHelper.convertToMap(source, false);
     }
@@ -155,6 +180,7 @@ public class SourceLookup implements Map {
 
     public void setSource(BytesReference source) {
         this.sourceAsBytes = source;
+        this.sourceContentType = null;
     }
 
     public void setSourceContentType(MediaType sourceContentType) {
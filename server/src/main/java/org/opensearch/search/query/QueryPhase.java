@@ -40,26 +40,41 @@ import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.MultiCollector;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
 import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.Weight;
 import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.common.Booleans;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.util.concurrent.EWMATrackingThreadPoolExecutor;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.indices.IndicesSegmentAggregationCache;
 import org.opensearch.lucene.queries.SearchAfterSortedDocQuery;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchContextSourcePrinter;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.AggregationProcessor;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorBase;
+import org.opensearch.search.aggregations.BucketCollector;
+import org.opensearch.search.aggregations.BucketCollectorProcessor;
 import org.opensearch.search.aggregations.DefaultAggregationProcessor;
 import org.opensearch.search.aggregations.GlobalAggCollectorManager;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.MultiBucketCollector;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.ScrollContext;
 import org.opensearch.search.internal.SearchContext;
@@ -72,11 +87,15 @@ import org.opensearch.search.suggest.SuggestProcessor;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
@@ -134,6 +153,19 @@ public class QueryPhase {
     }
 
     public void execute(SearchContext searchContext) throws QueryPhaseExecutionException {
+        execute(searchContext, null, null);
+    }
+
+    /**
+     * Executes the query phase. If a segment aggregation cache is provided, the aggregations are computed segment by segment and the
+     * results that the cache holds for the given request key are reused, see
+     * {@link org.opensearch.indices.IndicesService#canUseSegmentAggregationCache}.
+     */
+    public void execute(
+        SearchContext searchContext,
+        @Nullable IndicesSegmentAggregationCache segmentAggregationCache,
+        @Nullable BytesReference cacheKey
+    ) throws QueryPhaseExecutionException {
         if (searchContext.hasOnlySuggest()) {
             suggestProcessor.process(searchContext);
             searchContext.queryResult()
@@ -152,8 +184,16 @@ public class QueryPhase {
         // Pre-process aggregations as late as possible. In the case of a DFS_Q_T_F
         // request, preProcess is called on the DFS phase phase, this is why we pre-process them
         // here to make sure it happens during the QUERY phase
-        aggregationProcessor.preProcess(searchContext);
-        boolean rescore = executeInternal(searchContext, queryPhaseSearcher);
+        if (segmentAggregationCache == null) {
+            aggregationProcessor.preProcess(searchContext);
+        } else {
+            // the segment aggregation cache creates aggregators of its own for every segment, the collector managers of the
+            // aggregation processor would never collect
+            searchContext.setBucketCollectorProcessor(new BucketCollectorProcessor());
+        }
+        boolean rescore = segmentAggregationCache == null
+            ? executeInternal(searchContext, queryPhaseSearcher)
+            : executeWithSegmentAggregationCache(searchContext, segmentAggregationCache, Objects.requireNonNull(cacheKey));
 
         if (rescore) { // only if we do a regular search
             rescoreProcessor.process(searchContext);
@@ -308,6 +348,162 @@ public class QueryPhase {
         }
     }
 
+    /**
+     * Executes a size=0 request segment by segment, taking the hit count and the partial aggregations of the segments the request was
+     * already executed on from the given cache and caching those of the other segments. The partial aggregations of all segments are
+     * then reduced as if they had been collected at once.
+     * @return whether the rescoring phase should be executed, which is never the case for size=0 requests
+     */
+    static boolean executeWithSegmentAggregationCache(
+        SearchContext searchContext,
+        IndicesSegmentAggregationCache segmentAggregationCache,
+        BytesReference cacheKey
+    ) throws QueryPhaseExecutionException {
+        assert searchContext.size() == 0 && searchContext.aggregations() != null;
+        final ContextIndexSearcher searcher = searchContext.searcher();
+        final QuerySearchResult queryResult = searchContext.queryResult();
+        queryResult.searchTimedOut(false);
+        try {
+            queryResult.from(searchContext.from());
+            queryResult.size(searchContext.size());
+            if (searchContext.lowLevelCancellation()) {
+                searcher.addQueryCancellation(() -> {
+                    SearchShardTask task = searchContext.getTask();
+                    if (task != null && task.isCancelled()) {
+                        throw new TaskCancelledException("cancelled task with reason: " + task.getReasonCancelled());
+                    }
+                });
+            }
+
+            final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+            final IndicesSegmentAggregationCache.SegmentResult[] results = new IndicesSegmentAggregationCache.SegmentResult[leaves.size()];
+            final List<Integer> uncached = new ArrayList<>();
+            for (int i = 0; i < leaves.size(); i++) {
+                results[i] = segmentAggregationCache.get(leaves.get(i), cacheKey);
+                if (results[i] == null) {
+                    uncached.add(i);
+                }
+            }
+            if (searchContext.shouldUseConcurrentSearch() && uncached.size() > 1) {
+                // the segments are collected on the executor of the searcher. The aggregators of a segment are only created once its
+                // collection starts and released once its result is built, so that only the segments being collected hold aggregators.
+                // Creating and building them is serialized since they share the search context and its bucket consumer
+                final Object aggregatorsLock = new Object();
+                final int firstSegment = uncached.get(0);
+                final SegmentCollection first = new SegmentCollection(searchContext, leaves.get(firstSegment));
+                final Weight weight = first.createWeight(searchContext);
+                final List<Callable<Void>> tasks = new ArrayList<>(uncached.size());
+                for (int i : uncached) {
+                    tasks.add(() -> {
+                        final SegmentCollection collection;
+                        if (i == firstSegment) {
+                            collection = first;
+                        } else {
+                            synchronized (aggregatorsLock) {
+                                collection = new SegmentCollection(searchContext, leaves.get(i));
+                            }
+                        }
+                        collection.collect(searcher, weight);
+                        synchronized (aggregatorsLock) {
+                            results[i] = collection.finish(searchContext);
+                        }
+                        return null;
+                    });
+                }
+                searcher.getTaskExecutor().invokeAll(tasks);
+                for (int i : uncached) {
+                    segmentAggregationCache.put(leaves.get(i), cacheKey, results[i]);
+                }
+            } else {
+                Weight weight = null;
+                for (int i : uncached) {
+                    final SegmentCollection collection = new SegmentCollection(searchContext, leaves.get(i));
+                    if (weight == null) {
+                        weight = collection.createWeight(searchContext);
+                    }
+                    collection.collect(searcher, weight);
+                    results[i] = collection.finish(searchContext);
+                    segmentAggregationCache.put(collection.segment, cacheKey, results[i]);
+                }
+            }
+            // the buckets of all segments count towards the max_buckets limit of the request, the consumer is only reset once they are
+            // all built, like the collector managers do once all slices are built
+            searchContext.aggregations().resetBucketMultiConsumer();
+
+            final List<InternalAggregations> segmentAggregations = new ArrayList<>(results.length);
+            long hitCount = 0;
+            for (IndicesSegmentAggregationCache.SegmentResult result : results) {
+                hitCount += result.hitCount();
+                segmentAggregations.add(result.aggregations());
+            }
+
+            final TotalHits totalHits = searchContext.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_DISABLED
+                // for bwc hit count is set to 0, it will be converted to -1 by the coordinating node
+                ? new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO)
+                : new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO);
+            queryResult.topDocs(new TopDocsAndMaxScore(new TopDocs(totalHits, Lucene.EMPTY_SCORE_DOCS), Float.NaN), new DocValueFormat[0]);
+            queryResult.aggregations(InternalAggregations.reduce(segmentAggregations, searchContext.partialOnShard()));
+            return false;
+        } catch (Exception e) {
+            throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Failed to execute main query", e);
+        }
+    }
+
+    /**
+     * The collection of a single segment for the segment aggregation cache, with its own aggregators so that the partial aggregations
+     * of every segment are kept apart.
+     */
+    private static final class SegmentCollection {
+        private final LeafReaderContext segment;
+        private final List<Aggregator> aggregators;
+        private final BucketCollector collector;
+        private final TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
+
+        SegmentCollection(SearchContext searchContext, LeafReaderContext segment) throws IOException {
+            this.segment = segment;
+            this.aggregators = searchContext.aggregations().factories().createTopLevelNonGlobalAggregators(searchContext);
+            this.collector = MultiBucketCollector.wrap(aggregators);
+            collector.preCollection();
+        }
+
+        Weight createWeight(SearchContext searchContext) throws IOException {
+            final ScoreMode scoreMode = collector.scoreMode();
+            final Query query = scoreMode.needsScores() ? searchContext.query() : new ConstantScoreQuery(searchContext.query());
+            final ContextIndexSearcher searcher = searchContext.searcher();
+            return searcher.createWeight(searcher.rewrite(query), scoreMode, 1f);
+        }
+
+        void collect(ContextIndexSearcher searcher, Weight weight) throws IOException {
+            searcher.searchSegment(segment, weight, MultiCollector.wrap(hitCountCollector, collector));
+        }
+
+        /**
+         * Builds the result of the segment and releases its aggregators right away rather than when the search context is closed, so
+         * that a request collecting many segments doesn't hold on to the aggregators of all of them.
+         */
+        IndicesSegmentAggregationCache.SegmentResult finish(SearchContext searchContext) throws IOException {
+            try {
+                final List<InternalAggregation> internals = searchContext.bucketCollectorProcessor()
+                    .toInternalAggregations(List.of(collector));
+                return new IndicesSegmentAggregationCache.SegmentResult(
+                    hitCountCollector.getTotalHits(),
+                    InternalAggregations.from(internals)
+                );
+            } finally {
+                release(searchContext, aggregators);
+            }
+        }
+
+        private static void release(SearchContext searchContext, Collection<Aggregator> aggregators) {
+            for (Aggregator aggregator : aggregators) {
+                if (aggregator instanceof AggregatorBase aggregatorBase) {
+                    release(searchContext, Arrays.asList(aggregatorBase.subAggregators()));
+                }
+                searchContext.releaseEarly(aggregator);
+            }
+        }
+    }
+
     /**
      * Create runnable which throws {@link TimeExceededException} when the runnable is called after timeout + runnable creation time
      * exceeds currentTime
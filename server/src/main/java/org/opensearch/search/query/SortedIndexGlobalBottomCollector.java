@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.DocIdStream;
+import org.apache.lucene.search.FieldComparator;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.LeafFieldComparator;
+import org.apache.lucene.search.Pruning;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lucene.Lucene;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Collector} that stops collecting a segment sorted by the index sort as soon as its next document sorts after the global
+ * bottom of the shard, the best value known to have at least {@code numHits} documents sorting before or equal to it across all
+ * slices of the search. Since the documents of such a segment are collected in sort order, the rest of the segment cannot compete.
+ * <p>
+ * Every slice shares the same {@link GlobalBottom}, and publishes to it the sort values of the {@code numHits}-th document it
+ * collects in a sorted segment, so that the slices stop collecting as soon as one of them has determined the shard-level top hits.
+ * This is only valid when the search sort is a prefix of the index sort, the hits are not paginated with search_after and the
+ * collector is not used to count hits.
+ *
+ * @opensearch.internal
+ */
+final class SortedIndexGlobalBottomCollector extends FilterCollector {
+
+    private final GlobalBottom globalBottom;
+
+    SortedIndexGlobalBottomCollector(TopDocsCollector<?> in, GlobalBottom globalBottom) {
+        super(in);
+        this.globalBottom = globalBottom;
+    }
+
+    TopDocsCollector<?> getTopDocsCollector() {
+        return (TopDocsCollector<?>) in;
+    }
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+        final LeafCollector leafCollector = super.getLeafCollector(context);
+        final Sort indexSort = context.reader().getMetaData().sort();
+        if (indexSort == null || Lucene.canEarlyTerminate(globalBottom.sort, indexSort) == false) {
+            return leafCollector;
+        }
+        return new SortedLeafCollector(leafCollector, context);
+    }
+
+    private final class SortedLeafCollector extends FilterLeafCollector {
+        private final LeafReaderContext context;
+        private final FieldComparator<?>[] comparators;
+        private final LeafFieldComparator[] leafComparators;
+        private final int[] reverseMul;
+        private Object[] top;
+        private int collected;
+
+        SortedLeafCollector(LeafCollector in, LeafReaderContext context) throws IOException {
+            super(in);
+            this.context = context;
+            final SortField[] sortFields = globalBottom.sort.getSort();
+            this.comparators = new FieldComparator<?>[sortFields.length];
+            this.leafComparators = new LeafFieldComparator[sortFields.length];
+            this.reverseMul = new int[sortFields.length];
+            for (int i = 0; i < sortFields.length; i++) {
+                comparators[i] = sortFields[i].getComparator(1, Pruning.NONE);
+                reverseMul[i] = sortFields[i].getReverse() ? -1 : 1;
+            }
+            resetLeafComparators();
+        }
+
+        private void resetLeafComparators() throws IOException {
+            // leaf comparators may resolve the top value when they are created, e.g. to a term ordinal
+            for (int i = 0; i < comparators.length; i++) {
+                leafComparators[i] = comparators[i].getLeafComparator(context);
+            }
+        }
+
+        @Override
+        public void collect(DocIdStream stream) throws IOException {
+            stream.forEach(this::collect);
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            final Object[] bottom = globalBottom.get();
+            if (bottom != null) {
+                if (bottom != top) {
+                    setTopValues(bottom);
+                }
+                if (compareTop(doc) < 0) {
+                    // this document and all the following ones of the segment sort after the global bottom
+                    throw new CollectionTerminatedException();
+                }
+            }
+            in.collect(doc);
+            if (++collected == globalBottom.numHits) {
+                globalBottom.offer(values(doc));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void setTopValues(Object[] values) throws IOException {
+            for (int i = 0; i < comparators.length; i++) {
+                ((FieldComparator<Object>) comparators[i]).setTopValue(values[i]);
+            }
+            resetLeafComparators();
+            top = values;
+        }
+
+        private int compareTop(int doc) throws IOException {
+            for (int i = 0; i < leafComparators.length; i++) {
+                final int cmp = reverseMul[i] * leafComparators[i].compareTop(doc);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            // ties may still be competitive
+            return 0;
+        }
+
+        private Object[] values(int doc) throws IOException {
+            final Object[] values = new Object[leafComparators.length];
+            for (int i = 0; i < leafComparators.length; i++) {
+                leafComparators[i].copy(0, doc);
+                final Object value = comparators[i].value(0);
+                // comparators may reuse the bytes of their slots
+                values[i] = value instanceof BytesRef bytes ? BytesRef.deepCopyOf(bytes) : value;
+            }
+            return values;
+        }
+    }
+
+    /**
+     * The global bottom shared by the collectors of all the slices of a shard search.
+     *
+     * @opensearch.internal
+     */
+    static final class GlobalBottom {
+        private final Sort sort;
+        private final int numHits;
+        private final FieldComparator<?>[] comparators;
+        private final int[] reverseMul;
+        private final AtomicReference<Object[]> bottom = new AtomicReference<>();
+
+        GlobalBottom(Sort sort, int numHits) {
+            this.sort = sort;
+            this.numHits = numHits;
+            final SortField[] sortFields = sort.getSort();
+            this.comparators = new FieldComparator<?>[sortFields.length];
+            this.reverseMul = new int[sortFields.length];
+            for (int i = 0; i < sortFields.length; i++) {
+                comparators[i] = sortFields[i].getComparator(1, Pruning.NONE);
+                reverseMul[i] = sortFields[i].getReverse() ? -1 : 1;
+            }
+        }
+
+        Object[] get() {
+            return bottom.get();
+        }
+
+        /**
+         * Replaces the global bottom with the given sort values if they sort before it.
+         */
+        void offer(Object[] values) {
+            Object[] current;
+            do {
+                current = bottom.get();
+                if (current != null && compare(values, current) >= 0) {
+                    return;
+                }
+            } while (bottom.compareAndSet(current, values) == false);
+        }
+
+        @SuppressWarnings("unchecked")
+        private int compare(Object[] first, Object[] second) {
+            for (int i = 0; i < comparators.length; i++) {
+                final int cmp = reverseMul[i] * ((FieldComparator<Object>) comparators[i]).compareValues(first[i], second[i]);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -517,24 +517,37 @@ public abstract class TopDocsCollectorContext extends QueryCollectorContext impl
                 EarlyTerminatingListener {
             private Integer terminatedAfter;
             private final CollectorManager<? extends TopDocsCollector<?>, ? extends TopDocs> manager;
+            private final SortedIndexGlobalBottomCollector.GlobalBottom globalBottom;
 
             private SimpleTopDocsCollectorManager() {
+                final boolean countsHits;
                 if (sortByScore && hasInfMaxScore) {
                     // disable max score optimization since we have a mandatory clause
                     // that doesn't track the maximum score
                     manager = createCollectorManager(sortAndFormats, numHits, searchAfter, Integer.MAX_VALUE);
+                    countsHits = true;
                 } else if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
                     // don't compute hit counts via the collector
                     manager = createCollectorManager(sortAndFormats, numHits, searchAfter, 1);
+                    countsHits = false;
                 } else {
                     // implicit total hit counts are valid only when there is no filter collector in the chain
                     if (hitCount == -1) {
                         manager = createCollectorManager(sortAndFormats, numHits, searchAfter, trackTotalHitsUpTo);
+                        countsHits = true;
                     } else {
                         // don't compute hit counts via the collector
                         manager = createCollectorManager(sortAndFormats, numHits, searchAfter, 1);
+                        countsHits = false;
                     }
                 }
+                // the slices of a search sorted like the index share the bottom of the shard-level top hits, unless they need to
+                // see every matching document to count hits or track the max score
+                if (sortByScore == false && countsHits == false && searchAfter == null && trackMaxScore == false && numHits > 0) {
+                    globalBottom = new SortedIndexGlobalBottomCollector.GlobalBottom(sortAndFormats.sort, numHits);
+                } else {
+                    globalBottom = null;
+                }
             }
 
             @Override
@@ -550,6 +563,9 @@ public abstract class TopDocsCollectorContext extends QueryCollectorContext impl
                     maxScoreCollector = new MaxScoreCollector();
                 }
 
+                if (globalBottom != null) {
+                    return new SortedIndexGlobalBottomCollector(manager.newCollector(), globalBottom);
+                }
                 return MultiCollector.wrap(manager.newCollector(), maxScoreCollector);
             }
 
@@ -570,6 +586,8 @@ public abstract class TopDocsCollectorContext extends QueryCollectorContext impl
                         }
                     } else if (collector instanceof TopDocsCollector<?> c) {
                         topDocsCollectors.add(c);
+                    } else if (collector instanceof SortedIndexGlobalBottomCollector c) {
+                        topDocsCollectors.add(c.getTopDocsCollector());
                     } else if (collector instanceof MaxScoreCollector msc) {
                         maxScoreCollectors.add(msc);
                     }
@@ -12,16 +12,19 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.SizeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.node.Node;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
 import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A builder for fork join executors.
@@ -37,6 +40,10 @@ public final class ForkJoinPoolExecutorBuilder extends ExecutorBuilder<ForkJoinP
     private final Setting<String> threadFactorySetting;
     private final Setting<Boolean> enableExceptionHandlingSetting;
 
+    // Only set for work-stealing pools, whose tasks wait in a bounded queue
+    private final Setting<Integer> queueSizeSetting;
+    private final AtomicReference<RunnableTaskExecutionListener> runnableTaskListener;
+
     // Logger for uncaught exception handler
     private static final Logger logger = LogManager.getLogger(ForkJoinPoolExecutorBuilder.class);
 
@@ -45,7 +52,39 @@ public final class ForkJoinPoolExecutorBuilder extends ExecutorBuilder<ForkJoinP
     }
 
     public ForkJoinPoolExecutorBuilder(final String name, final int parallelism, final String prefix) {
+        this(name, parallelism, prefix, null, null);
+    }
+
+    /**
+     * Builds a {@link WorkStealingForkJoinPool}, whose tasks run with the thread context of the thread that submitted them and are
+     * rejected once more than {@code queueSize} of them wait for a worker.
+     */
+    public ForkJoinPoolExecutorBuilder(
+        final String name,
+        final int parallelism,
+        final int queueSize,
+        final String prefix,
+        final AtomicReference<RunnableTaskExecutionListener> runnableTaskListener
+    ) {
+        this(
+            name,
+            parallelism,
+            prefix,
+            Setting.intSetting(settingsKey(prefix, "queue_size"), queueSize, 1, Setting.Property.NodeScope),
+            runnableTaskListener
+        );
+    }
+
+    private ForkJoinPoolExecutorBuilder(
+        final String name,
+        final int parallelism,
+        final String prefix,
+        final Setting<Integer> queueSizeSetting,
+        final AtomicReference<RunnableTaskExecutionListener> runnableTaskListener
+    ) {
         super(name);
+        this.queueSizeSetting = queueSizeSetting;
+        this.runnableTaskListener = runnableTaskListener;
         this.parallelismSetting = Setting.intSetting(
             settingsKey(prefix, "parallelism"),
             parallelism,
@@ -63,7 +102,13 @@ public final class ForkJoinPoolExecutorBuilder extends ExecutorBuilder<ForkJoinP
 
     @Override
     public List<Setting<?>> getRegisteredSettings() {
-        return Arrays.asList(parallelismSetting, asyncModeSetting, threadFactorySetting, enableExceptionHandlingSetting);
+        final List<Setting<?>> settings = new ArrayList<>(
+            Arrays.asList(parallelismSetting, asyncModeSetting, threadFactorySetting, enableExceptionHandlingSetting)
+        );
+        if (queueSizeSetting != null) {
+            settings.add(queueSizeSetting);
+        }
+        return settings;
     }
 
     @Override
@@ -73,7 +118,15 @@ public final class ForkJoinPoolExecutorBuilder extends ExecutorBuilder<ForkJoinP
         final boolean asyncMode = asyncModeSetting.get(settings); // optional, default false
         final String threadFactoryClassName = threadFactorySetting.get(settings); // optional, default ""
         final boolean enableExceptionHandling = enableExceptionHandlingSetting.get(settings); // optional, default true
-        return new ForkJoinPoolExecutorSettings(nodeName, parallelism, asyncMode, threadFactoryClassName, enableExceptionHandling);
+        final int queueSize = queueSizeSetting == null ? -1 : queueSizeSetting.get(settings); // only for work-stealing pools
+        return new ForkJoinPoolExecutorSettings(
+            nodeName,
+            parallelism,
+            asyncMode,
+            threadFactoryClassName,
+            enableExceptionHandling,
+            queueSize
+        );
     }
 
     @Override
@@ -113,15 +166,48 @@ public final class ForkJoinPoolExecutorBuilder extends ExecutorBuilder<ForkJoinP
             ? (thread, throwable) -> logger.error("Uncaught exception in ForkJoinPool thread [" + thread.getName() + "]", throwable)
             : null;
 
-        final ForkJoinPool executor = new ForkJoinPool(parallelism, factory, exceptionHandler, asyncMode);
+        final ForkJoinPool executor;
+        final SizeValue queueSize;
+        if (settings.queueSize > 0) {
+            executor = new WorkStealingForkJoinPool(
+                name(),
+                parallelism,
+                settings.queueSize,
+                factory,
+                exceptionHandler,
+                asyncMode,
+                threadContext,
+                runnableTaskListener
+            );
+            queueSize = new SizeValue(settings.queueSize);
+        } else {
+            executor = new ForkJoinPool(parallelism, factory, exceptionHandler, asyncMode);
+            queueSize = null;
+        }
 
-        final ThreadPool.Info info = new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.FORK_JOIN, parallelism, parallelism, null, null);
+        final ThreadPool.Info info = new ThreadPool.Info(
+            name(),
+            ThreadPool.ThreadPoolType.FORK_JOIN,
+            parallelism,
+            parallelism,
+            null,
+            queueSize
+        );
         return new ThreadPool.ExecutorHolder(executor, info);
     }
 
     @Override
     String formatInfo(ThreadPool.Info info) {
-        return String.format(Locale.ROOT, "name [%s], parallelism [%d]", info.getName(), info.getMax());
+        if (info.getQueueSize() == null) {
+            return String.format(Locale.ROOT, "name [%s], parallelism [%d]", info.getName(), info.getMax());
+        }
+        return String.format(
+            Locale.ROOT,
+            "name [%s], parallelism [%d], queue size [%s]",
+            info.getName(),
+            info.getMax(),
+            info.getQueueSize()
+        );
     }
 
     static class ForkJoinPoolExecutorSettings extends ExecutorBuilder.ExecutorSettings {
@@ -129,19 +215,22 @@ public final class ForkJoinPoolExecutorBuilder extends ExecutorBuilder<ForkJoinP
         private final boolean asyncMode;
         private final String threadFactoryClassName;
         private final boolean enableExceptionHandling;
+        private final int queueSize;
 
         ForkJoinPoolExecutorSettings(
             final String nodeName,
             final int parallelism,
             final boolean asyncMode,
             final String threadFactoryClassName,
-            final boolean enableExceptionHandling
+            final boolean enableExceptionHandling,
+            final int queueSize
         ) {
             super(nodeName);
             this.parallelism = parallelism;
             this.asyncMode = asyncMode;
             this.threadFactoryClassName = threadFactoryClassName;
             this.enableExceptionHandling = enableExceptionHandling;
+            this.queueSize = queueSize;
         }
     }
 }
@@ -43,6 +43,7 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.SizeValue;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.BoundedVirtualThreadPerTaskExecutorService;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -178,6 +179,10 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         }
     }
 
+    /**
+     * The types of the built-in thread pools with the default node settings, see {@link #threadPoolType} for the type of a pool with
+     * given node settings.
+     */
     public static final Map<String, ThreadPoolType> THREAD_POOL_TYPES;
 
     static {
@@ -216,6 +221,17 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         THREAD_POOL_TYPES = Collections.unmodifiableMap(map);
     }
 
+    /**
+     * Returns the type of the built-in thread pool with the given name on a node with the given settings, which differs from
+     * {@link #THREAD_POOL_TYPES} for the index searcher pool when it is work-stealing.
+     */
+    public static ThreadPoolType threadPoolType(Settings settings, String name) {
+        if (Names.INDEX_SEARCHER.equals(name) && INDEX_SEARCHER_WORK_STEALING_SETTING.get(settings)) {
+            return ThreadPoolType.FORK_JOIN;
+        }
+        return THREAD_POOL_TYPES.get(name);
+    }
+
     private final Map<String, ExecutorHolder> executors;
 
     private final ThreadPoolInfo threadPoolInfo;
@@ -230,6 +246,27 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
 
     private final ScheduledThreadPoolExecutor scheduler;
 
+    /**
+     * Whether the search and get pools run their tasks on virtual threads. The pools keep their size, which limits the number of
+     * tasks running at once, and their queue size, beyond which tasks are rejected, but tasks that block on I/O such as reads of
+     * remote store or file cache data park their virtual thread instead of holding one of a bounded set of platform threads.
+     */
+    public static final Setting<Boolean> SEARCH_AND_GET_VIRTUAL_THREADS_SETTING = Setting.boolSetting(
+        "thread_pool.search_and_get.virtual_threads",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Whether the slices of concurrent segment search run on a work-stealing fork join pool rather than on a fixed size pool with a
+     * queue, so that idle workers pick up the slices that are still waiting while others are busy with slow ones.
+     */
+    public static final Setting<Boolean> INDEX_SEARCHER_WORK_STEALING_SETTING = Setting.boolSetting(
+        "thread_pool.index_searcher.work_stealing",
+        false,
+        Setting.Property.NodeScope
+    );
+
     public Collection<ExecutorBuilder> builders() {
         return Collections.unmodifiableCollection(builders.values());
     }
@@ -268,12 +305,29 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         builders.put(Names.GENERIC, new ScalingExecutorBuilder(Names.GENERIC, 4, genericThreadPoolMax, TimeValue.timeValueSeconds(30)));
         builders.put(Names.TRANSLOG_RECOVERY, new FixedExecutorBuilder(settings, Names.TRANSLOG_RECOVERY, allocatedProcessors, -1));
         builders.put(Names.WRITE, new FixedExecutorBuilder(settings, Names.WRITE, allocatedProcessors, 10000));
-        builders.put(Names.GET, new FixedExecutorBuilder(settings, Names.GET, allocatedProcessors, 1000));
+        if (SEARCH_AND_GET_VIRTUAL_THREADS_SETTING.get(settings)) {
+            builders.put(Names.GET, new VirtualExecutorBuilder(settings, Names.GET, allocatedProcessors, 1000, "thread_pool." + Names.GET));
+        } else {
+            builders.put(Names.GET, new FixedExecutorBuilder(settings, Names.GET, allocatedProcessors, 1000));
+        }
         builders.put(Names.ANALYZE, new FixedExecutorBuilder(settings, Names.ANALYZE, 1, 16));
-        builders.put(
-            Names.SEARCH,
-            new ResizableExecutorBuilder(settings, Names.SEARCH, searchThreadPoolSize(allocatedProcessors), 1000, runnableTaskListener)
-        );
+        if (SEARCH_AND_GET_VIRTUAL_THREADS_SETTING.get(settings)) {
+            builders.put(
+                Names.SEARCH,
+                new VirtualExecutorBuilder(
+                    settings,
+                    Names.SEARCH,
+                    searchThreadPoolSize(allocatedProcessors),
+                    1000,
+                    "thread_pool." + Names.SEARCH
+                )
+            );
+        } else {
+            builders.put(
+                Names.SEARCH,
+                new ResizableExecutorBuilder(settings, Names.SEARCH, searchThreadPoolSize(allocatedProcessors), 1000, runnableTaskListener)
+            );
+        }
         // TODO: configure the appropriate size and explore use of virtual threads
         builders.put(
             Names.STREAM_SEARCH,
@@ -345,16 +399,29 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             Names.REMOTE_STATE_READ,
             new FixedExecutorBuilder(settings, Names.REMOTE_STATE_READ, boundedBy(4 * allocatedProcessors, 4, 32), 120000)
         );
-        builders.put(
-            Names.INDEX_SEARCHER,
-            new ResizableExecutorBuilder(
-                settings,
+        if (threadPoolType(settings, Names.INDEX_SEARCHER) == ThreadPoolType.FORK_JOIN) {
+            builders.put(
                 Names.INDEX_SEARCHER,
-                twiceAllocatedProcessors(allocatedProcessors),
-                1000,
-                runnableTaskListener
-            )
-        );
+                new ForkJoinPoolExecutorBuilder(
+                    Names.INDEX_SEARCHER,
+                    twiceAllocatedProcessors(allocatedProcessors),
+                    1000,
+                    "thread_pool." + Names.INDEX_SEARCHER,
+                    runnableTaskListener
+                )
+            );
+        } else {
+            builders.put(
+                Names.INDEX_SEARCHER,
+                new ResizableExecutorBuilder(
+                    settings,
+                    Names.INDEX_SEARCHER,
+                    twiceAllocatedProcessors(allocatedProcessors),
+                    1000,
+                    runnableTaskListener
+                )
+            );
+        }
         builders.put(
             Names.REMOTE_STATE_CHECKSUM,
             new FixedExecutorBuilder(settings, Names.REMOTE_STATE_CHECKSUM, ClusterStateChecksum.COMPONENT_SIZE, 1000)
@@ -562,16 +629,24 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                 continue;
             }
             if (holder.info.type == ThreadPoolType.FORK_JOIN) {
+                final ForkJoinPool forkJoinPool = (ForkJoinPool) holder.executor();
+                long queued = forkJoinPool.getQueuedSubmissionCount() + forkJoinPool.getQueuedTaskCount();
+                long rejected = 0;
+                if (forkJoinPool instanceof WorkStealingForkJoinPool workStealingPool) {
+                    queued += workStealingPool.getSubmissionCount();
+                    rejected = workStealingPool.getRejectedCount();
+                }
                 stats.add(
                     new ThreadPoolStats.Stats.Builder().name(name)
-                        .threads(0)
-                        .queue(0)
-                        .active(0)
-                        .rejected(0)
+                        .threads(forkJoinPool.getPoolSize())
+                        .queue((int) Math.min(queued, Integer.MAX_VALUE))
+                        .active(forkJoinPool.getActiveThreadCount())
+                        .rejected(rejected)
                         .largest(0)
                         .completed(0)
                         .waitTimeNanos(-1)
                         .parallelism(holder.info.getMax())
+                        .steals(forkJoinPool.getStealCount())
                         .build()
                 );
                 continue;
@@ -588,7 +663,13 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             // Executor types that do not expose pool metrics fall through with the -1 "unavailable" defaults set above.
             // A virtual thread-per-task pool has neither a bounded set of worker threads nor a queue, so threads,
             // queue, largest, and rejected have no referent; only the task flow counters are meaningful.
-            if (holder.executor() instanceof VirtualThreadPerTaskExecutorService virtualExecutor) {
+            if (holder.executor() instanceof BoundedVirtualThreadPerTaskExecutorService boundedExecutor) {
+                // a bounded pool has a queue of tasks waiting for one of its running slots
+                active = boundedExecutor.getRunningCount();
+                queue = boundedExecutor.getQueueSize();
+                rejected = boundedExecutor.getRejectedCount();
+                completed = boundedExecutor.getCompletedTaskCount();
+            } else if (holder.executor() instanceof VirtualThreadPerTaskExecutorService virtualExecutor) {
                 active = virtualExecutor.getActiveCount();
                 completed = virtualExecutor.getCompletedTaskCount();
             } else if (holder.executor() instanceof OpenSearchThreadPoolExecutor threadPoolExecutor) {
@@ -1087,6 +1168,10 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                 builder.field("parallelism", max);
             } else if (type == ThreadPoolType.VIRTUAL) {
                 // an unbounded virtual thread-per-task pool has no size, keep alive, or queue to report
+                if (max != -1) {
+                    builder.field("size", max);
+                    builder.field("queue_size", queueSize == null ? -1 : queueSize.singles());
+                }
             } else {
                 assert max != -1;
                 builder.field("size", max);
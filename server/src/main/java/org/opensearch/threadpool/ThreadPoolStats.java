@@ -72,6 +72,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
         private final long completed;
         private final long waitTimeNanos;
         private final int parallelism;
+        private final long steals;
 
         /**
          * Private constructor that takes a builder.
@@ -88,6 +89,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             this.completed = builder.completed;
             this.waitTimeNanos = builder.waitTimeNanos;
             this.parallelism = builder.parallelism;
+            this.steals = builder.steals;
         }
 
         /**
@@ -105,6 +107,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             this.completed = completed;
             this.waitTimeNanos = waitTimeNanos;
             this.parallelism = -1;
+            this.steals = -1;
         }
 
         /**
@@ -132,6 +135,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             this.completed = completed;
             this.waitTimeNanos = waitTimeNanos;
             this.parallelism = parallelism;
+            this.steals = -1;
         }
 
         public Stats(StreamInput in) throws IOException {
@@ -144,6 +148,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             completed = in.readLong();
             waitTimeNanos = in.getVersion().onOrAfter(Version.V_2_11_0) ? in.readLong() : -1;
             parallelism = in.getVersion().onOrAfter(Version.V_3_4_0) ? in.readInt() : -1;
+            steals = in.getVersion().onOrAfter(Version.V_3_9_0) ? in.readLong() : -1;
         }
 
         @Override
@@ -161,6 +166,9 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
                 out.writeInt(parallelism);
             }
+            if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+                out.writeLong(steals);
+            }
         }
 
         public String getName() {
@@ -203,6 +211,13 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             return parallelism;
         }
 
+        /**
+         * The number of tasks that workers of a fork join pool stole from the queues of other workers, or -1 for other pools.
+         */
+        public long getSteals() {
+            return steals;
+        }
+
         @Override
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.startObject(name);
@@ -227,6 +242,9 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             if (completed != -1) {
                 builder.field(Fields.COMPLETED, completed);
             }
+            if (steals != -1) {
+                builder.field(Fields.STEALS, steals);
+            }
             if (waitTimeNanos != -1) {
                 if (builder.humanReadable()) {
                     builder.field(Fields.WAIT_TIME, getWaitTime());
@@ -268,6 +286,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             private long completed = 0;
             private long waitTimeNanos = 0;
             private int parallelism = 0;
+            private long steals = -1;
 
             public Builder() {}
 
@@ -316,6 +335,11 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
                 return this;
             }
 
+            public Builder steals(long steals) {
+                this.steals = steals;
+                return this;
+            }
+
             /**
              * Creates a {@link Stats} object from the builder's current state.
              * @return A new Stats instance.
@@ -358,6 +382,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
         static final String WAIT_TIME = "total_wait_time";
         static final String WAIT_TIME_NANOS = "total_wait_time_in_nanos";
         static final String PARALLELISM = "parallelism";
+        static final String STEALS = "steals";
     }
 
     @Override
@@ -10,6 +10,7 @@ package org.opensearch.threadpool;
 
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.SizeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.node.Node;
@@ -19,12 +20,16 @@ import java.util.Locale;
 import java.util.concurrent.ExecutorService;
 
 /**
- * A builder for executors backed by a virtual thread per task.
+ * A builder for executors backed by a virtual thread per task. The executor is either unbounded, or limits the number of tasks
+ * running at once and rejects tasks once its queue is full, like a fixed pool with the same size and queue size.
  *
  * @opensearch.internal
  */
 public final class VirtualExecutorBuilder extends ExecutorBuilder<VirtualExecutorBuilder.VirtualExecutorSettings> {
 
+    private final Setting<Integer> sizeSetting;
+    private final Setting<Integer> queueSizeSetting;
+
     /**
      * Construct a virtual thread-per-task executor builder.
      *
@@ -32,34 +37,94 @@ public final class VirtualExecutorBuilder extends ExecutorBuilder<VirtualExecuto
      */
     public VirtualExecutorBuilder(final String name) {
         super(name);
+        this.sizeSetting = null;
+        this.queueSizeSetting = null;
+    }
+
+    /**
+     * Construct a bounded virtual thread-per-task executor builder.
+     *
+     * @param settings  the node-level settings
+     * @param name      the name of the executor
+     * @param size      the maximum number of tasks running at once
+     * @param queueSize the maximum number of tasks waiting to run, -1 for unbounded
+     * @param prefix    the prefix for the settings keys
+     */
+    public VirtualExecutorBuilder(final Settings settings, final String name, final int size, final int queueSize, final String prefix) {
+        super(name);
+        final String sizeKey = settingsKey(prefix, "size");
+        this.sizeSetting = new Setting<>(
+            sizeKey,
+            s -> Integer.toString(size),
+            s -> Setting.parseInt(s, 1, applyHardSizeLimit(settings, name), sizeKey),
+            Setting.Property.NodeScope
+        );
+        this.queueSizeSetting = Setting.intSetting(settingsKey(prefix, "queue_size"), queueSize, Setting.Property.NodeScope);
     }
 
     @Override
     public List<Setting<?>> getRegisteredSettings() {
-        return List.of();
+        return sizeSetting == null ? List.of() : List.of(sizeSetting, queueSizeSetting);
     }
 
     @Override
     VirtualExecutorSettings getSettings(Settings settings) {
         final String nodeName = Node.NODE_NAME_SETTING.get(settings);
-        return new VirtualExecutorSettings(nodeName);
+        if (sizeSetting == null) {
+            return new VirtualExecutorSettings(nodeName, -1, -1);
+        }
+        return new VirtualExecutorSettings(nodeName, sizeSetting.get(settings), queueSizeSetting.get(settings));
     }
 
     @Override
     ThreadPool.ExecutorHolder build(final VirtualExecutorSettings settings, final ThreadContext threadContext) {
-        final ExecutorService executor = OpenSearchExecutors.newVirtualThreadPerTaskExecutor(settings.nodeName, name(), threadContext);
-        final ThreadPool.Info info = new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.VIRTUAL);
+        final ExecutorService executor;
+        final ThreadPool.Info info;
+        if (settings.size == -1) {
+            executor = OpenSearchExecutors.newVirtualThreadPerTaskExecutor(settings.nodeName, name(), threadContext);
+            info = new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.VIRTUAL);
+        } else {
+            executor = OpenSearchExecutors.newBoundedVirtualThreadPerTaskExecutor(
+                settings.nodeName,
+                name(),
+                settings.size,
+                settings.queueSize,
+                threadContext
+            );
+            info = new ThreadPool.Info(
+                name(),
+                ThreadPool.ThreadPoolType.VIRTUAL,
+                settings.size,
+                settings.size,
+                null,
+                settings.queueSize < 0 ? null : new SizeValue(settings.queueSize)
+            );
+        }
         return new ThreadPool.ExecutorHolder(executor, info);
     }
 
     @Override
     String formatInfo(ThreadPool.Info info) {
-        return String.format(Locale.ROOT, "name [%s], virtual thread per task", info.getName());
+        if (info.getMax() == -1) {
+            return String.format(Locale.ROOT, "name [%s], virtual thread per task", info.getName());
+        }
+        return String.format(
+            Locale.ROOT,
+            "name [%s], virtual thread per task, size [%d], queue size [%s]",
+            info.getName(),
+            info.getMax(),
+            info.getQueueSize() == null ? "unbounded" : info.getQueueSize()
+        );
     }
 
     static class VirtualExecutorSettings extends ExecutorBuilder.ExecutorSettings {
-        VirtualExecutorSettings(final String nodeName) {
+        private final int size;
+        private final int queueSize;
+
+        VirtualExecutorSettings(final String nodeName, final int size, final int queueSize) {
             super(nodeName);
+            this.size = size;
+            this.queueSize = queueSize;
         }
     }
 
@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.threadpool;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ForkJoinPool} for tasks that are passed to {@link #execute(Runnable)}, such as the slices of concurrent segment search.
+ * <p>
+ * Tasks submitted from outside of the pool are not submitted one by one. They are collected and handed to a worker that forks them
+ * onto its own queue, from which idle workers steal them. Tasks submitted by a worker of the pool are forked onto the queue of that
+ * worker right away.
+ * <p>
+ * Like {@link org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor}, tasks run with the thread context of the thread that
+ * submitted them, report to the runnable task listener for resource tracking, and are rejected once more tasks than the parallelism
+ * and the queue size allow are waiting or running.
+ *
+ * @opensearch.internal
+ */
+final class WorkStealingForkJoinPool extends ForkJoinPool {
+
+    private static final Logger logger = LogManager.getLogger(WorkStealingForkJoinPool.class);
+
+    private final String name;
+    private final int queueSize;
+    private final ThreadContext threadContext;
+    private final AtomicReference<RunnableTaskExecutionListener> runnableTaskListener;
+
+    // the tasks submitted from outside of the pool that no worker forked yet
+    private final Queue<ForkJoinTask<?>> submissions = new ConcurrentLinkedQueue<>();
+    // whether a worker is scheduled to fork the submissions
+    private final AtomicBoolean distributionScheduled = new AtomicBoolean();
+    // the tasks that are waiting or running
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    WorkStealingForkJoinPool(
+        String name,
+        int parallelism,
+        int queueSize,
+        ForkJoinWorkerThreadFactory factory,
+        Thread.UncaughtExceptionHandler handler,
+        boolean asyncMode,
+        ThreadContext threadContext,
+        AtomicReference<RunnableTaskExecutionListener> runnableTaskListener
+    ) {
+        super(parallelism, factory, handler, asyncMode);
+        this.name = name;
+        this.queueSize = queueSize;
+        this.threadContext = threadContext;
+        this.runnableTaskListener = runnableTaskListener;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (pending.incrementAndGet() > getParallelism() + queueSize) {
+            pending.decrementAndGet();
+            rejected.increment();
+            throw new OpenSearchRejectedExecutionException("rejected execution of " + command + " on " + this, isShutdown());
+        }
+        final ForkJoinTask<?> task;
+        try {
+            task = ForkJoinTask.adapt(wrap(command));
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+        if (ForkJoinTask.getPool() == this) {
+            task.fork();
+        } else {
+            submissions.add(task);
+            try {
+                scheduleDistribution();
+            } catch (RejectedExecutionException e) {
+                if (submissions.remove(task)) {
+                    pending.decrementAndGet();
+                }
+                throw new OpenSearchRejectedExecutionException("rejected execution of " + command + " on " + this, isShutdown());
+            }
+        }
+    }
+
+    private Runnable wrap(Runnable command) {
+        final Runnable taskAware = runnableTaskListener == null
+            ? command
+            : new TaskAwareRunnable(threadContext, command, runnableTaskListener);
+        final Runnable withContext = threadContext.preserveContext(taskAware);
+        return () -> {
+            try {
+                withContext.run();
+            } catch (Exception e) {
+                // forked tasks are never joined, so their failures would go unnoticed otherwise
+                logger.error(new ParameterizedMessage("uncaught exception in task of [{}]", name), e);
+            } finally {
+                pending.decrementAndGet();
+            }
+        };
+    }
+
+    private void scheduleDistribution() {
+        if (distributionScheduled.compareAndSet(false, true)) {
+            try {
+                super.execute(new Distribution());
+            } catch (RejectedExecutionException e) {
+                distributionScheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * The number of tasks that were submitted from outside of the pool and not forked by a worker yet.
+     */
+    int getSubmissionCount() {
+        return submissions.size();
+    }
+
+    /**
+     * The number of tasks that were rejected because the queue was full.
+     */
+    long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "WorkStealingForkJoinPool[name = "
+            + name
+            + ", parallelism = "
+            + getParallelism()
+            + ", queue capacity = "
+            + queueSize
+            + ", pending = "
+            + pending.get()
+            + "]";
+    }
+
+    /**
+     * Forks the tasks that were submitted from outside of the pool onto the queue of the worker that runs it, so that the worker runs
+     * them one after the other while idle workers steal the others.
+     */
+    private final class Distribution extends RecursiveAction {
+        @Override
+        protected void compute() {
+            // tasks submitted from now on schedule another distribution, the tasks submitted until now are all forked by this one
+            distributionScheduled.set(false);
+            ForkJoinTask<?> task;
+            while ((task = submissions.poll()) != null) {
+                task.fork();
+            }
+        }
+    }
+}
@@ -33,12 +33,18 @@
 package org.opensearch.action.bulk;
 
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.PagedBytesReference;
+import org.opensearch.core.common.util.ByteArray;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -194,6 +200,66 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
         assertSame(first.routing(), second.routing());
     }
 
+    public void testParsePagedBody() throws IOException {
+        final StringBuilder body = new StringBuilder();
+        final int numItems = randomIntBetween(500, 1000);
+        for (int i = 0; i < numItems; i++) {
+            if (i % 2 == 0) {
+                body.append("{ \"index\":{ \"_id\": \"").append(i).append("\" } }\n");
+                body.append("{ \"field\": \"").append(randomAlphaOfLengthBetween(1, 64)).append("\" }\n");
+            } else {
+                body.append("{ \"update\":{ \"_id\": \"").append(i).append("\" } }\n");
+                body.append("{ \"doc\": { \"field\": \"").append(randomAlphaOfLengthBetween(1, 64)).append("\" } }\n");
+            }
+        }
+        final byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        final ByteArray byteArray = BigArrays.NON_RECYCLING_INSTANCE.newByteArray(bytes.length, false);
+        byteArray.set(0, bytes, 0, bytes.length);
+        final BytesReference paged = BytesReference.fromByteArray(byteArray, bytes.length);
+        assertThat(paged, Matchers.instanceOf(PagedBytesReference.class));
+
+        final List<IndexRequest> indexRequests = new ArrayList<>();
+        final List<UpdateRequest> updateRequests = new ArrayList<>();
+        new BulkRequestParser().parse(
+            paged,
+            "foo",
+            null,
+            null,
+            null,
+            null,
+            false,
+            MediaTypeRegistry.JSON,
+            indexRequests::add,
+            updateRequests::add,
+            req -> fail()
+        );
+        final List<IndexRequest> expectedIndexRequests = new ArrayList<>();
+        final List<UpdateRequest> expectedUpdateRequests = new ArrayList<>();
+        new BulkRequestParser().parse(
+            new BytesArray(bytes),
+            "foo",
+            null,
+            null,
+            null,
+            null,
+            false,
+            MediaTypeRegistry.JSON,
+            expectedIndexRequests::add,
+            expectedUpdateRequests::add,
+            req -> fail()
+        );
+        assertEquals(expectedIndexRequests.size(), indexRequests.size());
+        for (int i = 0; i < indexRequests.size(); i++) {
+            assertEquals(expectedIndexRequests.get(i).id(), indexRequests.get(i).id());
+            assertEquals(expectedIndexRequests.get(i).source(), indexRequests.get(i).source());
+        }
+        assertEquals(expectedUpdateRequests.size(), updateRequests.size());
+        for (int i = 0; i < updateRequests.size(); i++) {
+            assertEquals(expectedUpdateRequests.get(i).id(), updateRequests.get(i).id());
+            assertEquals(expectedUpdateRequests.get(i).doc().source(), updateRequests.get(i).doc().source());
+        }
+    }
+
     public void testFailOnUnsupportedAction() {
         BytesArray request = new BytesArray("{ \"baz\":{ \"_id\": \"bar\" } }\n{}\n");
         BulkRequestParser parser = new BulkRequestParser();
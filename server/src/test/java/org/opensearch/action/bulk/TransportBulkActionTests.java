@@ -39,10 +39,12 @@ import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.bulk.TransportBulkActionTookTests.Resolver;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.ActionTestUtils;
 import org.opensearch.action.support.AutoCreateIndex;
 import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.DataStream;
@@ -53,12 +55,14 @@ import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardRoutingState;
 import org.opensearch.cluster.routing.TestShardRouting;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
@@ -76,6 +80,7 @@ import org.opensearch.indices.SystemIndexDescriptor;
 import org.opensearch.indices.SystemIndices;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
+import org.opensearch.test.ClusterServiceUtils;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
 import org.opensearch.test.transport.CapturingTransport;
@@ -85,6 +90,7 @@ import org.opensearch.transport.TransportService;
 import org.junit.After;
 import org.junit.Before;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -94,6 +100,11 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mockito.ArgumentMatchers;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
@@ -105,8 +116,13 @@ import static org.opensearch.cluster.metadata.MetadataCreateDataStreamServiceTes
 import static org.opensearch.ingest.IngestServiceTests.createIngestServiceWithProcessors;
 import static org.opensearch.test.ClusterServiceUtils.createClusterService;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class TransportBulkActionTests extends OpenSearchTestCase {
 
@@ -123,17 +139,21 @@ public class TransportBulkActionTests extends OpenSearchTestCase {
         boolean indexCreated = false; // set when the "real" index is created
 
         TestTransportBulkAction() {
+            this(null, new IndexingPressureService(Settings.EMPTY, clusterService));
+        }
+
+        TestTransportBulkAction(TransportShardBulkAction shardBulkAction, IndexingPressureService indexingPressureService) {
             super(
                 TransportBulkActionTests.this.threadPool,
                 transportService,
                 clusterService,
                 createIngestServiceWithProcessors(Collections.emptyMap()),
-                null,
+                shardBulkAction,
                 null,
                 new ActionFilters(Collections.emptySet()),
                 new Resolver(),
                 new AutoCreateIndex(Settings.EMPTY, clusterService.getClusterSettings(), new Resolver(), new SystemIndices(emptyMap())),
-                new IndexingPressureService(Settings.EMPTY, clusterService),
+                indexingPressureService,
                 mock(IndicesService.class),
                 new SystemIndices(emptyMap()),
                 NoopTracer.INSTANCE
@@ -446,6 +466,131 @@ public class TransportBulkActionTests extends OpenSearchTestCase {
         assertTrue(ir.extraFieldValues().isEmpty());
     }
 
+    public void testChunkEnd() {
+        final List<BulkItemRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            requests.add(new BulkItemRequest(i, new IndexRequest("index").id(Integer.toString(i)).source(emptyMap())));
+        }
+        final long itemBytes = requests.get(0).ramBytesUsed();
+        // a chunk always holds at least one request
+        assertEquals(1, TransportBulkAction.chunkEnd(requests, 0, 1));
+        assertEquals(4, TransportBulkAction.chunkEnd(requests, 3, itemBytes));
+        assertEquals(3, TransportBulkAction.chunkEnd(requests, 0, 3 * itemBytes));
+        assertEquals(6, TransportBulkAction.chunkEnd(requests, 3, 3 * itemBytes + itemBytes / 2));
+        assertEquals(10, TransportBulkAction.chunkEnd(requests, 8, Long.MAX_VALUE));
+
+        int from = 0;
+        int chunks = 0;
+        while (from < requests.size()) {
+            from = TransportBulkAction.chunkEnd(requests, from, 4 * itemBytes);
+            chunks++;
+        }
+        assertEquals(3, chunks);
+    }
+
+    public void testChunkSize() {
+        // unknown throughput
+        assertEquals(1000, TransportBulkAction.chunkSize(0, 500, 10, 1000));
+        assertEquals(500, TransportBulkAction.chunkSize(1, 500, 10, 1000));
+        assertEquals(1000, TransportBulkAction.chunkSize(1000, 500, 10, 1000));
+        assertEquals(10, TransportBulkAction.chunkSize(0.001, 500, 10, 1000));
+    }
+
+    public void testSplitShardRequest() throws Exception {
+        final IndexMetadata indexMetadata = IndexMetadata.builder("index")
+            .settings(settings(Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+        ClusterServiceUtils.setState(
+            clusterService,
+            ClusterState.builder(clusterService.state())
+                .metadata(Metadata.builder().put(indexMetadata, false))
+                .routingTable(RoutingTable.builder().addAsNew(indexMetadata).build())
+        );
+        clusterService.getClusterSettings()
+            .applySettings(
+                Settings.builder()
+                    .put(TransportBulkAction.SHARD_REQUEST_SPLIT_ENABLED_SETTING.getKey(), true)
+                    .put(TransportBulkAction.SHARD_REQUEST_SPLIT_MAX_SIZE_SETTING.getKey(), "1kb")
+                    .put(TransportBulkAction.SHARD_REQUEST_SPLIT_MIN_SIZE_SETTING.getKey(), "1kb")
+                    .build()
+            );
+
+        final List<Long> coordinatingBytes = new ArrayList<>();
+        final IndexingPressureService indexingPressureService = mock(IndexingPressureService.class);
+        when(indexingPressureService.markCoordinatingOperationStarted(any(LongSupplier.class), anyBoolean())).thenReturn(() -> {});
+        when(indexingPressureService.markCoordinatingOperationStarted(any(ShardId.class), any(LongSupplier.class), anyBoolean())).then(
+            invocation -> {
+                coordinatingBytes.add(invocation.<LongSupplier>getArgument(1).getAsLong());
+                return (Releasable) () -> {};
+            }
+        );
+        final List<BulkShardRequest> shardRequests = new ArrayList<>();
+        final List<Long> pendingBytes = new ArrayList<>();
+        final List<Integer> stackDepths = new ArrayList<>();
+        final TransportShardBulkAction shardBulkAction = mock(TransportShardBulkAction.class);
+        final TestTransportBulkAction action = new TestTransportBulkAction(shardBulkAction, indexingPressureService);
+        doAnswer(invocation -> {
+            final BulkShardRequest shardRequest = invocation.getArgument(0);
+            final ActionListener<BulkShardResponse> listener = invocation.getArgument(1);
+            shardRequests.add(shardRequest);
+            pendingBytes.add(action.pendingShardRequestChunkBytes());
+            stackDepths.add(Thread.currentThread().getStackTrace().length);
+            final BulkItemResponse[] responses = new BulkItemResponse[shardRequest.items().length];
+            for (int i = 0; i < responses.length; i++) {
+                final BulkItemRequest item = shardRequest.items()[i];
+                responses[i] = new BulkItemResponse(
+                    item.id(),
+                    DocWriteRequest.OpType.INDEX,
+                    new IndexResponse(shardRequest.shardId(), item.request().id(), 1, 1, 1, true)
+                );
+            }
+            listener.onResponse(new BulkShardResponse(shardRequest.shardId(), responses));
+            return null;
+        }).when(shardBulkAction).execute(any(BulkShardRequest.class), ArgumentMatchers.<ActionListener<BulkShardResponse>>any());
+
+        final WriteRequest.RefreshPolicy refreshPolicy = randomFrom(WriteRequest.RefreshPolicy.values());
+        final BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(refreshPolicy);
+        final int numItems = randomIntBetween(5, 20);
+        for (int i = 0; i < numItems; i++) {
+            bulkRequest.add(new IndexRequest("index").id(Integer.toString(i)).source(singletonMap("field", randomAlphaOfLength(400))));
+        }
+        final PlainActionFuture<BulkResponse> future = PlainActionFuture.newFuture();
+        ActionTestUtils.execute(action, null, bulkRequest, future);
+        final BulkResponse response = future.actionGet();
+        assertFalse(response.hasFailures());
+        assertEquals(numItems, response.getItems().length);
+
+        // the items are sent in order as several shard requests
+        assertThat(shardRequests.size(), greaterThan(1));
+        final List<Integer> itemIds = new ArrayList<>();
+        for (BulkShardRequest shardRequest : shardRequests) {
+            for (BulkItemRequest item : shardRequest.items()) {
+                itemIds.add(item.id());
+            }
+        }
+        assertEquals(IntStream.range(0, numItems).boxed().collect(Collectors.toList()), itemIds);
+
+        assertEquals(shardRequests.size(), coordinatingBytes.size());
+        long remainingBytes = 0;
+        for (int i = shardRequests.size() - 1; i >= 0; i--) {
+            final BulkShardRequest shardRequest = shardRequests.get(i);
+            // only the last chunk refreshes as requested
+            final boolean last = i == shardRequests.size() - 1;
+            assertEquals(last ? refreshPolicy : WriteRequest.RefreshPolicy.NONE, shardRequest.getRefreshPolicy());
+            // the coordinating pressure of the shard only accounts for the chunk, the chunks still to be sent are pending
+            assertEquals(shardRequest.ramBytesUsed(), (long) coordinatingBytes.get(i));
+            assertEquals(remainingBytes, (long) pendingBytes.get(i));
+            for (BulkItemRequest item : shardRequest.items()) {
+                remainingBytes += item.ramBytesUsed();
+            }
+        }
+        assertEquals(0L, action.pendingShardRequestChunkBytes());
+        // chunks that complete right away are sent in a loop, not from nested completion callbacks
+        assertEquals(1L, stackDepths.stream().distinct().count());
+    }
+
     public void testBulkAdaptiveSelectShard() {
         // if IndexRoutingTable is null, we should return null
         ResponseCollectorService nodeMetricsCollector = new ResponseCollectorService(clusterService);
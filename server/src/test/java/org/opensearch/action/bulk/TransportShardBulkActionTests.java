@@ -58,15 +58,19 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.routing.AllocationId;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressureService;
@@ -78,6 +82,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.Mapping;
 import org.opensearch.index.mapper.MetadataFieldMapper;
 import org.opensearch.index.mapper.RootObjectMapper;
+import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.remote.RemoteStorePressureService;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
@@ -112,6 +117,8 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.any;
@@ -1075,6 +1082,165 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testPreParsedIndexOperations() throws Exception {
+        IndexShard shard = newStartedShard(
+            true,
+            Settings.builder()
+                .put(IndexSettings.INDEX_BULK_PARALLEL_PARSE_ENABLED_SETTING.getKey(), true)
+                .put(IndexSettings.INDEX_BULK_PARALLEL_PARSE_MIN_ITEMS_SETTING.getKey(), 2)
+                .build()
+        );
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(2, 64)];
+        for (int i = 0; i < items.length; i++) {
+            final DocWriteRequest<?> writeRequest;
+            if (i >= 2 && rarely()) {
+                writeRequest = new DeleteRequest("index").id("id_" + (i - 1));
+            } else {
+                writeRequest = new IndexRequest("index").id("id_" + i)
+                    .source(Requests.INDEX_CONTENT_TYPE)
+                    .opType(randomFrom(DocWriteRequest.OpType.INDEX, DocWriteRequest.OpType.CREATE));
+            }
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+        assertTrue(BulkDocumentPreParser.shouldPreParse(bulkShardRequest, shard));
+
+        IndexShard.PreParsedIndex[] preParsed = BulkDocumentPreParser.preParse(
+            bulkShardRequest,
+            shard,
+            threadPool.executor(Names.WRITE),
+            randomIntBetween(1, 4)
+        );
+        for (int i = 0; i < items.length; i++) {
+            assertThat(preParsed[i] != null, equalTo(items[i].request() instanceof IndexRequest));
+        }
+
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        context.setPreParsedOperations(preParsed);
+        while (context.hasMoreOperationsToExecute()) {
+            assertThat(context.hasPreParsedOperation(), equalTo(context.getCurrent() instanceof IndexRequest));
+            TransportShardBulkAction.executeBulkItemRequest(
+                context,
+                null,
+                threadPool::absoluteTimeInMillis,
+                new NoopMappingUpdatePerformer(),
+                listener -> {},
+                ASSERTING_DONE_LISTENER
+            );
+        }
+        for (BulkItemRequest item : context.getBulkShardRequest().items()) {
+            assertFalse(item.primaryResponse().isFailed());
+        }
+
+        // a document parsed before a mapping update is parsed again with the new mapping
+        IndexShard.PreParsedIndex newField = shard.preParseIndexOperationOnPrimary(
+            Versions.MATCH_ANY,
+            VersionType.INTERNAL,
+            new SourceToParse("index", "new_field", new BytesArray("{\"foo\":\"bar\"}"), MediaTypeRegistry.JSON),
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            SequenceNumbers.UNASSIGNED_PRIMARY_TERM,
+            IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP,
+            false
+        );
+        Engine.IndexResult result = shard.applyIndexOperationOnPrimary(newField);
+        assertThat(result.getResultType(), equalTo(Engine.Result.Type.MAPPING_UPDATE_REQUIRED));
+        shard.mapperService()
+            .merge(
+                MapperService.SINGLE_MAPPING_NAME,
+                new CompressedXContent(result.getRequiredMappingUpdate(), ToXContent.EMPTY_PARAMS),
+                MapperService.MergeReason.MAPPING_UPDATE
+            );
+        assertThat(shard.applyIndexOperationOnPrimary(newField).getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+
+        closeShards(shard);
+    }
+
+    public void testPreParseParallelism() throws Exception {
+        final int maxThreads = randomIntBetween(1, 8);
+        IndexMetadata metadata = IndexMetadata.builder("index")
+            .settings(
+                Settings.builder().put(idxSettings).put(IndexSettings.INDEX_BULK_PARALLEL_PARSE_MAX_THREADS_SETTING.getKey(), maxThreads)
+            )
+            .primaryTerm(0, 1)
+            .build();
+        IndexShard shard = mock(IndexShard.class);
+        when(shard.indexSettings()).thenReturn(new IndexSettings(metadata, Settings.EMPTY));
+
+        assertThat(BulkDocumentPreParser.parallelism(shard, null), equalTo(1));
+        // a small pool only lends one thread, the executing one
+        ThreadPool.Info smallPool = new ThreadPool.Info(Names.WRITE, ThreadPool.ThreadPoolType.FIXED, 3, 3, null, null);
+        assertThat(BulkDocumentPreParser.parallelism(shard, smallPool), equalTo(1));
+        // a large pool lends at most a quarter of its threads, and no more than the setting allows
+        final int poolSize = randomIntBetween(4, 64);
+        ThreadPool.Info pool = new ThreadPool.Info(Names.WRITE, ThreadPool.ThreadPoolType.FIXED, poolSize, poolSize, null, null);
+        assertThat(BulkDocumentPreParser.parallelism(shard, pool), equalTo(Math.min(maxThreads, poolSize / 4)));
+    }
+
+    public void testBatchedIndexOperationsOnPrimary() throws Exception {
+        IndexShard shard = newStartedShard(
+            true,
+            Settings.builder().put(IndexSettings.INDEX_BULK_PRIMARY_BATCH_ENABLED_SETTING.getKey(), true).build()
+        );
+        assertTrue(shard.indexSettings().isBulkPrimaryBatchEnabled());
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(4, 64)];
+        final int newFieldSlot = randomIntBetween(1, items.length - 2);
+        for (int i = 0; i < items.length; i++) {
+            final DocWriteRequest<?> writeRequest;
+            if (i >= 2 && i != newFieldSlot && rarely()) {
+                writeRequest = new DeleteRequest("index").id("id_" + (i - 1));
+            } else if (i == newFieldSlot) {
+                // requires a mapping update in the middle of a run of index operations
+                writeRequest = new IndexRequest("index").id("id_" + i).source(Requests.INDEX_CONTENT_TYPE, "new_field", "bar");
+            } else {
+                writeRequest = new IndexRequest("index").id("id_" + i)
+                    .source(Requests.INDEX_CONTENT_TYPE)
+                    .opType(randomFrom(DocWriteRequest.OpType.INDEX, DocWriteRequest.OpType.CREATE));
+            }
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+        MappingUpdatePerformer mappingUpdater = (update, id, listener) -> ActionListener.completeWith(listener, () -> {
+            shard.mapperService()
+                .merge(
+                    MapperService.SINGLE_MAPPING_NAME,
+                    new CompressedXContent(update, ToXContent.EMPTY_PARAMS),
+                    MapperService.MergeReason.MAPPING_UPDATE
+                );
+            return null;
+        });
+
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        assertThat(context.indexOperationRun().length, greaterThanOrEqualTo(2));
+        while (context.hasMoreOperationsToExecute()) {
+            TransportShardBulkAction.executeIndexOperationRun(context);
+            if (context.hasMoreOperationsToExecute() == false) {
+                break;
+            }
+            TransportShardBulkAction.executeBulkItemRequest(
+                context,
+                null,
+                threadPool::absoluteTimeInMillis,
+                mappingUpdater,
+                listener -> listener.onResponse(null),
+                ASSERTING_DONE_LISTENER
+            );
+            assertTrue(context.isInitial());
+        }
+
+        long previousSeqNo = SequenceNumbers.NO_OPS_PERFORMED;
+        for (BulkItemRequest item : context.getBulkShardRequest().items()) {
+            assertFalse(item.primaryResponse().isFailed());
+            final long seqNo = item.primaryResponse().getResponse().getSeqNo();
+            assertThat(seqNo, greaterThan(previousSeqNo));
+            previousSeqNo = seqNo;
+        }
+        assertNotNull(shard.mapperService().fieldType("new_field"));
+
+        closeShards(shard);
+    }
+
     public void testNoOpReplicationOnPrimaryDocumentFailure() throws Exception {
         final IndexShard shard = spy(newStartedShard(false));
         final String failureMessage = "simulated primary failure";
@@ -1285,6 +1451,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
 
             IndexShard shard = mock(IndexShard.class);
             when(shard.shardId()).thenReturn(shardId);
+            when(shard.indexSettings()).thenReturn(new IndexSettings(indexMetadata(), Settings.EMPTY));
             when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenReturn(
                 success1,
                 mappingUpdate,
@@ -231,6 +231,48 @@ public class BottomSortValuesCollectorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testWithMergedTopDocs() {
+        SortField[] sortFields = new SortField[] { new SortField("foo", SortField.Type.LONG) };
+        DocValueFormat[] sortFormats = new DocValueFormat[] { DocValueFormat.RAW };
+        BottomSortValuesCollector collector = new BottomSortValuesCollector(3, sortFields);
+        collector.consumeTopDocs(createTopDocs(sortFields[0], 100, newLongArray(5L, 10L, 15L)), sortFormats);
+        assertThat(collector.getBottomSortValues().getRawSortValues()[0], equalTo(15L));
+        // none of the shards that were merged returned enough docs on their own
+        collector.consumeMergedTopDocs(createTopDocs(sortFields[0], 100, newLongArray(1L, 2L, 7L)), sortFormats);
+        assertThat(collector.getTotalHits(), equalTo(100L));
+        assertThat(collector.getBottomSortValues().getRawSortValues()[0], equalTo(7L));
+        // a worse bottom is ignored
+        collector.consumeMergedTopDocs(createTopDocs(sortFields[0], 100, newLongArray(1L, 2L, 8L)), sortFormats);
+        assertThat(collector.getBottomSortValues().getRawSortValues()[0], equalTo(7L));
+    }
+
+    public void testTrimTopDocs() {
+        for (boolean reverse : new boolean[] { true, false }) {
+            SortField[] sortFields = new SortField[] { new SortField("foo", SortField.Type.LONG, reverse) };
+            DocValueFormat[] sortFormats = new DocValueFormat[] { DocValueFormat.RAW };
+            BottomSortValuesCollector collector = new BottomSortValuesCollector(3, sortFields);
+            TopFieldDocs topDocs = createTopDocs(sortFields[0], 100, newLongArray(10L, 20L, 30L, 40L));
+            // nothing to trim without a bottom
+            assertSame(topDocs, collector.trimTopDocs(topDocs));
+
+            collector.consumeTopDocs(createTopDocs(sortFields[0], 100, newLongArray(15L, 20L, 25L)), sortFormats);
+            TopFieldDocs trimmed = collector.trimTopDocs(topDocs);
+            assertThat(trimmed.totalHits, equalTo(topDocs.totalHits));
+            if (reverse) {
+                // the bottom is 15
+                assertThat(trimmed.scoreDocs.length, equalTo(3));
+                assertThat(((FieldDoc) trimmed.scoreDocs[2]).fields[0], equalTo(20L));
+            } else {
+                // the bottom is 25
+                assertThat(trimmed.scoreDocs.length, equalTo(2));
+                assertThat(((FieldDoc) trimmed.scoreDocs[1]).fields[0], equalTo(20L));
+            }
+            // docs that sort equal to the bottom are kept
+            TopFieldDocs ties = createTopDocs(sortFields[0], 100, newLongArray(reverse ? 15L : 25L));
+            assertSame(ties, collector.trimTopDocs(ties));
+        }
+    }
+
     private Object[] newDoubleArray(Double... values) {
         return values;
     }
@@ -66,6 +66,7 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
@@ -187,6 +188,70 @@ public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
         assertThrows(CircuitBreakingException.class, queryPhaseResultConsumer::reduce);
     }
 
+    public void testConcurrentPartialReduces() throws Exception {
+        final int numShards = randomIntBetween(20, 200);
+        final int maxConcurrentReduces = randomIntBetween(2, 4);
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test").field("value")).size(0));
+        searchRequest.setBatchedReduceSize(randomIntBetween(2, 6));
+        AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        AtomicLong breakerBytes = new AtomicLong();
+        CircuitBreaker circuitBreaker = new NoopCircuitBreaker(CircuitBreaker.REQUEST) {
+            @Override
+            public double addEstimateBytesAndMaybeBreak(long bytes, String label) {
+                return breakerBytes.addAndGet(bytes);
+            }
+
+            @Override
+            public long addWithoutBreaking(long bytes) {
+                return breakerBytes.addAndGet(bytes);
+            }
+        };
+        OpenSearchThreadPoolExecutor reduceExecutor = OpenSearchExecutors.newFixed(
+            "test_reduce",
+            maxConcurrentReduces,
+            numShards,
+            OpenSearchExecutors.daemonThreadFactory("test_reduce"),
+            threadPool.getThreadContext()
+        );
+        try {
+            QueryPhaseResultConsumer consumer = new QueryPhaseResultConsumer(
+                searchRequest,
+                reduceExecutor,
+                circuitBreaker,
+                searchPhaseController,
+                SearchProgressListener.NOOP,
+                writableRegistry(),
+                numShards,
+                onPartialMergeFailure::set,
+                () -> false,
+                maxConcurrentReduces
+            );
+            CountDownLatch consumed = new CountDownLatch(numShards);
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < numShards; i++) {
+                QuerySearchResult querySearchResult = getQuerySearchResult(i);
+                double value = randomDouble();
+                max = Math.max(max, value);
+                querySearchResult.aggregations(
+                    InternalAggregations.from(List.of(new InternalMax("test", value, DocValueFormat.RAW, null)))
+                );
+                consumer.consumeResult(querySearchResult, consumed::countDown);
+            }
+            assertTrue(consumed.await(10, TimeUnit.SECONDS));
+            assertNull(onPartialMergeFailure.get());
+
+            SearchPhaseController.ReducedQueryPhase reduced = consumer.reduce();
+            InternalMax internalMax = (InternalMax) reduced.aggregations.asList().get(0);
+            assertEquals(max, internalMax.getValue(), 0d);
+            assertEquals(consumer.getNumReducePhases() + 1, reduced.numReducePhases);
+            consumer.close();
+            assertEquals(0, breakerBytes.get());
+        } finally {
+            reduceExecutor.shutdownNow();
+        }
+    }
+
     private static QuerySearchResult getQuerySearchResult(int i) {
         SearchShardTarget searchShardTarget = new SearchShardTarget("node", new ShardId("index", "uuid", i), null, OriginalIndices.NONE);
 
@@ -611,6 +611,61 @@ public class UpdateRequestTests extends OpenSearchTestCase {
 
     }
 
+    public void testPatchSource() throws Exception {
+        final BytesReference source = new BytesArray(
+            "{\"count\": 1, \"tags\": [\"a\", \"b\"], \"nested\": {\"status\": \"old\"}, \"status\": \"old\", \"empty\": null}"
+        );
+        final List<Map<String, Object>> allChanges = List.of(
+            Map.of("count", 1),
+            Map.of("count", 2),
+            Map.of("status", "old", "count", 1),
+            Map.of("status", "new"),
+            Map.of("tags", "c"),
+            Map.of("added", true),
+            Map.of("nested", 7)
+        );
+        for (Map<String, Object> changes : allChanges) {
+            for (boolean detectNoop : new boolean[] { true, false }) {
+                final Map<String, Object> expected = XContentHelper.convertToMap(source, true, MediaTypeRegistry.JSON).v2();
+                final boolean expectedModified = XContentHelper.update(expected, changes, detectNoop);
+
+                final XContentBuilder builder = XContentFactory.jsonBuilder();
+                final boolean modified = UpdateHelper.patchSource(source, MediaTypeRegistry.JSON, changes, detectNoop, builder);
+                assertThat(changes.toString(), modified, equalTo(expectedModified));
+                final Map<String, Object> patched = XContentHelper.convertToMap(BytesReference.bytes(builder), true, MediaTypeRegistry.JSON)
+                    .v2();
+                assertThat(changes.toString(), patched, equalTo(expected));
+                assertThat(changes.toString(), List.copyOf(patched.keySet()), equalTo(List.copyOf(expected.keySet())));
+            }
+        }
+    }
+
+    public void testSourcePatchNoopDetection() throws Exception {
+        ShardId shardId = new ShardId("test", "", 0);
+        GetResult getResult = new GetResult("test", "1", 0, 1, 0, true, new BytesArray("{\"body\": \"foo\"}"), null, null);
+
+        UpdateRequest request = new UpdateRequest("test", "1").fromXContent(
+            createParser(JsonXContent.jsonXContent, new BytesArray("{\"doc\": {\"body\": \"foo\"}}"))
+        );
+        UpdateHelper.Result result = updateHelper.prepareSourcePatchRequest(shardId, request, getResult, true);
+        assertThat(result.action(), instanceOf(UpdateResponse.class));
+        assertThat(result.getResponseResult(), equalTo(DocWriteResponse.Result.NOOP));
+
+        result = updateHelper.prepareSourcePatchRequest(shardId, request, getResult, false);
+        assertThat(result.action(), instanceOf(IndexRequest.class));
+        assertThat(result.getResponseResult(), equalTo(DocWriteResponse.Result.UPDATED));
+
+        request = new UpdateRequest("test", "1").fromXContent(
+            createParser(JsonXContent.jsonXContent, new BytesArray("{\"doc\": {\"body\": \"bar\"}}"))
+        );
+        result = updateHelper.prepareSourcePatchRequest(shardId, request, getResult, true);
+        assertThat(result.action(), instanceOf(IndexRequest.class));
+        assertThat(result.getResponseResult(), equalTo(DocWriteResponse.Result.UPDATED));
+        IndexRequest indexRequest = result.action();
+        assertThat(indexRequest.sourceAsMap(), equalTo(Map.of("body", "bar")));
+        assertThat(indexRequest.getIfSeqNo(), equalTo(getResult.getSeqNo()));
+    }
+
     public void testUpdateScript() throws Exception {
         ShardId shardId = new ShardId("test", "", 0);
         GetResult getResult = new GetResult("test", "1", 0, 1, 0, true, new BytesArray("{\"body\": \"bar\"}"), null, null);
@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.opensearch.common.xcontent.XContentHelper.convertToMap;
+import static org.opensearch.core.xcontent.XContentHelper.toXContent;
+
+public class StreamingXContentFilterTests extends AbstractFilteringTestCase {
+
+    @Override
+    protected void testFilter(Builder expected, Builder actual, Set<String> includes, Set<String> excludes) throws IOException {
+        final XContentType xContentType = randomFrom(XContentType.values());
+        final boolean humanReadable = randomBoolean();
+
+        String[] sourceIncludes;
+        if (includes == null) {
+            sourceIncludes = randomBoolean() ? Strings.EMPTY_ARRAY : null;
+        } else {
+            sourceIncludes = includes.toArray(new String[0]);
+        }
+        String[] sourceExcludes;
+        if (excludes == null) {
+            sourceExcludes = randomBoolean() ? Strings.EMPTY_ARRAY : null;
+        } else {
+            sourceExcludes = excludes.toArray(new String[0]);
+        }
+
+        final BytesReference source = toBytes(actual, xContentType, humanReadable);
+        final Map<String, Object> filtered = filter(source, xContentType, sourceIncludes, sourceExcludes);
+        assertEquals("Filtered map must be equal to the expected map", toMap(expected, xContentType, humanReadable), filtered);
+        assertEquals(
+            "Filtered map must be equal to the map filtered by XContentMapValues",
+            XContentMapValues.filter(convertToMap(source, true, xContentType).v2(), sourceIncludes, sourceExcludes),
+            filtered
+        );
+    }
+
+    @Override
+    public void testSimpleArrayOfObjectsExclusive() throws Exception {
+        // Like XContentMapValues, empty arrays are preserved unless explicitly excluded.
+        testFilter(SIMPLE_ARRAY_OF_OBJECTS_EXCLUSIVE, SAMPLE, emptySet(), singleton("authors"));
+    }
+
+    public void testKeepsPropertiesInSourceOrder() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder()
+            .startObject()
+            .field("z", 1)
+            .startObject("obj")
+            .field("y", 2)
+            .field("secret", 3)
+            .field("b", 4)
+            .endObject()
+            .field("a", 5)
+            .field("skipped", 6)
+            .endObject();
+        XContentBuilder output = XContentFactory.jsonBuilder();
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, BytesReference.bytes(builder))) {
+            StreamingXContentFilter.create(new String[] { "z", "obj", "a" }, new String[] { "obj.secret" }, true).filter(parser, output);
+        }
+        assertEquals("{\"z\":1,\"obj\":{\"y\":2,\"b\":4},\"a\":5}", BytesReference.bytes(output).utf8ToString());
+    }
+
+    public void testCaseInsensitive() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject("Obj")
+            .field("Keep", 1)
+            .field("Drop", 2)
+            .endObject()
+            .endObject();
+        XContentBuilder output = XContentFactory.jsonBuilder();
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, BytesReference.bytes(builder))) {
+            StreamingXContentFilter.create(new String[] { "obj.*" }, new String[] { "OBJ.drop" }, false).filter(parser, output);
+        }
+        assertEquals("{\"Obj\":{\"Keep\":1}}", BytesReference.bytes(output).utf8ToString());
+    }
+
+    private static Map<String, Object> filter(BytesReference source, XContentType xContentType, String[] includes, String[] excludes)
+        throws IOException {
+        XContentBuilder output = XContentBuilder.builder(xContentType.xContent());
+        try (
+            XContentParser parser = xContentType.xContent()
+                .createParser(NamedXContentRegistry.EMPTY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source.streamInput())
+        ) {
+            StreamingXContentFilter.create(includes, excludes, true).filter(parser, output);
+        }
+        return convertToMap(BytesReference.bytes(output), true, xContentType).v2();
+    }
+
+    private static BytesReference toBytes(Builder test, XContentType xContentType, boolean humanReadable) throws IOException {
+        ToXContentObject toXContent = (builder, params) -> test.apply(builder);
+        return toXContent(toXContent, xContentType, humanReadable);
+    }
+
+    private static Map<String, Object> toMap(Builder test, XContentType xContentType, boolean humanReadable) throws IOException {
+        return convertToMap(toBytes(test, xContentType, humanReadable), true, xContentType).v2();
+    }
+}
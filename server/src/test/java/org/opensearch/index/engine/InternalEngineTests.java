@@ -1854,6 +1854,40 @@ public class InternalEngineTests extends EngineTestCase {
         assertThat(indexResult.getVersion(), equalTo(1L));
     }
 
+    public void testIndexBatch() throws IOException {
+        final int numOps = randomIntBetween(2, 50);
+        final List<Engine.Index> batch = new ArrayList<>(numOps);
+        for (int i = 0; i < numOps; i++) {
+            // ids repeat so that operations of the batch update documents indexed earlier in the same batch
+            final String id = Integer.toString(randomIntBetween(0, numOps / 2));
+            batch.add(indexForDoc(testParsedDocument(id, null, testDocument(), B_1, null)));
+        }
+        final List<Engine.IndexResult> results = engine.index(batch);
+        assertThat(results.size(), equalTo(numOps));
+        final Map<String, Long> expectedVersions = new HashMap<>();
+        Translog.Location previousLocation = null;
+        for (int i = 0; i < numOps; i++) {
+            final Engine.IndexResult result = results.get(i);
+            assertThat(result.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+            assertThat(result.getSeqNo(), equalTo((long) i));
+            assertThat(result.getVersion(), equalTo(expectedVersions.merge(batch.get(i).id(), 1L, Long::sum)));
+            assertThat(result.isCreated(), equalTo(result.getVersion() == 1L));
+            assertNotNull(result.getTranslogLocation());
+            if (previousLocation != null) {
+                assertThat(result.getTranslogLocation(), greaterThan(previousLocation));
+            }
+            previousLocation = result.getTranslogLocation();
+        }
+        assertThat(engine.getProcessedLocalCheckpoint(), equalTo((long) numOps - 1));
+        try (Translog.Snapshot snapshot = getTranslog(engine).newSnapshot()) {
+            assertThat(snapshot.totalOperations(), equalTo(numOps));
+        }
+        engine.refresh("test");
+        try (Engine.Searcher searcher = engine.acquireSearcher("test")) {
+            assertThat(searcher.getIndexReader().numDocs(), equalTo(expectedVersions.size()));
+        }
+    }
+
     /*
      * we are testing an edge case here where we have a fully deleted segment that is retained but has all it's IDs pruned away.
      */
@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.tests.util.TestUtil;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class PagedVersionMapTests extends OpenSearchTestCase {
+
+    public void testPutGetRemove() {
+        PagedVersionMap map = new PagedVersionMap();
+        assertTrue(map.isEmpty());
+        BytesRef uid = new BytesRef("test");
+        Translog.Location location = new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt());
+        assertNull(map.put(uid, new IndexVersionValue(location, 1, 2, 3)));
+        assertEquals(new IndexVersionValue(location, 1, 2, 3), map.get(uid));
+        assertEquals(1, map.size());
+
+        assertEquals(new IndexVersionValue(location, 1, 2, 3), map.put(uid, new IndexVersionValue(null, 2, 3, 4)));
+        assertEquals(new IndexVersionValue(null, 2, 3, 4), map.get(uid));
+        assertEquals(1, map.size());
+
+        assertEquals(new IndexVersionValue(null, 2, 3, 4), map.put(uid, new DeleteVersionValue(3, 4, 5, 6)));
+        assertEquals(new DeleteVersionValue(3, 4, 5, 6), map.get(uid));
+
+        assertEquals(new DeleteVersionValue(3, 4, 5, 6), map.remove(uid));
+        assertNull(map.get(uid));
+        assertNull(map.remove(uid));
+        assertTrue(map.isEmpty());
+
+        // a removed key can be added again
+        assertNull(map.put(uid, new IndexVersionValue(null, 4, 5, 6)));
+        assertEquals(new IndexVersionValue(null, 4, 5, 6), map.get(uid));
+        assertEquals(1, map.size());
+    }
+
+    public void testRandomOperations() {
+        PagedVersionMap map = new PagedVersionMap();
+        Map<BytesRef, VersionValue> expected = new HashMap<>();
+        int numOps = scaledRandomIntBetween(100, 10000);
+        for (int i = 0; i < numOps; i++) {
+            BytesRef uid = new BytesRef(TestUtil.randomSimpleString(random(), 1, 5));
+            if (rarely()) {
+                assertEquals(expected.remove(uid), map.remove(uid));
+            } else {
+                VersionValue value = randomBoolean()
+                    ? new DeleteVersionValue(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomLong())
+                    : new IndexVersionValue(
+                        randomBoolean()
+                            ? null
+                            : new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomIntBetween(0, 1024)),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong()
+                    );
+                assertEquals(expected.put(uid, value), map.put(uid, value));
+            }
+            assertEquals(expected.get(uid), map.get(uid));
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, new HashMap<>(map));
+        assertThat(map.ramBytesUsed(), greaterThan(0L));
+    }
+
+    public void testRamBytesUsed() {
+        PagedVersionMap map = new PagedVersionMap();
+        assertEquals(0L, map.ramBytesUsed());
+        map.put(new BytesRef("test"), new IndexVersionValue(null, 1, 1, 1));
+        long bytes = map.ramBytesUsed();
+        // the hash table and the arrays of the first segment are allocated, not only the slots of the entry
+        assertThat(bytes, greaterThan((long) new BytesRef("test").length + 5 * Long.BYTES + Integer.BYTES + 1));
+        int numEntries = scaledRandomIntBetween(1000, 10000);
+        for (int i = 0; i < numEntries; i++) {
+            map.put(new BytesRef("uid" + i), new IndexVersionValue(null, i, i, 1));
+        }
+        long grownBytes = map.ramBytesUsed();
+        assertThat(grownBytes, greaterThan(bytes + numEntries * (5L * Long.BYTES + Integer.BYTES + 1)));
+        // removed entries keep their slots until the map is dropped
+        for (int i = 0; i < numEntries; i++) {
+            map.remove(new BytesRef("uid" + i));
+        }
+        assertEquals(grownBytes, map.ramBytesUsed());
+    }
+
+    public void testLiveVersionMapWithPagedStorage() throws IOException {
+        LiveVersionMap map = new LiveVersionMap(true);
+        assertTrue(map.isPagedStorage());
+        BytesRef uid = new BytesRef("test");
+        try (Releasable r = map.acquireLock(uid)) {
+            Translog.Location tlogLoc = new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt());
+            map.putIndexUnderLock(uid, new IndexVersionValue(tlogLoc, 1, 1, 1));
+            assertEquals(new IndexVersionValue(tlogLoc, 1, 1, 1), map.getUnderLock(uid));
+            long ramBytesUsed = map.ramBytesUsedForRefresh();
+            assertThat(ramBytesUsed, greaterThan(0L));
+            assertEquals(ramBytesUsed, map.ramBytesUsed());
+            map.beforeRefresh();
+            assertEquals(new IndexVersionValue(tlogLoc, 1, 1, 1), map.getUnderLock(uid));
+            assertEquals(ramBytesUsed, map.getRefreshingBytes());
+            assertThat(map.ramBytesUsedForRefresh(), equalTo(0L));
+            map.afterRefresh(randomBoolean());
+            assertNull(map.getUnderLock(uid));
+            assertThat(map.ramBytesUsedForRefresh(), equalTo(0L));
+
+            map.putDeleteUnderLock(uid, new DeleteVersionValue(1, 1, 1, 1));
+            assertEquals(new DeleteVersionValue(1, 1, 1, 1), map.getUnderLock(uid));
+            map.beforeRefresh();
+            map.afterRefresh(randomBoolean());
+            assertEquals(new DeleteVersionValue(1, 1, 1, 1), map.getUnderLock(uid));
+            map.pruneTombstones(2, 1);
+            assertNull(map.getUnderLock(uid));
+        }
+    }
+}
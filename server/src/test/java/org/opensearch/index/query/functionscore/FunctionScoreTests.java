@@ -41,6 +41,7 @@ import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -49,6 +50,7 @@ import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.search.RandomApproximationQuery;
@@ -822,6 +824,83 @@ public class FunctionScoreTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMaxScoreOfBoundedFunctions() throws IOException {
+        Query query = new TermQuery(TERM);
+        FunctionScoreQuery bounded = new FunctionScoreQuery(
+            query,
+            ScoreMode.SUM,
+            new ScoreFunction[] { new WeightFactorFunction(2, GAUSS_DECAY_FUNCTION), new WeightFactorFunction(3, RANDOM_SCORE_FUNCTION) },
+            CombineFunction.MULTIPLY,
+            null,
+            Float.MAX_VALUE
+        );
+        Weight weight = searcher.createWeight(searcher.rewrite(bounded), org.apache.lucene.search.ScoreMode.TOP_SCORES, 1f);
+        Scorer scorer = weight.scorer(reader.leaves().get(0));
+        assertEquals(0, scorer.iterator().nextDoc());
+        float maxScore = scorer.getMaxScore(DocIdSetIterator.NO_MORE_DOCS);
+        assertTrue(maxScore < Float.MAX_VALUE);
+        assertTrue(scorer.score() <= maxScore);
+
+        // max_boost bounds the function score of functions that declare no bound
+        FunctionScoreQuery capped = new FunctionScoreQuery(query, FIELD_VALUE_FACTOR_FUNCTION, CombineFunction.SUM, null, 5f);
+        weight = searcher.createWeight(searcher.rewrite(capped), org.apache.lucene.search.ScoreMode.TOP_SCORES, 1f);
+        scorer = weight.scorer(reader.leaves().get(0));
+        assertTrue(scorer.getMaxScore(DocIdSetIterator.NO_MORE_DOCS) < Float.MAX_VALUE);
+
+        FunctionScoreQuery unbounded = new FunctionScoreQuery(
+            query,
+            FIELD_VALUE_FACTOR_FUNCTION,
+            CombineFunction.SUM,
+            null,
+            Float.MAX_VALUE
+        );
+        weight = searcher.createWeight(searcher.rewrite(unbounded), org.apache.lucene.search.ScoreMode.TOP_SCORES, 1f);
+        scorer = weight.scorer(reader.leaves().get(0));
+        assertEquals(Float.MAX_VALUE, scorer.getMaxScore(DocIdSetIterator.NO_MORE_DOCS), 0f);
+    }
+
+    public void testTopScoresWithBoundedFunctions() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig(new StandardAnalyzer()))) {
+                final int numDocs = randomIntBetween(500, 2000);
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    StringBuilder text = new StringBuilder();
+                    for (int j = randomIntBetween(0, 10); j > 0; j--) {
+                        text.append(randomBoolean() ? "through " : "way ");
+                    }
+                    doc.add(new TextField(FIELD, text.toString(), Field.Store.NO));
+                    writer.addDocument(doc);
+                }
+            }
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                IndexSearcher localSearcher = newSearcher(directoryReader);
+                CombineFunction combineFunction = randomFrom(
+                    CombineFunction.MULTIPLY,
+                    CombineFunction.SUM,
+                    CombineFunction.AVG,
+                    CombineFunction.MIN,
+                    CombineFunction.MAX
+                );
+                FunctionScoreQuery query = new FunctionScoreQuery(
+                    new TermQuery(TERM),
+                    randomFrom(ScoreMode.FIRST, ScoreMode.MAX, ScoreMode.MIN, ScoreMode.MULTIPLY, ScoreMode.SUM),
+                    new ScoreFunction[] { new WeightFactorFunction(randomIntBetween(1, 5), GAUSS_DECAY_FUNCTION), RANDOM_SCORE_FUNCTION },
+                    combineFunction,
+                    null,
+                    Float.MAX_VALUE
+                );
+                // the first search may skip non competitive documents, the second one scores all of them
+                TopDocs topScores = localSearcher.search(query, new TopScoreDocCollectorManager(10, null, 1));
+                TopDocs complete = localSearcher.search(query, new TopScoreDocCollectorManager(10, null, Integer.MAX_VALUE));
+                assertEquals(complete.scoreDocs.length, topScores.scoreDocs.length);
+                for (int i = 0; i < complete.scoreDocs.length; i++) {
+                    assertEquals(complete.scoreDocs[i].score, topScores.scoreDocs[i].score, 0f);
+                }
+            }
+        }
+    }
+
     public void testFunctionScoreHashCodeAndEquals() {
         Float minScore = randomBoolean() ? null : 1.0f;
         CombineFunction combineFunction = randomFrom(CombineFunction.values());
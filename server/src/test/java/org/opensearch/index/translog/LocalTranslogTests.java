@@ -56,6 +56,7 @@ import org.opensearch.common.Randomness;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.io.Channels;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
@@ -417,6 +418,104 @@ public class LocalTranslogTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMappedSnapshotReads() throws IOException {
+        final Path path = createTempDir();
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_MAPPED_READS_SETTING.getKey(), true)
+            .build();
+        final List<Translog.Operation> ops = new ArrayList<>();
+        try (Translog mappedTranslog = createTranslog(getTranslogConfig(path, settings))) {
+            final int numOps = randomIntBetween(1, 100);
+            for (int i = 0; i < numOps; i++) {
+                if (randomBoolean()) {
+                    byte[] source = randomAlphaOfLengthBetween(1, 512).getBytes(StandardCharsets.UTF_8);
+                    addToTranslogAndList(mappedTranslog, ops, new Translog.Index(Integer.toString(i), i, primaryTerm.get(), source));
+                } else {
+                    addToTranslogAndList(mappedTranslog, ops, new Translog.Delete(Integer.toString(i), i, primaryTerm.get()));
+                }
+                if (rarely()) {
+                    mappedTranslog.rollGeneration();
+                }
+            }
+            mappedTranslog.rollGeneration();
+
+            try (Translog.Snapshot snapshot = mappedTranslog.newSnapshot()) {
+                assertThat(snapshot, SnapshotMatchers.equalsTo(ops));
+                assertThat(snapshot.totalOperations(), equalTo(ops.size()));
+            }
+            final List<Translog.Operation> read = new ArrayList<>();
+            try (Translog.Snapshot snapshot = mappedTranslog.newSnapshot()) {
+                Translog.Operation op;
+                while ((op = snapshot.next()) != null) {
+                    read.add(op);
+                }
+            }
+            // the operations are copied out of the mapping, so they stay readable after the snapshot and the translog are closed
+            mappedTranslog.close();
+            assertEquals(ops.size(), read.size());
+            for (Translog.Operation op : read) {
+                assertThat(op, equalTo(ops.get(Math.toIntExact(op.seqNo()))));
+            }
+        }
+    }
+
+    public void testMappedSnapshotChecksumMismatch() throws IOException {
+        final Path path = createTempDir();
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_MAPPED_READS_SETTING.getKey(), true)
+            .build();
+        try (Translog mappedTranslog = createTranslog(getTranslogConfig(path, settings))) {
+            final long generation = mappedTranslog.currentFileGeneration();
+            final byte[] source = randomAlphaOfLengthBetween(1, 512).getBytes(StandardCharsets.UTF_8);
+            mappedTranslog.add(new Translog.Index("0", 0, primaryTerm.get(), source));
+            mappedTranslog.rollGeneration();
+
+            // flip a bit of the checksum that trails the only operation of the completed generation
+            final Path file = path.resolve(Translog.getFilename(generation));
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final long position = channel.size() - 1;
+                final byte[] checksumByte = Channels.readFromFileChannel(channel, position, 1);
+                checksumByte[0] ^= 1;
+                Channels.writeToChannel(checksumByte, channel, position);
+            }
+
+            try (Translog.Snapshot snapshot = mappedTranslog.newSnapshot()) {
+                final TranslogCorruptedException e = expectThrows(TranslogCorruptedException.class, snapshot::next);
+                assertThat(e.getMessage(), containsString("checksum verification failed"));
+            }
+        }
+    }
+
+    public void testMappedSnapshotOutlivesReader() throws IOException {
+        final Path path = createTempDir();
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_MAPPED_READS_SETTING.getKey(), true)
+            .build();
+        final List<Translog.Operation> ops = new ArrayList<>();
+        try (Translog mappedTranslog = createTranslog(getTranslogConfig(path, settings))) {
+            final int numOps = randomIntBetween(1, 20);
+            for (int i = 0; i < numOps; i++) {
+                byte[] source = randomAlphaOfLengthBetween(1, 512).getBytes(StandardCharsets.UTF_8);
+                addToTranslogAndList(mappedTranslog, ops, new Translog.Index(Integer.toString(i), i, primaryTerm.get(), source));
+            }
+            mappedTranslog.rollGeneration();
+
+            final List<TranslogReader> readers = mappedTranslog.getReaders();
+            final TranslogReader reader = readers.get(readers.size() - 1);
+            final TranslogSnapshot snapshot = reader.newMappedSnapshot();
+            reader.close();
+            // the mapping stays valid after the channel is closed, as long as the snapshot references it
+            for (Translog.Operation expected : ops) {
+                assertThat(snapshot.next(), equalTo(expected));
+            }
+            assertNull(snapshot.next());
+            expectThrows(AlreadyClosedException.class, reader::newMappedSnapshot);
+        }
+    }
+
     protected TranslogStats stats() throws IOException {
         // force flushing and updating of stats
         translog.sync();
@@ -714,6 +813,29 @@ public class LocalTranslogTests extends OpenSearchTestCase {
         assertNull(translog.readOperation(new Location(100, 0, 0)));
     }
 
+    public void testAddBatch() throws IOException {
+        ArrayList<Translog.Operation> ops = new ArrayList<>();
+        addToTranslogAndList(translog, ops, new Translog.Index("0", 0, primaryTerm.get(), new byte[] { 1 }));
+        int numOps = randomIntBetween(1, 100);
+        List<Translog.Operation> batch = new ArrayList<>(numOps);
+        for (int i = 1; i <= numOps; i++) {
+            batch.add(new Translog.Index(Integer.toString(i), i, primaryTerm.get(), new byte[] { (byte) i }));
+        }
+        Translog.Location[] locations = translog.add(batch);
+        ops.addAll(batch);
+        assertThat(locations.length, equalTo(numOps));
+        for (int i = 0; i < numOps; i++) {
+            assertEquals(batch.get(i), translog.readOperation(locations[i]));
+            if (i > 0) {
+                assertThat(locations[i].translogLocation, equalTo(locations[i - 1].translogLocation + locations[i - 1].size));
+            }
+        }
+        assertThat(translog.add(Collections.emptyList()).length, equalTo(0));
+        try (Translog.Snapshot snapshot = translog.newSnapshot()) {
+            assertThat(snapshot, SnapshotMatchers.equalsTo(ops));
+        }
+    }
+
     public void testSnapshotWithNewTranslog() throws IOException {
         List<Closeable> toClose = new ArrayList<>();
         try {
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class TranslogGroupCommitterTests extends OpenSearchTestCase {
+
+    public void testGroupsBySameFileStore() throws IOException {
+        TranslogGroupCommitter committer = new TranslogGroupCommitter();
+        Path first = createTempDir();
+        Path second = createTempDir();
+        assertThat(committer.groupFor(first), sameInstance(committer.groupFor(second)));
+        assertThat(committer.numberOfGroups(), equalTo(1));
+    }
+
+    public void testConcurrentSyncsOfATranslogAreMerged() throws Exception {
+        TranslogGroupCommitter.SyncGroup group = new TranslogGroupCommitter().groupFor(createTempDir());
+        int numTranslogs = randomIntBetween(1, 3);
+        int numThreads = randomIntBetween(2, 8);
+        int syncsPerThread = randomIntBetween(10, 100);
+        TranslogGroupCommitter.GroupCommitStats stats = new TranslogGroupCommitter.GroupCommitStats();
+        Object[] translogs = new Object[numTranslogs];
+        AtomicLong[] syncedUpTo = new AtomicLong[numTranslogs];
+        AtomicInteger[] running = new AtomicInteger[numTranslogs];
+        for (int i = 0; i < numTranslogs; i++) {
+            translogs[i] = new Object();
+            syncedUpTo[i] = new AtomicLong(-1);
+            running[i] = new AtomicInteger();
+        }
+        AtomicLong nextOffset = new AtomicLong();
+        CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int i = 0; i < syncsPerThread; i++) {
+                        int translog = randomIntBetween(0, numTranslogs - 1);
+                        long offset = nextOffset.incrementAndGet();
+                        assertTrue(group.sync(translogs[translog], offset, upTo -> {
+                            // syncs of a translog never run concurrently
+                            assertThat(running[translog].incrementAndGet(), equalTo(1));
+                            syncedUpTo[translog].accumulateAndGet(upTo, Math::max);
+                            running[translog].decrementAndGet();
+                            return true;
+                        }, stats));
+                        assertThat(syncedUpTo[translog].get(), greaterThanOrEqualTo(offset));
+                    }
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(stats.getBatchedSyncs(), equalTo((long) numThreads * syncsPerThread));
+        assertThat(stats.getSyncs(), lessThanOrEqualTo(stats.getBatchedSyncs()));
+    }
+
+    public void testPendingSyncsOfAllTranslogsRunInOneBatch() throws Exception {
+        TranslogGroupCommitter.SyncGroup group = new TranslogGroupCommitter().groupFor(createTempDir());
+        TranslogGroupCommitter.GroupCommitStats stats = new TranslogGroupCommitter.GroupCommitStats();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        Thread first = new Thread(() -> {
+            try {
+                assertTrue(group.sync(new Object(), 1, upTo -> {
+                    firstStarted.countDown();
+                    try {
+                        return releaseFirst.await(30, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                }, stats));
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+        first.start();
+        assertTrue(firstStarted.await(30, TimeUnit.SECONDS));
+
+        // the syncs requested while the first batch runs wait for it and then run together in the next batch, on a single leader
+        int numTranslogs = randomIntBetween(2, 5);
+        int waitersPerTranslog = randomIntBetween(1, 3);
+        Set<Thread> leaders = ConcurrentCollections.newConcurrentSet();
+        AtomicInteger[] syncs = new AtomicInteger[numTranslogs];
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numTranslogs; i++) {
+            Object translog = new Object();
+            AtomicInteger translogSyncs = syncs[i] = new AtomicInteger();
+            for (int w = 0; w < waitersPerTranslog; w++) {
+                long offset = randomIntBetween(1, 100);
+                Thread thread = new Thread(() -> {
+                    try {
+                        assertTrue(group.sync(translog, offset, upTo -> {
+                            leaders.add(Thread.currentThread());
+                            translogSyncs.incrementAndGet();
+                            return true;
+                        }, stats));
+                    } catch (IOException e) {
+                        throw new AssertionError(e);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+        }
+        assertBusy(() -> assertThat(group.numberOfPendingSyncs(), equalTo(numTranslogs)));
+        releaseFirst.countDown();
+        first.join();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(leaders.size(), equalTo(1));
+        for (AtomicInteger translogSyncs : syncs) {
+            assertThat(translogSyncs.get(), equalTo(1));
+        }
+        assertThat(stats.getSyncs(), equalTo(1L + numTranslogs));
+        assertThat(stats.getBatchedSyncs(), equalTo(1L + (long) numTranslogs * waitersPerTranslog));
+    }
+
+    public void testFailurePropagatesToRequester() throws IOException {
+        TranslogGroupCommitter.SyncGroup group = new TranslogGroupCommitter().groupFor(createTempDir());
+        TranslogGroupCommitter.GroupCommitStats stats = new TranslogGroupCommitter.GroupCommitStats();
+        IOException failure = new IOException("simulated");
+        Object translog = new Object();
+        IOException thrown = expectThrows(IOException.class, () -> group.sync(translog, 1, upTo -> { throw failure; }, stats));
+        assertThat(thrown, sameInstance(failure));
+        assertFalse(group.sync(translog, 1, upTo -> false, stats));
+        assertThat(stats.getSyncs(), equalTo(2L));
+    }
+
+    public void testStatsSerialization() throws IOException {
+        TranslogStats stats = new TranslogStats.Builder().groupCommitStats(10, 25, 7).build();
+        BytesStreamOutput out = new BytesStreamOutput();
+        stats.writeTo(out);
+        TranslogStats copy = new TranslogStats(out.bytes().streamInput());
+        assertThat(copy.getGroupCommitSyncs(), equalTo(10L));
+        assertThat(copy.getGroupCommitBatchedSyncs(), equalTo(25L));
+        assertThat(copy.getGroupCommitSyncTimeInMillis(), equalTo(7L));
+        copy.add(stats);
+        assertThat(copy.getGroupCommitSyncs(), equalTo(20L));
+    }
+}
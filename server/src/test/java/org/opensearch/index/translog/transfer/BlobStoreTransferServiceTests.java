@@ -24,6 +24,7 @@ import org.opensearch.common.blobstore.stream.read.ReadContext;
 import org.opensearch.common.blobstore.stream.write.WriteContext;
 import org.opensearch.common.blobstore.stream.write.WritePriority;
 import org.opensearch.common.blobstore.transfer.RemoteTransferContainer;
+import org.opensearch.common.blobstore.transfer.stream.OffsetRangeIndexInputStream;
 import org.opensearch.common.blobstore.transfer.stream.OffsetRangeInputStream;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -51,9 +52,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -62,6 +65,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.opensearch.index.translog.transfer.TranslogTransferManager.CHECKPOINT_FILE_DATA_KEY;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -173,6 +177,149 @@ public class BlobStoreTransferServiceTests extends OpenSearchTestCase {
         assertNotEquals(inputStream1.getFilePointer(), inputStream2.getFilePointer());
     }
 
+    public void testUploadBlobsAsyncStreamsFileParts() throws IOException, InterruptedException {
+        final byte[] content = randomByteArrayOfLength(randomIntBetween(1, 64 * 1024));
+        final Path testFile = createTempDir().resolve("translog-" + randomLongBetween(2, 100) + ".tlog");
+        Files.write(testFile, content);
+        final FileSnapshot.TransferFileSnapshot transferFileSnapshot = new FileSnapshot.TransferFileSnapshot(
+            testFile,
+            randomNonNegativeLong(),
+            randomNonNegativeLong()
+        );
+
+        final BlobStore blobStore = createTestBlobStore();
+        final MockAsyncFsContainer mockAsyncFsContainer = new MockAsyncFsContainer((FsBlobStore) blobStore, BlobPath.cleanPath(), null);
+        final FsBlobStore fsBlobStore = mock(FsBlobStore.class);
+        when(fsBlobStore.blobContainer(any())).thenReturn(mockAsyncFsContainer);
+        final BlobStoreTransferService transferServiceSpy = Mockito.spy(new BlobStoreTransferService(fsBlobStore, threadPool));
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        transferServiceSpy.uploadBlobs(
+            Set.of(transferFileSnapshot),
+            Map.of(transferFileSnapshot.getPrimaryTerm(), BlobPath.cleanPath()),
+            new LatchedActionListener<>(ActionListener.wrap(fileSnapshot -> {}, e -> {
+                throw new AssertionError("Failed to upload blobs", e);
+            }), latch),
+            WritePriority.HIGH,
+            null
+        );
+        assertTrue(latch.await(1000, TimeUnit.MILLISECONDS));
+
+        try (InputStream inputStream = mockAsyncFsContainer.getDelegate().readBlob(testFile.getFileName().toString())) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+    }
+
+    public void testUploadBlobsAsyncReadsPartsOfDeletedFile() throws Exception {
+        final byte[] content = randomByteArrayOfLength(randomIntBetween(1, 64 * 1024));
+        final Path testFile = createTempDir().resolve("translog-" + randomLongBetween(2, 100) + ".tlog");
+        Files.write(testFile, content);
+        final FileSnapshot.TransferFileSnapshot transferFileSnapshot = new FileSnapshot.TransferFileSnapshot(
+            testFile,
+            randomNonNegativeLong(),
+            randomNonNegativeLong()
+        );
+
+        final BlobStore blobStore = createTestBlobStore();
+        final MockAsyncFsContainer mockAsyncFsContainer = new MockAsyncFsContainer((FsBlobStore) blobStore, BlobPath.cleanPath(), null);
+        final FsBlobStore fsBlobStore = mock(FsBlobStore.class);
+        when(fsBlobStore.blobContainer(any())).thenReturn(mockAsyncFsContainer);
+        final BlobStoreTransferService transferServiceSpy = Mockito.spy(new BlobStoreTransferService(fsBlobStore, threadPool));
+        // hold on to the upload instead of running it, so that its parts are only read once the snapshot is closed
+        Mockito.doNothing()
+            .when(transferServiceSpy)
+            .uploadBlobAsyncInternal(any(), any(), Mockito.anyLong(), any(), any(), any(), any(), any(), any(), any());
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        transferServiceSpy.uploadBlobs(
+            Set.of(transferFileSnapshot),
+            Map.of(transferFileSnapshot.getPrimaryTerm(), BlobPath.cleanPath()),
+            new LatchedActionListener<>(ActionListener.wrap(fileSnapshot -> {}, e -> {
+                throw new AssertionError("Failed to upload blobs", e);
+            }), latch),
+            WritePriority.HIGH,
+            null
+        );
+
+        final ArgumentCaptor<RemoteTransferContainer.OffsetRangeInputStreamSupplier> inputStreamCaptor = ArgumentCaptor.forClass(
+            RemoteTransferContainer.OffsetRangeInputStreamSupplier.class
+        );
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<ActionListener<Void>> completionCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        verify(transferServiceSpy, Mockito.timeout(10_000)).uploadBlobAsyncInternal(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.eq((long) content.length),
+            Mockito.any(),
+            Mockito.any(),
+            inputStreamCaptor.capture(),
+            Mockito.anyLong(),
+            completionCaptor.capture(),
+            Mockito.any(),
+            Mockito.any()
+        );
+
+        // the file was opened while the snapshot was open, so the parts can still be read once the generation got trimmed
+        Files.delete(testFile);
+        final int position = randomIntBetween(0, content.length - 1);
+        final int size = randomIntBetween(1, content.length - position);
+        try (OffsetRangeInputStream part = inputStreamCaptor.getValue().get(size, position)) {
+            assertThat(part, instanceOf(OffsetRangeIndexInputStream.class));
+            assertArrayEquals(Arrays.copyOfRange(content, position, position + size), part.readAllBytes());
+        }
+        completionCaptor.getValue().onResponse(null);
+        assertTrue(latch.await(1000, TimeUnit.MILLISECONDS));
+    }
+
+    public void testUploadBlobsAsyncReadsThroughOverriddenInputStream() throws IOException, InterruptedException {
+        final byte[] content = randomByteArrayOfLength(randomIntBetween(1, 64 * 1024));
+        final Path testFile = createTempDir().resolve("translog-" + randomLongBetween(2, 100) + ".tlog");
+        Files.write(testFile, content);
+        final byte[] transformed = content.clone();
+        for (int i = 0; i < transformed.length; i++) {
+            transformed[i] ^= 0x5A;
+        }
+        // stands for a snapshot that decrypts the content of its file
+        final FileSnapshot.TransferFileSnapshot transferFileSnapshot = new FileSnapshot.TransferFileSnapshot(
+            testFile,
+            randomNonNegativeLong(),
+            randomNonNegativeLong()
+        ) {
+            @Override
+            public InputStream inputStream() {
+                return new ByteArrayInputStream(transformed);
+            }
+
+            @Override
+            public boolean supportsPartsInput() {
+                return false;
+            }
+        };
+        assertNull(transferFileSnapshot.openPartsInput());
+
+        final BlobStore blobStore = createTestBlobStore();
+        final MockAsyncFsContainer mockAsyncFsContainer = new MockAsyncFsContainer((FsBlobStore) blobStore, BlobPath.cleanPath(), null);
+        final FsBlobStore fsBlobStore = mock(FsBlobStore.class);
+        when(fsBlobStore.blobContainer(any())).thenReturn(mockAsyncFsContainer);
+        final BlobStoreTransferService transferService = new BlobStoreTransferService(fsBlobStore, threadPool);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        transferService.uploadBlobs(
+            Set.of(transferFileSnapshot),
+            Map.of(transferFileSnapshot.getPrimaryTerm(), BlobPath.cleanPath()),
+            new LatchedActionListener<>(ActionListener.wrap(fileSnapshot -> {}, e -> {
+                throw new AssertionError("Failed to upload blobs", e);
+            }), latch),
+            WritePriority.HIGH,
+            null
+        );
+        assertTrue(latch.await(1000, TimeUnit.MILLISECONDS));
+
+        try (InputStream inputStream = mockAsyncFsContainer.getDelegate().readBlob(testFile.getFileName().toString())) {
+            assertArrayEquals(transformed, inputStream.readAllBytes());
+        }
+    }
+
     private IndexMetadata getIndexMetadata() {
         final Index index = new Index("test-index", "index-uuid");
         final Settings idxSettings = Settings.builder()
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+import java.util.Map;
+
+public class IndicesSegmentAggregationCacheTests extends OpenSearchTestCase {
+
+    private final NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(
+        new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables()
+    );
+
+    public void testCanCacheAggregations() {
+        assertFalse(IndicesSegmentAggregationCache.canCacheAggregations(null));
+        assertFalse(IndicesSegmentAggregationCache.canCacheAggregations(new AggregatorFactories.Builder()));
+        assertTrue(
+            IndicesSegmentAggregationCache.canCacheAggregations(
+                new AggregatorFactories.Builder().addAggregator(
+                    AggregationBuilders.dateHistogram("histo")
+                        .field("@timestamp")
+                        .calendarInterval(DateHistogramInterval.HOUR)
+                        .subAggregation(AggregationBuilders.avg("avg").field("value"))
+                        .subAggregation(AggregationBuilders.max("max").field("value"))
+                ).addAggregator(AggregationBuilders.range("range").field("value").addRange(0, 10))
+            )
+        );
+        // terms prune buckets on the shard, merging the per-segment results would not be exact
+        assertFalse(
+            IndicesSegmentAggregationCache.canCacheAggregations(
+                new AggregatorFactories.Builder().addAggregator(AggregationBuilders.terms("terms").field("field"))
+            )
+        );
+        assertFalse(
+            IndicesSegmentAggregationCache.canCacheAggregations(
+                new AggregatorFactories.Builder().addAggregator(
+                    AggregationBuilders.histogram("histo")
+                        .field("value")
+                        .interval(10)
+                        .subAggregation(AggregationBuilders.cardinality("cardinality").field("field"))
+                )
+            )
+        );
+    }
+
+    public void testGetAndPut() throws Exception {
+        final IndicesSegmentAggregationCache cache = new IndicesSegmentAggregationCache(Settings.EMPTY, namedWriteableRegistry);
+        final BytesReference requestKey = new BytesArray("request");
+        final BytesReference otherRequestKey = new BytesArray("other");
+        try (
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))
+        ) {
+            writer.addDocument(newDoc("1"));
+            writer.commit();
+            writer.addDocument(newDoc("2"));
+            writer.commit();
+            final DirectoryReader reader = DirectoryReader.open(dir);
+            assertEquals(2, reader.leaves().size());
+            final LeafReaderContext first = reader.leaves().get(0);
+            final LeafReaderContext second = reader.leaves().get(1);
+
+            assertNull(cache.get(first, requestKey));
+            cache.put(first, requestKey, new IndicesSegmentAggregationCache.SegmentResult(3, maxAggregation(5)));
+            assertNull(cache.get(second, requestKey));
+            assertNull(cache.get(first, otherRequestKey));
+
+            final IndicesSegmentAggregationCache.SegmentResult cached = cache.get(first, requestKey);
+            assertNotNull(cached);
+            assertEquals(3, cached.hitCount());
+            final InternalMax max = cached.aggregations().get("max");
+            assertEquals(5, max.getValue(), 0d);
+            // every lookup expands its own copy of the cached aggregations
+            assertNotSame(max, cache.get(first, requestKey).aggregations().get("max"));
+
+            // deleting a document changes the reader of its segment, the other segment keeps its cached results
+            cache.put(second, requestKey, new IndicesSegmentAggregationCache.SegmentResult(1, maxAggregation(7)));
+            writer.deleteDocuments(new Term("id", "1"));
+            writer.commit();
+            final DirectoryReader newReader = DirectoryReader.openIfChanged(reader);
+            assertNotNull(newReader);
+            assertEquals(2, newReader.leaves().size());
+            assertNull(cache.get(newReader.leaves().get(0), requestKey));
+            assertNotNull(cache.get(newReader.leaves().get(1), requestKey));
+            assertEquals(2, cache.count());
+
+            // closing the old reader releases the entry of the segment it no longer shares with the new reader
+            reader.close();
+            assertEquals(1, cache.count());
+            newReader.close();
+            assertEquals(0, cache.count());
+        }
+        cache.close();
+    }
+
+    private static Document newDoc(String id) {
+        Document doc = new Document();
+        doc.add(new StringField("id", id, Field.Store.NO));
+        return doc;
+    }
+
+    private static InternalAggregations maxAggregation(double value) {
+        return InternalAggregations.from(List.of(new InternalMax("max", value, DocValueFormat.RAW, Map.of())));
+    }
+}
@@ -696,6 +696,38 @@ public class IndicesServiceTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    public void testCanCacheSizeNonzeroWithIndexSetting() {
+        // The index setting takes precedence over INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING
+        final int indexMaxCacheableSize = 50;
+        final IndexService indexService = createIndex(
+            "test",
+            Settings.builder()
+                .put(IndicesRequestCache.INDEX_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING.getKey(), indexMaxCacheableSize)
+                .build()
+        );
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.requestCache()).thenReturn(null);
+
+        IndicesService indicesService = getIndicesService();
+        DelegatingCacheHelper cacheHelper = mock(DelegatingCacheHelper.class);
+        for (int maxCacheableSize : new int[] { 0, 100 }) {
+            indicesService.setMaxSizeInRequestCache(maxCacheableSize);
+            Map<TestSearchContext, Boolean> expectedResultMap = Map.of(
+                getTestContext(indexService, 0),
+                true,
+                getTestContext(indexService, indexMaxCacheableSize),
+                true,
+                getTestContext(indexService, indexMaxCacheableSize + 5),
+                false
+            );
+            for (Map.Entry<TestSearchContext, Boolean> entry : expectedResultMap.entrySet()) {
+                TestSearchContext context = entry.getKey();
+                setupMocksForCanCache(context, cacheHelper);
+                assertEquals(entry.getValue(), indicesService.canCache(request, context));
+            }
+        }
+    }
+
     private void setupMocksForCanCache(TestSearchContext context, IndexReader.CacheHelper cacheHelper) {
         ContextIndexSearcher searcher = mock(ContextIndexSearcher.class);
         context.setSearcher(searcher);
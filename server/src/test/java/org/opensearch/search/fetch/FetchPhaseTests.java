@@ -32,53 +32,434 @@
 
 package org.opensearch.search.fetch;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.text.Text;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.index.fieldvisitor.CustomFieldsVisitor;
 import org.opensearch.index.fieldvisitor.FieldsVisitor;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.SourceFieldMapper;
+import org.opensearch.index.mapper.TextFieldMapper;
+import org.opensearch.index.query.ParsedQuery;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.fetch.subphase.FetchFieldsContext;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.fetch.subphase.FetchSourcePhase;
 import org.opensearch.search.fetch.subphase.FieldAndFormat;
 import org.opensearch.search.fetch.subphase.InnerHitsContext;
+import org.opensearch.search.fetch.subphase.highlight.FieldHighlightContext;
+import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.fetch.subphase.highlight.HighlightField;
+import org.opensearch.search.fetch.subphase.highlight.HighlightPhase;
+import org.opensearch.search.fetch.subphase.highlight.Highlighter;
+import org.opensearch.search.fetch.subphase.highlight.SearchHighlightContext;
+import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.search.lookup.SourceLookup;
+import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.TestSearchContext;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class FetchPhaseTests extends OpenSearchTestCase {
-    public void testSequentialDocs() {
-        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[10];
+    public void testUseSequentialReader() {
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[12];
         int start = randomIntBetween(0, Short.MAX_VALUE);
-        for (int i = 0; i < 10; i++) {
+        for (int i = 0; i < docs.length; i++) {
             docs[i] = new FetchPhase.DocIdToIndex(start, i);
             ++start;
         }
-        assertTrue(FetchPhase.hasSequentialDocs(docs));
+        assertTrue(FetchPhase.useSequentialReader(docs, 0, docs.length));
+        assertTrue(FetchPhase.useSequentialReader(docs, 1, 11));
+        // too few docs to share stored fields blocks
+        assertFalse(FetchPhase.useSequentialReader(docs, 0, 9));
 
-        int from = randomIntBetween(0, 9);
+        start = docs[0].docId;
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(start, i);
+            start += randomIntBetween(1, 4);
+        }
+        assertTrue(FetchPhase.useSequentialReader(docs, 0, docs.length));
+
+        int from = randomIntBetween(1, 9);
         start = docs[from].docId;
-        for (int i = from; i < 10; i++) {
-            start += randomIntBetween(2, 10);
+        for (int i = from; i < docs.length; i++) {
+            start += randomIntBetween(100, 1000);
             docs[i] = new FetchPhase.DocIdToIndex(start, i);
         }
-        assertFalse(FetchPhase.hasSequentialDocs(docs));
+        assertFalse(FetchPhase.useSequentialReader(docs, 0, docs.length));
+    }
+
+    public void testSegmentBatches() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int segment = 0; segment < 3; segment++) {
+                    for (int i = 0; i < 10; i++) {
+                        writer.addDocument(new Document());
+                    }
+                    writer.commit();
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertEquals(3, reader.leaves().size());
+                int[] docIds = new int[] { 1, 5, 9, 21, 25, 29 };
+                FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[docIds.length];
+                for (int i = 0; i < docIds.length; i++) {
+                    docs[i] = new FetchPhase.DocIdToIndex(docIds[i], i);
+                }
+                List<FetchPhase.SegmentBatch> batches = FetchPhase.segmentBatches(reader.leaves(), docs);
+                assertEquals(List.of(new FetchPhase.SegmentBatch(0, 0, 3), new FetchPhase.SegmentBatch(2, 3, 6)), batches);
+            }
+        }
+    }
+
+    public void testSplitBatches() {
+        List<FetchPhase.SegmentBatch> batches = List.of(new FetchPhase.SegmentBatch(0, 0, 5), new FetchPhase.SegmentBatch(2, 5, 7));
+        assertEquals(
+            List.of(
+                new FetchPhase.SegmentBatch(0, 0, 2),
+                new FetchPhase.SegmentBatch(0, 2, 4),
+                new FetchPhase.SegmentBatch(0, 4, 5),
+                new FetchPhase.SegmentBatch(2, 5, 7)
+            ),
+            FetchPhase.splitBatches(batches, 2)
+        );
+        assertEquals(batches, FetchPhase.splitBatches(batches, 5));
+    }
+
+    public void testGroupBatches() {
+        List<FetchPhase.SegmentBatch> batches = List.of(
+            new FetchPhase.SegmentBatch(0, 0, 2),
+            new FetchPhase.SegmentBatch(0, 2, 4),
+            new FetchPhase.SegmentBatch(0, 4, 5),
+            new FetchPhase.SegmentBatch(1, 5, 6),
+            new FetchPhase.SegmentBatch(2, 6, 8)
+        );
+        assertEquals(
+            List.of(List.of(batches.get(0), batches.get(1)), List.of(batches.get(2), batches.get(3), batches.get(4))),
+            FetchPhase.groupBatches(batches, 2)
+        );
+        assertEquals(
+            List.of(List.of(batches.get(0), batches.get(1)), List.of(batches.get(2), batches.get(3)), List.of(batches.get(4))),
+            FetchPhase.groupBatches(batches, 3)
+        );
+        assertEquals(List.of(batches), FetchPhase.groupBatches(batches, 1));
+        List<List<FetchPhase.SegmentBatch>> single = new ArrayList<>();
+        for (FetchPhase.SegmentBatch batch : batches) {
+            single.add(List.of(batch));
+        }
+        assertEquals(single, FetchPhase.groupBatches(batches, batches.size()));
+        assertEquals(single, FetchPhase.groupBatches(batches, batches.size() + 3));
+    }
+
+    public void testConcurrentFetchMatchesSequentialFetch() throws Exception {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try (Directory dir = newDirectory()) {
+            int numDocs = indexSourceDocuments(dir);
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertThat(reader.leaves().size(), greaterThan(1));
+                // fetch the hits of all the segments, in an order that is not the doc id order
+                List<Integer> shuffled = new ArrayList<>();
+                for (int i = 0; i < numDocs; i++) {
+                    shuffled.add(i);
+                }
+                Collections.shuffle(shuffled, random());
+                int[] docIds = shuffled.stream().mapToInt(Integer::intValue).toArray();
+                for (FetchSourceContext fetchSource : List.of(
+                    FetchSourceContext.FETCH_SOURCE,
+                    new FetchSourceContext(true, new String[] { "id", "content" }, null),
+                    new FetchSourceContext(true, null, new String[] { "tag" })
+                )) {
+                    Executor executor = threadPool.executor(ThreadPool.Names.INDEX_SEARCHER);
+                    AtomicInteger sequentialProcessors = new AtomicInteger();
+                    int targetMaxSliceCount = randomIntBetween(2, 8);
+                    SearchHit[] sequential = fetch(
+                        reader,
+                        executor,
+                        docIds,
+                        fetchSource,
+                        0,
+                        targetMaxSliceCount,
+                        null,
+                        sequentialProcessors
+                    );
+                    assertEquals(1, sequentialProcessors.get());
+                    AtomicInteger concurrentProcessors = new AtomicInteger();
+                    SearchHit[] concurrent = fetch(
+                        reader,
+                        executor,
+                        docIds,
+                        fetchSource,
+                        1,
+                        targetMaxSliceCount,
+                        null,
+                        concurrentProcessors
+                    );
+                    // every task gets its own sub phase processors, and there are no more tasks than slices
+                    assertThat(concurrentProcessors.get(), greaterThan(1));
+                    assertThat(concurrentProcessors.get(), lessThanOrEqualTo(targetMaxSliceCount));
+
+                    assertEquals(docIds.length, concurrent.length);
+                    for (int i = 0; i < docIds.length; i++) {
+                        // the hits land in the slot of their doc in the docs to load
+                        assertEquals(docIds[i], concurrent[i].docId());
+                        assertEquals(sequential[i].docId(), concurrent[i].docId());
+                        assertEquals(sequential[i].getSourceAsMap(), concurrent[i].getSourceAsMap());
+                        assertEquals(expectedSource(docIds[i], fetchSource), concurrent[i].getSourceAsMap());
+                    }
+                }
+            }
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testConcurrentHighlightingMatchesSequentialHighlighting() throws Exception {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try (Directory dir = newDirectory()) {
+            int numDocs = indexSourceDocuments(dir);
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                List<Integer> shuffled = new ArrayList<>();
+                for (int i = 0; i < numDocs; i++) {
+                    shuffled.add(i);
+                }
+                Collections.shuffle(shuffled, random());
+                int[] docIds = shuffled.stream().mapToInt(Integer::intValue).toArray();
+                SearchHighlightContext highlight = new HighlightBuilder().field(
+                    new HighlightBuilder.Field("content").highlighterType("test")
+                ).build(mock(QueryShardContext.class));
+                Executor executor = threadPool.executor(ThreadPool.Names.INDEX_SEARCHER);
+                int targetMaxSliceCount = randomIntBetween(2, 8);
+
+                AtomicInteger sequentialProcessors = new AtomicInteger();
+                SearchHit[] sequential = fetch(
+                    reader,
+                    executor,
+                    docIds,
+                    FetchSourceContext.FETCH_SOURCE,
+                    0,
+                    targetMaxSliceCount,
+                    highlight,
+                    sequentialProcessors
+                );
+                assertEquals(1, sequentialProcessors.get());
+                AtomicInteger concurrentProcessors = new AtomicInteger();
+                SearchHit[] concurrent = fetch(
+                    reader,
+                    executor,
+                    docIds,
+                    FetchSourceContext.FETCH_SOURCE,
+                    1,
+                    targetMaxSliceCount,
+                    highlight,
+                    concurrentProcessors
+                );
+                // the hits of a segment are split to be highlighted in parallel, but in no more tasks than slices
+                assertThat(concurrentProcessors.get(), greaterThan(1));
+                assertThat(concurrentProcessors.get(), lessThanOrEqualTo(targetMaxSliceCount));
+
+                assertEquals(docIds.length, concurrent.length);
+                for (int i = 0; i < docIds.length; i++) {
+                    assertEquals(docIds[i], concurrent[i].docId());
+                    assertEquals(sequential[i].getHighlightFields(), concurrent[i].getHighlightFields());
+                    HighlightField field = concurrent[i].getHighlightFields().get("content");
+                    assertNotNull(field);
+                    assertArrayEquals(new Text[] { new Text("<em>test content " + docIds[i] + "</em>") }, field.fragments());
+                }
+            }
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Indexes documents with a {@code _source} of their doc id in several segments, returns the number of documents.
+     */
+    private static int indexSourceDocuments(Directory dir) throws IOException {
+        int numDocs = 0;
+        try (IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            int numSegments = randomIntBetween(2, 5);
+            for (int segment = 0; segment < numSegments; segment++) {
+                int segmentDocs = randomIntBetween(1, 20);
+                for (int i = 0; i < segmentDocs; i++) {
+                    String source = "{\"id\":"
+                        + numDocs
+                        + ",\"content\":\"test content "
+                        + numDocs
+                        + "\",\"tag\":\"t"
+                        + numDocs % 3
+                        + "\"}";
+                    Document doc = new Document();
+                    doc.add(new StoredField(SourceFieldMapper.NAME, new BytesRef(source)));
+                    writer.addDocument(doc);
+                    numDocs++;
+                }
+                writer.commit();
+            }
+        }
+        return numDocs;
+    }
+
+    private static Map<String, Object> expectedSource(int docId, FetchSourceContext fetchSource) {
+        Map<String, Object> source = new HashMap<>();
+        source.put("id", docId);
+        source.put("content", "test content " + docId);
+        if (fetchSource.excludes().length == 0 && fetchSource.includes().length == 0) {
+            source.put("tag", "t" + docId % 3);
+        }
+        return source;
+    }
+
+    /**
+     * Runs the fetch phase over the given docs of the reader and returns their hits, concurrently if {@code concurrentFetchMinDocs}
+     * allows it. The {@code content} field is highlighted with its source value if {@code highlight} is set. Counts the sub phase
+     * processors that are built in {@code processors}.
+     */
+    private SearchHit[] fetch(
+        DirectoryReader reader,
+        Executor executor,
+        int[] docIds,
+        FetchSourceContext fetchSource,
+        int concurrentFetchMinDocs,
+        int targetMaxSliceCount,
+        SearchHighlightContext highlight,
+        AtomicInteger processors
+    ) throws IOException {
+        SearchContext context = mock(SearchContext.class);
+        when(context.docIdsToLoadSize()).thenReturn(docIds.length);
+        when(context.docIdsToLoad()).thenReturn(docIds);
+        when(context.docIdsToLoadFrom()).thenReturn(0);
+        when(context.isCancelled()).thenReturn(false);
+        when(context.shouldUseConcurrentSearch()).thenReturn(true);
+        when(context.getConcurrentFetchMinDocs()).thenReturn(concurrentFetchMinDocs);
+        when(context.getTargetMaxSliceCount()).thenReturn(targetMaxSliceCount);
+        when(context.highlight()).thenReturn(highlight);
+        when(context.parsedQuery()).thenReturn(new ParsedQuery(new MatchAllDocsQuery()));
+        when(context.innerHits()).thenReturn(new InnerHitsContext());
+        when(context.hasFetchSourceContext()).thenReturn(true);
+        when(context.fetchSourceContext()).thenReturn(fetchSource);
+        when(context.sourceRequested()).thenReturn(true);
+        when(context.storedFieldsContext()).thenReturn(null);
+
+        MapperService mapperService = mock(MapperService.class);
+        when(mapperService.hasNested()).thenReturn(false);
+        when(mapperService.fieldType("content")).thenReturn(new TextFieldMapper.TextFieldType("content"));
+        when(context.mapperService()).thenReturn(mapperService);
+        QueryShardContext queryShardContext = mock(QueryShardContext.class);
+        // the lookups are not thread safe, so every fetch context gets its own
+        when(queryShardContext.newFetchLookup()).thenAnswer(invocation -> new SearchLookup(mapperService, (ft, sl) -> null));
+        when(context.getQueryShardContext()).thenReturn(queryShardContext);
+        ShardId shardId = new ShardId("index", "uuid", 0);
+        IndexShard indexShard = mock(IndexShard.class);
+        when(indexShard.shardId()).thenReturn(shardId);
+        when(context.indexShard()).thenReturn(indexShard);
+        when(context.shardTarget()).thenReturn(new SearchShardTarget("node", shardId, null, OriginalIndices.NONE));
+
+        QuerySearchResult queryResult = new QuerySearchResult();
+        queryResult.topDocs(
+            new TopDocsAndMaxScore(new TopDocs(new TotalHits(docIds.length, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]), Float.NaN),
+            null
+        );
+        when(context.queryResult()).thenReturn(queryResult);
+        FetchSearchResult fetchResult = new FetchSearchResult();
+        when(context.fetchResult()).thenReturn(fetchResult);
+        ContextIndexSearcher searcher = new ContextIndexSearcher(
+            reader,
+            IndexSearcher.getDefaultSimilarity(),
+            null,
+            IndexSearcher.getDefaultQueryCachingPolicy(),
+            false,
+            executor,
+            context
+        );
+        when(context.searcher()).thenReturn(searcher);
+
+        FetchSubPhase countingPhase = fetchContext -> {
+            processors.incrementAndGet();
+            return null;
+        };
+        Highlighter highlighter = new Highlighter() {
+            @Override
+            public HighlightField highlight(FieldHighlightContext fieldContext) {
+                Object value = fieldContext.hitContext.sourceLookup().extractValue(fieldContext.fieldName, null);
+                return new HighlightField(fieldContext.fieldName, new Text[] { new Text("<em>" + value + "</em>") });
+            }
+
+            @Override
+            public boolean canHighlight(MappedFieldType fieldType) {
+                return true;
+            }
+        };
+        HighlightPhase highlightPhase = new HighlightPhase(Map.of("test", highlighter));
+        new FetchPhase(List.of(new FetchSourcePhase(), highlightPhase, countingPhase)).execute(context);
+        return fetchResult.hits().getHits();
+    }
+
+    public void testHitContextLoadsStoredFieldsOnce() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig())) {
+                Document doc = new Document();
+                doc.add(new StoredField("title", "quick brown fox"));
+                doc.add(new StoredField("body", "jumps over the lazy dog"));
+                writer.addDocument(doc);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                LeafReaderContext leaf = reader.leaves().get(0);
+                FetchSubPhase.HitContext hitContext = new FetchSubPhase.HitContext(new SearchHit(0), leaf, 0, new SourceLookup());
+                AtomicInteger visits = new AtomicInteger();
+                hitContext.storedFieldsReader((docId, visitor) -> {
+                    visits.incrementAndGet();
+                    leaf.reader().storedFields().document(docId, visitor);
+                });
+                hitContext.loadStoredFields(Set.of("title", "body"));
+                assertEquals(1, visits.get());
+                assertEquals(List.of("quick brown fox"), hitContext.loadStoredField("title"));
+                assertEquals(List.of("jumps over the lazy dog"), hitContext.loadStoredField("body"));
+                assertEquals(1, visits.get());
+                assertEquals(List.of(), hitContext.loadStoredField("missing"));
+                assertEquals(2, visits.get());
+            }
+        }
     }
 
     public void testFieldsVisitorsInFetchPhase() {
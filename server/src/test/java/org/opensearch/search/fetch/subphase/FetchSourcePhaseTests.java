@@ -34,7 +34,10 @@ package org.opensearch.search.fetch.subphase;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.memory.MemoryIndex;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -47,6 +50,7 @@ import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.Mockito.mock;
@@ -75,6 +79,31 @@ public class FetchSourcePhaseTests extends OpenSearchTestCase {
         assertEquals(Collections.singletonMap("field1", "value"), hitContext.hit().getSourceAsMap());
     }
 
+    public void testFilterSourceBytes() throws IOException {
+        XContentType xContentType = randomFrom(XContentType.JSON, XContentType.SMILE, XContentType.CBOR);
+        XContentBuilder source = XContentBuilder.builder(xContentType.xContent())
+            .startObject()
+            .field("message", "hello")
+            .startObject("http")
+            .field("method", "GET")
+            .startObject("response")
+            .field("status_code", 200)
+            .field("bytes", 1024)
+            .endObject()
+            .endObject()
+            .field("tags", List.of("a", "b"))
+            .endObject();
+        FetchSourceContext fetchSourceContext = new FetchSourceContext(true, new String[] { "http.response.*", "tags" }, null);
+        BytesReference filtered = FetchSourcePhase.filterSourceBytes(fetchSourceContext, BytesReference.bytes(source), xContentType);
+        Tuple<XContentType, Map<String, Object>> filteredMap = XContentHelper.convertToMap(filtered, true);
+        // the filtered source is written in the format of the stored source
+        assertEquals(xContentType, filteredMap.v1());
+        assertEquals(
+            Map.of("http", Map.of("response", Map.of("status_code", 200, "bytes", 1024)), "tags", List.of("a", "b")),
+            filteredMap.v2()
+        );
+    }
+
     public void testMultipleFiltering() throws IOException {
         XContentBuilder source = XContentFactory.jsonBuilder().startObject().field("field", "value").field("field2", "value2").endObject();
         HitContext hitContext = hitExecuteMultiple(source, true, new String[] { "*.notexisting", "field" }, null);
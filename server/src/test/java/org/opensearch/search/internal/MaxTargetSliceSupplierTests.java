@@ -17,12 +17,18 @@ import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.store.Directory;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.search.internal.IndexReaderUtils.getLeaves;
 
@@ -397,4 +403,123 @@ public class MaxTargetSliceSupplierTests extends OpenSearchTestCase {
             }
         }
     }
+
+    public void testCostBasedSlicesUseLiveDocs() throws Exception {
+        try (
+            final Directory directory = newDirectory();
+            final IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            // segment sizes are 6, 3 and 2 documents, but only 1 document of the first segment is live
+            int id = 0;
+            for (int segmentSize : new int[] { 6, 3, 2 }) {
+                for (int i = 0; i < segmentSize; ++i) {
+                    Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(id++), Field.Store.NO));
+                    iw.addDocument(document);
+                }
+                iw.commit();
+            }
+            for (int i = 1; i < 6; ++i) {
+                iw.deleteDocuments(new Term("id", Integer.toString(i)));
+            }
+            iw.commit();
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                assertEquals(3, leaves.size());
+
+                // by max doc the first segment is searched on its own
+                IndexSearcher.LeafSlice[] slices = MaxTargetSliceSupplier.getSlicesWholeSegments(leaves, 2);
+                assertEquals(2, slices.length);
+                assertEquals(1, slices[0].partitions.length);
+                assertEquals(6, slices[0].getMaxDocs());
+
+                // by live docs the second segment is the most expensive one
+                slices = MaxTargetSliceSupplier.getCostBasedSlices(leaves, 2, false, 1000);
+                assertEquals(2, slices.length);
+                assertEquals(1, slices[0].partitions.length);
+                assertEquals(3, slices[0].getMaxDocs());
+                assertEquals(2, slices[1].partitions.length);
+                assertEquals(8, slices[1].getMaxDocs());
+            }
+        }
+    }
+
+    public void testCostBasedSlicesPartitionLargeSegments() throws Exception {
+        try (
+            final Directory directory = newDirectory();
+            final IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            for (int i = 0; i < 100; ++i) {
+                Document document = new Document();
+                document.add(new StringField("field1", "value", Field.Store.NO));
+                iw.addDocument(document);
+            }
+            iw.commit();
+            for (int i = 0; i < 10; ++i) {
+                Document document = new Document();
+                document.add(new StringField("field1", "value", Field.Store.NO));
+                iw.addDocument(document);
+            }
+            iw.commit();
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                IndexSearcher.LeafSlice[] slices = MaxTargetSliceSupplier.getCostBasedSlices(leaves, 4, true, 50);
+                assertEquals(4, slices.length);
+                int partitions = 0;
+                for (IndexSearcher.LeafSlice slice : slices) {
+                    partitions += slice.partitions.length;
+                }
+                // the large segment is split in 4 partitions, the small one is searched whole
+                assertEquals(5, partitions);
+
+                // segments below the min segment size are never partitioned
+                slices = MaxTargetSliceSupplier.getCostBasedSlices(leaves, 4, true, 1000);
+                assertEquals(2, slices.length);
+                assertEquals(0, MaxTargetSliceSupplier.getCostBasedSlices(new ArrayList<>(), 4, true, 1000).length);
+            }
+        }
+    }
+
+    public void testLoadAwareSliceCount() throws Exception {
+        assertEquals(8, MaxTargetSliceSupplier.getLoadAwareSliceCount(8, Runnable::run));
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(4, 4, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        final CountDownLatch started = new CountDownLatch(3);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            assertEquals(4, MaxTargetSliceSupplier.getLoadAwareSliceCount(8, executor));
+            assertEquals(2, MaxTargetSliceSupplier.getLoadAwareSliceCount(2, executor));
+            for (int i = 0; i < 3; i++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            started.await();
+            assertEquals(1, MaxTargetSliceSupplier.getLoadAwareSliceCount(8, executor));
+            // queued tasks count as busy threads, a request always gets at least one slice
+            executor.execute(() -> {});
+            executor.execute(() -> {});
+            assertEquals(1, MaxTargetSliceSupplier.getLoadAwareSliceCount(8, executor));
+        } finally {
+            release.countDown();
+            terminate(executor);
+        }
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(3);
+        try {
+            assertEquals(3, MaxTargetSliceSupplier.getLoadAwareSliceCount(8, forkJoinPool));
+            assertEquals(2, MaxTargetSliceSupplier.getLoadAwareSliceCount(2, forkJoinPool));
+        } finally {
+            terminate(forkJoinPool);
+        }
+    }
 }
@@ -17,8 +17,11 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.store.Directory;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
@@ -27,6 +30,18 @@ import java.util.Map;
 
 public class SourceLookupTests extends OpenSearchTestCase {
 
+    public void testSourceContentTypeOfUnparsedSource() throws IOException {
+        SourceLookup lookup = new SourceLookup();
+        XContentType xContentType = randomFrom(XContentType.JSON, XContentType.SMILE, XContentType.CBOR);
+        lookup.setSource(BytesReference.bytes(XContentBuilder.builder(xContentType.xContent()).startObject().field("f", 1).endObject()));
+        assertEquals(xContentType, lookup.sourceContentType());
+        assertNull(lookup.source());
+
+        // the content type belongs to the source bytes it was detected from
+        lookup.setSource(BytesReference.bytes(XContentBuilder.builder(XContentType.YAML.xContent()).startObject().endObject()));
+        assertEquals(XContentType.YAML, lookup.sourceContentType());
+    }
+
     public void testLazyFieldReaderWithRegularReader() throws IOException {
         try (Directory dir = newDirectory()) {
             indexSourceDoc(dir, "{\"field\":\"value\"}");
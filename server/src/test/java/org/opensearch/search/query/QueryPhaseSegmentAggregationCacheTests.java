@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.store.Directory;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper.NumberFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper.NumberType;
+import org.opensearch.indices.IndicesSegmentAggregationCache;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.BucketCollector;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.MultiBucketCollector;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.TooManyBucketsException;
+import org.opensearch.search.aggregations.SearchContextAggregations;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.when;
+
+public class QueryPhaseSegmentAggregationCacheTests extends AggregatorTestCase {
+
+    private static final String FIELD = "value";
+
+    private final MappedFieldType fieldType = new NumberFieldType(FIELD, NumberType.LONG);
+    private final AggregatorFactories.Builder aggregations = new AggregatorFactories.Builder().addAggregator(
+        AggregationBuilders.histogram("histo").field(FIELD).interval(10).subAggregation(AggregationBuilders.max("max").field(FIELD))
+    ).addAggregator(AggregationBuilders.range("range").field(FIELD).addRange(0, 25).addRange(25, 100));
+    private final BytesReference cacheKey = new BytesArray("request");
+
+    public void testCachedAggregationsEqualUncachedAggregations() throws IOException {
+        final IndicesSegmentAggregationCache cache = newCache();
+        final Query query = LongPoint.newRangeQuery(FIELD, 0, 75);
+        try (
+            Directory directory = newDirectory();
+            IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))
+        ) {
+            final int numSegments = randomIntBetween(2, 5);
+            for (int i = 0; i < numSegments; i++) {
+                indexSegment(writer);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertEquals(numSegments, reader.leaves().size());
+                // every segment is collected and cached
+                assertCachedEqualsUncached(reader, query, cache);
+                assertEquals(numSegments, cache.count());
+                // every segment is taken from the cache
+                assertCachedEqualsUncached(reader, query, cache);
+                assertEquals(numSegments, cache.count());
+
+                // only the new segment is collected and reduced with the cached results of the others
+                indexSegment(writer);
+                try (DirectoryReader newReader = DirectoryReader.openIfChanged(reader)) {
+                    assertNotNull(newReader);
+                    assertCachedEqualsUncached(newReader, query, cache);
+                    assertEquals(numSegments + 1, cache.count());
+                }
+            }
+        }
+        cache.close();
+    }
+
+    public void testMaxBucketsIsEnforcedAcrossSegments() throws IOException {
+        final Query query = LongPoint.newRangeQuery(FIELD, 0, 75);
+        try (
+            Directory directory = newDirectory();
+            IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))
+        ) {
+            final int numSegments = randomIntBetween(2, 5);
+            for (int i = 0; i < numSegments; i++) {
+                indexSegment(writer);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                // every segment builds at least the two buckets of the range aggregation, so a limit right below the buckets of
+                // the whole request still fits the buckets of any single segment
+                final AtomicInteger requestBuckets = new AtomicInteger();
+                final MultiBucketConsumer countingConsumer = new MultiBucketConsumer(
+                    DEFAULT_MAX_BUCKETS,
+                    new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+                ) {
+                    @Override
+                    public void accept(int value) {
+                        super.accept(value);
+                        requestBuckets.accumulateAndGet(getCount(), Math::max);
+                    }
+                };
+                final IndicesSegmentAggregationCache cache = newCache();
+                assertFalse(
+                    QueryPhase.executeWithSegmentAggregationCache(createSearchContext(reader, query, countingConsumer), cache, cacheKey)
+                );
+                cache.close();
+
+                final MultiBucketConsumer limitedConsumer = new MultiBucketConsumer(
+                    requestBuckets.get() - 1,
+                    new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+                );
+                final SearchContext limitedContext = createSearchContext(reader, query, limitedConsumer);
+                final IndicesSegmentAggregationCache emptyCache = newCache();
+                final QueryPhaseExecutionException e = expectThrows(
+                    QueryPhaseExecutionException.class,
+                    () -> QueryPhase.executeWithSegmentAggregationCache(limitedContext, emptyCache, cacheKey)
+                );
+                assertNotNull(ExceptionsHelper.unwrap(e, TooManyBucketsException.class));
+                emptyCache.close();
+            }
+        }
+    }
+
+    private static IndicesSegmentAggregationCache newCache() {
+        return new IndicesSegmentAggregationCache(
+            Settings.EMPTY,
+            new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables())
+        );
+    }
+
+    private void indexSegment(IndexWriter writer) throws IOException {
+        final int numDocs = randomIntBetween(1, 50);
+        for (int i = 0; i < numDocs; i++) {
+            final long value = randomLongBetween(0, 100);
+            final Document doc = new Document();
+            doc.add(new LongPoint(FIELD, value));
+            doc.add(new SortedNumericDocValuesField(FIELD, value));
+            writer.addDocument(doc);
+        }
+        writer.commit();
+    }
+
+    /**
+     * Compares the hit count and the aggregations of the request computed segment by segment through the cache with those of collecting
+     * the whole reader at once.
+     */
+    private void assertCachedEqualsUncached(DirectoryReader reader, Query query, IndicesSegmentAggregationCache cache) throws IOException {
+        final SearchContext uncachedContext = createSearchContext(reader, query);
+        final List<Aggregator> aggregators = uncachedContext.aggregations().factories().createTopLevelNonGlobalAggregators(uncachedContext);
+        final BucketCollector collector = MultiBucketCollector.wrap(aggregators);
+        collector.preCollection();
+        final TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
+        uncachedContext.searcher().search(query, MultiCollector.wrap(hitCountCollector, collector));
+        final List<InternalAggregation> expected = uncachedContext.bucketCollectorProcessor().toInternalAggregations(List.of(collector));
+
+        final SearchContext cachedContext = createSearchContext(reader, query);
+        assertFalse(QueryPhase.executeWithSegmentAggregationCache(cachedContext, cache, cacheKey));
+        final QuerySearchResult result = cachedContext.queryResult();
+        assertEquals(hitCountCollector.getTotalHits(), result.topDocs().topDocs.totalHits.value());
+        assertEquals(InternalAggregations.from(expected).getAsMap(), result.aggregations().expand().getAsMap());
+    }
+
+    private SearchContext createSearchContext(DirectoryReader reader, Query query) throws IOException {
+        final MultiBucketConsumer bucketConsumer = new MultiBucketConsumer(
+            DEFAULT_MAX_BUCKETS,
+            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+        );
+        return createSearchContext(reader, query, bucketConsumer);
+    }
+
+    private SearchContext createSearchContext(DirectoryReader reader, Query query, MultiBucketConsumer bucketConsumer) throws IOException {
+        final IndexSearcher searcher = new IndexSearcher(reader);
+        final SearchContext context = createSearchContext(searcher, createIndexSettings(), query, bucketConsumer, fieldType);
+        final AggregatorFactories factories = aggregations.build(context.getQueryShardContext(), null);
+        when(context.aggregations()).thenReturn(new SearchContextAggregations(factories, bucketConsumer));
+        when(context.queryResult()).thenReturn(new QuerySearchResult());
+        when(context.trackTotalHitsUpTo()).thenReturn(SearchContext.DEFAULT_TRACK_TOTAL_HITS_UP_TO);
+        when(context.partialOnShard()).thenReturn(
+            InternalAggregation.ReduceContext.forPartialReduction(context.bigArrays(), null, () -> PipelineTree.EMPTY)
+        );
+        // the searcher has no executor, so the segments of the concurrent path are collected on the calling thread
+        when(context.shouldUseConcurrentSearch()).thenReturn(randomBoolean());
+        return context;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldCollectorManager;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.List;
+
+public class SortedIndexGlobalBottomCollectorTests extends OpenSearchTestCase {
+
+    public void testSlicesShareTheGlobalBottom() throws IOException {
+        final boolean reverse = randomBoolean();
+        final Sort sort = new Sort(new SortField("rank", SortField.Type.LONG, reverse));
+        final int numHits = 10;
+        try (Directory dir = newDirectory()) {
+            IndexWriterConfig config = newIndexWriterConfig().setIndexSort(sort).setMergePolicy(NoMergePolicy.INSTANCE);
+            try (IndexWriter writer = new IndexWriter(dir, config)) {
+                // the first segment holds the best ranks, the second one five more competitive ranks
+                for (int i = 0; i < 100; i++) {
+                    addDoc(writer, reverse ? -i : i);
+                }
+                writer.commit();
+                for (int i = 5; i < 105; i++) {
+                    addDoc(writer, reverse ? -i : i);
+                }
+                writer.commit();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertEquals(2, reader.leaves().size());
+                final TopFieldCollectorManager manager = new TopFieldCollectorManager(sort, numHits, null, 1);
+                final SortedIndexGlobalBottomCollector.GlobalBottom globalBottom = new SortedIndexGlobalBottomCollector.GlobalBottom(
+                    sort,
+                    numHits
+                );
+                final SortedIndexGlobalBottomCollector first = new SortedIndexGlobalBottomCollector(manager.newCollector(), globalBottom);
+                final SortedIndexGlobalBottomCollector second = new SortedIndexGlobalBottomCollector(manager.newCollector(), globalBottom);
+
+                collect(first, reader.leaves().get(0));
+                assertNotNull(globalBottom.get());
+                assertEquals(reverse ? -9L : 9L, globalBottom.get()[0]);
+                // the second slice stops at the first rank that sorts after the bottom of the first one
+                assertEquals(5, collect(second, reader.leaves().get(1)));
+
+                final TopFieldDocs topDocs = manager.reduce(
+                    List.of((TopFieldCollector) first.getTopDocsCollector(), (TopFieldCollector) second.getTopDocsCollector())
+                );
+                final TopFieldDocs expected = new IndexSearcher(reader).search(
+                    new MatchAllDocsQuery(),
+                    new TopFieldCollectorManager(sort, numHits, null, Integer.MAX_VALUE)
+                );
+                assertEquals(expected.scoreDocs.length, topDocs.scoreDocs.length);
+                for (int i = 0; i < expected.scoreDocs.length; i++) {
+                    assertEquals(sortValue(expected.scoreDocs[i]), sortValue(topDocs.scoreDocs[i]));
+                }
+            }
+        }
+    }
+
+    public void testOfferKeepsTheBestBottom() {
+        final SortedIndexGlobalBottomCollector.GlobalBottom globalBottom = new SortedIndexGlobalBottomCollector.GlobalBottom(
+            new Sort(new SortField("rank", SortField.Type.LONG)),
+            10
+        );
+        assertNull(globalBottom.get());
+        globalBottom.offer(new Object[] { 20L });
+        assertEquals(20L, globalBottom.get()[0]);
+        globalBottom.offer(new Object[] { 30L });
+        assertEquals(20L, globalBottom.get()[0]);
+        globalBottom.offer(new Object[] { 10L });
+        assertEquals(10L, globalBottom.get()[0]);
+    }
+
+    private static void addDoc(IndexWriter writer, long rank) throws IOException {
+        Document doc = new Document();
+        doc.add(new NumericDocValuesField("rank", rank));
+        writer.addDocument(doc);
+    }
+
+    private static int collect(SortedIndexGlobalBottomCollector collector, LeafReaderContext context) throws IOException {
+        final LeafCollector leafCollector = collector.getLeafCollector(context);
+        int collected = 0;
+        try {
+            for (int doc = 0; doc < context.reader().maxDoc(); doc++) {
+                leafCollector.collect(doc);
+                collected++;
+            }
+        } catch (CollectionTerminatedException e) {
+            // the rest of the segment cannot compete
+        }
+        return collected;
+    }
+
+    private static Object sortValue(ScoreDoc scoreDoc) {
+        return ((FieldDoc) scoreDoc).fields[0];
+    }
+}
@@ -9,9 +9,18 @@
 package org.opensearch.threadpool;
 
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.opensearch.tasks.TaskResourceTrackingService.TASK_ID;
 
 public class ThreadPoolForkJoinTests extends OpenSearchTestCase {
 
@@ -25,4 +34,167 @@ public class ThreadPoolForkJoinTests extends OpenSearchTestCase {
         assertEquals(2, pool.getParallelism());
         threadPool.shutdown();
     }
+
+    public void testIndexSearcherWorkStealing() throws Exception {
+        Settings settings = Settings.builder()
+            .put("node.name", "testnode")
+            .put(ThreadPool.INDEX_SEARCHER_WORK_STEALING_SETTING.getKey(), true)
+            .put("thread_pool." + ThreadPool.Names.INDEX_SEARCHER + ".parallelism", 3)
+            .build();
+        ThreadPool threadPool = new ThreadPool(settings);
+        try {
+            ForkJoinPool pool = (ForkJoinPool) threadPool.executor(ThreadPool.Names.INDEX_SEARCHER);
+            assertEquals(3, pool.getParallelism());
+            assertEquals(ThreadPool.ThreadPoolType.FORK_JOIN, threadPool.info(ThreadPool.Names.INDEX_SEARCHER).getThreadPoolType());
+            assertEquals(ThreadPool.ThreadPoolType.FORK_JOIN, ThreadPool.threadPoolType(settings, ThreadPool.Names.INDEX_SEARCHER));
+
+            // slices run with the thread context of the search thread that submitted them
+            final CountDownLatch latch = new CountDownLatch(1);
+            final AtomicReference<String> header = new AtomicReference<>();
+            try (ThreadContext.StoredContext ignored = threadPool.getThreadContext().stashContext()) {
+                threadPool.getThreadContext().putHeader("test", "value");
+                pool.execute(() -> {
+                    header.set(threadPool.getThreadContext().getHeader("test"));
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals("value", header.get());
+
+            ThreadPoolStats.Stats stats = null;
+            for (ThreadPoolStats.Stats s : threadPool.stats()) {
+                if (ThreadPool.Names.INDEX_SEARCHER.equals(s.getName())) {
+                    stats = s;
+                }
+            }
+            assertNotNull(stats);
+            assertEquals(3, stats.getParallelism());
+            assertTrue(stats.getSteals() >= 0);
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testIndexSearcherWorkStealingSpreadsSubmissionsOverWorkers() throws Exception {
+        final int parallelism = randomIntBetween(2, 4);
+        ThreadPool threadPool = new ThreadPool(workStealingSettings(parallelism, 1000));
+        try {
+            ForkJoinPool pool = (ForkJoinPool) threadPool.executor(ThreadPool.Names.INDEX_SEARCHER);
+            // every task waits for all others, so they only complete if idle workers steal them from the worker they were forked to
+            final CyclicBarrier barrier = new CyclicBarrier(parallelism);
+            final CountDownLatch latch = new CountDownLatch(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                pool.execute(() -> {
+                    try {
+                        barrier.await(10, TimeUnit.SECONDS);
+                        latch.countDown();
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertTrue(pool.getStealCount() > 0);
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testIndexSearcherWorkStealingRejectsBeyondQueueSize() throws Exception {
+        final int queueSize = randomIntBetween(1, 5);
+        ThreadPool threadPool = new ThreadPool(workStealingSettings(1, queueSize));
+        try {
+            ForkJoinPool pool = (ForkJoinPool) threadPool.executor(ThreadPool.Names.INDEX_SEARCHER);
+            assertEquals(queueSize, threadPool.info(ThreadPool.Names.INDEX_SEARCHER).getQueueSize().singles());
+            final CountDownLatch block = new CountDownLatch(1);
+            final CountDownLatch done = new CountDownLatch(1 + queueSize);
+            // one task runs and the others wait in the queue
+            for (int i = 0; i < 1 + queueSize; i++) {
+                pool.execute(() -> {
+                    try {
+                        block.await();
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                    done.countDown();
+                });
+            }
+            expectThrows(OpenSearchRejectedExecutionException.class, () -> pool.execute(() -> {}));
+            assertEquals(1, indexSearcherStats(threadPool).getRejected());
+
+            block.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            // the tasks that ran are no longer counted against the queue
+            assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+            final CountDownLatch accepted = new CountDownLatch(1);
+            pool.execute(accepted::countDown);
+            assertTrue(accepted.await(10, TimeUnit.SECONDS));
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testIndexSearcherWorkStealingTracksTaskResources() throws Exception {
+        final long taskId = randomNonNegativeLong();
+        final AtomicLong startedTaskId = new AtomicLong(-1);
+        final AtomicLong finishedTaskId = new AtomicLong(-1);
+        final CountDownLatch finished = new CountDownLatch(1);
+        final AtomicReference<RunnableTaskExecutionListener> listener = new AtomicReference<>(new RunnableTaskExecutionListener() {
+            @Override
+            public void taskExecutionStartedOnThread(long id, long threadId) {
+                startedTaskId.set(id);
+            }
+
+            @Override
+            public void taskExecutionFinishedOnThread(long id, long threadId) {
+                finishedTaskId.set(id);
+                finished.countDown();
+            }
+        });
+        ThreadPool threadPool = new ThreadPool(workStealingSettings(2, 1000), listener);
+        try {
+            ForkJoinPool pool = (ForkJoinPool) threadPool.executor(ThreadPool.Names.INDEX_SEARCHER);
+            try (ThreadContext.StoredContext ignored = threadPool.getThreadContext().stashContext()) {
+                threadPool.getThreadContext().putTransient(TASK_ID, taskId);
+                pool.execute(() -> {});
+            }
+            assertTrue(finished.await(10, TimeUnit.SECONDS));
+            assertEquals(taskId, startedTaskId.get());
+            assertEquals(taskId, finishedTaskId.get());
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testIndexSearcherDefaultsToResizablePool() {
+        Settings settings = Settings.builder().put("node.name", "testnode").build();
+        ThreadPool threadPool = new ThreadPool(settings);
+        try {
+            assertEquals(ThreadPool.ThreadPoolType.RESIZABLE, threadPool.info(ThreadPool.Names.INDEX_SEARCHER).getThreadPoolType());
+            assertEquals(
+                ThreadPool.THREAD_POOL_TYPES.get(ThreadPool.Names.INDEX_SEARCHER),
+                ThreadPool.threadPoolType(settings, ThreadPool.Names.INDEX_SEARCHER)
+            );
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    private static Settings workStealingSettings(int parallelism, int queueSize) {
+        return Settings.builder()
+            .put("node.name", "testnode")
+            .put(ThreadPool.INDEX_SEARCHER_WORK_STEALING_SETTING.getKey(), true)
+            .put("thread_pool." + ThreadPool.Names.INDEX_SEARCHER + ".parallelism", parallelism)
+            .put("thread_pool." + ThreadPool.Names.INDEX_SEARCHER + ".queue_size", queueSize)
+            .build();
+    }
+
+    private static ThreadPoolStats.Stats indexSearcherStats(ThreadPool threadPool) {
+        for (ThreadPoolStats.Stats stats : threadPool.stats()) {
+            if (ThreadPool.Names.INDEX_SEARCHER.equals(stats.getName())) {
+                return stats;
+            }
+        }
+        throw new AssertionError("no stats for [" + ThreadPool.Names.INDEX_SEARCHER + "]");
+    }
 }
@@ -153,6 +153,42 @@ public class ThreadPoolStatsTests extends OpenSearchTestCase {
         assertEquals(-1, statsIn.getParallelism());
     }
 
+    public void testStatsSerializationStealsVersion() throws IOException {
+        ThreadPoolStats.Stats statsOut = new ThreadPoolStats.Stats.Builder().name("test")
+            .threads(1)
+            .queue(2)
+            .active(3)
+            .rejected(0)
+            .largest(0)
+            .completed(0)
+            .waitTimeNanos(-1)
+            .parallelism(4)
+            .steals(11)
+            .build();
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder.startObject();
+        statsOut.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        assertTrue(builder.toString().contains("\"steals\":11"));
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_9_0);
+        statsOut.writeTo(out);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(Version.V_3_9_0);
+        assertEquals(11, new ThreadPoolStats.Stats(in).getSteals());
+
+        // Serialization for version < 3.9.0 (steals is not written, should be -1)
+        out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_8_0);
+        statsOut.writeTo(out);
+        in = out.bytes().streamInput();
+        in.setVersion(Version.V_3_8_0);
+        ThreadPoolStats.Stats statsIn = new ThreadPoolStats.Stats(in);
+        assertEquals(4, statsIn.getParallelism());
+        assertEquals(-1, statsIn.getSteals());
+    }
+
     public void testStatsCompareToWithParallelism() {
         ThreadPoolStats.Stats.Builder builder = new ThreadPoolStats.Stats.Builder().name("a")
             .threads(1)
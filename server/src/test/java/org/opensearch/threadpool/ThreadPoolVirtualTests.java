@@ -12,6 +12,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.test.OpenSearchTestCase;
@@ -197,6 +198,73 @@ public class ThreadPoolVirtualTests extends OpenSearchTestCase {
         }
     }
 
+    public void testBoundedVirtualThreadPoolLimitsConcurrencyAndRejects() throws Exception {
+        Settings settings = Settings.builder().put("node.name", "testnode").build();
+        ThreadPool threadPool = new ThreadPool(settings, new VirtualExecutorBuilder(settings, POOL_NAME, 2, 1, "thread_pool." + POOL_NAME));
+        final CountDownLatch block = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch done = new CountDownLatch(3);
+        try {
+            for (int i = 0; i < 3; i++) {
+                threadPool.executor(POOL_NAME).execute(() -> {
+                    started.countDown();
+                    try {
+                        block.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    done.countDown();
+                });
+            }
+            assertTrue("two tasks should have started", started.await(10, TimeUnit.SECONDS));
+            assertBusy(() -> {
+                ThreadPoolStats.Stats stats = statsFor(threadPool);
+                assertEquals("only two tasks may run at once", 2, stats.getActive());
+                assertEquals("the third task waits in the queue", 1, stats.getQueue());
+            });
+
+            // the queue is full
+            expectThrows(OpenSearchRejectedExecutionException.class, () -> threadPool.executor(POOL_NAME).execute(() -> {}));
+            assertEquals(1L, statsFor(threadPool).getRejected());
+
+            block.countDown();
+            assertTrue("the queued task runs once a slot frees up", done.await(10, TimeUnit.SECONDS));
+            assertBusy(() -> assertEquals(3L, statsFor(threadPool).getCompleted()));
+
+            ThreadPool.Info info = threadPool.info(POOL_NAME);
+            assertThat(info.getThreadPoolType(), is(ThreadPool.ThreadPoolType.VIRTUAL));
+            assertEquals(2, info.getMax());
+            assertEquals(1L, info.getQueueSize().singles());
+        } finally {
+            block.countDown();
+            assertTrue(ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS));
+        }
+    }
+
+    public void testSearchAndGetPoolsOnVirtualThreads() throws Exception {
+        Settings settings = Settings.builder()
+            .put("node.name", "testnode")
+            .put(ThreadPool.SEARCH_AND_GET_VIRTUAL_THREADS_SETTING.getKey(), true)
+            .put("thread_pool.search.queue_size", 10)
+            .build();
+        ThreadPool threadPool = new ThreadPool(settings);
+        try {
+            for (String name : new String[] { ThreadPool.Names.SEARCH, ThreadPool.Names.GET }) {
+                assertThat(threadPool.info(name).getThreadPoolType(), is(ThreadPool.ThreadPoolType.VIRTUAL));
+                threadPool.getThreadContext().putHeader("test-header-" + name, "test-value");
+                assertEquals(
+                    "test-value",
+                    threadPool.executor(name)
+                        .submit(() -> threadPool.getThreadContext().getHeader("test-header-" + name))
+                        .get(10, TimeUnit.SECONDS)
+                );
+            }
+            assertEquals(10L, threadPool.info(ThreadPool.Names.SEARCH).getQueueSize().singles());
+        } finally {
+            assertTrue(ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS));
+        }
+    }
+
     private static ThreadPoolStats.Stats statsFor(ThreadPool threadPool) {
         for (ThreadPoolStats.Stats candidate : threadPool.stats()) {
             if (POOL_NAME.equals(candidate.getName())) {